@@ -0,0 +1,124 @@
+package com.fdv.techcheck.benchmark;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.SyntheticThesisGenerator.SyntheticThesis;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.modules.content.HeadingValidator;
+import com.fdv.techcheck.modules.content.ListValidator;
+import com.fdv.techcheck.modules.content.ParagraphValidator;
+import com.fdv.techcheck.modules.layout.FontValidator;
+import com.fdv.techcheck.modules.layout.LineSpacingValidator;
+import com.fdv.techcheck.modules.layout.MarginValidator;
+import com.fdv.techcheck.modules.layout.PageFormatValidator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared fixtures for the JMH benchmarks: synthetic thesis documents of a given page count
+ * and the validator set used by the application.
+ *
+ * Theses come from {@link SyntheticThesisGenerator} with a fixed seed and a low violation rate,
+ * so every validator reports some issues. Documents are generated once into
+ * {@code target/benchmark-documents} and reused by later benchmark runs and forks.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+final class BenchmarkDocuments {
+
+    static final List<String> VALIDATOR_NAMES = Arrays.asList(
+        "Margin", "Font", "LineSpacing", "PageFormat", "Paragraph", "Heading", "List");
+
+    private static final Path DOCUMENT_DIRECTORY = Paths.get("target", "benchmark-documents");
+    private static final long SEED = 42L;
+    private static final double VIOLATION_RATE = 0.02;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private BenchmarkDocuments() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets a synthetic thesis with the given number of pages, generating it on first use.
+     *
+     * @param pages Number of pages
+     * @return Path to the DOCX file
+     * @throws IOException if the document cannot be written
+     */
+    static synchronized Path thesis(int pages) throws IOException {
+        Path file = DOCUMENT_DIRECTORY.resolve("thesis-" + pages + "-pages-" + SEED + ".docx");
+        if (Files.exists(file)) {
+            return file;
+        }
+
+        Files.createDirectories(DOCUMENT_DIRECTORY);
+        Path temporary = Files.createTempFile(DOCUMENT_DIRECTORY, "thesis-" + pages, ".tmp");
+        SyntheticThesisGenerator.Builder builder = SyntheticThesisGenerator.builder().pages(pages).seed(SEED);
+        for (SyntheticThesisGenerator.Violation violation : SyntheticThesisGenerator.Violation.values()) {
+            builder.violationRate(violation, VIOLATION_RATE);
+        }
+        try (SyntheticThesis thesis = builder.build().generate()) {
+            thesis.write(temporary);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return file;
+    }
+
+    /**
+     * Creates the validator with the given short name, e.g. "LineSpacing".
+     */
+    static IValidator<ThesisDocument> createValidator(String name) {
+        switch (name) {
+            case "Margin":
+                return new MarginValidator();
+            case "Font":
+                return new FontValidator();
+            case "LineSpacing":
+                return new LineSpacingValidator();
+            case "PageFormat":
+                return new PageFormatValidator();
+            case "Paragraph":
+                return new ParagraphValidator();
+            case "Heading":
+                return new HeadingValidator();
+            case "List":
+                return new ListValidator();
+            default:
+                throw new IllegalArgumentException("Unknown validator: " + name);
+        }
+    }
+
+    /**
+     * Creates all validators in display order.
+     */
+    static List<IValidator<ThesisDocument>> createValidators() {
+        List<IValidator<ThesisDocument>> validators = new ArrayList<>();
+        VALIDATOR_NAMES.forEach(name -> validators.add(createValidator(name)));
+        return validators;
+    }
+
+    /**
+     * Keys results by validator name, as the report generator expects.
+     */
+    static Map<String, ValidationResult> toResultMap(List<IValidator<ThesisDocument>> validators,
+                                                     List<ValidationResult> results) {
+        Map<String, ValidationResult> resultMap = new LinkedHashMap<>();
+        for (int i = 0; i < validators.size(); i++) {
+            resultMap.put(validators.get(i).getValidatorName(), results.get(i));
+        }
+        return resultMap;
+    }
+}
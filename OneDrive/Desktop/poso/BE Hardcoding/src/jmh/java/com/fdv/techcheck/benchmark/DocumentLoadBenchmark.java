@@ -0,0 +1,60 @@
+package com.fdv.techcheck.benchmark;
+
+import com.fdv.techcheck.core.document.DocumentLoadMode;
+import com.fdv.techcheck.core.document.DocumentProcessingException;
+import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DocumentProcessor#loadDocument(Path, DocumentLoadMode)} for both load modes.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DocumentLoadBenchmark {
+
+    @Param({"10", "100", "500", "1000"})
+    private int pages;
+
+    @Param({"POI", "STREAMING"})
+    private DocumentLoadMode mode;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void createDocument() throws IOException {
+        file = BenchmarkDocuments.thesis(pages);
+    }
+
+    @Benchmark
+    public int loadDocument() throws DocumentProcessingException {
+        ThesisDocument document = DocumentProcessor.loadDocument(file, mode);
+        try {
+            return document.getDocumentIndex().getParagraphs().size();
+        } finally {
+            DocumentProcessor.closeDocument(document);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.fdv.techcheck.benchmark;
+
+import com.fdv.techcheck.core.document.DocumentLoadMode;
+import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationEngine;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.reports.PdfReportGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full pipeline: load the document, run all validators and write the PDF report.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EndToEndBenchmark {
+
+    @Param({"10", "100", "500", "1000"})
+    private int pages;
+
+    @Param({"POI", "STREAMING"})
+    private DocumentLoadMode mode;
+
+    private final PdfReportGenerator generator = new PdfReportGenerator();
+    private Path file;
+    private File reportFile;
+
+    @Setup(Level.Trial)
+    public void createDocument() throws IOException {
+        file = BenchmarkDocuments.thesis(pages);
+        reportFile = Files.createTempFile("benchmark-report", ".pdf").toFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(reportFile.toPath());
+    }
+
+    @Benchmark
+    public long validateDocument() throws Exception {
+        ThesisDocument document = DocumentProcessor.loadDocument(file, mode);
+        try {
+            List<IValidator<ThesisDocument>> validators = BenchmarkDocuments.createValidators();
+            try (ValidationEngine engine = ValidationEngine.builder().validators(validators).build()) {
+                List<ValidationResult> results = engine.validate(document);
+                generator.generateReport(reportFile, document, BenchmarkDocuments.toResultMap(validators, results));
+            }
+            return reportFile.length();
+        } finally {
+            DocumentProcessor.closeDocument(document);
+        }
+    }
+}
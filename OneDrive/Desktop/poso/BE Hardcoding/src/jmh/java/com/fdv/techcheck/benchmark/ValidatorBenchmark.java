@@ -0,0 +1,62 @@
+package com.fdv.techcheck.benchmark;
+
+import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationException;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code validate} of each validator on an already loaded document.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ValidatorBenchmark {
+
+    @Param({"10", "100", "500", "1000"})
+    private int pages;
+
+    @Param({"Margin", "Font", "LineSpacing", "PageFormat", "Paragraph", "Heading", "List"})
+    private String validatorName;
+
+    private ThesisDocument document;
+    private IValidator<ThesisDocument> validator;
+
+    @Setup(Level.Trial)
+    public void loadDocument() throws Exception {
+        document = DocumentProcessor.loadDocument(BenchmarkDocuments.thesis(pages));
+        validator = BenchmarkDocuments.createValidator(validatorName);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDocument() {
+        DocumentProcessor.closeDocument(document);
+    }
+
+    @Benchmark
+    public ValidationResult validate() throws ValidationException {
+        return validator.validate(document);
+    }
+}
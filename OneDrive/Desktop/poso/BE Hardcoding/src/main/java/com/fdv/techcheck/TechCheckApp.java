@@ -1,18 +1,41 @@
 package com.fdv.techcheck;
 
+import com.fdv.techcheck.batch.BatchJournal;
+import com.fdv.techcheck.batch.BatchSummary;
+import com.fdv.techcheck.batch.BatchValidator;
+import com.fdv.techcheck.batch.WatchFolderDaemon;
+import com.fdv.techcheck.core.document.DocumentCache;
+import com.fdv.techcheck.core.document.DocumentLoadMode;
 import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.MemoryAdmissionController;
 import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationEngine;
+import com.fdv.techcheck.core.validation.ValidationStatus;
+import com.fdv.techcheck.modules.content.HeadingValidator;
+import com.fdv.techcheck.modules.content.ListValidator;
+import com.fdv.techcheck.modules.content.ParagraphValidator;
 import com.fdv.techcheck.modules.layout.MarginValidator;
 import com.fdv.techcheck.modules.layout.FontValidator;
 import com.fdv.techcheck.modules.layout.LineSpacingValidator;
 import com.fdv.techcheck.modules.layout.PageFormatValidator;
+import com.fdv.techcheck.reports.JsonResultWriter;
+import com.fdv.techcheck.server.ValidationServer;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Scanner;
 
 /**
@@ -20,6 +43,33 @@ import java.util.Scanner;
  * 
  * This application allows technical staff at FDV to test all document structure
  * and layout validation on actual thesis documents.
+ * 
+ * With {@code --batch <directory>} it validates every DOCX file below the directory
+ * with all validators, printing one line per document as it finishes and an aggregate
+ * summary at the end. Options: {@code --threads <n>}, {@code --mode poi|streaming},
+ * {@code --heap-budget <MB>} to limit the estimated heap of documents in flight,
+ * {@code --journal <dir>} to record completed documents and resume an interrupted batch,
+ * {@code --json <file>} to write each document's full results as one NDJSON line,
+ * {@code --summary <file>} to also write the summary to a file and {@code --metrics} to print
+ * latency percentiles and throughput of the pipeline phases at the end.
+ *
+ * With {@code --watch <directory>} it keeps running, validating each DOCX file dropped into
+ * the directory once the file has settled and writing a PDF report next to it. Options:
+ * {@code --threads <n>}, {@code --mode poi|streaming}, {@code --heap-budget <MB>} and
+ * {@code --quiet <seconds>} for how long a file must be unchanged before it is validated.
+ *
+ * With {@code --serve} it runs the HTTP validation service until the process is stopped.
+ * Options: {@code --port <n>}, {@code --mode poi|streaming}, {@code --heap-budget <MB>},
+ * {@code --max-upload <MB>} and {@code --allow-origin <origin>} for browser uploads.
+ * Pipeline metrics are served at {@code GET /metrics}.
+ *
+ * Every mode accepts {@code --cache-mb <MB>} and {@code --cache-dir <dir>}, which set up one
+ * {@link DocumentCache} shared by all loads of the process: parsed document models are kept
+ * in memory up to the given size and, with a directory, also written there so that later runs
+ * skip parsing unchanged files. The cache applies to streaming loads only.
+ * 
+ * A single document is validated with {@code <document.docx> [--metrics] [--cache-mb <MB>] [--cache-dir <dir>]};
+ * with a cache option it is loaded in streaming mode.
  *
  * @author TechCheck System
  * @version 1.0
@@ -27,13 +77,49 @@ import java.util.Scanner;
 public class TechCheckApp {
     
     public static void main(String[] args) {
+        if (args.length > 0 && "--batch".equals(args[0])) {
+            System.exit(runBatch(args));
+        }
+        if (args.length > 0 && "--watch".equals(args[0])) {
+            System.exit(runWatch(args));
+        }
+        if (args.length > 0 && "--serve".equals(args[0])) {
+            System.exit(runServer(args));
+        }
+        
         System.out.println("==========================================");
         System.out.println("FDV TechCheck - Thesis Validation System");
         System.out.println("==========================================");
         System.out.println();
         
         // Get document path from user or command line
-        String documentPath = getDocumentPath(args);
+        List<String> arguments = new ArrayList<>();
+        boolean printMetrics = false;
+        Path cacheDirectory = null;
+        long cacheMb = -1;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--metrics":
+                        printMetrics = true;
+                        break;
+                    case "--cache-dir":
+                        cacheDirectory = Paths.get(args[++i]);
+                        break;
+                    case "--cache-mb":
+                        cacheMb = parseCacheMb(args[++i]);
+                        break;
+                    default:
+                        arguments.add(args[i]);
+                        break;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.err.println("Usage: TechCheckApp <document.docx> [--metrics] [--cache-mb <MB>] [--cache-dir <dir>]");
+            return;
+        }
+        String documentPath = getDocumentPath(arguments.toArray(new String[0]));
         
         if (documentPath == null) {
             System.err.println("No document path provided. Exiting.");
@@ -42,13 +128,332 @@ public class TechCheckApp {
         
         // Validate the document
         try {
-            validateDocument(documentPath);
+            validateDocument(documentPath, createCache(cacheDirectory, cacheMb));
+            if (printMetrics) {
+                printMetrics();
+            }
         } catch (Exception e) {
             System.err.println("Error during validation: " + e.getMessage());
             e.printStackTrace();
         }
     }
     
+    /**
+     * Runs headless batch validation of a directory.
+     * 
+     * @return Process exit code: 0 if every document was processed, 1 on usage errors,
+     *         2 if some documents could not be loaded or validated
+     */
+    private static int runBatch(String[] args) {
+        Path directory = null;
+        Path summaryFile = null;
+        Path journalDirectory = null;
+        Path jsonFile = null;
+        int threads = 0;
+        long heapBudgetMb = 0;
+        Path cacheDirectory = null;
+        long cacheMb = -1;
+        boolean printMetrics = false;
+        DocumentLoadMode loadMode = DocumentLoadMode.STREAMING;
+        
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--mode":
+                        loadMode = DocumentLoadMode.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                        break;
+                    case "--heap-budget":
+                        heapBudgetMb = Long.parseLong(args[++i]);
+                        break;
+                    case "--cache-dir":
+                        cacheDirectory = Paths.get(args[++i]);
+                        break;
+                    case "--cache-mb":
+                        cacheMb = parseCacheMb(args[++i]);
+                        break;
+                    case "--json":
+                        jsonFile = Paths.get(args[++i]);
+                        break;
+                    case "--journal":
+                        journalDirectory = Paths.get(args[++i]);
+                        break;
+                    case "--summary":
+                        summaryFile = Paths.get(args[++i]);
+                        break;
+                    case "--metrics":
+                        printMetrics = true;
+                        break;
+                    default:
+                        if (directory != null || args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        directory = Paths.get(args[i]);
+                        break;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            directory = null;
+        }
+        if (directory == null || !Files.isDirectory(directory)) {
+            System.err.println("Usage: TechCheckApp --batch <directory> [--threads <n>] [--mode poi|streaming] [--heap-budget <MB>] [--cache-mb <MB>] [--cache-dir <dir>] [--journal <dir>] [--json <file>] [--summary <file>] [--metrics]");
+            return 1;
+        }
+        
+        BatchValidator.Builder builder = BatchValidator.builder()
+            .validators(createAllValidators())
+            .loadMode(loadMode)
+            .cache(createCache(cacheDirectory, cacheMb));
+        if (threads > 0) {
+            builder.parallelism(threads);
+        }
+        if (heapBudgetMb > 0) {
+            builder.admissionController(new MemoryAdmissionController(heapBudgetMb * 1024 * 1024));
+        }
+        
+        try (BatchJournal journal = journalDirectory != null ? BatchJournal.open(journalDirectory) : null;
+             JsonResultWriter json = jsonFile != null
+                 ? JsonResultWriter.ndjson(Files.newOutputStream(jsonFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND))
+                 : null;
+             BatchValidator batch = builder.journal(journal)
+                 .reportWriter(json != null ? (file, document, results) -> json.write(file.toString(), results) : null)
+                 .build()) {
+            System.out.println("Validating " + directory + " with " + batch.getParallelism() + " workers ("
+                               + loadMode + " loading)");
+            if (journal != null && journal.getResumableCount() > 0) {
+                System.out.println("Resuming: " + journal.getResumableCount() + " documents already completed in "
+                                   + journal.getFile());
+            }
+            BatchSummary summary = batch.validateDirectory(directory,
+                document -> System.out.println(document.toLine()));
+            
+            System.out.println();
+            System.out.print(summary.format());
+            if (summaryFile != null) {
+                summary.writeTo(summaryFile);
+                System.out.println("Summary written to " + summaryFile);
+            }
+            if (printMetrics) {
+                printMetrics();
+            }
+            return summary.getCount(ValidationStatus.ERROR) > 0 ? 2 : 0;
+        } catch (IOException e) {
+            System.err.println("Batch validation failed: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Batch validation interrupted");
+            return 1;
+        }
+    }
+    
+    /**
+     * Runs the watch-folder daemon until the process is stopped.
+     * 
+     * @return Process exit code: 1 on usage or IO errors
+     */
+    private static int runWatch(String[] args) {
+        Path directory = null;
+        int threads = 0;
+        long heapBudgetMb = 0;
+        Path cacheDirectory = null;
+        long cacheMb = -1;
+        long quietSeconds = 2;
+        DocumentLoadMode loadMode = DocumentLoadMode.STREAMING;
+        
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--mode":
+                        loadMode = DocumentLoadMode.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                        break;
+                    case "--heap-budget":
+                        heapBudgetMb = Long.parseLong(args[++i]);
+                        break;
+                    case "--cache-dir":
+                        cacheDirectory = Paths.get(args[++i]);
+                        break;
+                    case "--cache-mb":
+                        cacheMb = parseCacheMb(args[++i]);
+                        break;
+                    case "--quiet":
+                        quietSeconds = Long.parseLong(args[++i]);
+                        if (quietSeconds < 0) {
+                            throw new IllegalArgumentException("Quiet period cannot be negative");
+                        }
+                        break;
+                    default:
+                        if (directory != null || args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                        }
+                        directory = Paths.get(args[i]);
+                        break;
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            directory = null;
+        }
+        if (directory == null || !Files.isDirectory(directory)) {
+            System.err.println("Usage: TechCheckApp --watch <directory> [--threads <n>] [--mode poi|streaming] [--heap-budget <MB>] [--cache-mb <MB>] [--cache-dir <dir>] [--quiet <seconds>]");
+            return 1;
+        }
+        
+        BatchValidator.Builder builder = BatchValidator.builder()
+            .validators(createAllValidators())
+            .loadMode(loadMode)
+            .cache(createCache(cacheDirectory, cacheMb))
+            .reportWriter(WatchFolderDaemon::writePdfReport);
+        if (threads > 0) {
+            builder.parallelism(threads);
+        }
+        if (heapBudgetMb > 0) {
+            builder.admissionController(new MemoryAdmissionController(heapBudgetMb * 1024 * 1024));
+        }
+        
+        try (BatchValidator batch = builder.build();
+             WatchFolderDaemon daemon = WatchFolderDaemon.builder(directory)
+                 .batchValidator(batch)
+                 .quietPeriod(Duration.ofSeconds(quietSeconds))
+                 .listener(document -> System.out.println(document.toLine()))
+                 .build()) {
+            System.out.println("Watching " + directory + " with " + batch.getParallelism() + " workers ("
+                               + loadMode + " loading), press Ctrl+C to stop");
+            daemon.run();
+            return 0;
+        } catch (IOException e) {
+            System.err.println("Watching failed: " + e.getMessage());
+            return 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        }
+    }
+    
+    /**
+     * Runs the HTTP validation service until the process is stopped.
+     * 
+     * @return Process exit code: 1 on usage or IO errors
+     */
+    private static int runServer(String[] args) {
+        ValidationServer.Builder builder = ValidationServer.builder()
+            .validators(createAllValidators());
+        Path cacheDirectory = null;
+        long cacheMb = -1;
+        
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--port":
+                        builder.port(Integer.parseInt(args[++i]));
+                        break;
+                    case "--mode":
+                        builder.loadMode(DocumentLoadMode.valueOf(args[++i].toUpperCase(Locale.ROOT)));
+                        break;
+                    case "--heap-budget":
+                        builder.admissionController(new MemoryAdmissionController(Long.parseLong(args[++i]) * 1024 * 1024));
+                        break;
+                    case "--cache-dir":
+                        cacheDirectory = Paths.get(args[++i]);
+                        break;
+                    case "--cache-mb":
+                        cacheMb = parseCacheMb(args[++i]);
+                        break;
+                    case "--max-upload":
+                        builder.maxUploadBytes(Long.parseLong(args[++i]) * 1024 * 1024);
+                        break;
+                    case "--allow-origin":
+                        builder.allowedOrigin(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println("Invalid arguments: " + e.getMessage());
+            System.err.println("Usage: TechCheckApp --serve [--port <n>] [--mode poi|streaming] [--heap-budget <MB>] [--cache-mb <MB>] [--cache-dir <dir>] [--max-upload <MB>] [--allow-origin <origin>]");
+            return 1;
+        }
+        
+        ValidationServer server;
+        try {
+            server = builder.cache(createCache(cacheDirectory, cacheMb)).build();
+        } catch (IOException e) {
+            System.err.println("Cannot start validation service: " + e.getMessage());
+            return 1;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "server-shutdown"));
+        server.start();
+        System.out.println("Validation service listening on port " + server.getPort() + ", press Ctrl+C to stop");
+        
+        try {
+            Thread.currentThread().join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 0;
+    }
+    
+    /**
+     * Parses the {@code --cache-mb} option; 0 keeps no models in memory, only in the cache directory.
+     */
+    private static long parseCacheMb(String value) {
+        long cacheMb = Long.parseLong(value);
+        if (cacheMb < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        return cacheMb;
+    }
+    
+    /**
+     * Creates the document model cache shared by all loads of a run from the
+     * {@code --cache-dir} and {@code --cache-mb} options.
+     * 
+     * @param cacheDirectory Directory for serialized models, or null for a memory-only cache
+     * @param cacheMb Memory budget in MB, or -1 for the default
+     * @return The cache, or null if neither option was given
+     */
+    private static DocumentCache createCache(Path cacheDirectory, long cacheMb) {
+        if (cacheDirectory == null && cacheMb < 0) {
+            return null;
+        }
+        DocumentCache.Builder builder = DocumentCache.builder().spillDirectory(cacheDirectory);
+        if (cacheMb >= 0) {
+            builder.maxMemoryBytes(cacheMb * 1024 * 1024);
+        }
+        return builder.build();
+    }
+    
+    /**
+     * Prints the latency percentiles and throughput recorded for the pipeline phases.
+     */
+    private static void printMetrics() {
+        System.out.println();
+        System.out.println("Pipeline metrics:");
+        System.out.print(MetricsRegistry.global().format());
+    }
+    
+    /**
+     * Creates the full validator set used by the GUI, in report order.
+     */
+    private static List<IValidator<ThesisDocument>> createAllValidators() {
+        return Arrays.asList(
+            new MarginValidator(),
+            new FontValidator(),
+            new LineSpacingValidator(),
+            new PageFormatValidator(),
+            new HeadingValidator(),
+            new ParagraphValidator(),
+            new ListValidator()
+        );
+    }
+    
     /**
      * Gets the document path from command line arguments or user input.
      */
@@ -67,8 +472,11 @@ public class TechCheckApp {
     
     /**
      * Validates the specified document and displays results.
+     * 
+     * @param documentPath Path to the DOCX file
+     * @param cache Cache of parsed document models, or null to load the full POI object model
      */
-    private static void validateDocument(String documentPath) {
+    private static void validateDocument(String documentPath, DocumentCache cache) {
         System.out.println("Testing document: " + documentPath);
         System.out.println("----------------------------------------");
         
@@ -87,7 +495,9 @@ public class TechCheckApp {
         try {
             // Load the document
             System.out.println("Loading document...");
-            ThesisDocument document = DocumentProcessor.loadDocument(docFile.toPath());
+            ThesisDocument document = cache != null
+                ? DocumentProcessor.loadDocument(docFile.toPath(), DocumentLoadMode.STREAMING, cache)
+                : DocumentProcessor.loadDocument(docFile.toPath());
             
             System.out.println("Document loaded successfully!");
             System.out.println("Title: " + document.getMetadata().getTitle());
@@ -95,16 +505,19 @@ public class TechCheckApp {
             System.out.println("Pages: " + document.getMetadata().getPageCount());
             System.out.println();
             
-            // Test all Module 1 validators
-            List<IValidator> validators = Arrays.asList(
+            // Test all Module 1 validators; they run concurrently and report in this order
+            List<IValidator<ThesisDocument>> validators = Arrays.asList(
                 new MarginValidator(),
                 new FontValidator(),
                 new LineSpacingValidator(),
                 new PageFormatValidator()
             );
             
-            for (IValidator validator : validators) {
-                testValidator(validator, document);
+            try (ValidationEngine engine = ValidationEngine.builder().validators(validators).build()) {
+                List<ValidationResult> results = engine.validate(document);
+                for (int i = 0; i < validators.size(); i++) {
+                    displayValidatorResult(validators.get(i), results.get(i));
+                }
             }
             
         } catch (Exception e) {
@@ -114,21 +527,14 @@ public class TechCheckApp {
     }
     
     /**
-     * Tests a single validator and displays results.
+     * Displays the result of a single validator under its heading.
      */
-    private static void testValidator(IValidator validator, ThesisDocument document) {
-        try {
-            String validatorName = validator.getClass().getSimpleName();
-            System.out.println("TESTING " + validatorName.replace("Validator", "").toUpperCase() + " VALIDATION");
-            System.out.println("=".repeat(25 + validatorName.length()));
-            
-            ValidationResult result = validator.validate(document);
-            displayValidationResult(result);
-            
-        } catch (Exception e) {
-            System.err.println("Validator error: " + e.getMessage());
-            e.printStackTrace();
-        }
+    private static void displayValidatorResult(IValidator<ThesisDocument> validator, ValidationResult result) {
+        String validatorName = validator.getClass().getSimpleName();
+        System.out.println("TESTING " + validatorName.replace("Validator", "").toUpperCase() + " VALIDATION");
+        System.out.println("=".repeat(25 + validatorName.length()));
+        
+        displayValidationResult(result);
     }
     
     /**
@@ -154,6 +560,10 @@ public class TechCheckApp {
                 System.out.printf("  Actual:   %s%n", detail.getActual());
                 System.out.println();
             }
+            if (result.getOmittedIssueCount() > 0) {
+                System.out.println("... and " + result.getOmittedIssueCount() + " more issue(s) not listed");
+                System.out.println();
+            }
         } else {
             System.out.println("✓ No issues found - document complies with requirements");
         }
@@ -0,0 +1,363 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.core.document.DocumentCache;
+import com.fdv.techcheck.core.validation.ValidationStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Append-only record of the documents a batch has finished, so an interrupted batch can be
+ * resumed without validating them again.
+ *
+ * Each completed document is appended as one line keyed by its absolute path and the SHA-256
+ * of its content; a document that was edited since it was recorded is validated again. Lines
+ * are written immediately but forced to disk only every {@link Builder#syncEvery(int)} records
+ * or {@link Builder#syncInterval(Duration)}, whichever comes first, so the journal does not
+ * limit throughput. A crash loses at most the unsynced tail, whose documents are simply
+ * validated again; a torn last line is ignored when the journal is reopened.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class BatchJournal implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchJournal.class);
+
+    /** Name of the journal file inside the journal directory. */
+    public static final String JOURNAL_FILE_NAME = "batch.journal";
+
+    private static final String HEADER = "# techcheck batch journal v1";
+    private static final int FIELD_COUNT = 9;
+    private static final String NO_ERROR = "";
+
+    private final Path file;
+    private final int syncEvery;
+    private final long syncIntervalNanos;
+    private final Map<String, DocumentSummary> completed;
+    private final int resumableCount;
+    private final FileChannel channel;
+    private int unsyncedRecords;
+    private long lastSyncNanos;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private BatchJournal(Builder builder) throws IOException {
+        Files.createDirectories(builder.directory);
+        this.file = builder.directory.resolve(JOURNAL_FILE_NAME);
+        this.syncEvery = builder.syncEvery;
+        this.syncIntervalNanos = builder.syncInterval.toNanos();
+        this.completed = new HashMap<>();
+
+        boolean torn = false;
+        if (Files.exists(file)) {
+            torn = readRecords();
+        }
+        this.resumableCount = completed.size();
+
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                        StandardOpenOption.APPEND);
+        if (channel.size() == 0) {
+            write(HEADER + "\n");
+        } else if (torn) {
+            // Terminate the torn line so the next record starts on a line of its own
+            write("\n");
+        }
+        channel.force(false);
+        this.lastSyncNanos = System.nanoTime();
+        logger.info("Opened batch journal {} with {} completed documents", file, resumableCount);
+    }
+
+    /**
+     * Creates a new builder for constructing BatchJournal instances.
+     *
+     * @param directory Directory holding the journal, created if needed
+     * @return A new Builder instance
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Opens the journal in a directory with the default sync policy.
+     *
+     * @param directory Directory holding the journal, created if needed
+     * @return The opened journal
+     * @throws IOException if the journal cannot be read or created
+     */
+    public static BatchJournal open(Path directory) throws IOException {
+        return builder(directory).build();
+    }
+
+    /**
+     * Computes the content hash under which a document is recorded.
+     *
+     * @param document The document file
+     * @return Hex SHA-256 of the file content, which is also the file's {@link DocumentCache#contentKey(Path)}
+     * @throws IOException if the file cannot be read
+     */
+    public static String contentHash(Path document) throws IOException {
+        return DocumentCache.contentKey(document);
+    }
+
+    /**
+     * Looks up the recorded summary of a document.
+     *
+     * @param document The document file
+     * @param contentHash Hash from {@link #contentHash(Path)}
+     * @return The summary recorded for this path and content, or null if it must be validated
+     */
+    public synchronized DocumentSummary lookup(Path document, String contentHash) {
+        return completed.get(key(document, contentHash));
+    }
+
+    /**
+     * Appends a completed document. The record is durable after the next sync.
+     *
+     * @param summary Summary of the completed document
+     * @param contentHash Hash of the document content from {@link #contentHash(Path)}
+     * @throws IOException if the record cannot be written
+     */
+    public synchronized void record(DocumentSummary summary, String contentHash) throws IOException {
+        Objects.requireNonNull(summary, "Summary cannot be null");
+        Objects.requireNonNull(contentHash, "Content hash cannot be null");
+
+        Path path = summary.getFile().toAbsolutePath().normalize();
+        String[] fields = {
+            contentHash,
+            path.toString(),
+            summary.getStatus().name(),
+            Long.toString(summary.getCriticalIssues()),
+            Long.toString(summary.getMajorIssues()),
+            Long.toString(summary.getMinorIssues()),
+            Long.toString(summary.getProcessingTime().toMillis()),
+            String.join(",", summary.getFailedValidators()),
+            summary.getErrorMessage() != null ? summary.getErrorMessage() : NO_ERROR
+        };
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            line.append(escape(fields[i]));
+        }
+        write(line.append('\n').toString());
+        completed.put(key(path, contentHash), summary);
+
+        unsyncedRecords++;
+        if (unsyncedRecords >= syncEvery || System.nanoTime() - lastSyncNanos >= syncIntervalNanos) {
+            sync();
+        }
+    }
+
+    /**
+     * Forces all written records to disk.
+     *
+     * @throws IOException if the journal cannot be synced
+     */
+    public synchronized void sync() throws IOException {
+        if (unsyncedRecords > 0) {
+            channel.force(false);
+            unsyncedRecords = 0;
+        }
+        lastSyncNanos = System.nanoTime();
+    }
+
+    /**
+     * Gets the number of documents that were already recorded when the journal was opened.
+     *
+     * @return Number of resumable documents
+     */
+    public int getResumableCount() {
+        return resumableCount;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Syncs outstanding records and closes the journal file.
+     *
+     * @throws IOException if the journal cannot be synced or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            try {
+                sync();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchJournal{file=%s, completed=%d, syncEvery=%d}", file, completed.size(), syncEvery);
+    }
+
+    /**
+     * Reads the existing records into {@link #completed}.
+     *
+     * A crash can tear the last record inside a multi-byte character, so only the bytes up to
+     * the last newline are decoded.
+     *
+     * @return true if the file ends in an incomplete line
+     */
+    private boolean readRecords() throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        int completeLength = bytes.length;
+        while (completeLength > 0 && bytes[completeLength - 1] != '\n') {
+            completeLength--;
+        }
+        String content = new String(bytes, 0, completeLength, StandardCharsets.UTF_8);
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = content.indexOf('\n', lineStart)) >= 0) {
+            String line = content.substring(lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                parseRecord(line);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping malformed journal record in {}: {}", file, e.getMessage());
+            }
+        }
+        boolean torn = completeLength < bytes.length;
+        if (torn) {
+            logger.warn("Ignoring incomplete last record in {}", file);
+        }
+        return torn;
+    }
+
+    private void parseRecord(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != FIELD_COUNT) {
+            throw new IllegalArgumentException("expected " + FIELD_COUNT + " fields but found " + fields.length);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = unescape(fields[i]);
+        }
+
+        Path path = Path.of(fields[1]);
+        List<String> failedValidators = fields[7].isEmpty()
+            ? new ArrayList<>()
+            : new ArrayList<>(Arrays.asList(fields[7].split(",")));
+        DocumentSummary summary = DocumentSummary.restore(path,
+                ValidationStatus.valueOf(fields[2]),
+                Long.parseLong(fields[3]),
+                Long.parseLong(fields[4]),
+                Long.parseLong(fields[5]),
+                failedValidators,
+                Duration.ofMillis(Long.parseLong(fields[6])),
+                fields[8].equals(NO_ERROR) ? null : fields[8]);
+        // A later record for the same document replaces an earlier one
+        completed.put(key(path, fields[0]), summary);
+    }
+
+    private void write(String text) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static String key(Path document, String contentHash) {
+        return contentHash + '\t' + document.toAbsolutePath().normalize();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': escaped.append("\\\\"); break;
+                case '\t': escaped.append("\\t"); break;
+                case '\n': escaped.append("\\n"); break;
+                case '\r': escaped.append("\\r"); break;
+                default: escaped.append(c); break;
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String unescape(String value) {
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+            if (++i >= value.length()) {
+                throw new IllegalArgumentException("dangling escape");
+            }
+            switch (value.charAt(i)) {
+                case '\\': text.append('\\'); break;
+                case 't': text.append('\t'); break;
+                case 'n': text.append('\n'); break;
+                case 'r': text.append('\r'); break;
+                default: throw new IllegalArgumentException("unknown escape \\" + value.charAt(i));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Builder class for constructing BatchJournal instances.
+     */
+    public static class Builder {
+        private final Path directory;
+        private int syncEvery = 64;
+        private Duration syncInterval = Duration.ofSeconds(1);
+
+        private Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Journal directory cannot be null");
+        }
+
+        /**
+         * Sets how many records may be written between two syncs. Defaults to 64.
+         */
+        public Builder syncEvery(int syncEvery) {
+            if (syncEvery < 1) {
+                throw new IllegalArgumentException("Sync batch size must be at least 1");
+            }
+            this.syncEvery = syncEvery;
+            return this;
+        }
+
+        /**
+         * Sets the longest time a written record may stay unsynced while records keep
+         * arriving. Defaults to one second.
+         */
+        public Builder syncInterval(Duration syncInterval) {
+            if (syncInterval.isNegative()) {
+                throw new IllegalArgumentException("Sync interval cannot be negative");
+            }
+            this.syncInterval = syncInterval;
+            return this;
+        }
+
+        public BatchJournal build() throws IOException {
+            return new BatchJournal(this);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.fdv.techcheck.batch;
+
+/**
+ * Callback notified by the {@link BatchValidator} as each document finishes.
+ * Invoked on the thread that called {@link BatchValidator#validate(java.util.List, BatchListener)},
+ * one document at a time, in completion order.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BatchListener {
+
+    /**
+     * Called when a document has been loaded and validated, or has failed to load.
+     *
+     * @param summary Summary of the document's results
+     */
+    void onDocumentCompleted(DocumentSummary summary);
+}
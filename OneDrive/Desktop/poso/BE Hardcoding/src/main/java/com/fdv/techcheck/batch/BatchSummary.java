@@ -0,0 +1,228 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.core.validation.ValidationStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aggregate outcome of a batch run: document counts by status, total issues by severity,
+ * timing and the per-document summaries.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class BatchSummary {
+
+    private final List<DocumentSummary> documents;
+    private final Map<ValidationStatus, Integer> statusCounts;
+    private final long criticalIssues;
+    private final long majorIssues;
+    private final long minorIssues;
+    private final Duration wallTime;
+    private final Duration processingTime;
+    private final int parallelism;
+    private final int resumedCount;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private BatchSummary(Builder builder) {
+        this.documents = Collections.unmodifiableList(new ArrayList<>(builder.documents));
+        this.statusCounts = new EnumMap<>(ValidationStatus.class);
+        long critical = 0;
+        long major = 0;
+        long minor = 0;
+        Duration processing = Duration.ZERO;
+        for (DocumentSummary document : documents) {
+            statusCounts.merge(document.getStatus(), 1, Integer::sum);
+            critical += document.getCriticalIssues();
+            major += document.getMajorIssues();
+            minor += document.getMinorIssues();
+            processing = processing.plus(document.getProcessingTime());
+        }
+        this.criticalIssues = critical;
+        this.majorIssues = major;
+        this.minorIssues = minor;
+        this.processingTime = processing;
+        this.wallTime = builder.wallTime;
+        this.parallelism = builder.parallelism;
+        this.resumedCount = builder.resumedCount;
+    }
+
+    /**
+     * Creates a new builder for BatchSummary.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the per-document summaries in completion order.
+     *
+     * @return Unmodifiable list of document summaries
+     */
+    public List<DocumentSummary> getDocuments() {
+        return documents;
+    }
+
+    public int getDocumentCount() {
+        return documents.size();
+    }
+
+    public int getCount(ValidationStatus status) {
+        return statusCounts.getOrDefault(status, 0);
+    }
+
+    public long getCriticalIssues() {
+        return criticalIssues;
+    }
+
+    public long getMajorIssues() {
+        return majorIssues;
+    }
+
+    public long getMinorIssues() {
+        return minorIssues;
+    }
+
+    /**
+     * Gets the elapsed time of the whole batch.
+     */
+    public Duration getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Gets the sum of the per-document processing times.
+     */
+    public Duration getProcessingTime() {
+        return processingTime;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Gets the number of documents taken from a journal of an earlier run instead of being validated.
+     */
+    public int getResumedCount() {
+        return resumedCount;
+    }
+
+    /**
+     * Gets the number of documents completed per second of wall time.
+     */
+    public double getThroughput() {
+        double seconds = wallTime.toMillis() / 1000.0;
+        return seconds > 0 ? documents.size() / seconds : 0.0;
+    }
+
+    /**
+     * Formats the aggregate summary followed by one line per document, worst status first.
+     *
+     * @return Multi-line summary text
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        text.append("FDV TechCheck - Batch Validation Summary").append(System.lineSeparator());
+        text.append(String.format(Locale.US, "Documents: %d (passed %d, warnings %d, failed %d, errors %d)%n",
+                                  documents.size(), getCount(ValidationStatus.PASS), getCount(ValidationStatus.WARNING),
+                                  getCount(ValidationStatus.FAIL), getCount(ValidationStatus.ERROR)));
+        text.append(String.format(Locale.US, "Issues: %d critical, %d major, %d minor%n",
+                                  criticalIssues, majorIssues, minorIssues));
+        text.append(String.format(Locale.US, "Wall time: %.1f s on %d workers (%.2f documents/s, %.1f s processing)%n",
+                                  wallTime.toMillis() / 1000.0, parallelism, getThroughput(),
+                                  processingTime.toMillis() / 1000.0));
+        if (resumedCount > 0) {
+            text.append(String.format(Locale.US, "Resumed: %d documents from an earlier run%n", resumedCount));
+        }
+
+        List<DocumentSummary> sorted = new ArrayList<>(documents);
+        sorted.sort(Comparator.comparing((DocumentSummary document) -> statusRank(document.getStatus()))
+                .thenComparing(DocumentSummary::getFile));
+        text.append(System.lineSeparator());
+        for (DocumentSummary document : sorted) {
+            text.append(document.toLine()).append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes {@link #format()} to a file as UTF-8, replacing any existing content.
+     *
+     * @param file Target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        Files.writeString(file, format(), StandardCharsets.UTF_8);
+    }
+
+    private static int statusRank(ValidationStatus status) {
+        switch (status) {
+            case ERROR: return 0;
+            case FAIL: return 1;
+            case WARNING: return 2;
+            default: return 3;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchSummary{documents=%d, statuses=%s, resumed=%d, wallTime=%dms, parallelism=%d}",
+                           documents.size(), statusCounts, resumedCount, wallTime.toMillis(), parallelism);
+    }
+
+    /**
+     * Builder that accumulates document summaries as they complete.
+     */
+    public static class Builder {
+        private final List<DocumentSummary> documents = new ArrayList<>();
+        private Duration wallTime = Duration.ZERO;
+        private int parallelism = 1;
+        private int resumedCount;
+
+        private Builder() {}
+
+        public Builder addDocument(DocumentSummary document) {
+            documents.add(document);
+            return this;
+        }
+
+        /**
+         * Adds a document whose summary was taken from a journal of an earlier run.
+         */
+        public Builder addResumedDocument(DocumentSummary document) {
+            documents.add(document);
+            resumedCount++;
+            return this;
+        }
+
+        public Builder wallTime(Duration wallTime) {
+            this.wallTime = wallTime;
+            return this;
+        }
+
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public BatchSummary build() {
+            return new BatchSummary(this);
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.core.concurrent.DaemonThreadFactory;
+import com.fdv.techcheck.core.document.DocumentCache;
+import com.fdv.techcheck.core.document.DocumentLoadMode;
+import com.fdv.techcheck.core.document.DocumentProcessingException;
+import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.MemoryAdmissionController;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationEngine;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Validates many documents without user interaction, on a bounded pool of document workers.
+ *
+ * Each worker loads one document at a time and runs all validators on it through a shared
+ * {@link ValidationEngine}. The pool size defaults to the number of processors. Before loading,
+ * a worker waits for a {@link MemoryAdmissionController} to admit the document's estimated heap
+ * footprint, so a few very large theses are processed with fewer documents in flight instead of
+ * exhausting the heap. Documents are reported to a {@link BatchListener} as they finish; a document
+ * that cannot be loaded yields an ERROR summary and does not stop the batch. With a
+ * {@link BatchJournal}, completed documents are recorded as they finish and documents already
+ * recorded by an interrupted run are reported from the journal instead of being validated again.
+ * A {@link ReportWriter} can write each document's report before the document is released.
+ * With a {@link DocumentCache}, documents whose content was parsed before are not parsed again.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class BatchValidator implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchValidator.class);
+
+    private final DocumentLoadMode loadMode;
+    private final int parallelism;
+    private final MemoryAdmissionController admissionController;
+    private final DocumentCache cache;
+    private final BatchJournal journal;
+    private final ReportWriter reportWriter;
+    private final ValidationEngine engine;
+    private final ExecutorService workers;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private BatchValidator(Builder builder) {
+        this.loadMode = builder.loadMode;
+        this.parallelism = builder.parallelism > 0 ? builder.parallelism
+                : Runtime.getRuntime().availableProcessors();
+        this.admissionController = builder.admissionController != null ? builder.admissionController
+                : MemoryAdmissionController.forMaxHeap();
+        this.cache = builder.cache;
+        this.journal = builder.journal;
+        this.reportWriter = builder.reportWriter;
+        // Document workers wait while their validators run, so the engine gets a pool of the same size
+        this.engine = ValidationEngine.builder()
+                .validators(builder.validators)
+                .parallelism(parallelism)
+                .build();
+        this.workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("batch-worker-"));
+    }
+
+    /**
+     * Creates a new builder for constructing BatchValidator instances.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Finds all DOCX files below a directory, in path order. Word lock files ({@code ~$*.docx})
+     * are skipped.
+     *
+     * @param directory Directory to search recursively
+     * @return Paths of the documents found
+     * @throws IOException if the directory cannot be read
+     */
+    public static List<Path> discoverDocuments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Not a directory: " + directory);
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                    .filter(BatchValidator::isDocx)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Validates all DOCX files below a directory.
+     *
+     * @param directory Directory to search recursively
+     * @param listener Callback for each completed document, may be null
+     * @return Aggregate summary of the batch
+     * @throws IOException if the directory cannot be read
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public BatchSummary validateDirectory(Path directory, BatchListener listener)
+            throws IOException, InterruptedException {
+        List<Path> files = discoverDocuments(directory);
+        logger.info("Found {} documents in {}", files.size(), directory);
+        return validate(files, listener);
+    }
+
+    /**
+     * Validates the given documents, reporting each one to the listener as it finishes.
+     *
+     * @param files Documents to validate
+     * @param listener Callback for each completed document, invoked on the calling thread; may be null
+     * @return Aggregate summary of the batch
+     * @throws InterruptedException if the calling thread is interrupted while waiting; pending
+     *                              documents are cancelled
+     */
+    public BatchSummary validate(List<Path> files, BatchListener listener) throws InterruptedException {
+        Objects.requireNonNull(files, "Files cannot be null");
+
+        long startTime = System.nanoTime();
+        CompletionService<Completion> completion = new ExecutorCompletionService<>(workers);
+        List<Future<Completion>> futures = new ArrayList<>(files.size());
+        for (Path file : files) {
+            futures.add(completion.submit(() -> process(file)));
+        }
+
+        BatchSummary.Builder summary = BatchSummary.builder().parallelism(parallelism);
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                Completion completed = completion.take().get();
+                if (completed.resumed) {
+                    summary.addResumedDocument(completed.summary);
+                } else {
+                    summary.addDocument(completed.summary);
+                    journal(completed);
+                }
+                if (listener != null) {
+                    listener.onDocumentCompleted(completed.summary);
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        } catch (ExecutionException e) {
+            // validateDocument handles all exceptions; only errors such as OutOfMemoryError get here
+            futures.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Batch worker failed: " + e.getCause(), e.getCause());
+        }
+
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - startTime);
+        logger.info("Validated {} documents in {}ms on {} workers", files.size(), wallTime.toMillis(), parallelism);
+        return summary.wallTime(wallTime).build();
+    }
+
+    /**
+     * Queues a single document on the document workers, for callers that discover documents
+     * over time. The journal is not consulted.
+     *
+     * @param file Document to validate
+     * @return Future completed with the document's summary on a worker thread
+     */
+    public CompletableFuture<DocumentSummary> submit(Path file) {
+        Objects.requireNonNull(file, "File cannot be null");
+        return CompletableFuture.supplyAsync(() -> validateDocument(file, null), workers);
+    }
+
+    /**
+     * Takes a document's summary from the journal if it was completed by an earlier run,
+     * otherwise validates it.
+     */
+    private Completion process(Path file) {
+        if (journal == null) {
+            return new Completion(validateDocument(file, null), null, false);
+        }
+
+        String contentHash;
+        try {
+            contentHash = BatchJournal.contentHash(file);
+        } catch (IOException e) {
+            return new Completion(DocumentSummary.error(file, "Cannot read file: " + e.getMessage(), Duration.ZERO),
+                                  null, false);
+        }
+        DocumentSummary recorded = journal.lookup(file, contentHash);
+        if (recorded != null) {
+            return new Completion(recorded, null, true);
+        }
+
+        DocumentSummary summary = validateDocument(file, contentHash);
+        // An interrupted document is unfinished and must be validated again when the batch is resumed
+        return new Completion(summary, Thread.currentThread().isInterrupted() ? null : contentHash, false);
+    }
+
+    /**
+     * Records a completed document. A journal write failure costs only resumability,
+     * so it is logged and the batch continues.
+     */
+    private void journal(Completion completed) {
+        if (journal == null || completed.contentHash == null) {
+            return;
+        }
+        try {
+            journal.record(completed.summary, completed.contentHash);
+        } catch (IOException e) {
+            logger.warn("Cannot record {} in batch journal: {}", completed.summary.getFile(), e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for the document to be admitted, then loads and validates it.
+     * Time spent waiting is not counted as processing time. The journal's content hash, if any,
+     * doubles as the cache key, so the file is hashed only once.
+     */
+    private DocumentSummary validateDocument(Path file, String contentHash) {
+        try (MemoryAdmissionController.Admission admission = admissionController.admit(file, loadMode)) {
+            return loadAndValidate(file, contentHash);
+        } catch (DocumentProcessingException e) {
+            return DocumentSummary.error(file, e.getMessage(), Duration.ZERO);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DocumentSummary.error(file, "Validation interrupted", Duration.ZERO);
+        }
+    }
+
+    /**
+     * Loads and validates one document, converting every failure into an ERROR summary.
+     */
+    private DocumentSummary loadAndValidate(Path file, String contentHash) {
+        long startTime = System.nanoTime();
+        ThesisDocument document = null;
+        try {
+            document = DocumentProcessor.loadDocument(file, loadMode, cache, contentHash);
+            List<ValidationResult> results = engine.validate(document);
+            if (reportWriter != null) {
+                writeReport(file, document, results);
+            }
+            return DocumentSummary.of(file, results, Duration.ofNanos(System.nanoTime() - startTime));
+        } catch (DocumentProcessingException e) {
+            return DocumentSummary.error(file, e.getMessage(), Duration.ofNanos(System.nanoTime() - startTime));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return DocumentSummary.error(file, "Validation interrupted", Duration.ofNanos(System.nanoTime() - startTime));
+        } catch (RuntimeException e) {
+            logger.error("Unexpected error validating {}", file, e);
+            return DocumentSummary.error(file, e.toString(), Duration.ofNanos(System.nanoTime() - startTime));
+        } finally {
+            DocumentProcessor.closeDocument(document);
+        }
+    }
+
+    /**
+     * Writes the report of a validated document. A failed report does not change the
+     * validation outcome, so it is only logged.
+     */
+    private void writeReport(Path file, ThesisDocument document, List<ValidationResult> results) {
+        try {
+            reportWriter.write(file, document, results);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Cannot write report for {}: {}", file, e.getMessage());
+        }
+    }
+
+    static boolean isDocx(Path file) {
+        String name = file.getFileName().toString();
+        return name.toLowerCase(Locale.ROOT).endsWith(".docx") && !name.startsWith("~$");
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public DocumentLoadMode getLoadMode() {
+        return loadMode;
+    }
+
+    public MemoryAdmissionController getAdmissionController() {
+        return admissionController;
+    }
+
+    public DocumentCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Stops the document workers and the validation engine. The journal is owned by the caller
+     * and stays open.
+     */
+    @Override
+    public void close() {
+        workers.shutdownNow();
+        engine.close();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchValidator{parallelism=%d, loadMode=%s, admission=%s, engine=%s}",
+                           parallelism, loadMode, admissionController, engine);
+    }
+
+    /**
+     * Outcome of one document task; the content hash is set when the document should be journaled.
+     */
+    private static final class Completion {
+        private final DocumentSummary summary;
+        private final String contentHash;
+        private final boolean resumed;
+
+        private Completion(DocumentSummary summary, String contentHash, boolean resumed) {
+            this.summary = summary;
+            this.contentHash = contentHash;
+            this.resumed = resumed;
+        }
+    }
+
+    /**
+     * Builder class for constructing BatchValidator instances.
+     */
+    public static class Builder {
+        private final List<IValidator<ThesisDocument>> validators = new ArrayList<>();
+        private DocumentLoadMode loadMode = DocumentLoadMode.STREAMING;
+        private int parallelism;
+        private MemoryAdmissionController admissionController;
+        private DocumentCache cache;
+        private BatchJournal journal;
+        private ReportWriter reportWriter;
+
+        private Builder() {}
+
+        public Builder addValidator(IValidator<ThesisDocument> validator) {
+            this.validators.add(Objects.requireNonNull(validator, "Validator cannot be null"));
+            return this;
+        }
+
+        public Builder validators(List<? extends IValidator<ThesisDocument>> validators) {
+            validators.forEach(this::addValidator);
+            return this;
+        }
+
+        /**
+         * Sets how documents are loaded. Defaults to {@link DocumentLoadMode#STREAMING}.
+         */
+        public Builder loadMode(DocumentLoadMode loadMode) {
+            this.loadMode = Objects.requireNonNull(loadMode, "Load mode cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the number of document workers. Defaults to the number of processors.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the controller that admits documents into memory, which may be shared with other
+         * loaders in the process. Defaults to a budget of 75% of the maximum heap.
+         */
+        public Builder admissionController(MemoryAdmissionController admissionController) {
+            this.admissionController = admissionController;
+            return this;
+        }
+
+        /**
+         * Sets the cache of parsed document models, which may be shared with other loaders in the
+         * process. Only used with {@link DocumentLoadMode#STREAMING}; without a cache every
+         * document is parsed.
+         */
+        public Builder cache(DocumentCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the journal used to record completed documents and to skip those completed by
+         * an earlier run. Without a journal every document is validated.
+         */
+        public Builder journal(BatchJournal journal) {
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Sets the writer called with each successfully validated document. Without one,
+         * only summaries are produced.
+         */
+        public Builder reportWriter(ReportWriter reportWriter) {
+            this.reportWriter = reportWriter;
+            return this;
+        }
+
+        public BatchValidator build() {
+            return new BatchValidator(this);
+        }
+    }
+}
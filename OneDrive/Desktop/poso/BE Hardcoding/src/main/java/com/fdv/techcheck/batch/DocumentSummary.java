@@ -0,0 +1,175 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.core.validation.ValidationStatus;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Outcome of validating one document in a batch: its overall status, issue counts by
+ * severity and processing time. Validation details are not kept, so a summary stays
+ * small however many issues the document has.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DocumentSummary {
+
+    private final Path file;
+    private final ValidationStatus status;
+    private final long criticalIssues;
+    private final long majorIssues;
+    private final long minorIssues;
+    private final List<String> failedValidators;
+    private final Duration processingTime;
+    private final String errorMessage;
+
+    private DocumentSummary(Path file, ValidationStatus status, long criticalIssues, long majorIssues,
+                            long minorIssues, List<String> failedValidators, Duration processingTime,
+                            String errorMessage) {
+        this.file = Objects.requireNonNull(file, "File cannot be null");
+        this.status = status;
+        this.criticalIssues = criticalIssues;
+        this.majorIssues = majorIssues;
+        this.minorIssues = minorIssues;
+        this.failedValidators = Collections.unmodifiableList(failedValidators);
+        this.processingTime = processingTime;
+        this.errorMessage = errorMessage;
+    }
+
+    /**
+     * Summarizes the results of a validated document. The overall status is the worst
+     * validator status, ERROR before FAIL before WARNING.
+     *
+     * @param file The validated file
+     * @param results Results of all validators
+     * @param processingTime Time spent loading and validating the document
+     * @return Summary of the results
+     */
+    public static DocumentSummary of(Path file, List<ValidationResult> results, Duration processingTime) {
+        long critical = 0;
+        long major = 0;
+        long minor = 0;
+        boolean hasError = false;
+        boolean hasFail = false;
+        boolean hasWarning = false;
+        List<String> failedValidators = new ArrayList<>();
+
+        for (ValidationResult result : results) {
+            critical += result.getCriticalIssueCount();
+            major += result.getMajorIssueCount();
+            minor += result.getMinorIssueCount();
+            switch (result.getStatus()) {
+                case ERROR:
+                    hasError = true;
+                    failedValidators.add(result.getValidatorName());
+                    break;
+                case FAIL:
+                    hasFail = true;
+                    failedValidators.add(result.getValidatorName());
+                    break;
+                case WARNING:
+                    hasWarning = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        ValidationStatus status = hasError ? ValidationStatus.ERROR
+                : hasFail ? ValidationStatus.FAIL
+                : hasWarning ? ValidationStatus.WARNING
+                : ValidationStatus.PASS;
+        return new DocumentSummary(file, status, critical, major, minor, failedValidators, processingTime, null);
+    }
+
+    /**
+     * Creates the summary of a document that could not be loaded or validated.
+     *
+     * @param file The file
+     * @param errorMessage Description of the error
+     * @param processingTime Time spent before the error
+     * @return Summary with ERROR status
+     */
+    public static DocumentSummary error(Path file, String errorMessage, Duration processingTime) {
+        return new DocumentSummary(file, ValidationStatus.ERROR, 0, 0, 0, new ArrayList<>(), processingTime,
+                                   errorMessage != null ? errorMessage : "Unknown error");
+    }
+
+    /**
+     * Recreates a summary read back from a {@link BatchJournal}.
+     */
+    static DocumentSummary restore(Path file, ValidationStatus status, long criticalIssues, long majorIssues,
+                                   long minorIssues, List<String> failedValidators, Duration processingTime,
+                                   String errorMessage) {
+        return new DocumentSummary(file, status, criticalIssues, majorIssues, minorIssues, failedValidators,
+                                   processingTime, errorMessage);
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public ValidationStatus getStatus() {
+        return status;
+    }
+
+    public long getCriticalIssues() {
+        return criticalIssues;
+    }
+
+    public long getMajorIssues() {
+        return majorIssues;
+    }
+
+    public long getMinorIssues() {
+        return minorIssues;
+    }
+
+    /**
+     * Gets the names of the validators that failed or could not complete.
+     *
+     * @return Unmodifiable list of validator names
+     */
+    public List<String> getFailedValidators() {
+        return failedValidators;
+    }
+
+    public Duration getProcessingTime() {
+        return processingTime;
+    }
+
+    /**
+     * Gets the reason the document could not be processed.
+     *
+     * @return Error message, or null if the document was validated
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    /**
+     * Formats the summary as a single line for progress output.
+     *
+     * @return One-line summary
+     */
+    public String toLine() {
+        String outcome = errorMessage != null
+            ? errorMessage
+            : String.format(Locale.US, "%d critical, %d major, %d minor", criticalIssues, majorIssues, minorIssues);
+        return String.format(Locale.US, "%-7s %6d ms  %s  (%s)",
+                           status, processingTime.toMillis(), file, outcome);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DocumentSummary{file=%s, status=%s, critical=%d, major=%d, minor=%d, time=%dms}",
+                           file, status, criticalIssues, majorIssues, minorIssues, processingTime.toMillis());
+    }
+}
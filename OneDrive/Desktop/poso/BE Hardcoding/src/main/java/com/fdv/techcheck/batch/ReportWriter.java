@@ -0,0 +1,29 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.ValidationResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes the report of a validated document while the {@link BatchValidator} still holds it.
+ * Invoked on a document worker thread, so implementations must be thread-safe.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ReportWriter {
+
+    /**
+     * Writes the report of one document.
+     *
+     * @param file The validated file
+     * @param document The loaded document, closed after this call returns
+     * @param results Results of all validators, in validator order
+     * @throws IOException if the report cannot be written
+     */
+    void write(Path file, ThesisDocument document, List<ValidationResult> results) throws IOException;
+}
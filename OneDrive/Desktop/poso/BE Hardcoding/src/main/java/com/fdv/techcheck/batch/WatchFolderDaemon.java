@@ -0,0 +1,376 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.reports.PdfReportGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Long-running mode that validates documents as they are dropped into a directory.
+ *
+ * The directory tree is watched with a {@link WatchService} instead of being rescanned. A new or
+ * changed DOCX file is validated once it has been quiet for the configured period and its size
+ * and modification time have stopped changing, so files still being copied are not read half
+ * written. Settled files are queued on the {@link BatchValidator}'s workers, whose report writer
+ * typically writes the report next to the document (see {@link #writePdfReport}). A file is
+ * validated again whenever its modification time differs from the one it had when it was last
+ * submitted, including when it is rewritten while being validated. A file not yet submitted by
+ * this daemon whose report is newer than the file itself is considered done, which makes
+ * restarts cheap.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class WatchFolderDaemon implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchFolderDaemon.class);
+
+    /** Suffix replacing {@code .docx} in the name of the report written next to a document. */
+    public static final String REPORT_SUFFIX = ".techcheck.pdf";
+
+    private static final long MIN_POLL_MILLIS = 50;
+
+    private final Path directory;
+    private final BatchValidator batchValidator;
+    private final BatchListener listener;
+    private final long quietPeriodNanos;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
+    private final Map<Path, PendingFile> pending = new LinkedHashMap<>();
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+    // Modification time of each file when it was last submitted; guarded by this
+    private final Map<Path, Long> submittedVersions = new HashMap<>();
+    private volatile boolean running = true;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private WatchFolderDaemon(Builder builder) throws IOException {
+        this.directory = builder.directory.toAbsolutePath().normalize();
+        this.batchValidator = Objects.requireNonNull(builder.batchValidator, "Batch validator cannot be null");
+        this.listener = builder.listener;
+        this.quietPeriodNanos = builder.quietPeriod.toNanos();
+        if (!Files.isDirectory(directory)) {
+            throw new IOException("Not a directory: " + directory);
+        }
+        this.watchService = directory.getFileSystem().newWatchService();
+    }
+
+    /**
+     * Creates a new builder for constructing WatchFolderDaemon instances.
+     *
+     * @param directory Directory to watch, including its subdirectories
+     * @return A new Builder instance
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Gets the path of the report written next to a document.
+     *
+     * @param document The document file
+     * @return Report path in the same directory
+     */
+    public static Path reportPath(Path document) {
+        String name = document.getFileName().toString();
+        String baseName = name.substring(0, name.length() - ".docx".length());
+        return document.resolveSibling(baseName + REPORT_SUFFIX);
+    }
+
+    /**
+     * {@link ReportWriter} that writes a PDF report next to each document. The report is written
+     * to a temporary file first, so a reader never sees a partial report.
+     *
+     * @param file The validated file
+     * @param document The loaded document
+     * @param results Results of all validators
+     * @throws IOException if the report cannot be written
+     */
+    public static void writePdfReport(Path file, ThesisDocument document, List<ValidationResult> results)
+            throws IOException {
+        Map<String, ValidationResult> resultsByValidator = new LinkedHashMap<>();
+        for (ValidationResult result : results) {
+            resultsByValidator.put(result.getValidatorName(), result);
+        }
+
+        Path report = reportPath(file);
+        Path temporary = report.resolveSibling(report.getFileName() + ".tmp");
+        try {
+            PdfReportGenerator.shared().generateReport(temporary.toFile(), document, resultsByValidator);
+            Files.move(temporary, report, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Watches the directory until {@link #close()} is called or the thread is interrupted.
+     * Documents already present without an up-to-date report are validated first.
+     *
+     * @throws IOException if the directory cannot be watched
+     * @throws InterruptedException if the calling thread is interrupted
+     */
+    public void run() throws IOException, InterruptedException {
+        registerTree(directory);
+        logger.info("Watching {} ({} directories)", directory, watchedDirectories.size());
+
+        try {
+            while (running) {
+                WatchKey key = watchService.poll(nextPollMillis(), TimeUnit.MILLISECONDS);
+                while (key != null) {
+                    handleEvents(key);
+                    key = watchService.poll();
+                }
+                submitSettledFiles();
+            }
+        } catch (ClosedWatchServiceException e) {
+            // close() was called while waiting for events
+        }
+        logger.info("Stopped watching {}", directory);
+    }
+
+    /**
+     * Gets the number of files waiting to settle or for a worker.
+     *
+     * @return Number of pending files
+     */
+    public synchronized int getPendingCount() {
+        return pending.size() + inFlight.size();
+    }
+
+    /**
+     * Stops {@link #run()}. Documents already queued on the batch validator still complete.
+     *
+     * @throws IOException if the watch service cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        watchService.close();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WatchFolderDaemon{directory=%s, quietPeriod=%dms, pending=%d}",
+                           directory, TimeUnit.NANOSECONDS.toMillis(quietPeriodNanos), getPendingCount());
+    }
+
+    private void handleEvents(WatchKey key) {
+        Path watched = watchedDirectories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost; find changed files by scanning the tree once
+                logger.warn("Watch events overflowed in {}, rescanning", watched);
+                try {
+                    scanTree(directory);
+                } catch (IOException e) {
+                    logger.warn("Cannot rescan {}: {}", directory, e.getMessage());
+                }
+                continue;
+            }
+            if (watched == null) {
+                continue;
+            }
+            Path child = watched.resolve((Path) event.context());
+            if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    // Files may have been created before the new directory was registered
+                    try {
+                        registerTree(child);
+                    } catch (IOException e) {
+                        logger.warn("Cannot watch {}: {}", child, e.getMessage());
+                    }
+                }
+            } else if (BatchValidator.isDocx(child)) {
+                markPending(child);
+            }
+        }
+        if (!key.reset()) {
+            watchedDirectories.remove(key);
+        }
+    }
+
+    private void registerTree(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Iterator<Path> it = paths.iterator(); it.hasNext();) {
+                Path path = it.next();
+                if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    WatchKey key = path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                                 StandardWatchEventKinds.ENTRY_MODIFY);
+                    watchedDirectories.put(key, path);
+                } else if (BatchValidator.isDocx(path)) {
+                    markPending(path);
+                }
+            }
+        }
+    }
+
+    private void scanTree(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.filter(Files::isRegularFile).filter(BatchValidator::isDocx).forEach(this::markPending);
+        }
+    }
+
+    private synchronized void markPending(Path file) {
+        PendingFile entry = pending.computeIfAbsent(file, path -> new PendingFile());
+        entry.lastEventNanos = System.nanoTime();
+    }
+
+    /**
+     * Queues every pending file that has been quiet for the quiet period and has stopped changing.
+     */
+    private synchronized void submitSettledFiles() {
+        long now = System.nanoTime();
+        for (Iterator<Map.Entry<Path, PendingFile>> it = pending.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<Path, PendingFile> entry = it.next();
+            Path file = entry.getKey();
+            PendingFile state = entry.getValue();
+            if (now - state.lastEventNanos < quietPeriodNanos || inFlight.contains(file)) {
+                continue;
+            }
+
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                it.remove();
+                submittedVersions.remove(file);
+                continue;
+            } catch (IOException e) {
+                logger.warn("Cannot read attributes of {}: {}", file, e.getMessage());
+                it.remove();
+                continue;
+            }
+            long modified = attributes.lastModifiedTime().toMillis();
+            if (attributes.size() != state.size || modified != state.lastModified) {
+                // Still being written, or seen for the first time: wait another quiet period
+                state.size = attributes.size();
+                state.lastModified = modified;
+                state.lastEventNanos = now;
+                continue;
+            }
+
+            it.remove();
+            if (!isCurrent(file, modified)) {
+                submit(file, modified);
+            }
+        }
+    }
+
+    private void submit(Path file, long modified) {
+        logger.info("Validating {}", file);
+        submittedVersions.put(file, modified);
+        inFlight.add(file);
+        batchValidator.submit(file).whenComplete((summary, failure) -> {
+            inFlight.remove(file);
+            if (failure != null) {
+                logger.error("Validation of {} failed", file, failure);
+            } else if (listener != null) {
+                listener.onDocumentCompleted(summary);
+            }
+        });
+    }
+
+    /**
+     * Checks whether the file's current version was already validated. The report's own time
+     * is only trusted for files this daemon has not submitted, since a file rewritten while it
+     * was being validated is older than the report written for its previous content.
+     */
+    private boolean isCurrent(Path file, long modified) {
+        Long submitted = submittedVersions.get(file);
+        return submitted != null ? submitted == modified : hasCurrentReport(file, modified);
+    }
+
+    private static boolean hasCurrentReport(Path file, long documentModified) {
+        try {
+            Path report = reportPath(file);
+            return Files.exists(report) && Files.getLastModifiedTime(report).toMillis() >= documentModified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private long nextPollMillis() {
+        return Math.max(MIN_POLL_MILLIS, TimeUnit.NANOSECONDS.toMillis(quietPeriodNanos) / 2);
+    }
+
+    /**
+     * Debounce state of a file with recent events.
+     */
+    private static final class PendingFile {
+        private long lastEventNanos;
+        private long size = -1;
+        private long lastModified = -1;
+    }
+
+    /**
+     * Builder class for constructing WatchFolderDaemon instances.
+     */
+    public static class Builder {
+        private final Path directory;
+        private BatchValidator batchValidator;
+        private BatchListener listener;
+        private Duration quietPeriod = Duration.ofSeconds(2);
+
+        private Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "Directory cannot be null");
+        }
+
+        /**
+         * Sets the validator whose workers validate the settled files. Required.
+         */
+        public Builder batchValidator(BatchValidator batchValidator) {
+            this.batchValidator = batchValidator;
+            return this;
+        }
+
+        /**
+         * Sets the callback for each completed document, invoked on a document worker thread.
+         */
+        public Builder listener(BatchListener listener) {
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * Sets how long a file must see no events before it is validated. Defaults to two seconds.
+         */
+        public Builder quietPeriod(Duration quietPeriod) {
+            if (quietPeriod.isNegative()) {
+                throw new IllegalArgumentException("Quiet period cannot be negative");
+            }
+            this.quietPeriod = quietPeriod;
+            return this;
+        }
+
+        public WatchFolderDaemon build() throws IOException {
+            return new WatchFolderDaemon(this);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.fdv.techcheck.core.collections;
+
+import java.util.Arrays;
+
+/**
+ * Counts occurrences per int key in an open-addressing hash table with linear probing.
+ *
+ * Keys and counts live in parallel primitive arrays, so counting never boxes and only
+ * allocates when the table grows. Any int is a valid key. Instances are not thread-safe.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class IntCounter {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] keys;
+    private int[] counts;
+    private boolean[] used;
+    private int mask;
+    private int shift;
+    private int size;
+
+    /**
+     * Creates an empty counter with room for a few keys.
+     */
+    public IntCounter() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * Creates an empty counter sized for the expected number of distinct keys.
+     *
+     * @param expectedKeys Number of keys that fit without growing
+     */
+    public IntCounter(int expectedKeys) {
+        if (expectedKeys < 0) {
+            throw new IllegalArgumentException("Expected keys cannot be negative: " + expectedKeys);
+        }
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(1, expectedKeys * 2 - 1)) << 1));
+    }
+
+    /**
+     * Adds one to the count of a key.
+     *
+     * @param key The key
+     */
+    public void increment(int key) {
+        add(key, 1);
+    }
+
+    /**
+     * Adds a delta to the count of a key, registering the key if it is new.
+     *
+     * @param key The key
+     * @param delta Amount to add
+     */
+    public void add(int key, int delta) {
+        int slot = slot(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                counts[slot] += delta;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        used[slot] = true;
+        keys[slot] = key;
+        counts[slot] = delta;
+        if (++size * 2 > keys.length) {
+            allocateAndRehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Gets the count of a key.
+     *
+     * @param key The key
+     * @return The count, or 0 if the key was never added
+     */
+    public int get(int key) {
+        int slot = slot(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return counts[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * Checks whether a key has been added, even with a zero count.
+     *
+     * @param key The key
+     * @return true if the key is present
+     */
+    public boolean containsKey(int key) {
+        int slot = slot(key);
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the number of distinct keys.
+     *
+     * @return Number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds all counts of another counter to this one.
+     *
+     * @param other Counter to add
+     */
+    public void addAll(IntCounter other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            if (other.used[slot]) {
+                add(other.keys[slot], other.counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Calls the consumer for every key and its count, in no particular order.
+     *
+     * @param consumer Receives each key and count
+     */
+    public void forEach(IntIntConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (used[slot]) {
+                consumer.accept(keys[slot], counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Gets all keys in ascending order.
+     *
+     * @return New array of keys
+     */
+    public int[] sortedKeys() {
+        int[] result = new int[size];
+        int index = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (used[slot]) {
+                result[index++] = keys[slot];
+            }
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Removes all keys, keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        for (int key : sortedKeys()) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(get(key));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Gets the home slot of a key using Fibonacci hashing on the high bits.
+     */
+    private int slot(int key) {
+        return (key * GOLDEN_RATIO) >>> shift;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        counts = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(mask);
+    }
+
+    private void allocateAndRehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldCounts = counts;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int slot = slot(oldKeys[i]);
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                used[slot] = true;
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+}
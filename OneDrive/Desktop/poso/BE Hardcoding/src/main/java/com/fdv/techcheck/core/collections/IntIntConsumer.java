@@ -0,0 +1,19 @@
+package com.fdv.techcheck.core.collections;
+
+/**
+ * Receives an int key and its int value without boxing.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    /**
+     * Performs this operation on one entry.
+     *
+     * @param key The entry key
+     * @param value The entry value
+     */
+    void accept(int key, int value);
+}
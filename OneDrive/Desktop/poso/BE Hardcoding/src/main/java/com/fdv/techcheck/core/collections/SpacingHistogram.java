@@ -0,0 +1,127 @@
+package com.fdv.techcheck.core.collections;
+
+/**
+ * Histogram of paragraph line spacings, quantized to whole twentieths of a point (twips).
+ *
+ * Word stores "auto" line spacing in 240ths of a line, so 240 is single, 360 is 1.5 and
+ * 480 is double spacing. Counting by the integer twips value avoids hashing boxed doubles;
+ * spacing factors are converted at the edges with {@link #toFactor(int)} and {@link #toTwips(double)}.
+ * Instances are not thread-safe.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class SpacingHistogram {
+
+    /** Twips per line of "auto" line spacing. */
+    public static final int TWIPS_PER_LINE = 240;
+
+    private final IntCounter counts = new IntCounter();
+    private int total;
+
+    /**
+     * Records one paragraph with the given spacing.
+     *
+     * @param twips Line spacing in 240ths of a line
+     */
+    public void add(int twips) {
+        counts.increment(twips);
+        total++;
+    }
+
+    /**
+     * Adds all paragraphs recorded by another histogram.
+     *
+     * @param other Histogram to add
+     */
+    public void addAll(SpacingHistogram other) {
+        counts.addAll(other.counts);
+        total += other.total;
+    }
+
+    /**
+     * Gets the number of paragraphs recorded with a spacing.
+     *
+     * @param twips Line spacing in 240ths of a line
+     * @return Paragraph count
+     */
+    public int getCount(int twips) {
+        return counts.get(twips);
+    }
+
+    /**
+     * Gets the number of paragraphs recorded with a spacing factor, e.g. 1.5.
+     *
+     * @param factor Line spacing as a multiple of single spacing
+     * @return Paragraph count
+     */
+    public int getCountForFactor(double factor) {
+        return counts.get(toTwips(factor));
+    }
+
+    /**
+     * Gets the spacing used by most paragraphs; ties go to the smallest spacing.
+     *
+     * @return Most frequent spacing in twips, or -1 if the histogram is empty
+     */
+    public int getMostFrequentTwips() {
+        int best = -1;
+        int bestCount = 0;
+        for (int twips : counts.sortedKeys()) {
+            int count = counts.get(twips);
+            if (count > bestCount) {
+                best = twips;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets all recorded spacings in ascending order.
+     *
+     * @return New array of spacings in twips
+     */
+    public int[] getSpacings() {
+        return counts.sortedKeys();
+    }
+
+    /**
+     * Gets the number of distinct spacings.
+     */
+    public int getDistinctCount() {
+        return counts.size();
+    }
+
+    /**
+     * Gets the number of recorded paragraphs.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Converts twips to a spacing factor.
+     *
+     * @param twips Line spacing in 240ths of a line
+     * @return Spacing factor, e.g. 1.5 for 360
+     */
+    public static double toFactor(int twips) {
+        return twips / (double) TWIPS_PER_LINE;
+    }
+
+    /**
+     * Converts a spacing factor to the nearest twips value.
+     *
+     * @param factor Spacing factor
+     * @return Line spacing in 240ths of a line
+     */
+    public static int toTwips(double factor) {
+        return (int) Math.round(factor * TWIPS_PER_LINE);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SpacingHistogram{total=%d, counts=%s}", total, counts);
+    }
+}
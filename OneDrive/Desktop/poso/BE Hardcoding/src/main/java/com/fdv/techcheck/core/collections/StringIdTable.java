@@ -0,0 +1,124 @@
+package com.fdv.techcheck.core.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Assigns dense int IDs (0, 1, 2, ...) to strings in first-seen order, for example font
+ * family names, so that per-run statistics can be counted by ID in an {@link IntCounter}.
+ *
+ * Lookups of a known string do not allocate: the table is open-addressed on the string's
+ * cached hash code and checks identity before equality, which is the common case for
+ * values shared through resolved style properties. Instances are not thread-safe.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class StringIdTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private String[] names = new String[DEFAULT_CAPACITY / 2];
+    private String[] slotKeys = new String[DEFAULT_CAPACITY];
+    private int[] slotIds = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    /**
+     * Gets the ID of a string, assigning the next free ID if it is new.
+     *
+     * @param name The string, not null
+     * @return The string's ID
+     */
+    public int idOf(String name) {
+        Objects.requireNonNull(name, "Name cannot be null");
+        int mask = slotKeys.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        String key;
+        while ((key = slotKeys[slot]) != null) {
+            if (key == name || key.equals(name)) {
+                return slotIds[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        int id = size++;
+        if (id == names.length) {
+            names = Arrays.copyOf(names, names.length << 1);
+        }
+        names[id] = name;
+        slotKeys[slot] = name;
+        slotIds[slot] = id;
+        if (size * 2 > slotKeys.length) {
+            rehash(slotKeys.length << 1);
+        }
+        return id;
+    }
+
+    /**
+     * Gets the ID of a string without assigning one.
+     *
+     * @param name The string
+     * @return The string's ID, or -1 if it has none
+     */
+    public int find(String name) {
+        if (name == null) {
+            return -1;
+        }
+        int mask = slotKeys.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        String key;
+        while ((key = slotKeys[slot]) != null) {
+            if (key == name || key.equals(name)) {
+                return slotIds[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the string with an ID.
+     *
+     * @param id An ID returned by {@link #idOf(String)}
+     * @return The string
+     * @throws IndexOutOfBoundsException if no string has this ID
+     */
+    public String nameOf(int id) {
+        Objects.checkIndex(id, size);
+        return names[id];
+    }
+
+    /**
+     * Gets the number of strings with an ID; IDs range from 0 to size - 1.
+     *
+     * @return Number of strings
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "StringIdTable" + Arrays.toString(Arrays.copyOf(names, size));
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private void rehash(int capacity) {
+        String[] newKeys = new String[capacity];
+        int[] newIds = new int[capacity];
+        int mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = spread(names[id].hashCode()) & mask;
+            while (newKeys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            newKeys[slot] = names[id];
+            newIds[slot] = id;
+        }
+        slotKeys = newKeys;
+        slotIds = newIds;
+    }
+}
@@ -0,0 +1,34 @@
+package com.fdv.techcheck.core.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads for worker pools, so a pool that is never shut down does not
+ * keep the JVM alive. Threads are named with the given prefix followed by a number starting at 1.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+
+    private final String namePrefix;
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    /**
+     * Creates a factory for one pool.
+     *
+     * @param namePrefix Prefix of the thread names, e.g. {@code "batch-worker-"}
+     */
+    public DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = Objects.requireNonNull(namePrefix, "Name prefix cannot be null");
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,405 @@
+package com.fdv.techcheck.core.document;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Cache of parsed {@link DocumentModel}s keyed by the SHA-256 of the DOCX file bytes,
+ * so that re-validating an identical file skips parsing entirely.
+ *
+ * Recently used models are kept in memory under a byte budget with least-recently-used
+ * eviction. When a spill directory is configured, every model is also written there in the
+ * compact {@link DocumentModelCodec} form; models evicted from memory (or cached by an
+ * earlier run) are then read back from disk instead of re-parsing the DOCX file.
+ *
+ * Instances are thread-safe and intended to be shared by all loads of a process.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DocumentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentCache.class);
+
+    public static final long DEFAULT_MAX_MEMORY_BYTES = 128L * 1024 * 1024;
+    public static final long DEFAULT_MAX_DISK_BYTES = 1024L * 1024 * 1024;
+
+    private static final String FILE_EXTENSION = ".tcm";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
+
+    // Rough per-object heap costs used to charge models against the memory budget
+    private static final int PARAGRAPH_OVERHEAD_BYTES = 120;
+    private static final int RUN_OVERHEAD_BYTES = 80;
+    private static final int STYLE_OVERHEAD_BYTES = 200;
+
+    private final long maxMemoryBytes;
+    private final long maxDiskBytes;
+    private final Path spillDirectory;
+
+    // Guarded by this
+    private final LinkedHashMap<String, CachedModel> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long memoryHits;
+    private long diskHits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private DocumentCache(Builder builder) {
+        if (builder.maxMemoryBytes < 0 || builder.maxDiskBytes < 0) {
+            throw new IllegalArgumentException("Cache budgets cannot be negative");
+        }
+        this.maxMemoryBytes = builder.maxMemoryBytes;
+        this.maxDiskBytes = builder.maxDiskBytes;
+        this.spillDirectory = builder.spillDirectory;
+    }
+
+    /**
+     * Creates a new builder for constructing DocumentCache instances.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Computes the cache key of a file: the lower-case hex SHA-256 of its bytes.
+     *
+     * @param filePath Path to the DOCX file
+     * @return 64-character content hash
+     * @throws IOException if the file cannot be read
+     */
+    public static String contentKey(Path filePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+
+        StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Gets a cached model, reading it back from the spill directory if it is no longer in memory.
+     *
+     * @param key Content key from {@link #contentKey(Path)}
+     * @return Cached model, or null on a cache miss
+     */
+    public DocumentModel get(String key) {
+        synchronized (this) {
+            CachedModel cached = entries.get(key);
+            if (cached != null) {
+                memoryHits++;
+                return cached.model;
+            }
+        }
+
+        DocumentModel model = readSpilled(key);
+        synchronized (this) {
+            if (model == null) {
+                misses++;
+                return null;
+            }
+            diskHits++;
+            putInMemory(key, model);
+        }
+        return model;
+    }
+
+    /**
+     * Adds a freshly parsed model to the cache and spills it to disk if a spill directory is configured.
+     *
+     * @param key Content key from {@link #contentKey(Path)}
+     * @param model Parsed document model
+     */
+    public void put(String key, DocumentModel model) {
+        synchronized (this) {
+            putInMemory(key, model);
+        }
+        spill(key, model);
+    }
+
+    /**
+     * Removes all models from memory. Spilled models are kept.
+     */
+    public synchronized void clearMemory() {
+        entries.clear();
+        memoryBytes = 0;
+    }
+
+    public synchronized int getMemoryEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    public synchronized long getMemoryHitCount() {
+        return memoryHits;
+    }
+
+    public synchronized long getDiskHitCount() {
+        return diskHits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    public long getMaxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    public Path getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("DocumentCache{entries=%d, memory=%d/%d bytes, hits=%d, diskHits=%d, misses=%d}",
+                           entries.size(), memoryBytes, maxMemoryBytes, memoryHits, diskHits, misses);
+    }
+
+    // Memory tier
+
+    /**
+     * Inserts a model and evicts least-recently-used models until the memory budget is met.
+     * Models larger than the whole budget are only kept on disk.
+     */
+    private void putInMemory(String key, DocumentModel model) {
+        long size = estimateSize(model);
+        CachedModel previous = entries.remove(key);
+        if (previous != null) {
+            memoryBytes -= previous.sizeBytes;
+        }
+        if (size > maxMemoryBytes) {
+            logger.debug("Document model of {} bytes exceeds the memory budget; not kept in memory", size);
+            return;
+        }
+
+        entries.put(key, new CachedModel(model, size));
+        memoryBytes += size;
+
+        Iterator<Map.Entry<String, CachedModel>> eldest = entries.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+            Map.Entry<String, CachedModel> entry = eldest.next();
+            memoryBytes -= entry.getValue().sizeBytes;
+            eldest.remove();
+            evictions++;
+            logger.debug("Evicted cached document model {}", entry.getKey());
+        }
+    }
+
+    /**
+     * Estimates the retained heap size of a model from its text and element counts.
+     */
+    static long estimateSize(DocumentModel model) {
+        long size = (long) model.getStyles().size() * STYLE_OVERHEAD_BYTES;
+        for (DocumentModel.Paragraph paragraph : model.getParagraphs()) {
+            size += PARAGRAPH_OVERHEAD_BYTES + 2L * paragraph.getText().length();
+            for (DocumentModel.Run run : paragraph.getRuns()) {
+                size += RUN_OVERHEAD_BYTES + 2L * run.getText().length();
+            }
+        }
+        return size;
+    }
+
+    // Disk tier
+
+    private DocumentModel readSpilled(String key) {
+        if (spillDirectory == null) {
+            return null;
+        }
+        Path file = spillFile(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            DocumentModel model = DocumentModelCodec.read(in);
+            // The modification time orders spilled models for pruning
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return model;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Discarding unreadable cached document model {}: {}", file.getFileName(), e.getMessage());
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    private void spill(String key, DocumentModel model) {
+        if (spillDirectory == null) {
+            return;
+        }
+        Path file = spillFile(key);
+        if (Files.exists(file)) {
+            return;
+        }
+
+        Path temporary = null;
+        try {
+            Files.createDirectories(spillDirectory);
+            temporary = Files.createTempFile(spillDirectory, key, ".tmp");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                DocumentModelCodec.write(model, out);
+            }
+            // Concurrent writers of the same key produce identical files, so replacing is safe
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temporary = null;
+            logger.debug("Spilled document model {} ({} bytes)", key, Files.size(file));
+        } catch (IOException e) {
+            logger.warn("Could not spill document model to {}: {}", spillDirectory, e.getMessage());
+        } finally {
+            if (temporary != null) {
+                deleteQuietly(temporary);
+            }
+        }
+        pruneSpillDirectory();
+    }
+
+    /**
+     * Deletes the least recently used spilled models until the directory fits the disk budget.
+     */
+    private void pruneSpillDirectory() {
+        List<Path> files = new ArrayList<>();
+        long totalBytes = 0;
+        try (Stream<Path> listing = Files.list(spillDirectory)) {
+            for (Path file : (Iterable<Path>) listing::iterator) {
+                if (file.getFileName().toString().endsWith(FILE_EXTENSION)) {
+                    files.add(file);
+                    totalBytes += Files.size(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Could not list spill directory: {}", e.getMessage());
+            return;
+        }
+        if (totalBytes <= maxDiskBytes) {
+            return;
+        }
+
+        files.sort(Comparator.comparingLong(DocumentCache::lastModifiedMillis));
+        for (Path file : files) {
+            if (totalBytes <= maxDiskBytes) {
+                break;
+            }
+            try {
+                long size = Files.size(file);
+                Files.deleteIfExists(file);
+                totalBytes -= size;
+            } catch (IOException e) {
+                logger.debug("Could not delete spilled model {}: {}", file.getFileName(), e.getMessage());
+            }
+        }
+    }
+
+    private Path spillFile(String key) {
+        return spillDirectory.resolve(key + FILE_EXTENSION);
+    }
+
+    private static long lastModifiedMillis(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.debug("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * A model held in memory with the size charged against the budget.
+     */
+    private static final class CachedModel {
+        private final DocumentModel model;
+        private final long sizeBytes;
+
+        private CachedModel(DocumentModel model, long sizeBytes) {
+            this.model = model;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+
+    /**
+     * Builder class for constructing DocumentCache instances.
+     */
+    public static class Builder {
+        private long maxMemoryBytes = DEFAULT_MAX_MEMORY_BYTES;
+        private long maxDiskBytes = DEFAULT_MAX_DISK_BYTES;
+        private Path spillDirectory;
+
+        private Builder() {}
+
+        public Builder maxMemoryBytes(long maxMemoryBytes) {
+            this.maxMemoryBytes = maxMemoryBytes;
+            return this;
+        }
+
+        public Builder maxDiskBytes(long maxDiskBytes) {
+            this.maxDiskBytes = maxDiskBytes;
+            return this;
+        }
+
+        /**
+         * Sets the directory for serialized models; when not set the cache is memory-only.
+         */
+        public Builder spillDirectory(Path spillDirectory) {
+            this.spillDirectory = spillDirectory;
+            return this;
+        }
+
+        public DocumentCache build() {
+            return new DocumentCache(this);
+        }
+    }
+}
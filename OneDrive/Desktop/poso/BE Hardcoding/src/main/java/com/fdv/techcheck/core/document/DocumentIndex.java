@@ -0,0 +1,373 @@
+package com.fdv.techcheck.core.document;
+
+import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Read-only index of every paragraph in a document, built once at load time.
+ * Holds the per-paragraph formatting and text the validators need, so that each
+ * validator queries this index instead of walking the POI object tree again.
+ *
+ * Formatting values are effective values: document defaults, style chains and direct
+ * formatting are merged by a {@link FormattingResolver} while the index is built.
+ *
+ * The index is independent of the load mode: it is built either from an
+ * {@link XWPFDocument} or from a streamed {@link DocumentModel}.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DocumentIndex {
+
+    private final List<IndexedParagraph> paragraphs;
+    private final List<IndexedParagraph> bodyParagraphs;
+    private final int tableCount;
+    private final int runCount;
+
+    /**
+     * Private constructor - use the static factory methods to create instances.
+     */
+    private DocumentIndex(List<IndexedParagraph> paragraphs) {
+        this.paragraphs = Collections.unmodifiableList(paragraphs);
+
+        List<IndexedParagraph> body = new ArrayList<>();
+        int tables = 0;
+        int runs = 0;
+        for (IndexedParagraph paragraph : paragraphs) {
+            if (paragraph.isInTable()) {
+                tables = Math.max(tables, paragraph.getTableIndex() + 1);
+            } else {
+                body.add(paragraph);
+            }
+            runs += paragraph.getRuns().size();
+        }
+        this.bodyParagraphs = Collections.unmodifiableList(body);
+        this.tableCount = tables;
+        this.runCount = runs;
+    }
+
+    /**
+     * Builds an index from a POI document.
+     *
+     * @param xwpfDocument Loaded POI document
+     * @return DocumentIndex of all body and table paragraphs
+     */
+    public static DocumentIndex of(XWPFDocument xwpfDocument) {
+        Objects.requireNonNull(xwpfDocument, "XWPF document cannot be null");
+        return build(XwpfModelReader.read(xwpfDocument));
+    }
+
+    /**
+     * Builds an index from a streamed document model.
+     *
+     * @param model Streamed document model
+     * @return DocumentIndex of all body and table paragraphs
+     */
+    public static DocumentIndex of(DocumentModel model) {
+        Objects.requireNonNull(model, "Document model cannot be null");
+        return build(model);
+    }
+
+    private static DocumentIndex build(DocumentModel model) {
+        FormattingResolver resolver = new FormattingResolver(model);
+        List<DocumentModel.Paragraph> source = model.getParagraphs();
+        List<IndexedParagraph> indexed = new ArrayList<>(source.size());
+        int bodyIndex = 0;
+        for (int position = 0; position < source.size(); position++) {
+            DocumentModel.Paragraph paragraph = source.get(position);
+            int paragraphBodyIndex = paragraph.isInTable() ? -1 : bodyIndex++;
+            indexed.add(new IndexedParagraph(position, paragraphBodyIndex, paragraph, resolver));
+        }
+        return new DocumentIndex(indexed);
+    }
+
+    // Query methods
+
+    /**
+     * Gets all paragraphs, including table cell paragraphs, in document order.
+     *
+     * @return Unmodifiable list of indexed paragraphs
+     */
+    public List<IndexedParagraph> getParagraphs() {
+        return paragraphs;
+    }
+
+    /**
+     * Gets the body-level paragraphs (those returned by {@code XWPFDocument.getParagraphs()}).
+     *
+     * @return Unmodifiable list of body paragraphs; element i has body index i
+     */
+    public List<IndexedParagraph> getBodyParagraphs() {
+        return bodyParagraphs;
+    }
+
+    public int getTableCount() {
+        return tableCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DocumentIndex{paragraphs=%d, body=%d, tables=%d, runs=%d}",
+                           paragraphs.size(), bodyParagraphs.size(), tableCount, runCount);
+    }
+
+    /**
+     * Converts an OOXML justification value (w:jc/@w:val) to POI's alignment enum.
+     * Paragraphs without a justification are left-aligned, as in {@code XWPFParagraph.getAlignment()}.
+     *
+     * @param jc Justification value, may be null
+     * @return Matching ParagraphAlignment
+     */
+    static ParagraphAlignment toParagraphAlignment(String jc) {
+        if (jc == null || "left".equals(jc) || "start".equals(jc)) {
+            return ParagraphAlignment.LEFT;
+        }
+        if ("right".equals(jc) || "end".equals(jc)) {
+            return ParagraphAlignment.RIGHT;
+        }
+        String normalized = jc.replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+        for (ParagraphAlignment alignment : ParagraphAlignment.values()) {
+            if (alignment.name().equals(normalized)) {
+                return alignment;
+            }
+        }
+        return ParagraphAlignment.LEFT;
+    }
+
+    /**
+     * A single paragraph with its text, effective formatting and table membership.
+     */
+    public static final class IndexedParagraph {
+        private final int position;
+        private final int bodyIndex;
+        private final String styleId;
+        private final String styleName;
+        private final ParagraphAlignment alignment;
+        private final Integer spacingLine;
+        private final String spacingLineRule;
+        private final Integer indentLeft;
+        private final Integer numId;
+        private final Integer numLevel;
+        private final String text;
+        private final List<RunSpan> runs;
+        private final int tableIndex;
+        private final int rowIndex;
+        private final int cellIndex;
+        private final boolean sectionBreak;
+
+        private IndexedParagraph(int position, int bodyIndex, DocumentModel.Paragraph paragraph,
+                                 FormattingResolver resolver) {
+            DocumentModel.ParagraphProperties properties = resolver.resolveParagraph(paragraph);
+
+            this.position = position;
+            this.bodyIndex = bodyIndex;
+            this.styleId = paragraph.getStyleId();
+            this.styleName = resolver.getStyleName(paragraph.getStyleId());
+            this.alignment = toParagraphAlignment(properties.getAlignment());
+            this.spacingLine = properties.getSpacingLine();
+            this.spacingLineRule = properties.getSpacingLineRule();
+            this.indentLeft = properties.getIndentLeft();
+            this.numId = properties.getNumId();
+            this.numLevel = properties.getNumLevel();
+            this.text = paragraph.getText();
+            this.tableIndex = paragraph.getTableIndex();
+            this.rowIndex = paragraph.getRowIndex();
+            this.cellIndex = paragraph.getCellIndex();
+            this.sectionBreak = paragraph.isSectionBreak();
+
+            List<RunSpan> spans = new ArrayList<>(paragraph.getRuns().size());
+            for (DocumentModel.Run run : paragraph.getRuns()) {
+                spans.add(new RunSpan(run.getText(), resolver.resolveRun(paragraph, run)));
+            }
+            this.runs = Collections.unmodifiableList(spans);
+        }
+
+        /**
+         * Gets the position of this paragraph among all paragraphs in document order.
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Gets the index among body-level paragraphs, or -1 for table cell paragraphs.
+         */
+        public int getBodyIndex() {
+            return bodyIndex;
+        }
+
+        /**
+         * Gets the paragraph style ID (pStyle), or null if the default paragraph style applies.
+         */
+        public String getStyleId() {
+            return styleId;
+        }
+
+        /**
+         * Gets the display name of the paragraph style (e.g. "heading 1"), or null if unknown.
+         */
+        public String getStyleName() {
+            return styleName;
+        }
+
+        /**
+         * Gets the paragraph alignment; LEFT when no justification is set.
+         */
+        public ParagraphAlignment getAlignment() {
+            return alignment;
+        }
+
+        /**
+         * Gets the line spacing value (w:spacing/@w:line) in 240ths of a line or twips, or null if not set.
+         */
+        public Integer getSpacingLine() {
+            return spacingLine;
+        }
+
+        /**
+         * Gets the line spacing rule ("auto", "exact", "atLeast"), or null if not set.
+         */
+        public String getSpacingLineRule() {
+            return spacingLineRule;
+        }
+
+        /**
+         * Gets the left indentation in twips, or null if not set.
+         */
+        public Integer getIndentLeft() {
+            return indentLeft;
+        }
+
+        public Integer getNumId() {
+            return numId;
+        }
+
+        public Integer getNumLevel() {
+            return numLevel;
+        }
+
+        /**
+         * Checks if the paragraph has numbering properties (numPr).
+         */
+        public boolean isNumbered() {
+            return numId != null || numLevel != null;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public int getTextLength() {
+            return text.length();
+        }
+
+        public List<RunSpan> getRuns() {
+            return runs;
+        }
+
+        /**
+         * Gets the first run of the paragraph, or null if it has none.
+         */
+        public RunSpan getFirstRun() {
+            return runs.isEmpty() ? null : runs.get(0);
+        }
+
+        public boolean isInTable() {
+            return tableIndex >= 0;
+        }
+
+        public int getTableIndex() {
+            return tableIndex;
+        }
+
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        public int getCellIndex() {
+            return cellIndex;
+        }
+
+        public boolean isSectionBreak() {
+            return sectionBreak;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("IndexedParagraph{position=%d, style='%s', length=%d, runs=%d, inTable=%s}",
+                               position, styleId, text.length(), runs.size(), isInTable());
+        }
+    }
+
+    /**
+     * A run of text with its effective font properties.
+     */
+    public static final class RunSpan {
+        private final String text;
+        private final String fontFamily;
+        private final Integer fontSizeHalfPoints;
+        private final boolean bold;
+
+        private RunSpan(String text, DocumentModel.RunProperties properties) {
+            this.text = text;
+            this.fontFamily = properties.getFontFamily();
+            this.fontSizeHalfPoints = properties.getFontSizeHalfPoints();
+            this.bold = Boolean.TRUE.equals(properties.getBold());
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public int getLength() {
+            return text.length();
+        }
+
+        /**
+         * Checks if the run contains only whitespace, using the same definition as {@link String#trim()}.
+         * Called for every run, so it scans the text instead of trimming a copy.
+         */
+        public boolean isBlank() {
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) > ' ') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Gets the effective font family, or null if neither the run, its styles nor the defaults specify one.
+         */
+        public String getFontFamily() {
+            return fontFamily;
+        }
+
+        /**
+         * Gets the effective font size in whole points, or -1 if neither the run, its styles nor the defaults specify one.
+         */
+        public int getFontSize() {
+            return fontSizeHalfPoints != null ? fontSizeHalfPoints / 2 : -1;
+        }
+
+        public boolean isBold() {
+            return bold;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("RunSpan{length=%d, font='%s', size=%d, bold=%s}",
+                               text.length(), fontFamily, getFontSize(), bold);
+        }
+    }
+}
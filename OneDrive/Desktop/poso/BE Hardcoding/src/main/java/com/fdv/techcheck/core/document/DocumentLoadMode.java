@@ -0,0 +1,55 @@
+package com.fdv.techcheck.core.document;
+
+/**
+ * Enumeration of the strategies available for loading a DOCX document.
+ * Selected per job when calling {@link DocumentProcessor#loadDocument(java.nio.file.Path, DocumentLoadMode)}.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public enum DocumentLoadMode {
+
+    /**
+     * Builds the full Apache POI {@code XWPFDocument} object tree.
+     * Highest fidelity, but heap usage grows with the size of every part in the package.
+     */
+    POI("Apache POI", "Full XWPFDocument object model"),
+
+    /**
+     * Streams the main WordprocessingML parts with StAX into a compact read-only {@link DocumentModel}.
+     * The package is read lazily through a {@link DocxPackage}; media parts are never inflated.
+     * Intended for very large documents and batch processing.
+     */
+    STREAMING("Streaming", "Compact read-only model parsed with StAX");
+
+    private final String displayName;
+    private final String description;
+
+    DocumentLoadMode(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    /**
+     * Gets the human-readable display name for this load mode.
+     *
+     * @return Display name suitable for user interfaces and logs
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets a description of how documents are loaded in this mode.
+     *
+     * @return Descriptive text explaining the load mode
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,663 @@
+package com.fdv.techcheck.core.document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact, read-only representation of a DOCX document produced by the
+ * {@link StreamingDocumentLoader}. Holds only the content and formatting information
+ * the validators need: paragraphs and runs with their direct formatting, style
+ * definitions, list numbering formats, the final section properties and the
+ * size and content type of embedded media.
+ *
+ * Paragraphs are stored in document order. Body paragraphs and table cell
+ * paragraphs are kept in the same list and distinguished by {@link Paragraph#isInTable()}.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DocumentModel {
+
+    private final List<Paragraph> paragraphs;
+    private final Section section;
+    private final RunProperties defaultRunProperties;
+    private final ParagraphProperties defaultParagraphProperties;
+    private final Map<String, Style> styles;
+    private final Map<Integer, List<String>> numberingFormats;
+    private final String majorThemeFont;
+    private final String minorThemeFont;
+    private final String title;
+    private final String author;
+    private final String subject;
+    private final List<DocxPackage.PartInfo> mediaParts;
+    private final DocxPackage.PartInfo documentPart;
+    private final DocxPackage.PartInfo stylesPart;
+    private final DocxPackage.PartInfo numberingPart;
+    private final int bodyParagraphCount;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private DocumentModel(Builder builder) {
+        this.paragraphs = Collections.unmodifiableList(new ArrayList<>(builder.paragraphs));
+        this.section = builder.section != null ? builder.section : Section.EMPTY;
+        this.defaultRunProperties = builder.defaultRunProperties;
+        this.defaultParagraphProperties = builder.defaultParagraphProperties;
+        this.styles = Collections.unmodifiableMap(new HashMap<>(builder.styles));
+        this.numberingFormats = Collections.unmodifiableMap(new HashMap<>(builder.numberingFormats));
+        this.majorThemeFont = builder.majorThemeFont;
+        this.minorThemeFont = builder.minorThemeFont;
+        this.title = builder.title;
+        this.author = builder.author;
+        this.subject = builder.subject;
+        this.mediaParts = Collections.unmodifiableList(new ArrayList<>(builder.mediaParts));
+        this.documentPart = builder.documentPart;
+        this.stylesPart = builder.stylesPart;
+        this.numberingPart = builder.numberingPart;
+        this.bodyParagraphCount = (int) paragraphs.stream().filter(p -> !p.isInTable()).count();
+    }
+
+    /**
+     * Creates a new builder for constructing DocumentModel instances.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+
+    /**
+     * Gets all paragraphs, including table cell paragraphs, in document order.
+     *
+     * @return Unmodifiable list of paragraphs
+     */
+    public List<Paragraph> getParagraphs() {
+        return paragraphs;
+    }
+
+    public int getBodyParagraphCount() {
+        return bodyParagraphCount;
+    }
+
+    public Section getSection() {
+        return section;
+    }
+
+    public RunProperties getDefaultRunProperties() {
+        return defaultRunProperties;
+    }
+
+    public ParagraphProperties getDefaultParagraphProperties() {
+        return defaultParagraphProperties;
+    }
+
+    public Map<String, Style> getStyles() {
+        return styles;
+    }
+
+    /**
+     * Gets the Latin typeface of the theme's major (headings) font, or null if the document has no theme.
+     */
+    public String getMajorThemeFont() {
+        return majorThemeFont;
+    }
+
+    /**
+     * Gets the Latin typeface of the theme's minor (body) font, or null if the document has no theme.
+     */
+    public String getMinorThemeFont() {
+        return minorThemeFont;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the metadata of the media parts, which the streaming loader never inflates.
+     *
+     * @return Unmodifiable list of media part metadata
+     */
+    public List<DocxPackage.PartInfo> getMediaParts() {
+        return mediaParts;
+    }
+
+    /**
+     * Gets the metadata of the main document part the model was read from.
+     *
+     * @return Main document part metadata, or null if not known
+     */
+    public DocxPackage.PartInfo getDocumentPart() {
+        return documentPart;
+    }
+
+    /**
+     * Gets the metadata of the styles part the model was read from.
+     *
+     * @return Styles part metadata, or null if the document has no styles part
+     */
+    public DocxPackage.PartInfo getStylesPart() {
+        return stylesPart;
+    }
+
+    /**
+     * Gets the metadata of the numbering part the model was read from.
+     *
+     * @return Numbering part metadata, or null if the document has no numbering part
+     */
+    public DocxPackage.PartInfo getNumberingPart() {
+        return numberingPart;
+    }
+
+    /**
+     * Gets a style definition by its style ID.
+     *
+     * @param styleId Style ID as referenced from pStyle/rStyle
+     * @return Style definition, or null if the style is not defined
+     */
+    public Style getStyle(String styleId) {
+        return styleId != null ? styles.get(styleId) : null;
+    }
+
+    /**
+     * Gets the default style of a style type (w:default="1"), e.g. "Normal" for paragraphs.
+     *
+     * @param type Style type ("paragraph" or "character")
+     * @return Default style, or null if none is marked as default
+     */
+    public Style getDefaultStyle(String type) {
+        for (Style style : styles.values()) {
+            if (style.isDefaultStyle() && Objects.equals(type, style.getType())) {
+                return style;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number format (e.g. "bullet", "decimal") of a list level.
+     *
+     * @param numId Numbering instance ID
+     * @param level List level (ilvl)
+     * @return Number format, or null if the numbering instance or level is not defined
+     */
+    public String getNumberFormat(int numId, int level) {
+        List<String> formats = numberingFormats.get(numId);
+        if (formats == null || level < 0 || level >= formats.size()) {
+            return null;
+        }
+        return formats.get(level);
+    }
+
+    /**
+     * Gets the level formats of every numbering instance, keyed by numId.
+     */
+    Map<Integer, List<String>> getNumberingFormats() {
+        return numberingFormats;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DocumentModel{paragraphs=%d, bodyParagraphs=%d, styles=%d}",
+                           paragraphs.size(), bodyParagraphCount, styles.size());
+    }
+
+    /**
+     * Run-level formatting properties. Null fields are not specified at this level.
+     */
+    public static final class RunProperties {
+
+        public static final RunProperties EMPTY = new RunProperties(null, null, null, null);
+
+        private final String fontFamily;
+        private final String fontTheme;
+        private final Integer fontSizeHalfPoints;
+        private final Boolean bold;
+
+        RunProperties(String fontFamily, String fontTheme, Integer fontSizeHalfPoints, Boolean bold) {
+            this.fontFamily = fontFamily;
+            this.fontTheme = fontTheme;
+            this.fontSizeHalfPoints = fontSizeHalfPoints;
+            this.bold = bold;
+        }
+
+        public String getFontFamily() {
+            return fontFamily;
+        }
+
+        /**
+         * Gets the theme font reference (e.g. "minorHAnsi") used when no explicit font family is set.
+         */
+        public String getFontTheme() {
+            return fontTheme;
+        }
+
+        public Integer getFontSizeHalfPoints() {
+            return fontSizeHalfPoints;
+        }
+
+        public Boolean getBold() {
+            return bold;
+        }
+
+        public boolean isEmpty() {
+            return fontFamily == null && fontTheme == null && fontSizeHalfPoints == null && bold == null;
+        }
+    }
+
+    /**
+     * Paragraph-level formatting properties. Null fields are not specified at this level.
+     */
+    public static final class ParagraphProperties {
+
+        public static final ParagraphProperties EMPTY = new ParagraphProperties(null, null, null, null, null, null);
+
+        private final String alignment;
+        private final Integer spacingLine;
+        private final String spacingLineRule;
+        private final Integer indentLeft;
+        private final Integer numId;
+        private final Integer numLevel;
+
+        ParagraphProperties(String alignment, Integer spacingLine, String spacingLineRule,
+                            Integer indentLeft, Integer numId, Integer numLevel) {
+            this.alignment = alignment;
+            this.spacingLine = spacingLine;
+            this.spacingLineRule = spacingLineRule;
+            this.indentLeft = indentLeft;
+            this.numId = numId;
+            this.numLevel = numLevel;
+        }
+
+        /**
+         * Gets the OOXML justification value (e.g. "both", "left", "center").
+         */
+        public String getAlignment() {
+            return alignment;
+        }
+
+        /**
+         * Gets the line spacing value in 240ths of a line or twips, depending on the line rule.
+         */
+        public Integer getSpacingLine() {
+            return spacingLine;
+        }
+
+        public String getSpacingLineRule() {
+            return spacingLineRule;
+        }
+
+        /**
+         * Gets the left indentation in twips.
+         */
+        public Integer getIndentLeft() {
+            return indentLeft;
+        }
+
+        public Integer getNumId() {
+            return numId;
+        }
+
+        public Integer getNumLevel() {
+            return numLevel;
+        }
+
+        public boolean hasNumbering() {
+            return numId != null;
+        }
+
+        public boolean isEmpty() {
+            return alignment == null && spacingLine == null && spacingLineRule == null
+                   && indentLeft == null && numId == null && numLevel == null;
+        }
+    }
+
+    /**
+     * A style definition from styles.xml.
+     */
+    public static final class Style {
+
+        private final String styleId;
+        private final String name;
+        private final String type;
+        private final String basedOn;
+        private final boolean defaultStyle;
+        private final ParagraphProperties paragraphProperties;
+        private final RunProperties runProperties;
+
+        Style(String styleId, String name, String type, String basedOn, boolean defaultStyle,
+              ParagraphProperties paragraphProperties, RunProperties runProperties) {
+            this.styleId = Objects.requireNonNull(styleId, "Style ID cannot be null");
+            this.name = name;
+            this.type = type;
+            this.basedOn = basedOn;
+            this.defaultStyle = defaultStyle;
+            this.paragraphProperties = paragraphProperties != null ? paragraphProperties : ParagraphProperties.EMPTY;
+            this.runProperties = runProperties != null ? runProperties : RunProperties.EMPTY;
+        }
+
+        public String getStyleId() {
+            return styleId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the style type ("paragraph", "character", "table" or "numbering").
+         */
+        public String getType() {
+            return type;
+        }
+
+        public String getBasedOn() {
+            return basedOn;
+        }
+
+        /**
+         * Checks if this is the default style of its type.
+         */
+        public boolean isDefaultStyle() {
+            return defaultStyle;
+        }
+
+        public ParagraphProperties getParagraphProperties() {
+            return paragraphProperties;
+        }
+
+        public RunProperties getRunProperties() {
+            return runProperties;
+        }
+    }
+
+    /**
+     * A text run with its direct formatting.
+     */
+    public static final class Run {
+
+        private final String text;
+        private final String styleId;
+        private final RunProperties properties;
+
+        Run(String text, String styleId, RunProperties properties) {
+            this.text = text != null ? text : "";
+            this.styleId = styleId;
+            this.properties = properties != null ? properties : RunProperties.EMPTY;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Gets the character style ID (rStyle), or null if none is applied.
+         */
+        public String getStyleId() {
+            return styleId;
+        }
+
+        public RunProperties getProperties() {
+            return properties;
+        }
+    }
+
+    /**
+     * A paragraph with its direct formatting and runs.
+     */
+    public static final class Paragraph {
+
+        private final String styleId;
+        private final ParagraphProperties properties;
+        private final List<Run> runs;
+        private final String text;
+        private final int tableIndex;
+        private final int rowIndex;
+        private final int cellIndex;
+        private final boolean sectionBreak;
+
+        Paragraph(String styleId, ParagraphProperties properties, List<Run> runs,
+                  int tableIndex, int rowIndex, int cellIndex, boolean sectionBreak) {
+            this.styleId = styleId;
+            this.properties = properties != null ? properties : ParagraphProperties.EMPTY;
+            this.runs = runs != null ? Collections.unmodifiableList(new ArrayList<>(runs)) : Collections.emptyList();
+            this.tableIndex = tableIndex;
+            this.rowIndex = rowIndex;
+            this.cellIndex = cellIndex;
+            this.sectionBreak = sectionBreak;
+
+            StringBuilder sb = new StringBuilder();
+            for (Run run : this.runs) {
+                sb.append(run.getText());
+            }
+            this.text = sb.toString();
+        }
+
+        /**
+         * Gets the paragraph style ID (pStyle), or null if the default paragraph style applies.
+         */
+        public String getStyleId() {
+            return styleId;
+        }
+
+        public ParagraphProperties getProperties() {
+            return properties;
+        }
+
+        public List<Run> getRuns() {
+            return runs;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isInTable() {
+            return tableIndex >= 0;
+        }
+
+        /**
+         * Gets the index of the enclosing top-level table, or -1 for body paragraphs.
+         */
+        public int getTableIndex() {
+            return tableIndex;
+        }
+
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        public int getCellIndex() {
+            return cellIndex;
+        }
+
+        /**
+         * Checks if this paragraph ends a section (carries its own sectPr).
+         */
+        public boolean isSectionBreak() {
+            return sectionBreak;
+        }
+    }
+
+    /**
+     * Page size and margins of the final document section, in twips.
+     */
+    public static final class Section {
+
+        static final Section EMPTY = new Section(null, null, null, null, null, null, null, null, null);
+
+        private final Integer pageWidth;
+        private final Integer pageHeight;
+        private final String orientation;
+        private final Integer topMargin;
+        private final Integer bottomMargin;
+        private final Integer leftMargin;
+        private final Integer rightMargin;
+        private final Integer headerMargin;
+        private final Integer footerMargin;
+
+        Section(Integer pageWidth, Integer pageHeight, String orientation,
+                Integer topMargin, Integer bottomMargin, Integer leftMargin, Integer rightMargin,
+                Integer headerMargin, Integer footerMargin) {
+            this.pageWidth = pageWidth;
+            this.pageHeight = pageHeight;
+            this.orientation = orientation;
+            this.topMargin = topMargin;
+            this.bottomMargin = bottomMargin;
+            this.leftMargin = leftMargin;
+            this.rightMargin = rightMargin;
+            this.headerMargin = headerMargin;
+            this.footerMargin = footerMargin;
+        }
+
+        public Integer getPageWidth() {
+            return pageWidth;
+        }
+
+        public Integer getPageHeight() {
+            return pageHeight;
+        }
+
+        public String getOrientation() {
+            return orientation;
+        }
+
+        public Integer getTopMargin() {
+            return topMargin;
+        }
+
+        public Integer getBottomMargin() {
+            return bottomMargin;
+        }
+
+        public Integer getLeftMargin() {
+            return leftMargin;
+        }
+
+        public Integer getRightMargin() {
+            return rightMargin;
+        }
+
+        public Integer getHeaderMargin() {
+            return headerMargin;
+        }
+
+        public Integer getFooterMargin() {
+            return footerMargin;
+        }
+    }
+
+    /**
+     * Builder class for constructing DocumentModel instances.
+     */
+    public static class Builder {
+        private final List<Paragraph> paragraphs = new ArrayList<>();
+        private Section section;
+        private RunProperties defaultRunProperties = RunProperties.EMPTY;
+        private ParagraphProperties defaultParagraphProperties = ParagraphProperties.EMPTY;
+        private final Map<String, Style> styles = new HashMap<>();
+        private final Map<Integer, List<String>> numberingFormats = new HashMap<>();
+        private String majorThemeFont;
+        private String minorThemeFont;
+        private String title;
+        private String author;
+        private String subject;
+        private final List<DocxPackage.PartInfo> mediaParts = new ArrayList<>();
+        private DocxPackage.PartInfo documentPart;
+        private DocxPackage.PartInfo stylesPart;
+        private DocxPackage.PartInfo numberingPart;
+
+        private Builder() {}
+
+        public Builder addParagraph(Paragraph paragraph) {
+            this.paragraphs.add(Objects.requireNonNull(paragraph, "Paragraph cannot be null"));
+            return this;
+        }
+
+        public Builder section(Section section) {
+            this.section = section;
+            return this;
+        }
+
+        public Builder defaultRunProperties(RunProperties defaultRunProperties) {
+            this.defaultRunProperties = defaultRunProperties != null ? defaultRunProperties : RunProperties.EMPTY;
+            return this;
+        }
+
+        public Builder defaultParagraphProperties(ParagraphProperties defaultParagraphProperties) {
+            this.defaultParagraphProperties = defaultParagraphProperties != null
+                    ? defaultParagraphProperties : ParagraphProperties.EMPTY;
+            return this;
+        }
+
+        public Builder addStyle(Style style) {
+            this.styles.put(style.getStyleId(), style);
+            return this;
+        }
+
+        public Builder numberingFormats(int numId, List<String> levelFormats) {
+            this.numberingFormats.put(numId, Collections.unmodifiableList(new ArrayList<>(levelFormats)));
+            return this;
+        }
+
+        public Builder themeFonts(String majorThemeFont, String minorThemeFont) {
+            this.majorThemeFont = majorThemeFont;
+            this.minorThemeFont = minorThemeFont;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder author(String author) {
+            this.author = author;
+            return this;
+        }
+
+        public Builder subject(String subject) {
+            this.subject = subject;
+            return this;
+        }
+
+        public Builder mediaParts(List<DocxPackage.PartInfo> mediaParts) {
+            this.mediaParts.clear();
+            this.mediaParts.addAll(mediaParts);
+            return this;
+        }
+
+        public Builder documentPart(DocxPackage.PartInfo documentPart) {
+            this.documentPart = documentPart;
+            return this;
+        }
+
+        public Builder stylesPart(DocxPackage.PartInfo stylesPart) {
+            this.stylesPart = stylesPart;
+            return this;
+        }
+
+        public Builder numberingPart(DocxPackage.PartInfo numberingPart) {
+            this.numberingPart = numberingPart;
+            return this;
+        }
+
+        public DocumentModel build() {
+            return new DocumentModel(this);
+        }
+    }
+}
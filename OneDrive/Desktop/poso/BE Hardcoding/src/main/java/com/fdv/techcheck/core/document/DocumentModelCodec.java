@@ -0,0 +1,347 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.core.document.DocumentModel.Paragraph;
+import com.fdv.techcheck.core.document.DocumentModel.ParagraphProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Run;
+import com.fdv.techcheck.core.document.DocumentModel.RunProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Section;
+import com.fdv.techcheck.core.document.DocumentModel.Style;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact binary form of a {@link DocumentModel}, used by the {@link DocumentCache} disk tier.
+ *
+ * The format is a magic number and version followed by a deflated stream of the model's fields.
+ * Files with an unknown magic number or version are rejected, so a cache directory written by an
+ * older build is simply re-populated.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+final class DocumentModelCodec {
+
+    private static final int MAGIC = 0x5443444D; // "TCDM"
+    private static final int VERSION = 2;
+    private static final int MAX_STRING_BYTES = 64 * 1024 * 1024;
+
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private DocumentModelCodec() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Writes a document model. The stream is not closed.
+     *
+     * @param model Model to write
+     * @param out Target stream
+     * @throws IOException if writing fails
+     */
+    static void write(DocumentModel model, OutputStream out) throws IOException {
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeInt(VERSION);
+        header.flush();
+
+        Deflater deflaterImpl = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream deflater = new DeflaterOutputStream(out, deflaterImpl);
+            DataOutputStream data = new DataOutputStream(new BufferedOutputStream(deflater));
+            writeModel(data, model);
+            data.flush();
+            deflater.finish();
+        } finally {
+            deflaterImpl.end();
+        }
+    }
+
+    private static void writeModel(DataOutputStream data, DocumentModel model) throws IOException {
+        writeString(data, model.getTitle());
+        writeString(data, model.getAuthor());
+        writeString(data, model.getSubject());
+        writeString(data, model.getMajorThemeFont());
+        writeString(data, model.getMinorThemeFont());
+        writeRunProperties(data, model.getDefaultRunProperties());
+        writeParagraphProperties(data, model.getDefaultParagraphProperties());
+        writeSection(data, model.getSection());
+
+        data.writeInt(model.getStyles().size());
+        for (Style style : model.getStyles().values()) {
+            writeString(data, style.getStyleId());
+            writeString(data, style.getName());
+            writeString(data, style.getType());
+            writeString(data, style.getBasedOn());
+            data.writeBoolean(style.isDefaultStyle());
+            writeParagraphProperties(data, style.getParagraphProperties());
+            writeRunProperties(data, style.getRunProperties());
+        }
+
+        data.writeInt(model.getNumberingFormats().size());
+        for (Map.Entry<Integer, List<String>> numbering : model.getNumberingFormats().entrySet()) {
+            data.writeInt(numbering.getKey());
+            data.writeInt(numbering.getValue().size());
+            for (String format : numbering.getValue()) {
+                writeString(data, format);
+            }
+        }
+
+        data.writeInt(model.getMediaParts().size());
+        for (DocxPackage.PartInfo part : model.getMediaParts()) {
+            writePart(data, part);
+        }
+        writeOptionalPart(data, model.getDocumentPart());
+        writeOptionalPart(data, model.getStylesPart());
+        writeOptionalPart(data, model.getNumberingPart());
+
+        data.writeInt(model.getParagraphs().size());
+        for (Paragraph paragraph : model.getParagraphs()) {
+            writeString(data, paragraph.getStyleId());
+            writeParagraphProperties(data, paragraph.getProperties());
+            data.writeInt(paragraph.getTableIndex());
+            data.writeInt(paragraph.getRowIndex());
+            data.writeInt(paragraph.getCellIndex());
+            data.writeBoolean(paragraph.isSectionBreak());
+            data.writeInt(paragraph.getRuns().size());
+            for (Run run : paragraph.getRuns()) {
+                writeString(data, run.getText());
+                writeString(data, run.getStyleId());
+                writeRunProperties(data, run.getProperties());
+            }
+        }
+    }
+
+    /**
+     * Reads a document model written by {@link #write(DocumentModel, OutputStream)}.
+     *
+     * @param in Source stream
+     * @return Document model
+     * @throws IOException if the stream is truncated, corrupt or written in another format version
+     */
+    static DocumentModel read(InputStream in) throws IOException {
+        DataInputStream header = new DataInputStream(in);
+        if (header.readInt() != MAGIC) {
+            throw new IOException("Not a cached document model");
+        }
+        int version = header.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported cached document model version: " + version);
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            return readModel(new DataInputStream(new BufferedInputStream(new InflaterInputStream(in, inflater))));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static DocumentModel readModel(DataInputStream data) throws IOException {
+        DocumentModel.Builder builder = DocumentModel.builder()
+                .title(readString(data))
+                .author(readString(data))
+                .subject(readString(data))
+                .themeFonts(readString(data), readString(data))
+                .defaultRunProperties(readRunProperties(data))
+                .defaultParagraphProperties(readParagraphProperties(data))
+                .section(readSection(data));
+
+        int styleCount = data.readInt();
+        for (int i = 0; i < styleCount; i++) {
+            builder.addStyle(new Style(readString(data), readString(data), readString(data), readString(data),
+                    data.readBoolean(), readParagraphProperties(data), readRunProperties(data)));
+        }
+
+        int numberingCount = data.readInt();
+        for (int i = 0; i < numberingCount; i++) {
+            int numId = data.readInt();
+            int levelCount = data.readInt();
+            List<String> formats = new ArrayList<>(levelCount);
+            for (int level = 0; level < levelCount; level++) {
+                formats.add(readString(data));
+            }
+            builder.numberingFormats(numId, formats);
+        }
+
+        int mediaCount = data.readInt();
+        List<DocxPackage.PartInfo> mediaParts = new ArrayList<>(mediaCount);
+        for (int i = 0; i < mediaCount; i++) {
+            mediaParts.add(readPart(data));
+        }
+        builder.mediaParts(mediaParts)
+                .documentPart(readOptionalPart(data))
+                .stylesPart(readOptionalPart(data))
+                .numberingPart(readOptionalPart(data));
+
+        int paragraphCount = data.readInt();
+        for (int i = 0; i < paragraphCount; i++) {
+            String styleId = readString(data);
+            ParagraphProperties properties = readParagraphProperties(data);
+            int tableIndex = data.readInt();
+            int rowIndex = data.readInt();
+            int cellIndex = data.readInt();
+            boolean sectionBreak = data.readBoolean();
+            int runCount = data.readInt();
+            List<Run> runs = new ArrayList<>(runCount);
+            for (int r = 0; r < runCount; r++) {
+                runs.add(new Run(readString(data), readString(data), readRunProperties(data)));
+            }
+            builder.addParagraph(new Paragraph(styleId, properties, runs, tableIndex, rowIndex, cellIndex,
+                    sectionBreak));
+        }
+
+        return builder.build();
+    }
+
+    // Package parts
+
+    private static void writePart(DataOutputStream data, DocxPackage.PartInfo part) throws IOException {
+        writeString(data, part.getName());
+        writeString(data, part.getContentType());
+        data.writeLong(part.getSize());
+        data.writeLong(part.getCompressedSize());
+    }
+
+    private static DocxPackage.PartInfo readPart(DataInputStream data) throws IOException {
+        return new DocxPackage.PartInfo(readString(data), readString(data), data.readLong(), data.readLong());
+    }
+
+    private static void writeOptionalPart(DataOutputStream data, DocxPackage.PartInfo part) throws IOException {
+        if (part == null) {
+            data.writeByte(ABSENT);
+            return;
+        }
+        data.writeByte(PRESENT);
+        writePart(data, part);
+    }
+
+    private static DocxPackage.PartInfo readOptionalPart(DataInputStream data) throws IOException {
+        return data.readByte() == ABSENT ? null : readPart(data);
+    }
+
+    // Property groups
+
+    private static void writeRunProperties(DataOutputStream data, RunProperties properties) throws IOException {
+        if (properties.isEmpty()) {
+            data.writeByte(ABSENT);
+            return;
+        }
+        data.writeByte(PRESENT);
+        writeString(data, properties.getFontFamily());
+        writeString(data, properties.getFontTheme());
+        writeInteger(data, properties.getFontSizeHalfPoints());
+        data.writeByte(properties.getBold() == null ? -1 : properties.getBold() ? 1 : 0);
+    }
+
+    private static RunProperties readRunProperties(DataInputStream data) throws IOException {
+        if (data.readByte() == ABSENT) {
+            return RunProperties.EMPTY;
+        }
+        String fontFamily = readString(data);
+        String fontTheme = readString(data);
+        Integer fontSize = readInteger(data);
+        byte bold = data.readByte();
+        return new RunProperties(fontFamily, fontTheme, fontSize, bold < 0 ? null : bold == 1);
+    }
+
+    private static void writeParagraphProperties(DataOutputStream data, ParagraphProperties properties)
+            throws IOException {
+        if (properties.isEmpty()) {
+            data.writeByte(ABSENT);
+            return;
+        }
+        data.writeByte(PRESENT);
+        writeString(data, properties.getAlignment());
+        writeInteger(data, properties.getSpacingLine());
+        writeString(data, properties.getSpacingLineRule());
+        writeInteger(data, properties.getIndentLeft());
+        writeInteger(data, properties.getNumId());
+        writeInteger(data, properties.getNumLevel());
+    }
+
+    private static ParagraphProperties readParagraphProperties(DataInputStream data) throws IOException {
+        if (data.readByte() == ABSENT) {
+            return ParagraphProperties.EMPTY;
+        }
+        return new ParagraphProperties(readString(data), readInteger(data), readString(data),
+                readInteger(data), readInteger(data), readInteger(data));
+    }
+
+    private static void writeSection(DataOutputStream data, Section section) throws IOException {
+        writeInteger(data, section.getPageWidth());
+        writeInteger(data, section.getPageHeight());
+        writeString(data, section.getOrientation());
+        writeInteger(data, section.getTopMargin());
+        writeInteger(data, section.getBottomMargin());
+        writeInteger(data, section.getLeftMargin());
+        writeInteger(data, section.getRightMargin());
+        writeInteger(data, section.getHeaderMargin());
+        writeInteger(data, section.getFooterMargin());
+    }
+
+    private static Section readSection(DataInputStream data) throws IOException {
+        return new Section(readInteger(data), readInteger(data), readString(data),
+                readInteger(data), readInteger(data), readInteger(data), readInteger(data),
+                readInteger(data), readInteger(data));
+    }
+
+    // Values
+
+    /**
+     * Writes a nullable string as a length-prefixed UTF-8 byte sequence (-1 for null).
+     * Unlike writeUTF, paragraph texts longer than 64 KB are supported.
+     */
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        if (value == null) {
+            data.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > MAX_STRING_BYTES) {
+            throw new IOException("Corrupt cached document model: string of " + length + " bytes");
+        }
+        byte[] bytes = new byte[length];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream data, Integer value) throws IOException {
+        if (value == null) {
+            data.writeByte(ABSENT);
+        } else {
+            data.writeByte(PRESENT);
+            data.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream data) throws IOException {
+        return data.readByte() == ABSENT ? null : data.readInt();
+    }
+}
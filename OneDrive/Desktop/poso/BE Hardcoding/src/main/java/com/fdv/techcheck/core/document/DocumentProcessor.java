@@ -1,18 +1,32 @@
 package com.fdv.techcheck.core.document;
 
+import com.fdv.techcheck.core.metrics.DocumentLoadEvent;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
+import com.fdv.techcheck.core.metrics.Timer;
+import org.apache.poi.openxml4j.opc.PackagePart;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFNumbering;
+import org.apache.poi.xwpf.usermodel.XWPFPictureData;
+import org.apache.poi.xwpf.usermodel.XWPFStyles;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Utility class for loading and processing DOCX thesis documents.
  * Handles document parsing, metadata extraction, and error handling.
+ * Successful loads are timed under {@link MetricsRegistry#DOCUMENT_LOAD} and recorded as a
+ * {@link DocumentLoadEvent} for JDK Flight Recorder.
  * 
  * @author TechCheck Development Team
  * @since 1.0.0
@@ -29,45 +43,104 @@ public class DocumentProcessor {
     }
     
     /**
-     * Loads a DOCX document from the specified file path.
+     * Loads a DOCX document from the specified file path using the full POI object model.
      * 
      * @param filePath Path to the DOCX file
      * @return ThesisDocument ready for validation
      * @throws DocumentProcessingException if the document cannot be loaded
      */
     public static ThesisDocument loadDocument(Path filePath) throws DocumentProcessingException {
+        return loadDocument(filePath, DocumentLoadMode.POI);
+    }
+    
+    /**
+     * Loads a DOCX document from the specified file path using the given load strategy.
+     * 
+     * @param filePath Path to the DOCX file
+     * @param loadMode Strategy used to parse the document
+     * @return ThesisDocument ready for validation
+     * @throws DocumentProcessingException if the document cannot be loaded
+     */
+    public static ThesisDocument loadDocument(Path filePath, DocumentLoadMode loadMode) 
+            throws DocumentProcessingException {
+        return loadDocument(filePath, loadMode, null);
+    }
+    
+    /**
+     * Loads a DOCX document, reusing a cached document model when the same file content was loaded before.
+     * The cache only applies to {@link DocumentLoadMode#STREAMING}; POI documents hold a live object
+     * tree and are always parsed.
+     * 
+     * @param filePath Path to the DOCX file
+     * @param loadMode Strategy used to parse the document
+     * @param cache Cache of parsed document models, or null to always parse
+     * @return ThesisDocument ready for validation
+     * @throws DocumentProcessingException if the document cannot be loaded
+     */
+    public static ThesisDocument loadDocument(Path filePath, DocumentLoadMode loadMode, DocumentCache cache) 
+            throws DocumentProcessingException {
+        return loadDocument(filePath, loadMode, cache, null);
+    }
+    
+    /**
+     * Loads a DOCX document through the cache under a content key the caller has already computed,
+     * so a file hashed for another purpose (such as a batch journal) is not hashed again.
+     * 
+     * @param filePath Path to the DOCX file
+     * @param loadMode Strategy used to parse the document
+     * @param cache Cache of parsed document models, or null to always parse
+     * @param contentKey Key of the file content from {@link DocumentCache#contentKey(Path)},
+     *                   or null to compute it when the cache is used
+     * @return ThesisDocument ready for validation
+     * @throws DocumentProcessingException if the document cannot be loaded
+     */
+    public static ThesisDocument loadDocument(Path filePath, DocumentLoadMode loadMode, DocumentCache cache,
+                                              String contentKey) throws DocumentProcessingException {
         Objects.requireNonNull(filePath, "File path cannot be null");
+        Objects.requireNonNull(loadMode, "Load mode cannot be null");
         
-        logger.info("Loading document: {}", filePath);
-        
-        // Validate file exists and is readable
-        validateFile(filePath);
+        logger.info("Loading document: {} (mode: {})", filePath, loadMode);
+        long startTime = Timer.start();
+        DocumentLoadEvent event = new DocumentLoadEvent();
+        event.begin();
+        ThesisDocument document = null;
+        String error = null;
         
         try {
-            // Load the DOCX document using Apache POI
-            XWPFDocument xwpfDocument = new XWPFDocument(Files.newInputStream(filePath));
+            // Validate file exists and is readable
+            validateFile(filePath);
             
-            // Extract metadata
-            DocumentMetadata metadata = extractMetadata(filePath, xwpfDocument);
-            
-            // Extract page settings
-            PageSettings pageSettings = extractPageSettings(xwpfDocument);
-            
-            // Build and return the ThesisDocument
-            ThesisDocument document = ThesisDocument.builder()
-                    .filePath(filePath)
-                    .xwpfDocument(xwpfDocument)
-                    .metadata(metadata)
-                    .pageSettings(pageSettings)
-                    .build();
+            document = parseDocument(filePath, loadMode, cache, contentKey);
+            MetricsRegistry.global().timer(MetricsRegistry.DOCUMENT_LOAD).recordSince(startTime);
             
             logger.info("Successfully loaded document: {} ({} pages, {} words)", 
                        filePath.getFileName(), 
-                       metadata.getPageCount(), 
-                       metadata.getWordCount());
+                       document.getMetadata().getPageCount(), 
+                       document.getMetadata().getWordCount());
             
             return document;
             
+        } catch (DocumentProcessingException e) {
+            error = e.getMessage();
+            throw e;
+        } finally {
+            commitLoadEvent(event, filePath, loadMode, document, error);
+        }
+    }
+    
+    /**
+     * Parses a validated file with the given load strategy.
+     */
+    private static ThesisDocument parseDocument(Path filePath, DocumentLoadMode loadMode, DocumentCache cache,
+                                                String contentKey) throws DocumentProcessingException {
+        try {
+            return loadMode == DocumentLoadMode.STREAMING
+                    ? loadStreamingDocument(filePath, cache, contentKey)
+                    : loadPoiDocument(filePath);
+            
+        } catch (DocumentProcessingException e) {
+            logger.error("Failed to load document {}: {}", filePath.getFileName(), e.getMessage(), e);
+            throw e;
         } catch (IOException e) {
             String message = String.format("Failed to load document %s: %s", 
                                          filePath.getFileName(), e.getMessage());
@@ -81,6 +154,164 @@ public class DocumentProcessor {
         }
     }
     
+    /**
+     * Describes a load on its event, if the event is recorded. Failed loads are recorded too,
+     * with whatever can still be read about the file.
+     * 
+     * @param document The loaded document, or null if loading failed
+     * @param error Message of the load failure, or null
+     */
+    private static void commitLoadEvent(DocumentLoadEvent event, Path filePath, DocumentLoadMode loadMode,
+                                        ThesisDocument document, String error) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.file = filePath.toString();
+        event.loadMode = loadMode.name();
+        event.failed = document == null;
+        event.error = error;
+        if (document != null) {
+            List<DocxPackage.PartInfo> mediaParts = document.getMediaParts();
+            event.fileSize = document.getMetadata().getFileSizeBytes();
+            event.mediaPartCount = mediaParts.size();
+            event.mediaSize = mediaParts.stream().mapToLong(DocxPackage.PartInfo::getSize).sum();
+            event.paragraphCount = document.getBodyParagraphCount();
+            
+            // Sizes were taken from the package when it was loaded; unknown sizes are left at zero
+            DocxPackage.PartInfo part = document.getDocumentPart();
+            if (part != null) {
+                event.documentXmlSize = Math.max(0, part.getSize());
+                event.documentXmlCompressedSize = Math.max(0, part.getCompressedSize());
+            }
+            part = document.getStylesPart();
+            if (part != null) {
+                event.stylesXmlSize = Math.max(0, part.getSize());
+                event.stylesXmlCompressedSize = Math.max(0, part.getCompressedSize());
+            }
+            part = document.getNumberingPart();
+            if (part != null) {
+                event.numberingXmlSize = Math.max(0, part.getSize());
+                event.numberingXmlCompressedSize = Math.max(0, part.getCompressedSize());
+            }
+        } else if (Files.isRegularFile(filePath)) {
+            try {
+                event.fileSize = Files.size(filePath);
+            } catch (IOException e) {
+                // Leave the size unknown
+            }
+        }
+        event.commit();
+    }
+    
+    /**
+     * Loads the document into a full Apache POI XWPFDocument.
+     * 
+     * @param filePath Path to the DOCX file
+     * @return ThesisDocument backed by the POI object model
+     * @throws IOException if the package cannot be read
+     */
+    private static ThesisDocument loadPoiDocument(Path filePath) throws IOException {
+        XWPFDocument xwpfDocument;
+        long parseStart = Timer.start();
+        try (InputStream in = Files.newInputStream(filePath)) {
+            xwpfDocument = new XWPFDocument(in);
+        }
+        MetricsRegistry.global().timer(MetricsRegistry.PART_PARSE).recordSince(parseStart);
+        
+        DocumentIndex index = DocumentIndex.of(xwpfDocument);
+        XWPFStyles styles = xwpfDocument.getStyles();
+        XWPFNumbering numbering = xwpfDocument.getNumbering();
+        
+        return ThesisDocument.builder()
+                .filePath(filePath)
+                .xwpfDocument(xwpfDocument)
+                .documentIndex(index)
+                .metadata(extractMetadata(filePath, xwpfDocument, index))
+                .pageSettings(extractPageSettings(xwpfDocument))
+                .mediaParts(extractMediaParts(xwpfDocument))
+                .xmlParts(describePart(xwpfDocument.getPackagePart()),
+                          styles != null ? describePart(styles.getPackagePart()) : null,
+                          numbering != null ? describePart(numbering.getPackagePart()) : null)
+                .build();
+    }
+    
+    /**
+     * Streams the document into a compact read-only DocumentModel.
+     * The package is opened lazily, so media parts are never inflated.
+     * 
+     * @param filePath Path to the DOCX file
+     * @param cache Cache of parsed document models, may be null
+     * @param contentKey Precomputed content key, or null to hash the file for the cache lookup
+     * @return ThesisDocument backed by the streaming model
+     * @throws DocumentProcessingException if the package cannot be parsed
+     * @throws IOException if the file cannot be hashed for the cache lookup
+     */
+    private static ThesisDocument loadStreamingDocument(Path filePath, DocumentCache cache, String contentKey) 
+            throws DocumentProcessingException, IOException {
+        if (cache == null) {
+            return createStreamingDocument(filePath, StreamingDocumentLoader.load(filePath));
+        }
+        
+        String key = contentKey != null ? contentKey : DocumentCache.contentKey(filePath);
+        DocumentModel model = cache.get(key);
+        if (model != null) {
+            logger.debug("Reusing cached document model for {} ({})", filePath.getFileName(), key);
+        } else {
+            model = StreamingDocumentLoader.load(filePath);
+            cache.put(key, model);
+        }
+        return createStreamingDocument(filePath, model);
+    }
+    
+    /**
+     * Creates a ThesisDocument from a streamed (or cached) document model.
+     * 
+     * @param filePath Path to the DOCX file
+     * @param model Document model of the file
+     * @return ThesisDocument backed by the model
+     */
+    private static ThesisDocument createStreamingDocument(Path filePath, DocumentModel model) {
+        DocumentIndex index = DocumentIndex.of(model);
+        List<DocxPackage.PartInfo> mediaParts = model.getMediaParts();
+        
+        logger.debug("Skipped {} media parts ({} bytes) of {}", mediaParts.size(),
+                    mediaParts.stream().mapToLong(DocxPackage.PartInfo::getSize).sum(), filePath.getFileName());
+        
+        return ThesisDocument.builder()
+                .filePath(filePath)
+                .documentModel(model)
+                .documentIndex(index)
+                .metadata(extractMetadata(filePath, model, index))
+                .pageSettings(extractPageSettings(model.getSection()))
+                .mediaParts(mediaParts)
+                .build();
+    }
+    
+    /**
+     * Describes the media parts already loaded by POI.
+     * 
+     * @param xwpfDocument Loaded POI document
+     * @return Media part metadata
+     */
+    private static List<DocxPackage.PartInfo> extractMediaParts(XWPFDocument xwpfDocument) {
+        return xwpfDocument.getAllPackagePictures().stream()
+                .map(XWPFPictureData::getPackagePart)
+                .map(DocumentProcessor::describePart)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Describes a part already loaded by POI. Its compressed size is not known.
+     * 
+     * @param part Loaded package part
+     * @return Part metadata
+     */
+    private static DocxPackage.PartInfo describePart(PackagePart part) {
+        return new DocxPackage.PartInfo(part.getPartName().getName().substring(1),
+                part.getContentType(), part.getSize(), -1);
+    }
+    
     /**
      * Validates that the file exists, is readable, and appears to be a valid DOCX file.
      * 
@@ -125,65 +356,116 @@ public class DocumentProcessor {
      * 
      * @param filePath Path to the document file
      * @param xwpfDocument Loaded DOCX document
+     * @param index Paragraph index of the document
      * @return DocumentMetadata with extracted information
      */
-    private static DocumentMetadata extractMetadata(Path filePath, XWPFDocument xwpfDocument) {
+    private static DocumentMetadata extractMetadata(Path filePath, XWPFDocument xwpfDocument, DocumentIndex index) {
         logger.debug("Extracting metadata from document: {}", filePath.getFileName());
         
         DocumentMetadata.Builder builder = DocumentMetadata.builder();
+        extractFileMetadata(filePath, builder);
         
+        // Extract document properties from DOCX
         try {
-            // Extract file system metadata
-            long fileSize = Files.size(filePath);
-            builder.fileSizeBytes(fileSize);
-            
-            // Extract creation/modification times
-            try {
-                Instant createdTime = Files.readAttributes(filePath, "creationTime", java.nio.file.LinkOption.NOFOLLOW_LINKS)
-                        .get("creationTime") != null ? 
-                        ((java.nio.file.attribute.FileTime) Files.readAttributes(filePath, "creationTime", java.nio.file.LinkOption.NOFOLLOW_LINKS).get("creationTime")).toInstant() : 
-                        null;
-                Instant modifiedTime = Files.getLastModifiedTime(filePath).toInstant();
-                
-                builder.createdDate(createdTime).modifiedDate(modifiedTime);
-            } catch (Exception e) {
-                logger.debug("Could not extract file times: {}", e.getMessage());
-            }
-            
-            // Extract document properties from DOCX
-            try {
-                var coreProps = xwpfDocument.getProperties().getCoreProperties();
-                if (coreProps != null) {
-                    if (coreProps.getTitle() != null) {
-                        builder.title(coreProps.getTitle());
-                    }
-                    if (coreProps.getCreator() != null) {
-                        builder.author(coreProps.getCreator());
-                    }
-                    if (coreProps.getSubject() != null) {
-                        builder.subject(coreProps.getSubject());
-                    }
+            var coreProps = xwpfDocument.getProperties().getCoreProperties();
+            if (coreProps != null) {
+                if (coreProps.getTitle() != null) {
+                    builder.title(coreProps.getTitle());
+                }
+                if (coreProps.getCreator() != null) {
+                    builder.author(coreProps.getCreator());
+                }
+                if (coreProps.getSubject() != null) {
+                    builder.subject(coreProps.getSubject());
                 }
-            } catch (Exception e) {
-                logger.debug("Could not extract document properties: {}", e.getMessage());
             }
-            
-            // Count content elements
-            int paragraphCount = xwpfDocument.getParagraphs().size();
-            int wordCount = countWords(xwpfDocument);
-            int characterCount = countCharacters(xwpfDocument);
-            int pageCount = estimatePageCount(xwpfDocument, wordCount);
-            
-            builder.paragraphCount(paragraphCount)
-                   .wordCount(wordCount)
-                   .characterCount(characterCount)
-                   .pageCount(pageCount);
-            
+        } catch (Exception e) {
+            logger.debug("Could not extract document properties: {}", e.getMessage());
+        }
+        
+        // Count content elements
+        extractContentCounts(index, builder);
+        
+        return builder.build();
+    }
+    
+    /**
+     * Extracts metadata from a streamed document model and the file system.
+     * 
+     * @param filePath Path to the document file
+     * @param model Streamed document model
+     * @param index Paragraph index of the document
+     * @return DocumentMetadata with extracted information
+     */
+    private static DocumentMetadata extractMetadata(Path filePath, DocumentModel model, DocumentIndex index) {
+        logger.debug("Extracting metadata from document model: {}", filePath.getFileName());
+        
+        DocumentMetadata.Builder builder = DocumentMetadata.builder();
+        extractFileMetadata(filePath, builder);
+        
+        if (model.getTitle() != null) {
+            builder.title(model.getTitle());
+        }
+        if (model.getAuthor() != null) {
+            builder.author(model.getAuthor());
+        }
+        if (model.getSubject() != null) {
+            builder.subject(model.getSubject());
+        }
+        
+        extractContentCounts(index, builder);
+        
+        return builder.build();
+    }
+    
+    /**
+     * Extracts file name, size and timestamps from the file system.
+     * 
+     * @param filePath Path to the document file
+     * @param builder Metadata builder to populate
+     */
+    private static void extractFileMetadata(Path filePath, DocumentMetadata.Builder builder) {
+        builder.fileName(filePath.getFileName().toString());
+        
+        try {
+            builder.fileSizeBytes(Files.size(filePath));
         } catch (IOException e) {
             logger.warn("Error extracting some metadata: {}", e.getMessage());
         }
         
-        return builder.build();
+        // Extract creation/modification times
+        try {
+            Object creationTime = Files.readAttributes(filePath, "creationTime", LinkOption.NOFOLLOW_LINKS)
+                    .get("creationTime");
+            Instant createdTime = creationTime != null ? ((FileTime) creationTime).toInstant() : null;
+            Instant modifiedTime = Files.getLastModifiedTime(filePath).toInstant();
+            
+            builder.createdDate(createdTime).modifiedDate(modifiedTime);
+        } catch (Exception e) {
+            logger.debug("Could not extract file times: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * Counts paragraphs, words and characters and estimates the page count.
+     * Only body paragraphs are counted, consistent with XWPFDocument.getParagraphs().
+     * 
+     * @param index Paragraph index of the document
+     * @param builder Metadata builder to populate
+     */
+    private static void extractContentCounts(DocumentIndex index, DocumentMetadata.Builder builder) {
+        List<String> paragraphTexts = index.getBodyParagraphs().stream()
+                .map(DocumentIndex.IndexedParagraph::getText)
+                .collect(Collectors.toList());
+        int paragraphCount = paragraphTexts.size();
+        int wordCount = countWords(paragraphTexts);
+        int characterCount = countCharacters(paragraphTexts);
+        int pageCount = estimatePageCount(paragraphCount, wordCount);
+        
+        builder.paragraphCount(paragraphCount)
+               .wordCount(wordCount)
+               .characterCount(characterCount)
+               .pageCount(pageCount);
     }
     
     /**
@@ -253,16 +535,55 @@ public class DocumentProcessor {
         return builder.build();
     }
     
+    /**
+     * Extracts page settings from a streamed section.
+     * 
+     * @param section Body-level section properties
+     * @return PageSettings with extracted formatting information
+     */
+    private static PageSettings extractPageSettings(DocumentModel.Section section) {
+        PageSettings.Builder builder = PageSettings.builder();
+        
+        if (section.getPageWidth() != null) {
+            builder.pageWidth(convertTwipsToCentimeters(section.getPageWidth()));
+        }
+        if (section.getPageHeight() != null) {
+            builder.pageHeight(convertTwipsToCentimeters(section.getPageHeight()));
+        }
+        if (section.getOrientation() != null) {
+            builder.orientation(section.getOrientation().toLowerCase());
+        }
+        if (section.getTopMargin() != null) {
+            builder.topMargin(convertTwipsToCentimeters(section.getTopMargin()));
+        }
+        if (section.getBottomMargin() != null) {
+            builder.bottomMargin(convertTwipsToCentimeters(section.getBottomMargin()));
+        }
+        if (section.getLeftMargin() != null) {
+            builder.leftMargin(convertTwipsToCentimeters(section.getLeftMargin()));
+        }
+        if (section.getRightMargin() != null) {
+            builder.rightMargin(convertTwipsToCentimeters(section.getRightMargin()));
+        }
+        if (section.getHeaderMargin() != null) {
+            builder.headerMargin(convertTwipsToCentimeters(section.getHeaderMargin()));
+        }
+        if (section.getFooterMargin() != null) {
+            builder.footerMargin(convertTwipsToCentimeters(section.getFooterMargin()));
+        }
+        
+        return builder.build();
+    }
+    
     /**
      * Counts the total number of words in the document.
      * 
-     * @param xwpfDocument Document to analyze
+     * @param paragraphTexts Paragraph texts to analyze
      * @return Total word count
      */
-    private static int countWords(XWPFDocument xwpfDocument) {
-        return xwpfDocument.getParagraphs().stream()
-                .mapToInt(paragraph -> {
-                    String text = paragraph.getText();
+    private static int countWords(List<String> paragraphTexts) {
+        return paragraphTexts.stream()
+                .mapToInt(text -> {
                     if (text == null || text.trim().isEmpty()) {
                         return 0;
                     }
@@ -274,31 +595,27 @@ public class DocumentProcessor {
     /**
      * Counts the total number of characters in the document.
      * 
-     * @param xwpfDocument Document to analyze
+     * @param paragraphTexts Paragraph texts to analyze
      * @return Total character count
      */
-    private static int countCharacters(XWPFDocument xwpfDocument) {
-        return xwpfDocument.getParagraphs().stream()
-                .mapToInt(paragraph -> {
-                    String text = paragraph.getText();
-                    return text != null ? text.length() : 0;
-                })
+    private static int countCharacters(List<String> paragraphTexts) {
+        return paragraphTexts.stream()
+                .mapToInt(text -> text != null ? text.length() : 0)
                 .sum();
     }
     
     /**
      * Estimates the number of pages based on content analysis.
      * 
-     * @param xwpfDocument Document to analyze
+     * @param paragraphCount Number of body paragraphs
      * @param wordCount Total word count
      * @return Estimated page count
      */
-    private static int estimatePageCount(XWPFDocument xwpfDocument, int wordCount) {
+    private static int estimatePageCount(int paragraphCount, int wordCount) {
         // Simple estimation: average of 250-300 words per page
         int pagesByWords = Math.max(1, wordCount / 275);
         
         // Also consider paragraph count (rough estimation)
-        int paragraphCount = xwpfDocument.getParagraphs().size();
         int pagesByParagraphs = Math.max(1, paragraphCount / 25);
         
         // Use the average of both estimates
@@ -318,6 +635,7 @@ public class DocumentProcessor {
     
     /**
      * Closes a document and releases resources.
+     * Documents loaded in streaming mode hold no open resources.
      * 
      * @param document Document to close
      */
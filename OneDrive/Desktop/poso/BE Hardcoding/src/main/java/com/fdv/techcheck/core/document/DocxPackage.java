@@ -0,0 +1,599 @@
+package com.fdv.techcheck.core.document;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only view of a DOCX (OPC) package that reads the ZIP central directory through a
+ * {@link FileChannel} and inflates a part only when it is opened.
+ *
+ * Opening the package reads the central directory and {@code [Content_Types].xml}; every
+ * other part, in particular the images under {@code word/media/}, stays compressed on disk
+ * and is described by a {@link PartInfo} with its size and content type.
+ *
+ * Part streams use positional channel reads, so several parts may be read concurrently.
+ *
+ * The central directory is attacker-controlled for uploads, so, like POI's {@code ZipSecureFile},
+ * the package rejects parts declared larger than {@link #MAX_PART_SIZE} and fails a part stream
+ * that inflates beyond its declared size, or beyond {@link #MAX_INFLATE_RATIO} times its
+ * compressed bytes once more than {@link #INFLATE_RATIO_GRACE_SIZE} bytes have been inflated.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DocxPackage implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocxPackage.class);
+
+    private static final String CONTENT_TYPES_PART = "[Content_Types].xml";
+    private static final String MEDIA_PREFIX = "word/media/";
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER = 0x04034b50;
+    private static final int END_RECORD_SIZE = 22;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+    private static final int ZIP64_EXTRA_FIELD = 0x0001;
+    private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+    private static final int FLAG_ENCRYPTED = 0x0001;
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Largest declared uncompressed part size; far above any real thesis part. */
+    public static final long MAX_PART_SIZE = 1L << 30;
+
+    /** Largest ratio of inflated to compressed bytes, the inverse of POI's default minimum inflate ratio. */
+    public static final int MAX_INFLATE_RATIO = 100;
+
+    /** Inflated bytes up to which the ratio is not checked, so small, very repetitive parts are accepted. */
+    public static final long INFLATE_RATIO_GRACE_SIZE = 100L * 1024;
+
+    private final Path filePath;
+    private final FileChannel channel;
+    private final Map<String, Entry> entries;
+    private final Map<String, PartInfo> parts;
+    private final AtomicInteger openedPartCount = new AtomicInteger();
+
+    /**
+     * Private constructor - use {@link #open(Path)} to create instances.
+     */
+    private DocxPackage(Path filePath, FileChannel channel) throws IOException {
+        this.filePath = filePath;
+        this.channel = channel;
+        this.entries = readCentralDirectory();
+        this.parts = describeParts(readContentTypes());
+    }
+
+    /**
+     * Opens a DOCX package and reads its central directory.
+     *
+     * @param filePath Path to the DOCX file
+     * @return Open package; the caller must close it
+     * @throws IOException if the file cannot be read or is not a valid ZIP archive
+     */
+    public static DocxPackage open(Path filePath) throws IOException {
+        Objects.requireNonNull(filePath, "File path cannot be null");
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            return new DocxPackage(filePath, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Part access
+
+    /**
+     * Checks if the package contains a part.
+     *
+     * @param partName Part name without leading slash (e.g. "word/document.xml")
+     * @return true if the part exists
+     */
+    public boolean hasPart(String partName) {
+        return entries.containsKey(partName);
+    }
+
+    /**
+     * Gets the metadata of a part without inflating it.
+     *
+     * @param partName Part name without leading slash
+     * @return Part metadata, or null if the part does not exist
+     */
+    public PartInfo getPart(String partName) {
+        return parts.get(partName);
+    }
+
+    /**
+     * Gets the metadata of every part in central directory order.
+     *
+     * @return Unmodifiable list of part metadata
+     */
+    public List<PartInfo> getParts() {
+        return Collections.unmodifiableList(new ArrayList<>(parts.values()));
+    }
+
+    /**
+     * Gets the metadata of the embedded media parts (images, audio, video).
+     *
+     * @return Unmodifiable list of media part metadata
+     */
+    public List<PartInfo> getMediaParts() {
+        List<PartInfo> media = new ArrayList<>();
+        for (PartInfo part : parts.values()) {
+            if (part.isMedia()) {
+                media.add(part);
+            }
+        }
+        return Collections.unmodifiableList(media);
+    }
+
+    /**
+     * Opens a part for reading; compressed parts are inflated while the stream is read.
+     *
+     * @param partName Part name without leading slash
+     * @return Stream over the uncompressed part content; the caller must close it
+     * @throws IOException if the part does not exist or uses an unsupported compression method
+     */
+    public InputStream openPart(String partName) throws IOException {
+        Entry entry = entries.get(partName);
+        if (entry == null) {
+            throw new IOException("Package part not found: " + partName);
+        }
+
+        long dataOffset = dataOffset(entry);
+        InputStream raw = new ChannelInputStream(channel, dataOffset, entry.compressedSize);
+        openedPartCount.incrementAndGet();
+
+        if (entry.method == STORED) {
+            return raw;
+        }
+        if (entry.method == DEFLATED) {
+            Inflater inflater = new Inflater(true);
+            return new InflaterInputStream(raw, inflater, BUFFER_SIZE) {
+                private boolean closed;
+                private boolean endOfInput;
+
+                @Override
+                protected void fill() throws IOException {
+                    if (endOfInput) {
+                        throw new EOFException("Unexpected end of compressed data in part " + partName);
+                    }
+                    len = in.read(buf, 0, buf.length);
+                    if (len == -1) {
+                        // A raw inflater may need one padding byte after the compressed data
+                        buf[0] = 0;
+                        len = 1;
+                        endOfInput = true;
+                    }
+                    inf.setInput(buf, 0, len);
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int length) throws IOException {
+                    int read = super.read(target, offset, length);
+                    if (read > 0) {
+                        checkInflatedSize(entry, inf.getBytesWritten(), inf.getBytesRead());
+                    }
+                    return read;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (!closed) {
+                        closed = true;
+                        super.close();
+                        inflater.end();
+                    }
+                }
+            };
+        }
+        raw.close();
+        throw new ZipException("Unsupported compression method " + entry.method + " for part " + partName);
+    }
+
+    /**
+     * Fails a part stream that inflates beyond its declared size or at a zip-bomb ratio.
+     */
+    private static void checkInflatedSize(Entry entry, long inflated, long compressed) throws ZipException {
+        if (inflated > entry.size) {
+            throw new ZipException(String.format("Part %s inflates beyond its declared size of %d bytes",
+                                                 entry.name, entry.size));
+        }
+        if (inflated > INFLATE_RATIO_GRACE_SIZE && inflated > compressed * MAX_INFLATE_RATIO) {
+            throw new ZipException(String.format(
+                    "Part %s exceeds the maximum inflate ratio of %d (%d bytes from %d), possible zip bomb",
+                    entry.name, MAX_INFLATE_RATIO, inflated, compressed));
+        }
+    }
+
+    /**
+     * Gets the number of parts opened since the package was opened, including [Content_Types].xml.
+     *
+     * @return Number of part streams created
+     */
+    public int getOpenedPartCount() {
+        return openedPartCount.get();
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DocxPackage{file='%s', parts=%d, media=%d}",
+                           filePath.getFileName(), parts.size(), getMediaParts().size());
+    }
+
+    // Central directory
+
+    private Map<String, Entry> readCentralDirectory() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < END_RECORD_SIZE) {
+            throw new ZipException("File is too small to be a ZIP archive");
+        }
+
+        // The end record is followed by a variable-length comment, so scan backwards for its signature
+        int tailLength = (int) Math.min(fileSize, END_RECORD_SIZE + MAX_COMMENT_LENGTH);
+        long tailOffset = fileSize - tailLength;
+        ByteBuffer tail = read(tailOffset, tailLength);
+        int endRecord = -1;
+        for (int i = tailLength - END_RECORD_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY) {
+                endRecord = i;
+                break;
+            }
+        }
+        if (endRecord < 0) {
+            throw new ZipException("End of central directory record not found");
+        }
+
+        long entryCount = tail.getShort(endRecord + 10) & 0xFFFF;
+        long directorySize = tail.getInt(endRecord + 12) & ZIP64_MARKER;
+        long directoryOffset = tail.getInt(endRecord + 16) & ZIP64_MARKER;
+
+        if (endRecord >= ZIP64_LOCATOR_SIZE && tail.getInt(endRecord - ZIP64_LOCATOR_SIZE) == ZIP64_LOCATOR) {
+            long zip64EndOffset = tail.getLong(endRecord - ZIP64_LOCATOR_SIZE + 8);
+            ByteBuffer zip64End = read(zip64EndOffset, 56);
+            if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                throw new ZipException("Invalid ZIP64 end of central directory record");
+            }
+            entryCount = zip64End.getLong(32);
+            directorySize = zip64End.getLong(40);
+            directoryOffset = zip64End.getLong(48);
+        }
+
+        if (directoryOffset + directorySize > fileSize || directorySize > Integer.MAX_VALUE) {
+            throw new ZipException("Central directory is out of bounds");
+        }
+
+        ByteBuffer directory = read(directoryOffset, (int) directorySize);
+        Map<String, Entry> result = new LinkedHashMap<>();
+        int position = 0;
+        for (long i = 0; i < entryCount; i++) {
+            if (position + CENTRAL_HEADER_SIZE > directory.limit()
+                    || directory.getInt(position) != CENTRAL_DIRECTORY_HEADER) {
+                throw new ZipException("Corrupt central directory at entry " + i);
+            }
+            int flags = directory.getShort(position + 8) & 0xFFFF;
+            int method = directory.getShort(position + 10) & 0xFFFF;
+            long compressedSize = directory.getInt(position + 20) & ZIP64_MARKER;
+            long size = directory.getInt(position + 24) & ZIP64_MARKER;
+            int nameLength = directory.getShort(position + 28) & 0xFFFF;
+            int extraLength = directory.getShort(position + 30) & 0xFFFF;
+            int commentLength = directory.getShort(position + 32) & 0xFFFF;
+            long localHeaderOffset = directory.getInt(position + 42) & ZIP64_MARKER;
+
+            byte[] nameBytes = new byte[nameLength];
+            directory.position(position + CENTRAL_HEADER_SIZE);
+            directory.get(nameBytes);
+            String name = new String(nameBytes, (flags & FLAG_UTF8) != 0
+                    ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+
+            // ZIP64 extra field holds the values whose 32-bit fields are saturated, in this order
+            int extra = position + CENTRAL_HEADER_SIZE + nameLength;
+            int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                int headerId = directory.getShort(extra) & 0xFFFF;
+                int dataSize = directory.getShort(extra + 2) & 0xFFFF;
+                if (headerId == ZIP64_EXTRA_FIELD) {
+                    int field = extra + 4;
+                    if (size == ZIP64_MARKER) {
+                        size = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == ZIP64_MARKER) {
+                        compressedSize = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (localHeaderOffset == ZIP64_MARKER) {
+                        localHeaderOffset = directory.getLong(field);
+                    }
+                }
+                extra += 4 + dataSize;
+            }
+
+            if ((flags & FLAG_ENCRYPTED) != 0) {
+                throw new ZipException("Encrypted package parts are not supported: " + name);
+            }
+            if (size < 0 || size > MAX_PART_SIZE || compressedSize < 0 || compressedSize > fileSize) {
+                throw new ZipException(String.format("Part %s declares an invalid size of %d bytes (%d compressed)",
+                                                     name, size, compressedSize));
+            }
+            if (method == STORED && size != compressedSize) {
+                throw new ZipException("Stored part " + name + " declares different sizes");
+            }
+            if (!name.endsWith("/")) {
+                result.put(name, new Entry(name, method, compressedSize, size, localHeaderOffset));
+            }
+            position = extraEnd + commentLength;
+        }
+
+        logger.debug("Read central directory of {}: {} entries", filePath.getFileName(), result.size());
+        return result;
+    }
+
+    /**
+     * Gets the offset of the part data, which follows the variable-length local file header.
+     */
+    private long dataOffset(Entry entry) throws IOException {
+        ByteBuffer header = read(entry.localHeaderOffset, LOCAL_HEADER_SIZE);
+        if (header.getInt(0) != LOCAL_FILE_HEADER) {
+            throw new ZipException("Invalid local file header for part " + entry.name);
+        }
+        int nameLength = header.getShort(26) & 0xFFFF;
+        int extraLength = header.getShort(28) & 0xFFFF;
+        return entry.localHeaderOffset + LOCAL_HEADER_SIZE + nameLength + extraLength;
+    }
+
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file at offset " + (offset + buffer.position()));
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    // Content types
+
+    /**
+     * Reads [Content_Types].xml into a map of "/part/name" overrides and lower-case extension defaults.
+     */
+    private Map<String, String> readContentTypes() throws IOException {
+        Map<String, String> contentTypes = new HashMap<>();
+        if (!hasPart(CONTENT_TYPES_PART)) {
+            logger.debug("Package has no {}", CONTENT_TYPES_PART);
+            return contentTypes;
+        }
+
+        try (InputStream in = openPart(CONTENT_TYPES_PART)) {
+            XMLStreamReader reader = StreamingDocumentLoader.createXmlReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                        continue;
+                    }
+                    String contentType = reader.getAttributeValue(null, "ContentType");
+                    if ("Default".equals(reader.getLocalName())) {
+                        String extension = reader.getAttributeValue(null, "Extension");
+                        if (extension != null && contentType != null) {
+                            contentTypes.put(extension.toLowerCase(Locale.ROOT), contentType);
+                        }
+                    } else if ("Override".equals(reader.getLocalName())) {
+                        String partName = reader.getAttributeValue(null, "PartName");
+                        if (partName != null && contentType != null) {
+                            contentTypes.put(partName, contentType);
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed " + CONTENT_TYPES_PART + ": " + e.getMessage(), e);
+        }
+        return contentTypes;
+    }
+
+    private Map<String, PartInfo> describeParts(Map<String, String> contentTypes) {
+        Map<String, PartInfo> result = new LinkedHashMap<>();
+        for (Entry entry : entries.values()) {
+            String contentType = contentTypes.get("/" + entry.name);
+            if (contentType == null) {
+                int dot = entry.name.lastIndexOf('.');
+                if (dot >= 0) {
+                    contentType = contentTypes.get(entry.name.substring(dot + 1).toLowerCase(Locale.ROOT));
+                }
+            }
+            result.put(entry.name, new PartInfo(entry.name, contentType, entry.size, entry.compressedSize));
+        }
+        return result;
+    }
+
+    /**
+     * Central directory entry of a package part.
+     */
+    private static final class Entry {
+        private final String name;
+        private final int method;
+        private final long compressedSize;
+        private final long size;
+        private final long localHeaderOffset;
+
+        private Entry(String name, int method, long compressedSize, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+
+    /**
+     * Metadata of a package part, available without inflating it.
+     */
+    public static final class PartInfo {
+        private final String name;
+        private final String contentType;
+        private final long size;
+        private final long compressedSize;
+
+        public PartInfo(String name, String contentType, long size, long compressedSize) {
+            this.name = Objects.requireNonNull(name, "Part name cannot be null");
+            this.contentType = contentType;
+            this.size = size;
+            this.compressedSize = compressedSize;
+        }
+
+        /**
+         * Gets the part name without leading slash (e.g. "word/media/image1.png").
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the content type declared in [Content_Types].xml, or null if none is declared.
+         */
+        public String getContentType() {
+            return contentType;
+        }
+
+        /**
+         * Gets the uncompressed size in bytes.
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Gets the compressed size in bytes.
+         */
+        public long getCompressedSize() {
+            return compressedSize;
+        }
+
+        /**
+         * Checks if the part is embedded media (an image, audio or video part, or anything under word/media/).
+         */
+        public boolean isMedia() {
+            if (name.startsWith(MEDIA_PREFIX)) {
+                return true;
+            }
+            return contentType != null && (contentType.startsWith("image/")
+                    || contentType.startsWith("audio/") || contentType.startsWith("video/"));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PartInfo{name='%s', contentType='%s', size=%d}", name, contentType, size);
+        }
+    }
+
+    /**
+     * Bounded input stream over a region of the file channel, using positional reads.
+     */
+    private static final class ChannelInputStream extends InputStream {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long position;
+        private long remaining;
+
+        private ChannelInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = length;
+            buffer.limit(0);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!fill()) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            Objects.checkFromIndexSize(offset, length, target.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, buffer.remaining() + remaining);
+        }
+
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            if (remaining <= 0) {
+                return false;
+            }
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), remaining));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file while reading package part");
+            }
+            position += read;
+            remaining -= read;
+            buffer.flip();
+            return buffer.hasRemaining();
+        }
+    }
+}
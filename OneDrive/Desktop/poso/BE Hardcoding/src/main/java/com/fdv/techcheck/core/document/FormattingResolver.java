@@ -0,0 +1,212 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.core.document.DocumentModel.Paragraph;
+import com.fdv.techcheck.core.document.DocumentModel.ParagraphProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Run;
+import com.fdv.techcheck.core.document.DocumentModel.RunProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Style;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Computes effective paragraph and run formatting by applying, in increasing priority:
+ * document defaults, the paragraph style and its {@code basedOn} chain, the character
+ * style and its chain, and finally direct formatting.
+ *
+ * Every distinct style chain is resolved once per document and memoized, so the cost per
+ * run is a single overlay of the direct properties. Theme font references
+ * (e.g. {@code minorHAnsi}) are replaced by the typefaces of the document theme.
+ *
+ * Instances are not thread-safe; the resolver is used while the {@link DocumentIndex} is built.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class FormattingResolver {
+
+    private static final String PARAGRAPH_STYLE = "paragraph";
+    private static final String CHARACTER_STYLE = "character";
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final DocumentModel model;
+    private final String defaultParagraphStyleId;
+    private final Map<String, ParagraphProperties> paragraphChains = new HashMap<>();
+    private final Map<String, RunProperties> runChains = new HashMap<>();
+
+    /**
+     * Creates a resolver for the styles of the given document.
+     *
+     * @param model Document model providing style definitions, defaults and theme fonts
+     */
+    public FormattingResolver(DocumentModel model) {
+        this.model = Objects.requireNonNull(model, "Document model cannot be null");
+        Style defaultStyle = model.getDefaultStyle(PARAGRAPH_STYLE);
+        this.defaultParagraphStyleId = defaultStyle != null ? defaultStyle.getStyleId() : null;
+    }
+
+    /**
+     * Resolves the effective paragraph properties.
+     *
+     * @param paragraph Paragraph with direct formatting
+     * @return Effective paragraph properties
+     */
+    public ParagraphProperties resolveParagraph(Paragraph paragraph) {
+        ParagraphProperties styleChain = resolveParagraphChain(effectiveParagraphStyleId(paragraph.getStyleId()));
+        return overlay(styleChain, paragraph.getProperties());
+    }
+
+    /**
+     * Resolves the effective run properties. The returned font family has theme references resolved.
+     *
+     * @param paragraph Paragraph containing the run
+     * @param run Run with direct formatting
+     * @return Effective run properties
+     */
+    public RunProperties resolveRun(Paragraph paragraph, Run run) {
+        RunProperties styleChain = resolveRunChain(effectiveParagraphStyleId(paragraph.getStyleId()), run.getStyleId());
+        return resolveThemeFont(overlay(styleChain, run.getProperties()));
+    }
+
+    /**
+     * Gets the display name of a style (e.g. "heading 1" for style ID "Heading1").
+     *
+     * @param styleId Style ID, may be null
+     * @return Style name, or null if the style is not defined
+     */
+    public String getStyleName(String styleId) {
+        Style style = model.getStyle(styleId);
+        return style != null ? style.getName() : null;
+    }
+
+    /**
+     * Gets the number of distinct style chains resolved so far.
+     *
+     * @return Number of memoized paragraph and run style chains
+     */
+    public int getResolvedChainCount() {
+        return paragraphChains.size() + runChains.size();
+    }
+
+    // Style chains
+
+    /**
+     * Paragraphs without a (known) paragraph style use the default paragraph style, usually "Normal".
+     */
+    private String effectiveParagraphStyleId(String styleId) {
+        return styleId != null && model.getStyle(styleId) != null ? styleId : defaultParagraphStyleId;
+    }
+
+    private ParagraphProperties resolveParagraphChain(String paragraphStyleId) {
+        String key = paragraphStyleId != null ? paragraphStyleId : "";
+        ParagraphProperties resolved = paragraphChains.get(key);
+        if (resolved == null) {
+            resolved = model.getDefaultParagraphProperties();
+            for (Style style : styleChain(paragraphStyleId)) {
+                resolved = overlay(resolved, style.getParagraphProperties());
+            }
+            paragraphChains.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    private RunProperties resolveRunChain(String paragraphStyleId, String characterStyleId) {
+        String key = (paragraphStyleId != null ? paragraphStyleId : "") + KEY_SEPARATOR
+                + (characterStyleId != null ? characterStyleId : "");
+        RunProperties resolved = runChains.get(key);
+        if (resolved == null) {
+            resolved = model.getDefaultRunProperties();
+            for (Style style : styleChain(paragraphStyleId)) {
+                resolved = overlay(resolved, style.getRunProperties());
+            }
+            for (Style style : styleChain(characterStyleId)) {
+                if (CHARACTER_STYLE.equals(style.getType()) || style.getType() == null) {
+                    resolved = overlay(resolved, style.getRunProperties());
+                }
+            }
+            runChains.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets a style and its basedOn ancestors, root first. Cyclic basedOn references are cut.
+     */
+    private Deque<Style> styleChain(String styleId) {
+        Deque<Style> chain = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        Style style = model.getStyle(styleId);
+        while (style != null && visited.add(style.getStyleId())) {
+            chain.addFirst(style);
+            style = model.getStyle(style.getBasedOn());
+        }
+        return chain;
+    }
+
+    // Property overlays
+
+    /**
+     * Applies the properties specified in {@code higher} on top of {@code lower}.
+     */
+    static ParagraphProperties overlay(ParagraphProperties lower, ParagraphProperties higher) {
+        if (higher.isEmpty()) {
+            return lower;
+        }
+        if (lower.isEmpty()) {
+            return higher;
+        }
+        // Spacing and numbering attributes are interpreted together with their companions
+        boolean higherSpacing = higher.getSpacingLine() != null || higher.getSpacingLineRule() != null;
+        boolean higherNumbering = higher.getNumId() != null || higher.getNumLevel() != null;
+        return new ParagraphProperties(
+                higher.getAlignment() != null ? higher.getAlignment() : lower.getAlignment(),
+                higherSpacing ? higher.getSpacingLine() : lower.getSpacingLine(),
+                higherSpacing ? higher.getSpacingLineRule() : lower.getSpacingLineRule(),
+                higher.getIndentLeft() != null ? higher.getIndentLeft() : lower.getIndentLeft(),
+                higherNumbering ? firstNonNull(higher.getNumId(), lower.getNumId()) : lower.getNumId(),
+                higherNumbering ? firstNonNull(higher.getNumLevel(), lower.getNumLevel()) : lower.getNumLevel());
+    }
+
+    /**
+     * Applies the properties specified in {@code higher} on top of {@code lower}.
+     * The font family and theme font come from the same rFonts element and are replaced together.
+     */
+    static RunProperties overlay(RunProperties lower, RunProperties higher) {
+        if (higher.isEmpty()) {
+            return lower;
+        }
+        if (lower.isEmpty()) {
+            return higher;
+        }
+        boolean higherFonts = higher.getFontFamily() != null || higher.getFontTheme() != null;
+        return new RunProperties(
+                higherFonts ? higher.getFontFamily() : lower.getFontFamily(),
+                higherFonts ? higher.getFontTheme() : lower.getFontTheme(),
+                higher.getFontSizeHalfPoints() != null ? higher.getFontSizeHalfPoints() : lower.getFontSizeHalfPoints(),
+                higher.getBold() != null ? higher.getBold() : lower.getBold());
+    }
+
+    /**
+     * Replaces a theme font reference with the theme typeface. A theme reference takes
+     * precedence over an explicit typeface in the same rFonts element.
+     */
+    private RunProperties resolveThemeFont(RunProperties properties) {
+        String theme = properties.getFontTheme();
+        if (theme == null) {
+            return properties;
+        }
+        String themeFont = theme.startsWith("major") ? model.getMajorThemeFont()
+                : theme.startsWith("minor") ? model.getMinorThemeFont() : null;
+        String fontFamily = themeFont != null ? themeFont : properties.getFontFamily();
+        return new RunProperties(fontFamily, null, properties.getFontSizeHalfPoints(), properties.getBold());
+    }
+
+    private static <T> T firstNonNull(T first, T second) {
+        return first != null ? first : second;
+    }
+}
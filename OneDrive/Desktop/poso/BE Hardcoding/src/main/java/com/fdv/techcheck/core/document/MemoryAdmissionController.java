@@ -0,0 +1,203 @@
+package com.fdv.techcheck.core.document;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the heap used by documents that are loaded at the same time.
+ *
+ * Before a document is loaded, its heap footprint is estimated from the uncompressed part sizes
+ * in the ZIP central directory, which is cheap to read and, unlike the file size, grows with the
+ * amount of XML that has to be parsed. A job is admitted only while the estimates of all admitted
+ * jobs fit in the heap budget; later jobs wait in arrival order until earlier ones release their
+ * share. A job estimated above the whole budget is admitted once nothing else is in flight.
+ *
+ * Instances are thread-safe and intended to be shared by all concurrent loads of a process.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class MemoryAdmissionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryAdmissionController.class);
+
+    /** Share of the maximum heap used as the default budget; the rest is left for the JVM. */
+    public static final double DEFAULT_HEAP_SHARE = 0.75;
+
+    // Rough heap cost per uncompressed byte of a part
+    private static final long BASE_FOOTPRINT_BYTES = 2L * 1024 * 1024;
+    private static final int POI_XML_FACTOR = 10;      // XMLBeans DOM of every XML part
+    private static final int POI_MEDIA_FACTOR = 1;    // POI keeps media parts as byte arrays
+    private static final double STREAMING_XML_FACTOR = 1.5; // compact model and index built from the XML
+    private static final int KIB = 1024;
+
+    private final long budgetBytes;
+    private final int budgetKib;
+    private final Semaphore permits;
+
+    /**
+     * Creates a controller with the given heap budget.
+     *
+     * @param budgetBytes Maximum total estimated footprint of admitted jobs, in bytes
+     */
+    public MemoryAdmissionController(long budgetBytes) {
+        if (budgetBytes < KIB) {
+            throw new IllegalArgumentException("Heap budget must be at least 1 KiB: " + budgetBytes);
+        }
+        this.budgetKib = (int) Math.min(Integer.MAX_VALUE, budgetBytes / KIB);
+        this.budgetBytes = (long) budgetKib * KIB;
+        // Fair, so a large job at the head of the queue is not overtaken by a stream of small ones
+        this.permits = new Semaphore(budgetKib, true);
+    }
+
+    /**
+     * Creates a controller whose budget is {@link #DEFAULT_HEAP_SHARE} of the maximum heap.
+     *
+     * @return A new controller
+     */
+    public static MemoryAdmissionController forMaxHeap() {
+        return new MemoryAdmissionController((long) (Runtime.getRuntime().maxMemory() * DEFAULT_HEAP_SHARE));
+    }
+
+    /**
+     * Estimates the heap needed to load a document and keep it while it is validated.
+     * Only the central directory is read, and no part other than [Content_Types].xml is inflated.
+     *
+     * @param filePath Path to the DOCX file
+     * @param loadMode Strategy that will be used to load the document
+     * @return Estimated footprint in bytes
+     * @throws IOException if the file is not a readable ZIP package
+     */
+    public static long estimateFootprint(Path filePath, DocumentLoadMode loadMode) throws IOException {
+        Objects.requireNonNull(loadMode, "Load mode cannot be null");
+
+        long xmlBytes = 0;
+        long mediaBytes = 0;
+        try (DocxPackage docxPackage = DocxPackage.open(filePath)) {
+            for (DocxPackage.PartInfo part : docxPackage.getParts()) {
+                if (part.isMedia()) {
+                    mediaBytes += part.getSize();
+                } else {
+                    xmlBytes += part.getSize();
+                }
+            }
+        }
+
+        if (loadMode == DocumentLoadMode.POI) {
+            return BASE_FOOTPRINT_BYTES + xmlBytes * POI_XML_FACTOR + mediaBytes * POI_MEDIA_FACTOR;
+        }
+        // Streaming never inflates media
+        return BASE_FOOTPRINT_BYTES + (long) (xmlBytes * STREAMING_XML_FACTOR);
+    }
+
+    /**
+     * Estimates a document's footprint and waits until it fits in the budget.
+     *
+     * @param filePath Path to the DOCX file
+     * @param loadMode Strategy that will be used to load the document
+     * @return Admission to close once the document has been released
+     * @throws DocumentProcessingException if the footprint cannot be estimated
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Admission admit(Path filePath, DocumentLoadMode loadMode)
+            throws DocumentProcessingException, InterruptedException {
+        long footprint;
+        try {
+            footprint = estimateFootprint(filePath, loadMode);
+        } catch (IOException e) {
+            throw new DocumentProcessingException(filePath.toString(),
+                    DocumentProcessingException.ProcessingStage.DOCUMENT_LOADING,
+                    "Cannot read DOCX package: " + e.getMessage(), e);
+        }
+        return admit(footprint);
+    }
+
+    /**
+     * Waits until a job with the given footprint fits in the budget.
+     *
+     * @param footprintBytes Estimated footprint in bytes
+     * @return Admission to close once the job has released its memory
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Admission admit(long footprintBytes) throws InterruptedException {
+        // Jobs above the budget take all of it, which admits them once nothing else is in flight
+        int kib = (int) Math.max(1, Math.min(budgetKib, (footprintBytes + KIB - 1) / KIB));
+        // The timed form honours the fair ordering; the untimed tryAcquire would overtake queued jobs
+        if (!permits.tryAcquire(kib, 0, TimeUnit.SECONDS)) {
+            logger.debug("Waiting for {} KiB of heap budget ({} KiB in use, {} jobs queued)",
+                         kib, budgetKib - permits.availablePermits(), permits.getQueueLength());
+            permits.acquire(kib);
+        }
+        return new Admission(footprintBytes, kib);
+    }
+
+    /**
+     * Gets the heap budget.
+     *
+     * @return Budget in bytes
+     */
+    public long getBudgetBytes() {
+        return budgetBytes;
+    }
+
+    /**
+     * Gets the estimated footprint of the admitted jobs, capped at the budget.
+     *
+     * @return Bytes currently reserved
+     */
+    public long getReservedBytes() {
+        return (long) (budgetKib - permits.availablePermits()) * KIB;
+    }
+
+    /**
+     * Gets the approximate number of jobs waiting for admission.
+     *
+     * @return Number of queued jobs
+     */
+    public int getQueuedJobs() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MemoryAdmissionController{budget=%dMB, reserved=%dMB, queued=%d}",
+                           budgetBytes / (1024 * 1024), getReservedBytes() / (1024 * 1024), getQueuedJobs());
+    }
+
+    /**
+     * A job's share of the heap budget, returned when closed. Closing more than once has no effect.
+     */
+    public final class Admission implements AutoCloseable {
+        private final long footprintBytes;
+        private final int kib;
+        private boolean released;
+
+        private Admission(long footprintBytes, int kib) {
+            this.footprintBytes = footprintBytes;
+            this.kib = kib;
+        }
+
+        /**
+         * Gets the estimated footprint the job was admitted with.
+         *
+         * @return Footprint in bytes
+         */
+        public long getFootprintBytes() {
+            return footprintBytes;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!released) {
+                released = true;
+                permits.release(kib);
+            }
+        }
+    }
+}
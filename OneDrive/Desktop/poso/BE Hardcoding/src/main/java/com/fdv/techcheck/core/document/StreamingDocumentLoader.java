@@ -0,0 +1,893 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.core.document.DocumentModel.Paragraph;
+import com.fdv.techcheck.core.document.DocumentModel.ParagraphProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Run;
+import com.fdv.techcheck.core.document.DocumentModel.RunProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Section;
+import com.fdv.techcheck.core.document.DocumentModel.Style;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
+import com.fdv.techcheck.core.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Loads a DOCX document into a compact {@link DocumentModel} by streaming
+ * {@code word/document.xml}, {@code styles.xml} and {@code numbering.xml} with StAX.
+ * No XMLBeans object tree is built, so heap usage is proportional to the amount of
+ * text and formatting retained rather than to the size of the XML.
+ *
+ * Only the elements the validators need are interpreted; everything else
+ * (drawings, text boxes, equations, field codes, revision marks) is skipped. The package is read
+ * through a {@link DocxPackage}, so media parts are never inflated.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class StreamingDocumentLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingDocumentLoader.class);
+
+    private static final String DEFAULT_MAIN_PART = "word/document.xml";
+    private static final String PACKAGE_RELATIONSHIPS = "_rels/.rels";
+    private static final String CORE_PROPERTIES = "docProps/core.xml";
+    private static final String REL_TYPE_OFFICE_DOCUMENT = "/officeDocument";
+    private static final String REL_TYPE_STYLES = "/styles";
+    private static final String REL_TYPE_NUMBERING = "/numbering";
+    private static final String REL_TYPE_THEME = "/theme";
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private StreamingDocumentLoader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Loads the document model from a DOCX file.
+     *
+     * @param filePath Path to the DOCX file
+     * @return Compact read-only document model
+     * @throws DocumentProcessingException if the package or one of its parts cannot be parsed
+     */
+    public static DocumentModel load(Path filePath) throws DocumentProcessingException {
+        Objects.requireNonNull(filePath, "File path cannot be null");
+
+        try (DocxPackage docxPackage = DocxPackage.open(filePath)) {
+            return load(docxPackage);
+        } catch (IOException e) {
+            throw new DocumentProcessingException(filePath.toString(),
+                    DocumentProcessingException.ProcessingStage.DOCUMENT_LOADING,
+                    "Cannot read DOCX package: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the document model from an open package. Only the XML parts the model needs are inflated.
+     *
+     * @param docxPackage Open DOCX package
+     * @return Compact read-only document model
+     * @throws DocumentProcessingException if the package or one of its parts cannot be parsed
+     */
+    public static DocumentModel load(DocxPackage docxPackage) throws DocumentProcessingException {
+        Objects.requireNonNull(docxPackage, "DOCX package cannot be null");
+        Path filePath = docxPackage.getFilePath();
+
+        try {
+            DocumentModel.Builder builder = DocumentModel.builder();
+
+            String mainPart = resolveMainPart(docxPackage);
+            Map<String, String> mainRelationships = readRelationships(docxPackage, relationshipsPartFor(mainPart));
+
+            String stylesPart = findTarget(mainRelationships, REL_TYPE_STYLES, mainPart);
+            if (stylesPart != null) {
+                parsePart(docxPackage, stylesPart, reader -> readStyles(reader, builder));
+            }
+
+            String numberingPart = findTarget(mainRelationships, REL_TYPE_NUMBERING, mainPart);
+            if (numberingPart != null) {
+                parsePart(docxPackage, numberingPart, reader -> readNumbering(reader, builder));
+            }
+
+            String themePart = findTarget(mainRelationships, REL_TYPE_THEME, mainPart);
+            if (themePart != null) {
+                parsePart(docxPackage, themePart, reader -> readThemeFonts(reader, builder));
+            }
+
+            parsePart(docxPackage, CORE_PROPERTIES, reader -> readCoreProperties(reader, builder));
+
+            if (!parsePart(docxPackage, mainPart, reader -> readDocument(reader, builder))) {
+                throw new DocumentProcessingException(filePath.toString(),
+                        DocumentProcessingException.ProcessingStage.DOCUMENT_LOADING,
+                        "Main document part not found: " + mainPart, null);
+            }
+
+            builder.mediaParts(docxPackage.getMediaParts())
+                    .documentPart(docxPackage.getPart(mainPart))
+                    .stylesPart(stylesPart != null ? docxPackage.getPart(stylesPart) : null)
+                    .numberingPart(numberingPart != null ? docxPackage.getPart(numberingPart) : null);
+            DocumentModel model = builder.build();
+            logger.debug("Streamed document {}: {} ({} of {} parts opened)", filePath.getFileName(), model,
+                         docxPackage.getOpenedPartCount(), docxPackage.getParts().size());
+            return model;
+
+        } catch (IOException e) {
+            throw new DocumentProcessingException(filePath.toString(),
+                    DocumentProcessingException.ProcessingStage.DOCUMENT_LOADING,
+                    "Cannot read DOCX package: " + e.getMessage(), e);
+        } catch (XMLStreamException e) {
+            throw new DocumentProcessingException(filePath.toString(),
+                    DocumentProcessingException.ProcessingStage.STRUCTURE_PARSING,
+                    "Malformed XML in document: " + e.getMessage(), e);
+        }
+    }
+
+    // Package structure
+
+    /**
+     * Finds the main document part from the package relationships, falling back to word/document.xml.
+     */
+    private static String resolveMainPart(DocxPackage docxPackage) throws IOException, XMLStreamException {
+        Map<String, String> packageRelationships = readRelationships(docxPackage, PACKAGE_RELATIONSHIPS);
+        String mainPart = findTarget(packageRelationships, REL_TYPE_OFFICE_DOCUMENT, "");
+        return mainPart != null ? mainPart : DEFAULT_MAIN_PART;
+    }
+
+    /**
+     * Reads a relationships part into a map of relationship type to target.
+     */
+    private static Map<String, String> readRelationships(DocxPackage docxPackage, String relsPart)
+            throws IOException, XMLStreamException {
+        Map<String, String> relationships = new HashMap<>();
+        parsePart(docxPackage, relsPart, reader -> {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT
+                        && "Relationship".equals(reader.getLocalName())
+                        && !"External".equals(reader.getAttributeValue(null, "TargetMode"))) {
+                    String type = reader.getAttributeValue(null, "Type");
+                    String target = reader.getAttributeValue(null, "Target");
+                    if (type != null && target != null) {
+                        relationships.putIfAbsent(type, target);
+                    }
+                }
+            }
+        });
+        return relationships;
+    }
+
+    /**
+     * Finds the target of the first relationship whose type ends with the given suffix,
+     * resolved against the source part.
+     */
+    private static String findTarget(Map<String, String> relationships, String typeSuffix, String sourcePart) {
+        for (Map.Entry<String, String> entry : relationships.entrySet()) {
+            if (entry.getKey().endsWith(typeSuffix)) {
+                return resolvePartName(sourcePart, entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolves a relationship target against the part that owns the relationship.
+     */
+    static String resolvePartName(String sourcePart, String target) {
+        if (target.startsWith("/")) {
+            return target.substring(1);
+        }
+        int slash = sourcePart.lastIndexOf('/');
+        String base = slash >= 0 ? sourcePart.substring(0, slash + 1) : "";
+        List<String> segments = new ArrayList<>();
+        for (String segment : (base + target).split("/")) {
+            if (segment.isEmpty() || ".".equals(segment)) {
+                continue;
+            }
+            if ("..".equals(segment)) {
+                if (!segments.isEmpty()) {
+                    segments.remove(segments.size() - 1);
+                }
+            } else {
+                segments.add(segment);
+            }
+        }
+        return String.join("/", segments);
+    }
+
+    /**
+     * Gets the name of the relationships part for a source part (e.g. word/_rels/document.xml.rels).
+     */
+    private static String relationshipsPartFor(String partName) {
+        int slash = partName.lastIndexOf('/');
+        String directory = slash >= 0 ? partName.substring(0, slash + 1) : "";
+        return directory + "_rels/" + partName.substring(slash + 1) + ".rels";
+    }
+
+    /**
+     * Streams a package part through the given handler, timing it under {@link MetricsRegistry#PART_PARSE}.
+     *
+     * @return true if the part exists, false otherwise
+     */
+    private static boolean parsePart(DocxPackage docxPackage, String partName, PartHandler handler)
+            throws IOException, XMLStreamException {
+        if (!docxPackage.hasPart(partName)) {
+            logger.debug("Package part not present: {}", partName);
+            return false;
+        }
+
+        long startTime = Timer.start();
+        try (InputStream in = docxPackage.openPart(partName)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                handler.handle(reader);
+            } finally {
+                reader.close();
+            }
+        }
+        MetricsRegistry.global().timer(MetricsRegistry.PART_PARSE).recordSince(startTime);
+        return true;
+    }
+
+    // document.xml
+
+    private static void readDocument(XMLStreamReader reader, DocumentModel.Builder builder) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT && "body".equals(reader.getLocalName())) {
+                readBody(reader, builder);
+                return;
+            }
+        }
+    }
+
+    private static void readBody(XMLStreamReader reader, DocumentModel.Builder builder) throws XMLStreamException {
+        int tableIndex = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "p":
+                        builder.addParagraph(readParagraph(reader, -1, -1, -1));
+                        break;
+                    case "tbl":
+                        readTable(reader, builder, tableIndex++);
+                        break;
+                    case "sectPr":
+                        builder.section(readSection(reader));
+                        break;
+                    default:
+                        // Content controls and other block-level wrappers are not part of the body
+                        // paragraph sequence (consistent with XWPFDocument.getParagraphs())
+                        skipElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads a table; cell paragraphs (including those of nested tables) are attributed to the top-level table.
+     */
+    private static void readTable(XMLStreamReader reader, DocumentModel.Builder builder, int tableIndex)
+            throws XMLStreamException {
+        int depth = 0;
+        int rowIndex = -1;
+        int cellIndex = -1;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "tr":
+                        if (depth == 0) {
+                            rowIndex++;
+                            cellIndex = -1;
+                        }
+                        depth++;
+                        break;
+                    case "tc":
+                        if (depth == 1) {
+                            cellIndex++;
+                        }
+                        depth++;
+                        break;
+                    case "p":
+                        builder.addParagraph(readParagraph(reader, tableIndex, rowIndex, cellIndex));
+                        break;
+                    case "tblPr":
+                    case "tblGrid":
+                    case "trPr":
+                    case "tcPr":
+                        skipElement(reader);
+                        break;
+                    default:
+                        depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 0) {
+                    return;
+                }
+                depth--;
+            }
+        }
+    }
+
+    private static Paragraph readParagraph(XMLStreamReader reader, int tableIndex, int rowIndex, int cellIndex)
+            throws XMLStreamException {
+        PropertiesHolder properties = new PropertiesHolder();
+        List<Run> runs = new ArrayList<>();
+        int depth = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "pPr":
+                        readParagraphProperties(reader, properties);
+                        break;
+                    case "r":
+                        runs.add(readRun(reader));
+                        break;
+                    case "del":
+                    case "moveFrom":
+                    case "AlternateContent":
+                        skipElement(reader);
+                        break;
+                    case "oMath":
+                    case "oMathPara":
+                        // Math runs (m:r) are not text runs (consistent with XWPFParagraph.getRuns())
+                        skipElement(reader);
+                        break;
+                    default:
+                        // Hyperlinks, insertions, smart tags and similar wrappers contain runs
+                        depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+            }
+        }
+
+        return new Paragraph(properties.styleId, properties.toParagraphProperties(), runs,
+                             tableIndex, rowIndex, cellIndex, properties.sectionBreak);
+    }
+
+    private static Run readRun(XMLStreamReader reader) throws XMLStreamException {
+        PropertiesHolder properties = new PropertiesHolder();
+        StringBuilder text = new StringBuilder();
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "rPr":
+                        readRunProperties(reader, properties);
+                        break;
+                    case "t":
+                        text.append(reader.getElementText());
+                        break;
+                    case "tab":
+                        text.append('\t');
+                        skipElement(reader);
+                        break;
+                    case "br":
+                    case "cr":
+                        text.append('\n');
+                        skipElement(reader);
+                        break;
+                    default:
+                        // Drawings, embedded objects, text boxes, field instructions, deleted text
+                        skipElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+
+        return new Run(text.toString(), properties.styleId, properties.toRunProperties());
+    }
+
+    private static Section readSection(XMLStreamReader reader) throws XMLStreamException {
+        Integer pageWidth = null;
+        Integer pageHeight = null;
+        String orientation = null;
+        Integer top = null;
+        Integer bottom = null;
+        Integer left = null;
+        Integer right = null;
+        Integer header = null;
+        Integer footer = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "pgSz":
+                        pageWidth = intAttribute(reader, "w");
+                        pageHeight = intAttribute(reader, "h");
+                        orientation = reader.getAttributeValue(null, "orient");
+                        break;
+                    case "pgMar":
+                        top = intAttribute(reader, "top");
+                        bottom = intAttribute(reader, "bottom");
+                        left = intAttribute(reader, "left");
+                        right = intAttribute(reader, "right");
+                        header = intAttribute(reader, "header");
+                        footer = intAttribute(reader, "footer");
+                        break;
+                    default:
+                        break;
+                }
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+
+        return new Section(pageWidth, pageHeight, orientation, top, bottom, left, right, header, footer);
+    }
+
+    // Formatting properties
+
+    /**
+     * Reads a pPr element. The paragraph mark run properties (pPr/rPr) are ignored.
+     */
+    private static void readParagraphProperties(XMLStreamReader reader, PropertiesHolder holder)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "pStyle":
+                        holder.styleId = reader.getAttributeValue(null, "val");
+                        skipElement(reader);
+                        break;
+                    case "jc":
+                        holder.alignment = reader.getAttributeValue(null, "val");
+                        skipElement(reader);
+                        break;
+                    case "spacing":
+                        holder.spacingLine = intAttribute(reader, "line");
+                        holder.spacingLineRule = reader.getAttributeValue(null, "lineRule");
+                        skipElement(reader);
+                        break;
+                    case "ind":
+                        Integer left = intAttribute(reader, "left");
+                        holder.indentLeft = left != null ? left : intAttribute(reader, "start");
+                        skipElement(reader);
+                        break;
+                    case "numPr":
+                        readNumberingProperties(reader, holder);
+                        break;
+                    case "sectPr":
+                        holder.sectionBreak = true;
+                        skipElement(reader);
+                        break;
+                    default:
+                        skipElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+
+    private static void readNumberingProperties(XMLStreamReader reader, PropertiesHolder holder)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("ilvl".equals(reader.getLocalName())) {
+                    holder.numLevel = intAttribute(reader, "val");
+                } else if ("numId".equals(reader.getLocalName())) {
+                    holder.numId = intAttribute(reader, "val");
+                }
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+
+    private static void readRunProperties(XMLStreamReader reader, PropertiesHolder holder) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "rStyle":
+                        holder.styleId = reader.getAttributeValue(null, "val");
+                        break;
+                    case "rFonts":
+                        String ascii = reader.getAttributeValue(null, "ascii");
+                        holder.fontFamily = ascii != null ? ascii : reader.getAttributeValue(null, "hAnsi");
+                        holder.fontTheme = reader.getAttributeValue(null, "asciiTheme");
+                        break;
+                    case "sz":
+                        holder.fontSizeHalfPoints = intAttribute(reader, "val");
+                        break;
+                    case "b":
+                        holder.bold = booleanAttribute(reader);
+                        break;
+                    default:
+                        break;
+                }
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+
+    // styles.xml
+
+    private static void readStyles(XMLStreamReader reader, DocumentModel.Builder builder) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "rPrDefault": {
+                    PropertiesHolder holder = new PropertiesHolder();
+                    readPropertyContainer(reader, holder);
+                    builder.defaultRunProperties(holder.toRunProperties());
+                    break;
+                }
+                case "pPrDefault": {
+                    PropertiesHolder holder = new PropertiesHolder();
+                    readPropertyContainer(reader, holder);
+                    builder.defaultParagraphProperties(holder.toParagraphProperties());
+                    break;
+                }
+                case "style":
+                    readStyle(reader, builder);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    private static void readStyle(XMLStreamReader reader, DocumentModel.Builder builder) throws XMLStreamException {
+        String styleId = reader.getAttributeValue(null, "styleId");
+        String type = reader.getAttributeValue(null, "type");
+        String isDefault = reader.getAttributeValue(null, "default");
+        boolean defaultStyle = "1".equals(isDefault) || "true".equals(isDefault) || "on".equals(isDefault);
+        String name = null;
+        String basedOn = null;
+        PropertiesHolder paragraphHolder = new PropertiesHolder();
+        PropertiesHolder runHolder = new PropertiesHolder();
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "name":
+                        name = reader.getAttributeValue(null, "val");
+                        skipElement(reader);
+                        break;
+                    case "basedOn":
+                        basedOn = reader.getAttributeValue(null, "val");
+                        skipElement(reader);
+                        break;
+                    case "pPr":
+                        readParagraphProperties(reader, paragraphHolder);
+                        break;
+                    case "rPr":
+                        readRunProperties(reader, runHolder);
+                        break;
+                    default:
+                        skipElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+
+        if (styleId != null) {
+            builder.addStyle(new Style(styleId, name, type, basedOn, defaultStyle,
+                    paragraphHolder.toParagraphProperties(), runHolder.toRunProperties()));
+        }
+    }
+
+    /**
+     * Reads an rPrDefault/pPrDefault wrapper and its single pPr or rPr child.
+     */
+    private static void readPropertyContainer(XMLStreamReader reader, PropertiesHolder holder)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("rPr".equals(reader.getLocalName())) {
+                    readRunProperties(reader, holder);
+                } else if ("pPr".equals(reader.getLocalName())) {
+                    readParagraphProperties(reader, holder);
+                } else {
+                    skipElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return;
+            }
+        }
+    }
+
+    // numbering.xml
+
+    private static void readNumbering(XMLStreamReader reader, DocumentModel.Builder builder) throws XMLStreamException {
+        Map<Integer, List<String>> abstractFormats = new HashMap<>();
+        Map<Integer, Integer> numToAbstract = new HashMap<>();
+
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if ("abstractNum".equals(reader.getLocalName())) {
+                Integer abstractId = intAttribute(reader, "abstractNumId");
+                List<String> formats = readAbstractNumbering(reader);
+                if (abstractId != null) {
+                    abstractFormats.put(abstractId, formats);
+                }
+            } else if ("num".equals(reader.getLocalName())) {
+                Integer numId = intAttribute(reader, "numId");
+                Integer abstractId = readAbstractReference(reader);
+                if (numId != null && abstractId != null) {
+                    numToAbstract.put(numId, abstractId);
+                }
+            }
+        }
+
+        for (Map.Entry<Integer, Integer> entry : numToAbstract.entrySet()) {
+            List<String> formats = abstractFormats.get(entry.getValue());
+            if (formats != null) {
+                builder.numberingFormats(entry.getKey(), formats);
+            }
+        }
+    }
+
+    /**
+     * Reads the number format of each level. Word writes custom formats as an mc:AlternateContent
+     * whose Choice requires the Word 2010 extensions; the Fallback format is read instead.
+     */
+    private static List<String> readAbstractNumbering(XMLStreamReader reader) throws XMLStreamException {
+        List<String> formats = new ArrayList<>();
+        int depth = 0;
+        int currentLevel = -1;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("lvl".equals(name) && depth == 0) {
+                    Integer level = intAttribute(reader, "ilvl");
+                    currentLevel = level != null ? level : -1;
+                    depth++;
+                } else if ("numFmt".equals(name) && currentLevel >= 0) {
+                    while (formats.size() <= currentLevel) {
+                        formats.add(null);
+                    }
+                    formats.set(currentLevel, reader.getAttributeValue(null, "val"));
+                    skipElement(reader);
+                } else if (("AlternateContent".equals(name) || "Fallback".equals(name)) && currentLevel >= 0) {
+                    depth++;
+                } else {
+                    skipElement(reader);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+                if (depth == 0) {
+                    currentLevel = -1;
+                }
+            }
+        }
+        return formats;
+    }
+
+    private static Integer readAbstractReference(XMLStreamReader reader) throws XMLStreamException {
+        Integer abstractId = null;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if ("abstractNumId".equals(reader.getLocalName())) {
+                    abstractId = intAttribute(reader, "val");
+                }
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+        }
+        return abstractId;
+    }
+
+    // theme/theme1.xml
+
+    /**
+     * Reads the Latin typefaces of the theme font scheme (a:majorFont and a:minorFont).
+     * Shared with the POI load mode, which has no theme API of its own.
+     *
+     * @param in Theme part content
+     * @param builder Model builder receiving the theme fonts
+     * @throws XMLStreamException if the theme part is malformed
+     */
+    static void readThemeFonts(InputStream in, DocumentModel.Builder builder) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            readThemeFonts(reader, builder);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static void readThemeFonts(XMLStreamReader reader, DocumentModel.Builder builder)
+            throws XMLStreamException {
+        String majorFont = null;
+        String minorFont = null;
+        String currentScheme = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if ("majorFont".equals(name) || "minorFont".equals(name)) {
+                    currentScheme = name;
+                } else if ("latin".equals(name) && currentScheme != null) {
+                    String typeface = emptyToNull(reader.getAttributeValue(null, "typeface"));
+                    if ("majorFont".equals(currentScheme)) {
+                        majorFont = typeface;
+                    } else {
+                        minorFont = typeface;
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if ("majorFont".equals(reader.getLocalName()) || "minorFont".equals(reader.getLocalName())) {
+                    currentScheme = null;
+                } else if ("fontScheme".equals(reader.getLocalName())) {
+                    break;
+                }
+            }
+        }
+
+        builder.themeFonts(majorFont, minorFont);
+    }
+
+    // docProps/core.xml
+
+    private static void readCoreProperties(XMLStreamReader reader, DocumentModel.Builder builder)
+            throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "title":
+                    builder.title(emptyToNull(reader.getElementText()));
+                    break;
+                case "creator":
+                    builder.author(emptyToNull(reader.getElementText()));
+                    break;
+                case "subject":
+                    builder.subject(emptyToNull(reader.getElementText()));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Consumes the current element and all of its children.
+     * The reader must be positioned on the element's START_ELEMENT event.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Integer intAttribute(XMLStreamReader reader, String localName) {
+        String value = reader.getAttributeValue(null, localName);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            // Universal measures such as "2.5cm" are not used by Word for these attributes
+            return null;
+        }
+    }
+
+    private static Boolean booleanAttribute(XMLStreamReader reader) {
+        String value = reader.getAttributeValue(null, "val");
+        return value == null || "true".equals(value) || "1".equals(value) || "on".equals(value);
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
+
+    /**
+     * Creates a StAX reader with DTDs and external entities disabled.
+     *
+     * @param in Part content
+     * @return XML stream reader; the caller must close it
+     * @throws XMLStreamException if the reader cannot be created
+     */
+    static XMLStreamReader createXmlReader(InputStream in) throws XMLStreamException {
+        return XML_INPUT_FACTORY.createXMLStreamReader(in);
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // DOCX parts never need DTDs; disabling them prevents XXE attacks from uploaded files
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Callback for streaming the contents of a single package part.
+     */
+    @FunctionalInterface
+    private interface PartHandler {
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Mutable accumulator for pPr/rPr values while an element is being streamed.
+     */
+    private static final class PropertiesHolder {
+        private String styleId;
+        private String alignment;
+        private Integer spacingLine;
+        private String spacingLineRule;
+        private Integer indentLeft;
+        private Integer numId;
+        private Integer numLevel;
+        private boolean sectionBreak;
+        private String fontFamily;
+        private String fontTheme;
+        private Integer fontSizeHalfPoints;
+        private Boolean bold;
+
+        ParagraphProperties toParagraphProperties() {
+            if (alignment == null && spacingLine == null && spacingLineRule == null
+                    && indentLeft == null && numId == null && numLevel == null) {
+                return ParagraphProperties.EMPTY;
+            }
+            return new ParagraphProperties(alignment, spacingLine, spacingLineRule, indentLeft, numId, numLevel);
+        }
+
+        RunProperties toRunProperties() {
+            if (fontFamily == null && fontTheme == null && fontSizeHalfPoints == null && bold == null) {
+                return RunProperties.EMPTY;
+            }
+            return new RunProperties(fontFamily, fontTheme, fontSizeHalfPoints, bold);
+        }
+    }
+}
@@ -5,7 +5,11 @@ import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.apache.poi.xwpf.usermodel.XWPFTable;
 import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTSectPr;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -21,17 +25,37 @@ public class ThesisDocument {
     
     private final Path filePath;
     private final XWPFDocument xwpfDocument;
+    private final DocumentModel documentModel;
+    private final DocumentIndex documentIndex;
     private final DocumentMetadata metadata;
     private final PageSettings pageSettings;
+    private final List<DocxPackage.PartInfo> mediaParts;
+    private final DocxPackage.PartInfo documentPart;
+    private final DocxPackage.PartInfo stylesPart;
+    private final DocxPackage.PartInfo numberingPart;
     
     /**
      * Private constructor - use Builder to create instances.
      */
     private ThesisDocument(Builder builder) {
         this.filePath = Objects.requireNonNull(builder.filePath, "File path cannot be null");
-        this.xwpfDocument = Objects.requireNonNull(builder.xwpfDocument, "XWPF document cannot be null");
+        if (builder.xwpfDocument == null && builder.documentModel == null) {
+            throw new NullPointerException("XWPF document or document model must be provided");
+        }
+        this.xwpfDocument = builder.xwpfDocument;
+        this.documentModel = builder.documentModel;
+        this.documentIndex = builder.documentIndex != null ? builder.documentIndex
+                : documentModel != null ? DocumentIndex.of(documentModel) : DocumentIndex.of(xwpfDocument);
         this.metadata = builder.metadata;
         this.pageSettings = builder.pageSettings;
+        this.mediaParts = builder.mediaParts != null
+                ? Collections.unmodifiableList(builder.mediaParts) : Collections.emptyList();
+        this.documentPart = builder.documentPart != null || documentModel == null
+                ? builder.documentPart : documentModel.getDocumentPart();
+        this.stylesPart = builder.stylesPart != null || documentModel == null
+                ? builder.stylesPart : documentModel.getStylesPart();
+        this.numberingPart = builder.numberingPart != null || documentModel == null
+                ? builder.numberingPart : documentModel.getNumberingPart();
     }
     
     /**
@@ -49,10 +73,42 @@ public class ThesisDocument {
         return filePath;
     }
     
+    /**
+     * Gets the underlying POI document.
+     * 
+     * @return XWPFDocument, or null if the document was loaded in streaming mode
+     */
     public XWPFDocument getXwpfDocument() {
         return xwpfDocument;
     }
     
+    /**
+     * Gets the compact read-only model produced by the streaming loader.
+     * 
+     * @return DocumentModel, or null if the document was loaded with POI
+     */
+    public DocumentModel getDocumentModel() {
+        return documentModel;
+    }
+    
+    /**
+     * Gets the paragraph index shared by all validators.
+     * 
+     * @return DocumentIndex built once when the document was loaded
+     */
+    public DocumentIndex getDocumentIndex() {
+        return documentIndex;
+    }
+    
+    /**
+     * Gets the strategy that was used to load this document.
+     * 
+     * @return POI if an XWPFDocument is available, STREAMING otherwise
+     */
+    public DocumentLoadMode getLoadMode() {
+        return xwpfDocument != null ? DocumentLoadMode.POI : DocumentLoadMode.STREAMING;
+    }
+    
     public DocumentMetadata getMetadata() {
         return metadata;
     }
@@ -61,24 +117,90 @@ public class ThesisDocument {
         return pageSettings;
     }
     
+    /**
+     * Gets the size and content type of the embedded media parts (images, audio, video).
+     * The media content itself is not loaded; use {@link #openPart(String)} to read it.
+     * 
+     * @return Unmodifiable list of media part metadata
+     */
+    public List<DocxPackage.PartInfo> getMediaParts() {
+        return mediaParts;
+    }
+    
+    /**
+     * Gets the size of the main document part, as recorded when the document was loaded.
+     * 
+     * @return Main document part metadata, or null if not known
+     */
+    public DocxPackage.PartInfo getDocumentPart() {
+        return documentPart;
+    }
+    
+    /**
+     * Gets the size of the styles part, as recorded when the document was loaded.
+     * 
+     * @return Styles part metadata, or null if the document has none
+     */
+    public DocxPackage.PartInfo getStylesPart() {
+        return stylesPart;
+    }
+    
+    /**
+     * Gets the size of the numbering part, as recorded when the document was loaded.
+     * 
+     * @return Numbering part metadata, or null if the document has none
+     */
+    public DocxPackage.PartInfo getNumberingPart() {
+        return numberingPart;
+    }
+    
+    /**
+     * Opens a package part of the source file, inflating it on demand.
+     * Works for both load modes and for parts the loader did not read, such as media.
+     * 
+     * @param partName Part name without leading slash (e.g. "word/media/image1.png")
+     * @return Stream over the part content; the caller must close it
+     * @throws IOException if the file cannot be read or the part does not exist
+     */
+    public InputStream openPart(String partName) throws IOException {
+        DocxPackage docxPackage = DocxPackage.open(filePath);
+        try {
+            return new FilterInputStream(docxPackage.openPart(partName)) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        docxPackage.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            docxPackage.close();
+            throw e;
+        }
+    }
+    
     // Document content access methods
     
     /**
      * Gets all paragraphs in the document.
      * 
      * @return List of XWPFParagraph objects
+     * @throws IllegalStateException if the document was loaded in streaming mode
      */
     public List<XWPFParagraph> getParagraphs() {
-        return xwpfDocument.getParagraphs();
+        return requireXwpfDocument().getParagraphs();
     }
     
     /**
      * Gets all tables in the document.
      * 
      * @return List of XWPFTable objects
+     * @throws IllegalStateException if the document was loaded in streaming mode
      */
     public List<XWPFTable> getTables() {
-        return xwpfDocument.getTables();
+        return requireXwpfDocument().getTables();
     }
     
     // Margin analysis methods
@@ -89,6 +211,9 @@ public class ThesisDocument {
      * @return Top margin value in cm
      */
     public double getTopMargin() {
+        if (documentModel != null) {
+            return twipsOrDefault(documentModel.getSection().getTopMargin(), 0.0);
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgMar() != null && sectPr.getPgMar().getTop() != null) {
             return convertTwipsToCentimeters(((Number) sectPr.getPgMar().getTop()).intValue());
@@ -102,6 +227,9 @@ public class ThesisDocument {
      * @return Bottom margin value in cm
      */
     public double getBottomMargin() {
+        if (documentModel != null) {
+            return twipsOrDefault(documentModel.getSection().getBottomMargin(), 0.0);
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgMar() != null && sectPr.getPgMar().getBottom() != null) {
             return convertTwipsToCentimeters(((Number) sectPr.getPgMar().getBottom()).intValue());
@@ -115,6 +243,9 @@ public class ThesisDocument {
      * @return Left margin value in cm
      */
     public double getLeftMargin() {
+        if (documentModel != null) {
+            return twipsOrDefault(documentModel.getSection().getLeftMargin(), 0.0);
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgMar() != null && sectPr.getPgMar().getLeft() != null) {
             return convertTwipsToCentimeters(((Number) sectPr.getPgMar().getLeft()).intValue());
@@ -128,6 +259,9 @@ public class ThesisDocument {
      * @return Right margin value in cm
      */
     public double getRightMargin() {
+        if (documentModel != null) {
+            return twipsOrDefault(documentModel.getSection().getRightMargin(), 0.0);
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgMar() != null && sectPr.getPgMar().getRight() != null) {
             return convertTwipsToCentimeters(((Number) sectPr.getPgMar().getRight()).intValue());
@@ -143,6 +277,9 @@ public class ThesisDocument {
      * @return Page width in cm
      */
     public double getPageWidth() {
+        if (documentModel != null) {
+            return twipsOrDefault(documentModel.getSection().getPageWidth(), 21.0);
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgSz() != null && sectPr.getPgSz().getW() != null) {
             return convertTwipsToCentimeters(((Number) sectPr.getPgSz().getW()).intValue());
@@ -156,6 +293,9 @@ public class ThesisDocument {
      * @return Page height in cm
      */
     public double getPageHeight() {
+        if (documentModel != null) {
+            return twipsOrDefault(documentModel.getSection().getPageHeight(), 29.7);
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgSz() != null && sectPr.getPgSz().getH() != null) {
             return convertTwipsToCentimeters(((Number) sectPr.getPgSz().getH()).intValue());
@@ -169,6 +309,10 @@ public class ThesisDocument {
      * @return "portrait" or "landscape"
      */
     public String getPageOrientation() {
+        if (documentModel != null) {
+            String orientation = documentModel.getSection().getOrientation();
+            return orientation != null ? orientation.toLowerCase() : "portrait";
+        }
         CTSectPr sectPr = getDefaultSectionProperties();
         if (sectPr != null && sectPr.getPgSz() != null && sectPr.getPgSz().getOrient() != null) {
             return sectPr.getPgSz().getOrient().toString().toLowerCase();
@@ -190,7 +334,7 @@ public class ThesisDocument {
         }
         
         // Rough estimation based on paragraphs
-        int paragraphCount = getParagraphs().size();
+        int paragraphCount = getBodyParagraphCount();
         return Math.max(1, paragraphCount / 25); // Assume ~25 paragraphs per page
     }
     
@@ -205,7 +349,7 @@ public class ThesisDocument {
         }
         
         // Calculate from content
-        return getParagraphs().stream()
+        return documentIndex.getBodyParagraphs().stream()
                 .mapToInt(p -> countWordsInText(p.getText()))
                 .sum();
     }
@@ -216,11 +360,45 @@ public class ThesisDocument {
      * @return true if document has very little content
      */
     public boolean isEmpty() {
-        return getParagraphs().size() < 3 || getWordCount() < 50;
+        return getBodyParagraphCount() < 3 || getWordCount() < 50;
+    }
+    
+    /**
+     * Gets the number of body paragraphs (excluding table cell paragraphs).
+     * Works for both load modes.
+     * 
+     * @return Number of body-level paragraphs
+     */
+    public int getBodyParagraphCount() {
+        return documentIndex.getBodyParagraphs().size();
     }
     
     // Helper methods
     
+    /**
+     * Gets the POI document, failing clearly if only the streaming model is available.
+     * 
+     * @return XWPFDocument backing this document
+     */
+    private XWPFDocument requireXwpfDocument() {
+        if (xwpfDocument == null) {
+            throw new IllegalStateException(
+                "POI object model not available for documents loaded in " + getLoadMode() + " mode");
+        }
+        return xwpfDocument;
+    }
+    
+    /**
+     * Converts an optional twips value from the streaming model to centimeters.
+     * 
+     * @param twips Value in twips, may be null
+     * @param defaultValue Value returned when twips is null
+     * @return Value in centimeters
+     */
+    private double twipsOrDefault(Integer twips, double defaultValue) {
+        return twips != null ? convertTwipsToCentimeters(twips) : defaultValue;
+    }
+    
     /**
      * Gets the default section properties from the document.
      * 
@@ -270,8 +448,14 @@ public class ThesisDocument {
     public static class Builder {
         private Path filePath;
         private XWPFDocument xwpfDocument;
+        private DocumentModel documentModel;
+        private DocumentIndex documentIndex;
         private DocumentMetadata metadata;
         private PageSettings pageSettings;
+        private List<DocxPackage.PartInfo> mediaParts;
+        private DocxPackage.PartInfo documentPart;
+        private DocxPackage.PartInfo stylesPart;
+        private DocxPackage.PartInfo numberingPart;
         
         private Builder() {}
         
@@ -285,6 +469,19 @@ public class ThesisDocument {
             return this;
         }
         
+        public Builder documentModel(DocumentModel documentModel) {
+            this.documentModel = documentModel;
+            return this;
+        }
+        
+        /**
+         * Sets a prebuilt index; when omitted the index is built from the document on {@link #build()}.
+         */
+        public Builder documentIndex(DocumentIndex documentIndex) {
+            this.documentIndex = documentIndex;
+            return this;
+        }
+        
         public Builder metadata(DocumentMetadata metadata) {
             this.metadata = metadata;
             return this;
@@ -295,6 +492,22 @@ public class ThesisDocument {
             return this;
         }
         
+        public Builder mediaParts(List<DocxPackage.PartInfo> mediaParts) {
+            this.mediaParts = mediaParts;
+            return this;
+        }
+        
+        /**
+         * Sets the main XML parts; when omitted they are taken from the document model.
+         */
+        public Builder xmlParts(DocxPackage.PartInfo documentPart, DocxPackage.PartInfo stylesPart,
+                                DocxPackage.PartInfo numberingPart) {
+            this.documentPart = documentPart;
+            this.stylesPart = stylesPart;
+            this.numberingPart = numberingPart;
+            return this;
+        }
+        
         public ThesisDocument build() {
             return new ThesisDocument(this);
         }
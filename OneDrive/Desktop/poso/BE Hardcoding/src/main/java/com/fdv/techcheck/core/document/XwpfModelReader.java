@@ -0,0 +1,275 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.core.document.DocumentModel.Paragraph;
+import com.fdv.techcheck.core.document.DocumentModel.ParagraphProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Run;
+import com.fdv.techcheck.core.document.DocumentModel.RunProperties;
+import com.fdv.techcheck.core.document.DocumentModel.Style;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationship;
+import org.apache.poi.xwpf.usermodel.IBodyElement;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableCell;
+import org.apache.poi.xwpf.usermodel.XWPFTableRow;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTDocDefaults;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTFonts;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTInd;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTNumPr;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPPr;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPPrBase;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTRPr;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTSpacing;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTStyle;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTStyles;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a POI {@link XWPFDocument} into the same {@link DocumentModel} the streaming
+ * loader produces, so that both load modes feed one {@link DocumentIndex} builder.
+ *
+ * Paragraphs, styles, document defaults and theme fonts are copied; the POI object tree is walked once.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+final class XwpfModelReader {
+
+    private static final Logger logger = LoggerFactory.getLogger(XwpfModelReader.class);
+
+    private static final String THEME_RELATIONSHIP =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships/theme";
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private XwpfModelReader() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Reads the paragraphs and formatting definitions of a POI document.
+     *
+     * @param xwpfDocument Loaded POI document
+     * @return Document model without section or core properties
+     */
+    static DocumentModel read(XWPFDocument xwpfDocument) {
+        DocumentModel.Builder builder = DocumentModel.builder();
+        readParagraphs(xwpfDocument).forEach(builder::addParagraph);
+        readStyles(xwpfDocument, builder);
+        readThemeFonts(xwpfDocument, builder);
+        return builder.build();
+    }
+
+    /**
+     * Reads body and table paragraphs in document order.
+     *
+     * @param xwpfDocument Loaded POI document
+     * @return Paragraph values in document order
+     */
+    private static List<Paragraph> readParagraphs(XWPFDocument xwpfDocument) {
+        List<Paragraph> paragraphs = new ArrayList<>();
+        int tableIndex = 0;
+
+        for (IBodyElement element : xwpfDocument.getBodyElements()) {
+            if (element instanceof XWPFParagraph) {
+                paragraphs.add(readParagraph((XWPFParagraph) element, -1, -1, -1));
+            } else if (element instanceof XWPFTable) {
+                readTable((XWPFTable) element, tableIndex++, paragraphs);
+            }
+            // Block-level content controls are not part of XWPFDocument.getParagraphs() either
+        }
+
+        return paragraphs;
+    }
+
+    /**
+     * Reads a table; paragraphs of nested tables are attributed to the top-level table.
+     */
+    private static void readTable(XWPFTable table, int tableIndex, List<Paragraph> paragraphs) {
+        List<XWPFTableRow> rows = table.getRows();
+        for (int rowIndex = 0; rowIndex < rows.size(); rowIndex++) {
+            List<XWPFTableCell> cells = rows.get(rowIndex).getTableCells();
+            for (int cellIndex = 0; cellIndex < cells.size(); cellIndex++) {
+                readCell(cells.get(cellIndex), tableIndex, rowIndex, cellIndex, paragraphs);
+            }
+        }
+    }
+
+    private static void readCell(XWPFTableCell cell, int tableIndex, int rowIndex, int cellIndex,
+                                 List<Paragraph> paragraphs) {
+        for (IBodyElement element : cell.getBodyElements()) {
+            if (element instanceof XWPFParagraph) {
+                paragraphs.add(readParagraph((XWPFParagraph) element, tableIndex, rowIndex, cellIndex));
+            } else if (element instanceof XWPFTable) {
+                for (XWPFTableRow nestedRow : ((XWPFTable) element).getRows()) {
+                    for (XWPFTableCell nestedCell : nestedRow.getTableCells()) {
+                        readCell(nestedCell, tableIndex, rowIndex, cellIndex, paragraphs);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Paragraph readParagraph(XWPFParagraph paragraph, int tableIndex, int rowIndex, int cellIndex) {
+        CTPPr pPr = paragraph.getCTP().getPPr();
+
+        List<Run> runs = new ArrayList<>();
+        for (XWPFRun run : paragraph.getRuns()) {
+            runs.add(new Run(run.text(), run.getStyle(), readRunProperties(run.getCTR().getRPr())));
+        }
+
+        boolean sectionBreak = pPr != null && pPr.getSectPr() != null;
+        return new Paragraph(paragraph.getStyle(), readParagraphProperties(pPr), runs,
+                             tableIndex, rowIndex, cellIndex, sectionBreak);
+    }
+
+    /**
+     * Reads document defaults and all style definitions from the styles part.
+     */
+    private static void readStyles(XWPFDocument xwpfDocument, DocumentModel.Builder builder) {
+        CTStyles styles;
+        try {
+            styles = xwpfDocument.getStyle();
+        } catch (Exception e) {
+            // Documents created from scratch have no styles part
+            logger.debug("No styles part available: {}", e.getMessage());
+            return;
+        }
+
+        CTDocDefaults docDefaults = styles.getDocDefaults();
+        if (docDefaults != null) {
+            if (docDefaults.getRPrDefault() != null) {
+                builder.defaultRunProperties(readRunProperties(docDefaults.getRPrDefault().getRPr()));
+            }
+            if (docDefaults.getPPrDefault() != null) {
+                builder.defaultParagraphProperties(readParagraphProperties(docDefaults.getPPrDefault().getPPr()));
+            }
+        }
+
+        for (CTStyle style : styles.getStyleArray()) {
+            if (style.getStyleId() == null) {
+                continue;
+            }
+            String name = style.getName() != null ? style.getName().getVal() : null;
+            String type = style.getType() != null ? style.getType().toString() : null;
+            String basedOn = style.getBasedOn() != null ? style.getBasedOn().getVal() : null;
+            boolean defaultStyle = style.isSetDefault() && isOn(style.getDefault());
+
+            builder.addStyle(new Style(style.getStyleId(), name, type, basedOn, defaultStyle,
+                    readParagraphProperties(style.getPPr()), readRunProperties(style.getRPr())));
+        }
+    }
+
+    /**
+     * Reads the theme font scheme, which POI does not expose for word processing documents.
+     */
+    private static void readThemeFonts(XWPFDocument xwpfDocument, DocumentModel.Builder builder) {
+        try {
+            PackagePart mainPart = xwpfDocument.getPackagePart();
+            for (PackageRelationship relationship : mainPart.getRelationshipsByType(THEME_RELATIONSHIP)) {
+                PackagePart themePart = mainPart.getRelatedPart(relationship);
+                try (InputStream in = themePart.getInputStream()) {
+                    StreamingDocumentLoader.readThemeFonts(in, builder);
+                }
+                return;
+            }
+        } catch (Exception e) {
+            logger.debug("Could not read theme fonts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the direct paragraph properties the validators use.
+     *
+     * @param pPr Paragraph properties (paragraph, style or default), may be null
+     * @return Paragraph property values
+     */
+    static ParagraphProperties readParagraphProperties(CTPPrBase pPr) {
+        if (pPr == null) {
+            return ParagraphProperties.EMPTY;
+        }
+
+        String alignment = pPr.getJc() != null && pPr.getJc().getVal() != null
+                ? pPr.getJc().getVal().toString() : null;
+
+        Integer spacingLine = null;
+        String spacingLineRule = null;
+        CTSpacing spacing = pPr.getSpacing();
+        if (spacing != null) {
+            spacingLine = toInteger(spacing.getLine());
+            spacingLineRule = spacing.getLineRule() != null ? spacing.getLineRule().toString() : null;
+        }
+
+        CTInd ind = pPr.getInd();
+        Integer indentLeft = ind != null ? toInteger(ind.getLeft()) : null;
+
+        Integer numId = null;
+        Integer numLevel = null;
+        CTNumPr numPr = pPr.getNumPr();
+        if (numPr != null) {
+            numId = numPr.getNumId() != null ? toInteger(numPr.getNumId().getVal()) : null;
+            numLevel = numPr.getIlvl() != null ? toInteger(numPr.getIlvl().getVal()) : null;
+        }
+
+        if (alignment == null && spacingLine == null && spacingLineRule == null
+                && indentLeft == null && numId == null && numLevel == null) {
+            return ParagraphProperties.EMPTY;
+        }
+        return new ParagraphProperties(alignment, spacingLine, spacingLineRule, indentLeft, numId, numLevel);
+    }
+
+    /**
+     * Copies the direct run properties the validators use.
+     *
+     * @param rPr Run properties, may be null
+     * @return Run property values
+     */
+    static RunProperties readRunProperties(CTRPr rPr) {
+        if (rPr == null) {
+            return RunProperties.EMPTY;
+        }
+
+        String fontFamily = null;
+        String fontTheme = null;
+        if (rPr.sizeOfRFontsArray() > 0) {
+            CTFonts fonts = rPr.getRFontsArray(0);
+            fontFamily = fonts.getAscii() != null ? fonts.getAscii() : fonts.getHAnsi();
+            fontTheme = fonts.getAsciiTheme() != null ? fonts.getAsciiTheme().toString() : null;
+        }
+
+        Integer fontSizeHalfPoints = rPr.sizeOfSzArray() > 0 ? toInteger(rPr.getSzArray(0).getVal()) : null;
+
+        Boolean bold = null;
+        if (rPr.sizeOfBArray() > 0) {
+            bold = isOn(rPr.getBArray(0).getVal());
+        }
+
+        if (fontFamily == null && fontTheme == null && fontSizeHalfPoints == null && bold == null) {
+            return RunProperties.EMPTY;
+        }
+        return new RunProperties(fontFamily, fontTheme, fontSizeHalfPoints, bold);
+    }
+
+    /**
+     * Interprets an ST_OnOff value; an absent value means "on".
+     */
+    private static boolean isOn(Object value) {
+        return value == null || "true".equals(value.toString()) || "1".equals(value.toString())
+                || "on".equals(value.toString());
+    }
+
+    private static Integer toInteger(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.fdv.techcheck.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for loading one document, committed by
+ * {@code DocumentProcessor.loadDocument}.
+ *
+ * With a continuous recording ({@code -XX:StartFlightRecording}) slow loads can be traced back
+ * to the file, its size, its main XML parts and its media parts without attaching a profiler.
+ * Failed loads are recorded as well, with {@code failed} set and the error message.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@Name("com.fdv.techcheck.DocumentLoad")
+@Label("Document Load")
+@Category({"TechCheck", "Document"})
+@Description("Loading a DOCX document into a ThesisDocument")
+@StackTrace(false)
+public final class DocumentLoadEvent extends Event {
+
+    @Label("File")
+    public String file;
+
+    @Label("Load Mode")
+    public String loadMode;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Media Parts")
+    public int mediaPartCount;
+
+    @Label("Media Size")
+    @Description("Uncompressed size of all media parts")
+    @DataAmount
+    public long mediaSize;
+
+    @Label("Body Paragraphs")
+    public int paragraphCount;
+
+    @Label("Document XML Size")
+    @Description("Uncompressed size of the main document part (normally word/document.xml)")
+    @DataAmount
+    public long documentXmlSize;
+
+    @Label("Document XML Compressed Size")
+    @Description("Zero in POI mode, which does not keep compressed sizes")
+    @DataAmount
+    public long documentXmlCompressedSize;
+
+    @Label("Styles XML Size")
+    @Description("Uncompressed size of the styles part (normally word/styles.xml)")
+    @DataAmount
+    public long stylesXmlSize;
+
+    @Label("Styles XML Compressed Size")
+    @Description("Zero in POI mode, which does not keep compressed sizes")
+    @DataAmount
+    public long stylesXmlCompressedSize;
+
+    @Label("Numbering XML Size")
+    @Description("Uncompressed size of the numbering part (normally word/numbering.xml)")
+    @DataAmount
+    public long numberingXmlSize;
+
+    @Label("Numbering XML Compressed Size")
+    @Description("Zero in POI mode, which does not keep compressed sizes")
+    @DataAmount
+    public long numberingXmlCompressedSize;
+
+    @Label("Failed")
+    public boolean failed;
+
+    @Label("Error")
+    @Description("Message of the load failure")
+    public String error;
+}
@@ -0,0 +1,104 @@
+package com.fdv.techcheck.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-linear histogram of non-negative values, such as durations in nanoseconds.
+ *
+ * Values below {@value #SUB_BUCKETS} have a bucket each. Above that, every power of two is split
+ * into {@value #SUB_BUCKETS} equal sub-buckets, so a percentile read from the histogram is at most
+ * about 6% above the true value whatever the magnitude, from nanoseconds to hours. The histogram
+ * has a fixed 960 buckets and recording is a single atomic increment, so it is cheap enough to
+ * run on every validation and safe to record from many threads at once.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Highest exponent of a positive long is 62
+    private static final int BUCKETS = (62 - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records one value; negative values are recorded as 0.
+     *
+     * @param value The value
+     */
+    void record(long value) {
+        counts.incrementAndGet(indexOf(Math.max(value, 0)));
+    }
+
+    /**
+     * Gets the value at or below which the given fraction of recorded values lie.
+     *
+     * @param fraction Fraction between 0 and 1, e.g. 0.95
+     * @param count Number of values recorded, as counted by the caller
+     * @return Upper bound of the bucket holding that value, or 0 if nothing was recorded
+     */
+    long percentile(double fraction, long count) {
+        if (count <= 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        int last = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            long bucketCount = counts.get(i);
+            if (bucketCount == 0) {
+                continue;
+            }
+            seen += bucketCount;
+            last = i;
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        // Values recorded while reading; report the highest bucket seen
+        return upperBound(last);
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value Non-negative value
+     * @return Bucket index
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the largest value that falls into a bucket.
+     *
+     * @param index Bucket index
+     * @return Largest value of the bucket
+     */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lowerBound = (1L << exponent) + (index % SUB_BUCKETS) * width;
+        return lowerBound + width - 1;
+    }
+}
@@ -0,0 +1,133 @@
+package com.fdv.techcheck.core.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-process registry of named {@link Timer}s for the phases of the validation pipeline.
+ *
+ * The pipeline records into the {@link #global()} registry: document loading, parsing of package
+ * parts, the pre-check, {@code performValidation} and post-processing of every validator, the
+ * fused traversal of visiting validators and report generation. Each validator is also timed
+ * under {@code validator.<name>}. The CLI, the GUI and the HTTP service read
+ * {@link #snapshot()} to show percentiles and throughput.
+ *
+ * Timers are created on first use and live as long as the registry, so callers may keep a
+ * reference to a timer; {@link #reset()} clears their statistics in place.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class MetricsRegistry {
+
+    /** Loading a document, from opening the file to a ThesisDocument ready for validation. */
+    public static final String DOCUMENT_LOAD = "document.load";
+
+    /** Parsing one package part when streaming, or the whole package with POI. */
+    public static final String PART_PARSE = "document.parse";
+
+    /** A validator's pre-validation check. */
+    public static final String PRE_CHECK = "validation.preCheck";
+
+    /** A validator's {@code performValidation}. */
+    public static final String PERFORM_VALIDATION = "validation.perform";
+
+    /** A validator's post-validation processing, such as detail compaction. */
+    public static final String POST_PROCESS = "validation.postProcess";
+
+    /** One document walk shared by all visiting validators. */
+    public static final String FUSED_TRAVERSAL = "validation.traversal";
+
+    /** Rendering one PDF report. */
+    public static final String REPORT_GENERATION = "report.generate";
+
+    /** Prefix of the per-validator timers, followed by the validator name. */
+    public static final String VALIDATOR_PREFIX = "validator.";
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile long startNanos = System.nanoTime();
+
+    /**
+     * Gets the registry the validation pipeline records into.
+     *
+     * @return The process-wide registry
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets the timer with the given name, creating it on first use.
+     *
+     * @param name Timer name, e.g. {@link #DOCUMENT_LOAD}
+     * @return The timer
+     */
+    public Timer timer(String name) {
+        Objects.requireNonNull(name, "Timer name cannot be null");
+        return timers.computeIfAbsent(name, Timer::new);
+    }
+
+    /**
+     * Captures the statistics of all timers that have recorded at least one duration.
+     *
+     * @return Snapshots sorted by timer name
+     */
+    public List<Timer.Snapshot> snapshot() {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        List<Timer.Snapshot> snapshots = new ArrayList<>(timers.size());
+        for (Timer timer : timers.values()) {
+            if (timer.getCount() > 0) {
+                snapshots.add(timer.snapshot(elapsedNanos));
+            }
+        }
+        snapshots.sort(Comparator.comparing(Timer.Snapshot::getName));
+        return snapshots;
+    }
+
+    /**
+     * Formats all timers as a plain-text table.
+     *
+     * @return Table with one line per timer, or a note that nothing was recorded
+     */
+    public String format() {
+        List<Timer.Snapshot> snapshots = snapshot();
+        if (snapshots.isEmpty()) {
+            return "No metrics recorded" + System.lineSeparator();
+        }
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.US, "%-36s %8s %10s %10s %10s %10s %10s%n",
+                                  "Timer", "Count", "p50 ms", "p95 ms", "p99 ms", "Max ms", "Per sec"));
+        for (Timer.Snapshot snapshot : snapshots) {
+            text.append(String.format(Locale.US, "%-36s %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                                      snapshot.getName(), snapshot.getCount(),
+                                      millis(snapshot.getP50().toNanos()), millis(snapshot.getP95().toNanos()),
+                                      millis(snapshot.getP99().toNanos()), millis(snapshot.getMax().toNanos()),
+                                      snapshot.getRatePerSecond()));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Clears the statistics of all timers and restarts the throughput clock.
+     */
+    public void reset() {
+        timers.values().forEach(Timer::reset);
+        startNanos = System.nanoTime();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MetricsRegistry{timers=%d}", timers.size());
+    }
+}
@@ -0,0 +1,38 @@
+package com.fdv.techcheck.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for rendering one PDF report, committed by
+ * {@code PdfReportGenerator.generateReport}.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@Name("com.fdv.techcheck.ReportRender")
+@Label("Report Render")
+@Category({"TechCheck", "Report"})
+@Description("Rendering the PDF report of one validated document")
+@StackTrace(false)
+public final class ReportRenderEvent extends Event {
+
+    @Label("File")
+    @Description("The validated document")
+    public String file;
+
+    @Label("Validators")
+    public int validatorCount;
+
+    @Label("Details")
+    public int detailCount;
+
+    @Label("Report Size")
+    @DataAmount
+    public long reportSize;
+}
@@ -0,0 +1,180 @@
+package com.fdv.techcheck.core.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the durations of one operation, such as loading a document, in a latency histogram.
+ *
+ * Durations are measured with {@link System#nanoTime()}, which is monotonic and unaffected by
+ * wall-clock adjustments. Timers are obtained from a {@link MetricsRegistry} and are safe to
+ * record from many threads at once.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class Timer {
+
+    private final String name;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the start time of a measurement, to be passed to {@link #recordSince(long)}.
+     *
+     * @return The current value of {@link System#nanoTime()}
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos Duration in nanoseconds
+     */
+    public void record(long nanos) {
+        histogram.record(nanos);
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    /**
+     * Records the time elapsed since a measurement started.
+     *
+     * @param startNanos Value returned by {@link #start()}
+     * @return The recorded duration in nanoseconds
+     */
+    public long recordSince(long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        record(elapsed);
+        return elapsed;
+    }
+
+    /**
+     * Gets the name of the timed operation.
+     *
+     * @return Timer name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of recorded durations.
+     *
+     * @return Count of measurements
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Captures the current statistics of this timer.
+     *
+     * @param elapsedNanos Time over which the durations were recorded, for the throughput
+     * @return A snapshot of count, percentiles, maximum and throughput
+     */
+    Snapshot snapshot(long elapsedNanos) {
+        long observed = count.sum();
+        return new Snapshot(name, observed, totalNanos.sum(), maxNanos.get(),
+                            histogram.percentile(0.50, observed),
+                            histogram.percentile(0.95, observed),
+                            histogram.percentile(0.99, observed),
+                            elapsedNanos > 0 ? observed * 1e9 / elapsedNanos : 0);
+    }
+
+    void reset() {
+        histogram.reset();
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Timer{name='%s', count=%d}", name, getCount());
+    }
+
+    /**
+     * Statistics of a timer at one point in time. Percentiles are upper bounds of histogram
+     * buckets, at most about 6% above the exact value and never above the maximum.
+     */
+    public static final class Snapshot {
+        private final String name;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long p50Nanos;
+        private final long p95Nanos;
+        private final long p99Nanos;
+        private final double ratePerSecond;
+
+        private Snapshot(String name, long count, long totalNanos, long maxNanos,
+                         long p50Nanos, long p95Nanos, long p99Nanos, double ratePerSecond) {
+            this.name = name;
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.p50Nanos = Math.min(p50Nanos, maxNanos);
+            this.p95Nanos = Math.min(p95Nanos, maxNanos);
+            this.p99Nanos = Math.min(p99Nanos, maxNanos);
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public Duration getTotal() {
+            return Duration.ofNanos(totalNanos);
+        }
+
+        public Duration getMean() {
+            return Duration.ofNanos(count > 0 ? totalNanos / count : 0);
+        }
+
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        public Duration getP50() {
+            return Duration.ofNanos(p50Nanos);
+        }
+
+        public Duration getP95() {
+            return Duration.ofNanos(p95Nanos);
+        }
+
+        public Duration getP99() {
+            return Duration.ofNanos(p99Nanos);
+        }
+
+        /**
+         * Gets the throughput since the registry started or was last reset.
+         *
+         * @return Measurements per second
+         */
+        public double getRatePerSecond() {
+            return ratePerSecond;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Snapshot{name='%s', count=%d, p50=%dms, p95=%dms, p99=%dms}",
+                               name, count, getP50().toMillis(), getP95().toMillis(), getP99().toMillis());
+        }
+    }
+}
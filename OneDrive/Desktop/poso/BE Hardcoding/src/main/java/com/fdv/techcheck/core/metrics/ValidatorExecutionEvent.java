@@ -0,0 +1,44 @@
+package com.fdv.techcheck.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for one validator run on one document, committed by
+ * {@code AbstractDocumentValidator}. For validators taking part in a fused traversal the event
+ * spans from the pre-check to the end of post-processing, including the shared walk.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@Name("com.fdv.techcheck.ValidatorExecution")
+@Label("Validator Execution")
+@Category({"TechCheck", "Validation"})
+@Description("One validator validating one document")
+@StackTrace(false)
+public final class ValidatorExecutionEvent extends Event {
+
+    @Label("Validator")
+    public String validatorName;
+
+    @Label("File")
+    public String file;
+
+    @Label("Body Paragraphs")
+    public int paragraphCount;
+
+    @Label("Details")
+    @Description("Details retained in the result, after compaction")
+    public int detailCount;
+
+    @Label("Issues")
+    @Description("Issues found, including compacted and omitted ones")
+    public long issueCount;
+
+    @Label("Status")
+    public String status;
+}
@@ -1,16 +1,21 @@
 package com.fdv.techcheck.core.validation;
 
 import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
+import com.fdv.techcheck.core.metrics.Timer;
+import com.fdv.techcheck.core.metrics.ValidatorExecutionEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Objects;
 
 /**
  * Abstract base class for all document validators.
  * Provides common functionality for validation timing, error handling, and logging.
+ * The pre-check, validation and post-processing phases are timed with {@link System#nanoTime()}
+ * into the global {@link MetricsRegistry}, as is each validator's total. Every run is also
+ * recorded as a {@link ValidatorExecutionEvent} for JDK Flight Recorder.
  * 
  * @author TechCheck Development Team
  * @since 1.0.0
@@ -22,6 +27,11 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
     private final ValidationSeverity defaultSeverity;
     private final String description;
     private boolean enabled = true;
+    private volatile int detailLimit = DetailSink.DEFAULT_CAPACITY;
+    private final Timer preCheckTimer;
+    private final Timer performTimer;
+    private final Timer postProcessTimer;
+    private final Timer validatorTimer;
     
     /**
      * Constructor for abstract validator.
@@ -37,6 +47,12 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
         this.defaultSeverity = Objects.requireNonNull(defaultSeverity, "Default severity cannot be null");
         this.description = Objects.requireNonNull(description, "Description cannot be null");
         this.logger = LoggerFactory.getLogger(this.getClass());
+        
+        MetricsRegistry metrics = MetricsRegistry.global();
+        this.preCheckTimer = metrics.timer(MetricsRegistry.PRE_CHECK);
+        this.performTimer = metrics.timer(MetricsRegistry.PERFORM_VALIDATION);
+        this.postProcessTimer = metrics.timer(MetricsRegistry.POST_PROCESS);
+        this.validatorTimer = metrics.timer(MetricsRegistry.VALIDATOR_PREFIX + validatorName);
     }
     
     /**
@@ -56,21 +72,27 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
         }
         
         logger.debug("Starting validation: {}", validatorName);
-        Instant startTime = Instant.now();
+        long startTime = Timer.start();
+        ValidatorExecutionEvent event = startExecutionEvent();
         
         try {
             // Perform pre-validation checks
             preValidationCheck(document);
+            long phaseStart = System.nanoTime();
+            preCheckTimer.record(phaseStart - startTime);
             
             // Execute the actual validation logic
             ValidationResult result = performValidation(document);
+            phaseStart += performTimer.recordSince(phaseStart);
             
             // Perform post-validation processing
             result = postValidationProcess(result);
+            postProcessTimer.recordSince(phaseStart);
             
             // Add timing information
-            Duration processingTime = Duration.between(startTime, Instant.now());
+            Duration processingTime = Duration.ofNanos(validatorTimer.recordSince(startTime));
             result = result.withProcessingTime(processingTime);
+            commitExecutionEvent(event, document, result);
             
             logger.debug("Completed validation: {} in {}ms with status: {}", 
                         validatorName, processingTime.toMillis(), result.getStatus());
@@ -78,12 +100,14 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
             return result;
             
         } catch (ValidationException e) {
-            Duration processingTime = Duration.between(startTime, Instant.now());
+            Duration processingTime = Duration.ofNanos(System.nanoTime() - startTime);
+            commitExecutionEvent(event, document, null);
             logger.error("Validation failed: {} after {}ms", validatorName, processingTime.toMillis(), e);
             throw e;
             
         } catch (Exception e) {
-            Duration processingTime = Duration.between(startTime, Instant.now());
+            Duration processingTime = Duration.ofNanos(System.nanoTime() - startTime);
+            commitExecutionEvent(event, document, null);
             logger.error("Unexpected error during validation: {} after {}ms", 
                         validatorName, processingTime.toMillis(), e);
             
@@ -107,6 +131,60 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
      */
     protected abstract ValidationResult performValidation(ThesisDocument document) throws ValidationException;
     
+    /**
+     * Runs the pre-validation check, timing it like {@link #validate(ThesisDocument)} does.
+     */
+    final void timedPreValidationCheck(ThesisDocument document) throws ValidationException {
+        long startTime = Timer.start();
+        preValidationCheck(document);
+        preCheckTimer.recordSince(startTime);
+    }
+    
+    /**
+     * Runs post-validation processing, timing it like {@link #validate(ThesisDocument)} does.
+     */
+    final ValidationResult timedPostValidationProcess(ValidationResult result) {
+        long startTime = Timer.start();
+        ValidationResult processed = postValidationProcess(result);
+        postProcessTimer.recordSince(startTime);
+        return processed;
+    }
+    
+    /**
+     * Starts the Flight Recorder event of one validation run.
+     */
+    final ValidatorExecutionEvent startExecutionEvent() {
+        ValidatorExecutionEvent event = new ValidatorExecutionEvent();
+        event.begin();
+        return event;
+    }
+    
+    /**
+     * Ends and commits the Flight Recorder event of a validation run, if the event is recorded.
+     * 
+     * @param result Result of the run, or null if the validator failed
+     */
+    final void commitExecutionEvent(ValidatorExecutionEvent event, ThesisDocument document, ValidationResult result) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.validatorName = validatorName;
+        event.file = String.valueOf(document.getFilePath());
+        event.paragraphCount = document.getBodyParagraphCount();
+        event.detailCount = result != null ? result.getDetails().size() : 0;
+        event.issueCount = result != null ? result.getIssueCount() : 0;
+        event.status = (result != null ? result.getStatus() : ValidationStatus.ERROR).name();
+        event.commit();
+    }
+    
+    /**
+     * Records the total time of a validation run that did not go through {@link #validate(ThesisDocument)}.
+     */
+    final void recordValidatorTime(Duration processingTime) {
+        validatorTimer.record(processingTime.toNanos());
+    }
+    
     /**
      * Pre-validation check hook that can be overridden by subclasses.
      * Called before the main validation logic.
@@ -125,13 +203,14 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
     /**
      * Post-validation processing hook that can be overridden by subclasses.
      * Called after the main validation logic to modify or enhance results.
+     * The default implementation groups repeated paragraph findings with
+     * {@link DetailCompactor}; overrides should call it to keep that behavior.
      * 
      * @param result The validation result from performValidation
      * @return Modified validation result
      */
     protected ValidationResult postValidationProcess(ValidationResult result) {
-        // Default implementation: no post-processing
-        return result;
+        return DetailCompactor.compact(result);
     }
     
     /**
@@ -176,6 +255,16 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
         return String.format("%.0f%%", value * 100);
     }
     
+    /**
+     * Creates a sink for the findings of one validation run, retaining at most
+     * {@link #getDetailLimit()} details while counting every finding.
+     * 
+     * @return A new, empty DetailSink
+     */
+    protected DetailSink createDetailSink() {
+        return new DetailSink(detailLimit);
+    }
+    
     /**
      * Creates a ValidationDetail with this validator's default settings.
      * 
@@ -250,6 +339,28 @@ public abstract class AbstractDocumentValidator implements IValidator<ThesisDocu
         logger.debug("Validator {} {}", validatorName, enabled ? "enabled" : "disabled");
     }
     
+    /**
+     * Gets the maximum number of details a result lists when the validator collects
+     * its findings in a {@link DetailSink}.
+     * 
+     * @return Maximum number of retained details
+     */
+    public int getDetailLimit() {
+        return detailLimit;
+    }
+    
+    /**
+     * Sets the maximum number of details a result lists. Issue counts are unaffected.
+     * 
+     * @param detailLimit Maximum number of retained details, at least 1
+     */
+    public void setDetailLimit(int detailLimit) {
+        if (detailLimit < 1) {
+            throw new IllegalArgumentException("Detail limit must be at least 1: " + detailLimit);
+        }
+        this.detailLimit = detailLimit;
+    }
+    
     @Override
     public String toString() {
         return String.format("%s{enabled=%s, severity=%s}", 
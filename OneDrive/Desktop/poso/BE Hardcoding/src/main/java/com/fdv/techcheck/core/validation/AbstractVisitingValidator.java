@@ -0,0 +1,92 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.ThesisDocument;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Base class for validators that collect their data through {@link DocumentVisitor} callbacks
+ * instead of iterating the document themselves.
+ *
+ * A subclass creates a fresh visitor per document and turns the visitor's collected state into
+ * a result. Used on its own, the validator walks the document with just its own visitor; when run
+ * by a {@link ValidationEngine}, the visitors of all visiting validators share one traversal.
+ *
+ * @param <V> Type of the per-document visitor
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public abstract class AbstractVisitingValidator<V extends DocumentVisitor> extends AbstractDocumentValidator {
+
+    /**
+     * Constructor for visiting validators.
+     *
+     * @param validatorName Human-readable name for this validator
+     * @param defaultSeverity Default severity level for issues found
+     * @param description Brief description of what this validator checks
+     */
+    protected AbstractVisitingValidator(String validatorName,
+                                        ValidationSeverity defaultSeverity,
+                                        String description) {
+        super(validatorName, defaultSeverity, description);
+    }
+
+    /**
+     * Creates the visitor that collects this validator's data for one document.
+     * The visitor is only used by one traversal, so it need not be thread-safe.
+     *
+     * @param document The document about to be traversed
+     * @return A new visitor
+     */
+    protected abstract V createVisitor(ThesisDocument document);
+
+    /**
+     * Builds the validation result once the traversal has visited the whole document.
+     *
+     * @param document The traversed document
+     * @param visitor The visitor returned by {@link #createVisitor(ThesisDocument)}
+     * @return ValidationResult containing the outcome
+     * @throws ValidationException if validation cannot be completed
+     */
+    protected abstract ValidationResult buildResult(ThesisDocument document, V visitor) throws ValidationException;
+
+    /**
+     * Walks the document with this validator's visitor only.
+     */
+    @Override
+    protected final ValidationResult performValidation(ThesisDocument document) throws ValidationException {
+        V visitor = createVisitor(document);
+        RuntimeException failure = DocumentTraversal.walk(document.getDocumentIndex(), List.of(visitor)).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+        return buildResult(document, visitor);
+    }
+
+    /**
+     * Prepares a fused traversal: runs the pre-validation check and creates the visitor.
+     * Used by {@link ValidationEngine}, which checks {@link #isEnabled()} beforehand.
+     */
+    final V beginVisit(ThesisDocument document) throws ValidationException {
+        if (document == null) {
+            throw new ValidationException(getValidatorName(), "Document cannot be null");
+        }
+        timedPreValidationCheck(document);
+        return createVisitor(document);
+    }
+
+    /**
+     * Completes a fused traversal with the same post-processing as {@link #validate(ThesisDocument)}.
+     * The shared walk is timed once by the engine, so only post-processing and the
+     * validator's total are recorded here.
+     *
+     * @param processingTime Time spent since the shared traversal started
+     */
+    final ValidationResult finishVisit(ThesisDocument document, V visitor, Duration processingTime)
+            throws ValidationException {
+        ValidationResult result = timedPostValidationProcess(buildResult(document, visitor));
+        recordValidatorTime(processingTime);
+        return result.withProcessingTime(processingTime);
+    }
+}
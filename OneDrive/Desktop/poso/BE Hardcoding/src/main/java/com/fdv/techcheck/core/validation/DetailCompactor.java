@@ -0,0 +1,261 @@
+package com.fdv.techcheck.core.validation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Groups repeated paragraph findings into one detail per rule.
+ *
+ * Validators that check every paragraph emit one detail per offending paragraph, usually with the
+ * same expected and actual values. Details located at {@code "Paragraph N"}, optionally followed by
+ * a qualifier such as {@code " (Level 2)"}, are grouped when severity, expected and actual values,
+ * recommendation, rule reference and qualifier all match. A group becomes a single detail whose
+ * location lists the paragraph runs, for example {@code "Paragraphs 12–15, 20 (5 occurrences)"},
+ * and whose {@link ValidationDetail#getOccurrences() occurrences} keep the issue counts exact.
+ * Other details, and findings that occur only once, are kept unchanged. Groups appear in the
+ * order of their first occurrence. {@link DetailSink} applies the same grouping as findings
+ * arrive, so a group takes a single retained slot.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DetailCompactor {
+
+    /** Most paragraph runs listed in a location before only the overall range is shown. */
+    static final int MAX_LISTED_RUNS = 5;
+
+    private static final Pattern PARAGRAPH_LOCATION = Pattern.compile("Paragraph (\\d+)( \\(.*\\))?");
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DetailCompactor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Compacts the details of a result.
+     *
+     * @param result The validation result
+     * @return The same result if nothing was grouped, otherwise a copy with compacted details
+     */
+    public static ValidationResult compact(ValidationResult result) {
+        List<ValidationDetail> details = result.getDetails();
+        List<ValidationDetail> compacted = compact(details);
+        return compacted.size() == details.size() ? result : result.withDetails(compacted);
+    }
+
+    /**
+     * Compacts a list of details.
+     *
+     * @param details Details in the order the validator emitted them
+     * @return Compacted details; the input list itself if there are fewer than two details
+     */
+    public static List<ValidationDetail> compact(List<ValidationDetail> details) {
+        if (details.size() < 2) {
+            return details;
+        }
+
+        // Each entry is either a detail kept as is or a group of paragraph findings
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        for (ValidationDetail detail : details) {
+            ParagraphFinding finding = paragraphFinding(detail);
+            if (finding == null) {
+                entries.put(new Object(), detail);
+                continue;
+            }
+            ((Group) entries.computeIfAbsent(finding.key, key -> new Group(detail, finding.key)))
+                .add(finding.paragraph, detail.getOccurrences());
+        }
+
+        List<ValidationDetail> compacted = new ArrayList<>(entries.size());
+        for (Object entry : entries.values()) {
+            compacted.add(entry instanceof Group ? ((Group) entry).toDetail() : (ValidationDetail) entry);
+        }
+        return compacted;
+    }
+
+    /**
+     * Parses a finding located at a single paragraph.
+     *
+     * @param detail The finding
+     * @return Its group key and paragraph number, or null if it cannot be grouped
+     */
+    static ParagraphFinding paragraphFinding(ValidationDetail detail) {
+        if (detail.hasLocationInfo()) {
+            return null;
+        }
+        Matcher matcher = PARAGRAPH_LOCATION.matcher(detail.getLocation());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String qualifier = matcher.group(2) != null ? matcher.group(2).substring(1) : null;
+        return new ParagraphFinding(new GroupKey(detail, qualifier), Integer.parseInt(matcher.group(1)));
+    }
+
+    /**
+     * A finding located at one paragraph, with the key of the group it belongs to.
+     */
+    static final class ParagraphFinding {
+        final GroupKey key;
+        final int paragraph;
+
+        private ParagraphFinding(GroupKey key, int paragraph) {
+            this.key = key;
+            this.paragraph = paragraph;
+        }
+    }
+
+    /**
+     * Identity of a group: every field of a detail except its paragraph number.
+     */
+    static final class GroupKey {
+        private final ValidationSeverity severity;
+        private final String expected;
+        private final String actual;
+        private final String recommendation;
+        private final String ruleReference;
+        private final String qualifier;
+
+        private GroupKey(ValidationDetail detail, String qualifier) {
+            this.severity = detail.getSeverity();
+            this.expected = detail.getExpected();
+            this.actual = detail.getActual();
+            this.recommendation = detail.getRecommendation();
+            this.ruleReference = detail.getRuleReference();
+            this.qualifier = qualifier;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GroupKey)) return false;
+            GroupKey that = (GroupKey) o;
+            return severity == that.severity &&
+                   expected.equals(that.expected) &&
+                   actual.equals(that.actual) &&
+                   Objects.equals(recommendation, that.recommendation) &&
+                   Objects.equals(ruleReference, that.ruleReference) &&
+                   Objects.equals(qualifier, that.qualifier);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(severity, expected, actual, recommendation, ruleReference, qualifier);
+        }
+    }
+
+    /**
+     * Paragraph runs and occurrence count of one group. At most {@link #MAX_LISTED_RUNS} runs are
+     * kept, merged as paragraphs arrive in any order; beyond that only the overall range is kept,
+     * so a group takes constant memory however many findings it absorbs.
+     */
+    static final class Group {
+        private final ValidationDetail first;
+        private final String qualifier;
+        // Sorted runs that neither overlap nor touch; null once there are too many to list
+        private int[] runStarts = new int[MAX_LISTED_RUNS];
+        private int[] runEnds = new int[MAX_LISTED_RUNS];
+        private int runs;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+        private int findings;
+        private int occurrences;
+
+        Group(ValidationDetail first, GroupKey key) {
+            this.first = first;
+            this.qualifier = key.qualifier;
+        }
+
+        void add(int paragraph, int detailOccurrences) {
+            findings++;
+            occurrences += detailOccurrences;
+            min = Math.min(min, paragraph);
+            max = Math.max(max, paragraph);
+            if (runStarts != null) {
+                addToRuns(paragraph);
+            }
+        }
+
+        private void addToRuns(int paragraph) {
+            int i = 0;
+            while (i < runs && runEnds[i] < paragraph - 1) {
+                i++;
+            }
+            if (i < runs && runStarts[i] <= paragraph + 1) {
+                // Inside or touching run i
+                runStarts[i] = Math.min(runStarts[i], paragraph);
+                if (paragraph > runEnds[i]) {
+                    runEnds[i] = paragraph;
+                    if (i + 1 < runs && runStarts[i + 1] == paragraph + 1) {
+                        runEnds[i] = runEnds[i + 1];
+                        System.arraycopy(runStarts, i + 2, runStarts, i + 1, runs - i - 2);
+                        System.arraycopy(runEnds, i + 2, runEnds, i + 1, runs - i - 2);
+                        runs--;
+                    }
+                }
+                return;
+            }
+            if (runs == MAX_LISTED_RUNS) {
+                runStarts = null;
+                runEnds = null;
+                return;
+            }
+            System.arraycopy(runStarts, i, runStarts, i + 1, runs - i);
+            System.arraycopy(runEnds, i, runEnds, i + 1, runs - i);
+            runStarts[i] = paragraph;
+            runEnds[i] = paragraph;
+            runs++;
+        }
+
+        /**
+         * Formats the paragraph runs, e.g. {@code "3–5, 9"}, or only the overall range.
+         */
+        private String formatRuns() {
+            if (runStarts == null) {
+                return min + "–" + max;
+            }
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < runs; i++) {
+                if (i > 0) {
+                    text.append(", ");
+                }
+                text.append(runStarts[i]);
+                if (runEnds[i] > runStarts[i]) {
+                    text.append('–').append(runEnds[i]);
+                }
+            }
+            return text.toString();
+        }
+
+        ValidationDetail toDetail() {
+            if (findings <= 1) {
+                return first;
+            }
+
+            StringBuilder location = new StringBuilder("Paragraphs ").append(formatRuns());
+            location.append(" (");
+            if (qualifier != null) {
+                // "(Level 2)" becomes "(Level 2; 7 occurrences)"
+                location.append(qualifier, 1, qualifier.length() - 1).append("; ");
+            }
+            location.append(String.format(Locale.US, "%d occurrences)", occurrences));
+
+            return ValidationDetail.builder()
+                .location(location.toString())
+                .expected(first.getExpected())
+                .actual(first.getActual())
+                .severity(first.getSeverity())
+                .recommendation(first.getRecommendation())
+                .ruleReference(first.getRuleReference())
+                .occurrences(occurrences)
+                .build();
+        }
+    }
+}
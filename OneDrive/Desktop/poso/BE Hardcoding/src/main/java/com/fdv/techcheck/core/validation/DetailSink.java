@@ -0,0 +1,229 @@
+package com.fdv.techcheck.core.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * Collects the findings of one validation run with bounded memory.
+ *
+ * Every finding is counted exactly, by severity and by rule, but only the most important
+ * {@code capacity} details are retained: more severe findings first and, within a severity, the
+ * ones found earliest in the document. A pathological document with hundreds of thousands of
+ * findings therefore keeps a fixed number of detail objects in memory and in reports, while the
+ * issue totals of the resulting {@link ValidationResult} stay accurate.
+ *
+ * Repeated paragraph findings are grouped as they arrive, as {@link DetailCompactor} does: a
+ * finding that belongs to a retained group adds its paragraph and occurrences to that group
+ * instead of taking another slot, so a run of identical findings is listed in full as one detail.
+ *
+ * A finding's rule is its rule reference or, when it has none, its expected value. A sink is
+ * filled by one validator run and is not thread-safe. A sink created during a run started by a
+ * {@link ValidationPublisher} also publishes every finding as soon as it is added.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DetailSink {
+
+    /** Number of details retained unless a validator is configured otherwise. */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    // Head is the retained detail that is evicted first: least severe, then found last
+    private static final Comparator<Entry> EVICTION_ORDER =
+        Comparator.comparing((Entry entry) -> entry.detail.getSeverity()).reversed()
+                  .thenComparing(Comparator.comparingLong((Entry entry) -> entry.position).reversed());
+
+    private final int capacity;
+    private final PriorityQueue<Entry> retained;
+    private final Map<DetailCompactor.GroupKey, Entry> retainedGroups = new HashMap<>();
+    private final long[] severityCounts = new long[ValidationSeverity.values().length];
+    private final Map<String, Long> ruleCounts = new LinkedHashMap<>();
+    private final Consumer<ValidationDetail> publisher;
+    private long position;
+
+    /**
+     * Creates a sink retaining {@link #DEFAULT_CAPACITY} details.
+     */
+    public DetailSink() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a sink retaining at most the given number of details.
+     *
+     * @param capacity Maximum number of retained details, at least 1
+     */
+    public DetailSink(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.capacity = capacity;
+        this.retained = new PriorityQueue<>(Math.min(capacity, 64), EVICTION_ORDER);
+        this.publisher = ValidationPublisher.active();
+    }
+
+    /**
+     * Records a finding. The finding is always counted and published; it is retained if it
+     * belongs to a retained group or ranks among the {@code capacity} most important findings so far.
+     *
+     * @param detail The finding, or null for none
+     */
+    public void add(ValidationDetail detail) {
+        if (detail == null) {
+            return;
+        }
+        severityCounts[detail.getSeverity().ordinal()] += detail.getOccurrences();
+        ruleCounts.merge(ruleOf(detail), (long) detail.getOccurrences(), Long::sum);
+        if (publisher != null) {
+            publisher.accept(detail);
+        }
+
+        DetailCompactor.ParagraphFinding finding = DetailCompactor.paragraphFinding(detail);
+        if (finding != null) {
+            Entry group = retainedGroups.get(finding.key);
+            if (group != null) {
+                group.group.add(finding.paragraph, detail.getOccurrences());
+                position++;
+                return;
+            }
+        }
+
+        Entry entry = new Entry(detail, finding, position++);
+        if (retained.size() < capacity) {
+            retain(entry);
+        } else if (EVICTION_ORDER.compare(entry, retained.peek()) > 0) {
+            // Outranks the least important retained detail
+            Entry evicted = retained.poll();
+            if (evicted.groupKey != null) {
+                retainedGroups.remove(evicted.groupKey);
+            }
+            retain(entry);
+        }
+    }
+
+    private void retain(Entry entry) {
+        retained.add(entry);
+        if (entry.groupKey != null) {
+            retainedGroups.put(entry.groupKey, entry);
+        }
+    }
+
+    /**
+     * Checks whether any finding was recorded.
+     *
+     * @return true if nothing was recorded
+     */
+    public boolean isEmpty() {
+        return position == 0;
+    }
+
+    /**
+     * Counts all recorded findings, including those not retained.
+     *
+     * @return Number of findings
+     */
+    public long getIssueCount() {
+        long total = 0;
+        for (long count : severityCounts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Counts the recorded findings of one severity, including those not retained.
+     *
+     * @param severity The severity
+     * @return Number of findings with that severity
+     */
+    public long getIssueCount(ValidationSeverity severity) {
+        return severityCounts[severity.ordinal()];
+    }
+
+    /**
+     * Checks whether any finding of the given severity was recorded.
+     *
+     * @param severity The severity
+     * @return true if at least one finding has that severity
+     */
+    public boolean hasSeverity(ValidationSeverity severity) {
+        return getIssueCount(severity) > 0;
+    }
+
+    /**
+     * Gets the number of findings per rule, in the order rules were first seen.
+     *
+     * @return Unmodifiable map from rule to count
+     */
+    public Map<String, Long> getRuleCounts() {
+        return Collections.unmodifiableMap(ruleCounts);
+    }
+
+    /**
+     * Gets the retained details in the order they were first recorded, with repeated paragraph
+     * findings grouped into one detail each.
+     *
+     * @return New list of at most {@code capacity} details
+     */
+    public List<ValidationDetail> getDetails() {
+        List<Entry> entries = new ArrayList<>(retained);
+        entries.sort(Comparator.comparingLong(entry -> entry.position));
+        List<ValidationDetail> details = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            details.add(entry.group != null ? entry.group.toDetail() : entry.detail);
+        }
+        return details;
+    }
+
+    /**
+     * Copies the severity counts for a result.
+     */
+    Map<ValidationSeverity, Long> severityCounts() {
+        Map<ValidationSeverity, Long> counts = new EnumMap<>(ValidationSeverity.class);
+        for (ValidationSeverity severity : ValidationSeverity.values()) {
+            counts.put(severity, severityCounts[severity.ordinal()]);
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the rule a finding is counted under.
+     *
+     * @param detail The finding
+     * @return Its rule reference, or its expected value if it has none
+     */
+    static String ruleOf(ValidationDetail detail) {
+        return detail.getRuleReference() != null ? detail.getRuleReference() : detail.getExpected();
+    }
+
+    /**
+     * A retained detail, or the first finding of a retained group of paragraph findings.
+     */
+    private static final class Entry {
+        private final ValidationDetail detail;
+        private final DetailCompactor.GroupKey groupKey;
+        private final DetailCompactor.Group group;
+        private final long position;
+
+        private Entry(ValidationDetail detail, DetailCompactor.ParagraphFinding finding, long position) {
+            this.detail = detail;
+            this.position = position;
+            if (finding != null) {
+                this.groupKey = finding.key;
+                this.group = new DetailCompactor.Group(detail, finding.key);
+                group.add(finding.paragraph, detail.getOccurrences());
+            } else {
+                this.groupKey = null;
+                this.group = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.DocumentIndex;
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Walks a {@link DocumentIndex} exactly once and dispatches every element to all subscribed
+ * {@link DocumentVisitor}s, so the traversal cost does not grow with the number of visitors.
+ *
+ * A visitor that throws is isolated: it receives no further callbacks, its exception is
+ * returned to the caller, and the remaining visitors continue normally.
+ *
+ * When every visitor is a {@link MergeableVisitor} and the document is large, the paragraphs are
+ * split into ranges that are walked on a {@link ForkJoinPool}, each with its own empty
+ * accumulators, and the partial results are merged back in document order into the visitors
+ * passed in. Ranges never split a table cell.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class DocumentTraversal {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentTraversal.class);
+
+    /** Number of paragraphs walked by one parallel task. */
+    static final int CHUNK_PARAGRAPHS = 1024;
+
+    /** Documents with more paragraphs than this are walked in parallel when possible. */
+    static final int PARALLEL_THRESHOLD_PARAGRAPHS = 2 * CHUNK_PARAGRAPHS;
+
+    private final List<? extends DocumentVisitor> visitors;
+    private final RuntimeException[] failures;
+    private final int[] paragraphVisitors;
+    private final int[] runVisitors;
+    private final int[] tableCellVisitors;
+    private final int[] sectionBreakVisitors;
+
+    private DocumentTraversal(List<? extends DocumentVisitor> visitors) {
+        this.visitors = visitors;
+        this.failures = new RuntimeException[visitors.size()];
+        this.paragraphVisitors = subscribers(visitors, DocumentVisitor.Element.PARAGRAPH);
+        this.runVisitors = subscribers(visitors, DocumentVisitor.Element.RUN);
+        this.tableCellVisitors = subscribers(visitors, DocumentVisitor.Element.TABLE_CELL);
+        this.sectionBreakVisitors = subscribers(visitors, DocumentVisitor.Element.SECTION_BREAK);
+    }
+
+    /**
+     * Visits all paragraphs of a document with the given visitors, in parallel on the common
+     * pool if the document is large and all visitors are mergeable.
+     *
+     * @param index Index of the document to walk
+     * @param visitors Visitors to notify
+     * @return One entry per visitor: the exception that visitor threw, or null if it completed
+     */
+    public static List<RuntimeException> walk(DocumentIndex index, List<? extends DocumentVisitor> visitors) {
+        return walk(index, visitors, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Visits all paragraphs of a document with the given visitors.
+     *
+     * @param index Index of the document to walk
+     * @param visitors Visitors to notify
+     * @param pool Pool for chunked traversal of large documents, or null to always walk sequentially
+     * @return One entry per visitor: the exception that visitor threw, or null if it completed
+     */
+    public static List<RuntimeException> walk(DocumentIndex index, List<? extends DocumentVisitor> visitors,
+                                               ForkJoinPool pool) {
+        Objects.requireNonNull(index, "Document index cannot be null");
+        Objects.requireNonNull(visitors, "Visitors cannot be null");
+
+        List<IndexedParagraph> paragraphs = index.getParagraphs();
+        DocumentTraversal traversal;
+        if (pool != null && paragraphs.size() > PARALLEL_THRESHOLD_PARAGRAPHS && allMergeable(visitors)) {
+            logger.debug("Walking {} paragraphs in chunks of {} on {} threads",
+                        paragraphs.size(), CHUNK_PARAGRAPHS, pool.getParallelism());
+            traversal = pool.invoke(new ChunkTask(paragraphs, 0, paragraphs.size(), visitors));
+        } else {
+            traversal = new DocumentTraversal(visitors);
+            traversal.walk(paragraphs, 0, paragraphs.size());
+        }
+        return Arrays.asList(traversal.failures);
+    }
+
+    /**
+     * Visits the paragraphs in [from, to), which must not start or end inside a table cell.
+     */
+    private void walk(List<IndexedParagraph> paragraphs, int from, int to) {
+        int cellStart = -1;
+        for (int i = from; i < to; i++) {
+            IndexedParagraph paragraph = paragraphs.get(i);
+            visitParagraph(paragraph);
+
+            if (runVisitors.length > 0) {
+                for (RunSpan run : paragraph.getRuns()) {
+                    visitRun(paragraph, run);
+                }
+            }
+
+            if (paragraph.isInTable()) {
+                if (cellStart < 0) {
+                    cellStart = i;
+                }
+                boolean lastInCell = i + 1 == to || !isSameCell(paragraph, paragraphs.get(i + 1));
+                if (lastInCell) {
+                    if (tableCellVisitors.length > 0) {
+                        visitTableCell(paragraph, paragraphs.subList(cellStart, i + 1));
+                    }
+                    cellStart = -1;
+                }
+            }
+
+            if (paragraph.isSectionBreak()) {
+                visitSectionBreak(paragraph);
+            }
+        }
+    }
+
+    private void visitParagraph(IndexedParagraph paragraph) {
+        for (int v : paragraphVisitors) {
+            if (failures[v] == null) {
+                try {
+                    visitors.get(v).onParagraph(paragraph);
+                } catch (RuntimeException e) {
+                    fail(v, e);
+                }
+            }
+        }
+    }
+
+    private void visitRun(IndexedParagraph paragraph, RunSpan run) {
+        for (int v : runVisitors) {
+            if (failures[v] == null) {
+                try {
+                    visitors.get(v).onRun(paragraph, run);
+                } catch (RuntimeException e) {
+                    fail(v, e);
+                }
+            }
+        }
+    }
+
+    private void visitTableCell(IndexedParagraph last, List<IndexedParagraph> cellParagraphs) {
+        for (int v : tableCellVisitors) {
+            if (failures[v] == null) {
+                try {
+                    visitors.get(v).onTableCell(last.getTableIndex(), last.getRowIndex(), last.getCellIndex(),
+                            cellParagraphs);
+                } catch (RuntimeException e) {
+                    fail(v, e);
+                }
+            }
+        }
+    }
+
+    private void visitSectionBreak(IndexedParagraph paragraph) {
+        for (int v : sectionBreakVisitors) {
+            if (failures[v] == null) {
+                try {
+                    visitors.get(v).onSectionBreak(paragraph);
+                } catch (RuntimeException e) {
+                    fail(v, e);
+                }
+            }
+        }
+    }
+
+    private void fail(int visitor, RuntimeException e) {
+        logger.debug("Visitor {} failed and is skipped for the rest of the traversal: {}",
+                    visitors.get(visitor).getClass().getSimpleName(), e.getMessage());
+        failures[visitor] = e;
+    }
+
+    /**
+     * Adds the state of the traversal of the following range: visitors are merged pairwise,
+     * and a failure in either range fails the visitor.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void mergeFollowing(DocumentTraversal following) {
+        for (int v = 0; v < failures.length; v++) {
+            if (failures[v] != null) {
+                continue;
+            }
+            if (following.failures[v] != null) {
+                failures[v] = following.failures[v];
+                continue;
+            }
+            try {
+                ((MergeableVisitor) visitors.get(v)).merge((MergeableVisitor) following.visitors.get(v));
+            } catch (RuntimeException e) {
+                fail(v, e);
+            }
+        }
+    }
+
+    private static boolean allMergeable(List<? extends DocumentVisitor> visitors) {
+        for (DocumentVisitor visitor : visitors) {
+            if (!(visitor instanceof MergeableVisitor)) {
+                return false;
+            }
+        }
+        return !visitors.isEmpty();
+    }
+
+    private static boolean isSameCell(IndexedParagraph a, IndexedParagraph b) {
+        return a.getTableIndex() == b.getTableIndex()
+                && a.getRowIndex() == b.getRowIndex()
+                && a.getCellIndex() == b.getCellIndex();
+    }
+
+    /**
+     * Gets the positions of the visitors subscribed to an element type.
+     */
+    private static int[] subscribers(List<? extends DocumentVisitor> visitors, DocumentVisitor.Element element) {
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < visitors.size(); i++) {
+            if (visitors.get(i).getVisitedElements().contains(element)) {
+                positions.add(i);
+            }
+        }
+        return positions.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Walks a paragraph range, splitting it in halves until it fits in one chunk.
+     * The range starting at the first paragraph accumulates into the caller's visitors,
+     * every other range into empty copies, so the merged result ends up in the caller's visitors.
+     */
+    private static final class ChunkTask extends RecursiveTask<DocumentTraversal> {
+        private final List<IndexedParagraph> paragraphs;
+        private final int from;
+        private final int to;
+        private final List<? extends DocumentVisitor> rootVisitors;
+
+        private ChunkTask(List<IndexedParagraph> paragraphs, int from, int to,
+                          List<? extends DocumentVisitor> rootVisitors) {
+            this.paragraphs = paragraphs;
+            this.from = from;
+            this.to = to;
+            this.rootVisitors = rootVisitors;
+        }
+
+        @Override
+        protected DocumentTraversal compute() {
+            int split = splitPoint();
+            if (split < 0) {
+                return walkChunk();
+            }
+
+            ChunkTask following = new ChunkTask(paragraphs, split, to, rootVisitors);
+            following.fork();
+            DocumentTraversal result = new ChunkTask(paragraphs, from, split, rootVisitors).compute();
+            result.mergeFollowing(following.join());
+            return result;
+        }
+
+        private DocumentTraversal walkChunk() {
+            if (from == 0) {
+                DocumentTraversal traversal = new DocumentTraversal(rootVisitors);
+                traversal.walk(paragraphs, from, to);
+                return traversal;
+            }
+
+            List<DocumentVisitor> chunkVisitors = new ArrayList<>(rootVisitors.size());
+            RuntimeException[] creationFailures = new RuntimeException[rootVisitors.size()];
+            for (int v = 0; v < rootVisitors.size(); v++) {
+                DocumentVisitor root = rootVisitors.get(v);
+                try {
+                    chunkVisitors.add(((MergeableVisitor<?>) root).createEmpty());
+                } catch (RuntimeException e) {
+                    // Keep the position; the failed visitor is never called
+                    chunkVisitors.add(root);
+                    creationFailures[v] = e;
+                }
+            }
+
+            DocumentTraversal traversal = new DocumentTraversal(chunkVisitors);
+            System.arraycopy(creationFailures, 0, traversal.failures, 0, creationFailures.length);
+            traversal.walk(paragraphs, from, to);
+            return traversal;
+        }
+
+        /**
+         * Finds the middle of the range, moved forward to the next table cell boundary.
+         *
+         * @return Split index, or -1 if the range should be walked as one chunk
+         */
+        private int splitPoint() {
+            if (to - from <= CHUNK_PARAGRAPHS) {
+                return -1;
+            }
+            int split = from + (to - from) / 2;
+            while (split < to && paragraphs.get(split).isInTable()
+                    && isSameCell(paragraphs.get(split - 1), paragraphs.get(split))) {
+                split++;
+            }
+            return split < to ? split : -1;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Callbacks for a single pass over the document body, driven by {@link DocumentTraversal}.
+ *
+ * Elements are reported in document order: every paragraph (including table paragraphs)
+ * is followed by its runs; a table cell is reported after its last paragraph, and a section
+ * break after the paragraph that carries it. A visitor only receives the element types
+ * returned by {@link #getVisitedElements()}, so unused callbacks cost nothing.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public interface DocumentVisitor {
+
+    /**
+     * Element types a visitor can subscribe to.
+     */
+    enum Element {
+        PARAGRAPH,
+        RUN,
+        TABLE_CELL,
+        SECTION_BREAK
+    }
+
+    /**
+     * Gets the element types this visitor wants to receive. Defaults to all of them.
+     *
+     * @return Set of visited element types
+     */
+    default Set<Element> getVisitedElements() {
+        return EnumSet.allOf(Element.class);
+    }
+
+    /**
+     * Called for each paragraph, whether in the body or in a table cell.
+     *
+     * @param paragraph The paragraph
+     */
+    default void onParagraph(IndexedParagraph paragraph) {
+    }
+
+    /**
+     * Called for each run of a paragraph, after {@link #onParagraph(IndexedParagraph)}.
+     *
+     * @param paragraph The paragraph containing the run
+     * @param run The run
+     */
+    default void onRun(IndexedParagraph paragraph, RunSpan run) {
+    }
+
+    /**
+     * Called once per table cell, after the cell's last paragraph has been visited.
+     *
+     * @param tableIndex Index of the table among all tables
+     * @param rowIndex Row index within the table
+     * @param cellIndex Cell index within the row
+     * @param paragraphs Paragraphs of the cell in order
+     */
+    default void onTableCell(int tableIndex, int rowIndex, int cellIndex, List<IndexedParagraph> paragraphs) {
+    }
+
+    /**
+     * Called after a paragraph that ends a document section.
+     *
+     * @param paragraph The paragraph carrying the section properties
+     */
+    default void onSectionBreak(IndexedParagraph paragraph) {
+    }
+}
@@ -1,5 +1,7 @@
 package com.fdv.techcheck.core.validation;
 
+import java.util.concurrent.Executor;
+
 /**
  * Core interface for all validation components in TechCheck.
  * Provides a common contract for validating different aspects of thesis documents.
@@ -20,6 +22,35 @@ public interface IValidator<T> {
      */
     ValidationResult validate(T target) throws ValidationException;
     
+    /**
+     * Prepares a validation run that publishes its findings as they are discovered.
+     * The run starts on the executor when the returned publisher is subscribed to;
+     * its final result is available from {@link ValidationPublisher#getResult()}.
+     * Findings are delivered on the default asynchronous pool of
+     * {@link java.util.concurrent.SubmissionPublisher}.
+     * 
+     * @param target The object to validate
+     * @param executor Executor running the validation
+     * @return A publisher of the findings of one run
+     */
+    default ValidationPublisher<T> publish(T target, Executor executor) {
+        return publish(target, executor, null);
+    }
+    
+    /**
+     * Prepares a validation run that publishes its findings on the given delivery executor.
+     * Delivery must not depend on the executor running the validation, which blocks while
+     * the subscriber falls behind; see {@link ValidationPublisher}.
+     * 
+     * @param target The object to validate
+     * @param executor Executor running the validation
+     * @param deliveryExecutor Executor delivering findings, or null for the default asynchronous pool
+     * @return A publisher of the findings of one run
+     */
+    default ValidationPublisher<T> publish(T target, Executor executor, Executor deliveryExecutor) {
+        return new ValidationPublisher<>(this, target, executor, deliveryExecutor);
+    }
+    
     /**
      * Gets the human-readable name of this validator.
      * 
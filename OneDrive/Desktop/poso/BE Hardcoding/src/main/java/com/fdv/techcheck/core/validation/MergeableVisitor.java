@@ -0,0 +1,30 @@
+package com.fdv.techcheck.core.validation;
+
+/**
+ * A {@link DocumentVisitor} whose collected state can be split across paragraph ranges and
+ * combined afterwards, which lets {@link DocumentTraversal} analyse a large document in
+ * parallel chunks.
+ *
+ * Merging must be associative: merging the accumulators of consecutive ranges in any
+ * grouping must give the same state as one visitor walking all of them in order.
+ *
+ * @param <V> The implementing visitor type
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public interface MergeableVisitor<V extends MergeableVisitor<V>> extends DocumentVisitor {
+
+    /**
+     * Creates an empty accumulator with the same configuration as this one.
+     *
+     * @return A new visitor that has not seen any element
+     */
+    V createEmpty();
+
+    /**
+     * Adds the state of a visitor that covered the range directly following this one.
+     *
+     * @param following Visitor of the following paragraph range
+     */
+    void merge(V following);
+}
@@ -20,6 +20,7 @@ public class ValidationDetail {
     private final String ruleReference;
     private final String pageNumber;
     private final String lineNumber;
+    private final int occurrences;
     
     /**
      * Private constructor - use Builder to create instances.
@@ -33,6 +34,7 @@ public class ValidationDetail {
         this.ruleReference = builder.ruleReference;
         this.pageNumber = builder.pageNumber;
         this.lineNumber = builder.lineNumber;
+        this.occurrences = builder.occurrences;
     }
     
     /**
@@ -96,6 +98,16 @@ public class ValidationDetail {
         return lineNumber;
     }
     
+    /**
+     * Gets the number of findings this detail stands for. A detail produced by
+     * {@link DetailCompactor} represents several paragraphs with the same issue.
+     * 
+     * @return Number of occurrences, at least 1
+     */
+    public int getOccurrences() {
+        return occurrences;
+    }
+    
     /**
      * Checks if this validation detail has location information (page/line).
      * 
@@ -144,12 +156,13 @@ public class ValidationDetail {
         return Objects.equals(location, that.location) &&
                Objects.equals(expected, that.expected) &&
                Objects.equals(actual, that.actual) &&
-               severity == that.severity;
+               severity == that.severity &&
+               occurrences == that.occurrences;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(location, expected, actual, severity);
+        return Objects.hash(location, expected, actual, severity, occurrences);
     }
     
     @Override
@@ -170,6 +183,7 @@ public class ValidationDetail {
         private String ruleReference;
         private String pageNumber;
         private String lineNumber;
+        private int occurrences = 1;
         
         private Builder() {}
         
@@ -223,6 +237,14 @@ public class ValidationDetail {
             return this;
         }
         
+        public Builder occurrences(int occurrences) {
+            if (occurrences < 1) {
+                throw new IllegalArgumentException("Occurrences must be at least 1: " + occurrences);
+            }
+            this.occurrences = occurrences;
+            return this;
+        }
+        
         public ValidationDetail build() {
             return new ValidationDetail(this);
         }
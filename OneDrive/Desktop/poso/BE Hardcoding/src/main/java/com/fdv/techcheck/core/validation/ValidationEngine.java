@@ -0,0 +1,503 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.concurrent.DaemonThreadFactory;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
+import com.fdv.techcheck.core.metrics.Timer;
+import com.fdv.techcheck.core.metrics.ValidatorExecutionEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs a set of validators concurrently against one document.
+ *
+ * All validators read the same {@link ThesisDocument}, whose {@link com.fdv.techcheck.core.document.DocumentIndex}
+ * is immutable, so no copying or locking is needed. Results are returned in the order the
+ * validators were registered, regardless of completion order. A validator that throws yields
+ * an ERROR result and does not affect the others.
+ *
+ * Validators extending {@link AbstractVisitingValidator} are not run as separate tasks: their
+ * visitors are fused into a single {@link DocumentTraversal}, so the document body is walked once
+ * for all of them however many are registered. The fused walk runs concurrently with the
+ * remaining validators.
+ *
+ * A {@link ValidationListener} receives each finding as soon as a validator adds it to a
+ * {@link DetailSink}, so callers can show issues long before the slowest validator finishes.
+ * Findings of fused validators are forwarded from the traversal thread in the same way;
+ * a validator that builds its result without a sink has its findings forwarded just before
+ * its result.
+ *
+ * The engine either runs on a caller-supplied executor or owns a fixed pool of daemon threads,
+ * which is shut down by {@link #close()}.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class ValidationEngine implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationEngine.class);
+
+    // Runs and delivers on the validator's own worker thread; safe as FindingForwarder never limits demand
+    private static final Executor SAME_THREAD = Runnable::run;
+
+    // Numbers the pools of engines that own one, so their threads are told apart
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+
+    private final List<IValidator<ThesisDocument>> validators;
+    private final List<Integer> fusedPositions;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private ValidationEngine(Builder builder) {
+        if (builder.validators.isEmpty()) {
+            throw new IllegalArgumentException("At least one validator is required");
+        }
+        this.validators = Collections.unmodifiableList(new ArrayList<>(builder.validators));
+
+        List<Integer> positions = new ArrayList<>();
+        if (builder.fuseTraversal) {
+            for (int i = 0; i < validators.size(); i++) {
+                if (validators.get(i) instanceof AbstractVisitingValidator) {
+                    positions.add(i);
+                }
+            }
+        }
+        this.fusedPositions = Collections.unmodifiableList(positions);
+
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.ownsExecutor = false;
+        } else {
+            int parallelism = builder.parallelism > 0 ? builder.parallelism
+                    : Math.min(validators.size(), Runtime.getRuntime().availableProcessors());
+            this.executor = Executors.newFixedThreadPool(parallelism,
+                    new DaemonThreadFactory("validation-" + POOL_NUMBER.getAndIncrement() + "-worker-"));
+            this.ownsExecutor = true;
+        }
+    }
+
+    /**
+     * Creates a new builder for constructing ValidationEngine instances.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Validates a document with all registered validators.
+     *
+     * @param document The document to validate
+     * @return One result per validator, in registration order
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<ValidationResult> validate(ThesisDocument document) throws InterruptedException {
+        return validate(document, null);
+    }
+
+    /**
+     * Validates a document with all registered validators, reporting each result as it completes.
+     *
+     * @param document The document to validate
+     * @param listener Callback invoked on the worker thread as each validator finishes, may be null
+     * @return One result per validator, in registration order
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public List<ValidationResult> validate(ThesisDocument document, ValidationListener listener)
+            throws InterruptedException {
+        Objects.requireNonNull(document, "Document cannot be null");
+
+        long startTime = System.nanoTime();
+        List<CompletableFuture<ValidationResult>> futures = new ArrayList<>(validators.size());
+        CompletableFuture<List<ValidationResult>> fusedFuture = null;
+        if (!fusedPositions.isEmpty()) {
+            fusedFuture = CompletableFuture.supplyAsync(() -> runFused(document, listener), executor);
+        }
+
+        for (int i = 0; i < validators.size(); i++) {
+            IValidator<ThesisDocument> validator = validators.get(i);
+            int fusedIndex = fusedPositions.indexOf(i);
+            if (fusedIndex >= 0) {
+                futures.add(fusedFuture.thenApply(fusedResults -> fusedResults.get(fusedIndex)));
+            } else {
+                futures.add(CompletableFuture.supplyAsync(() -> runValidator(validator, document, listener), executor));
+            }
+        }
+
+        List<ValidationResult> results = new ArrayList<>(validators.size());
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(awaitResult(validators.get(i), futures.get(i)));
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (fusedFuture != null) {
+                fusedFuture.cancel(true);
+            }
+            throw e;
+        }
+
+        logger.debug("Ran {} validators on {} in {}ms", validators.size(),
+                    document.getFilePath().getFileName(), Duration.ofNanos(System.nanoTime() - startTime).toMillis());
+        return results;
+    }
+
+    /**
+     * Gets the registered validators in result order.
+     *
+     * @return Unmodifiable list of validators
+     */
+    public List<IValidator<ThesisDocument>> getValidators() {
+        return validators;
+    }
+
+    /**
+     * Shuts down the worker pool if the engine created it. A caller-supplied executor is left running.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ValidationEngine{validators=%d, fused=%d, ownsExecutor=%s}",
+                           validators.size(), fusedPositions.size(), ownsExecutor);
+    }
+
+    /**
+     * Runs one validator, converting any failure into an ERROR result.
+     */
+    private ValidationResult runValidator(IValidator<ThesisDocument> validator, ThesisDocument document,
+                                          ValidationListener listener) {
+        ValidationResult result;
+        try {
+            if (listener != null) {
+                ValidationPublisher<ThesisDocument> publisher = validator.publish(document, SAME_THREAD, SAME_THREAD);
+                publisher.subscribe(new FindingForwarder(listener, validator));
+                result = checkResult(validator, publisher.awaitResult());
+            } else {
+                result = checkResult(validator, validator.validate(document));
+            }
+        } catch (ValidationException e) {
+            result = errorResult(validator, e);
+        } catch (RuntimeException e) {
+            result = errorResult(validator, e);
+        } catch (InterruptedException e) {
+            // Not reached: the run has completed on this thread when subscribe returns
+            Thread.currentThread().interrupt();
+            result = ValidationResult.error(validator.getValidatorName(), "Validation was interrupted");
+        }
+
+        notifyListener(listener, validator, result);
+        return result;
+    }
+
+    /**
+     * Runs all visiting validators over one shared traversal of the document.
+     *
+     * @return One result per fused validator, in registration order
+     */
+    private List<ValidationResult> runFused(ThesisDocument document, ValidationListener listener) {
+        long startTime = Timer.start();
+        ValidationResult[] results = new ValidationResult[fusedPositions.size()];
+        List<FusedVisit<?>> visits = new ArrayList<>(fusedPositions.size());
+
+        for (int i = 0; i < fusedPositions.size(); i++) {
+            AbstractVisitingValidator<?> validator =
+                    (AbstractVisitingValidator<?>) validators.get(fusedPositions.get(i));
+            if (!validator.isEnabled()) {
+                results[i] = ValidationResult.skip(validator.getValidatorName(), "Validator disabled");
+                continue;
+            }
+            try {
+                visits.add(FusedVisit.begin(i, validator, document, listener));
+            } catch (ValidationException e) {
+                results[i] = errorResult(validator, e);
+            } catch (RuntimeException e) {
+                results[i] = errorResult(validator, e);
+            }
+        }
+
+        if (!visits.isEmpty()) {
+            List<DocumentVisitor> visitors = new ArrayList<>(visits.size());
+            visits.forEach(visit -> visitors.add(visit.visitor));
+            List<RuntimeException> failures = DocumentTraversal.walk(document.getDocumentIndex(), visitors);
+            long traversalNanos = MetricsRegistry.global().timer(MetricsRegistry.FUSED_TRAVERSAL).recordSince(startTime);
+
+            for (int v = 0; v < visits.size(); v++) {
+                FusedVisit<?> visit = visits.get(v);
+                try {
+                    if (failures.get(v) != null) {
+                        visit.abandon(document);
+                        throw failures.get(v);
+                    }
+                    results[visit.position] = checkResult(visit.validator,
+                            visit.finish(document, Duration.ofNanos(System.nanoTime() - startTime)));
+                } catch (ValidationException e) {
+                    results[visit.position] = errorResult(visit.validator, e);
+                } catch (RuntimeException e) {
+                    results[visit.position] = errorResult(visit.validator, e);
+                }
+            }
+            logger.debug("Fused traversal for {} validators completed in {}ms", visits.size(),
+                        Duration.ofNanos(traversalNanos).toMillis());
+        }
+
+        for (int i = 0; i < results.length; i++) {
+            notifyListener(listener, validators.get(fusedPositions.get(i)), results[i]);
+        }
+        return List.of(results);
+    }
+
+    private static ValidationResult checkResult(IValidator<ThesisDocument> validator, ValidationResult result) {
+        if (result == null) {
+            return ValidationResult.error(validator.getValidatorName(), "Validator returned no result");
+        }
+        return result;
+    }
+
+    private static ValidationResult errorResult(IValidator<ThesisDocument> validator, ValidationException e) {
+        logger.warn("Validator {} failed: {}", validator.getValidatorName(), e.getMessage());
+        return ValidationResult.error(validator.getValidatorName(), e.getMessage());
+    }
+
+    private static ValidationResult errorResult(IValidator<ThesisDocument> validator, RuntimeException e) {
+        logger.error("Unexpected error in validator {}", validator.getValidatorName(), e);
+        return ValidationResult.error(validator.getValidatorName(),
+                "Unexpected error during validation: " + e.getMessage());
+    }
+
+    private static void notifyListener(ValidationListener listener, IValidator<ThesisDocument> validator,
+                                       ValidationResult result) {
+        if (listener != null) {
+            try {
+                listener.onResult(validator, result);
+            } catch (RuntimeException e) {
+                logger.warn("Validation listener failed for {}: {}", validator.getValidatorName(), e.getMessage());
+            }
+        }
+    }
+
+    private ValidationResult awaitResult(IValidator<ThesisDocument> validator,
+                                         CompletableFuture<ValidationResult> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // Only errors escape runValidator, e.g. a StackOverflowError in a validator
+            logger.error("Validator {} terminated abnormally", validator.getValidatorName(), e.getCause());
+            return ValidationResult.error(validator.getValidatorName(),
+                    "Validator terminated abnormally: " + e.getCause());
+        }
+    }
+
+    /**
+     * Passes published findings to a listener. A failing listener stops receiving findings
+     * but does not affect the validator.
+     */
+    private static final class FindingForwarder implements Flow.Subscriber<ValidationDetail> {
+        private final ValidationListener listener;
+        private final IValidator<ThesisDocument> validator;
+        private Flow.Subscription subscription;
+
+        private FindingForwarder(ValidationListener listener, IValidator<ThesisDocument> validator) {
+            this.listener = listener;
+            this.validator = validator;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ValidationDetail detail) {
+            try {
+                listener.onFinding(validator, detail);
+            } catch (RuntimeException e) {
+                logger.warn("Validation listener failed for a finding of {}: {}",
+                            validator.getValidatorName(), e.getMessage());
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // Reported through the validator's result
+        }
+
+        @Override
+        public void onComplete() {
+            // The result follows through onResult
+        }
+    }
+
+    /**
+     * Passes the findings of a fused validator to a listener on the traversal thread. A failing
+     * listener stops receiving findings but does not affect the validator.
+     */
+    private static final class FindingRelay implements Consumer<ValidationDetail> {
+        private final ValidationListener listener;
+        private final IValidator<ThesisDocument> validator;
+        private boolean relayed;
+        private boolean stopped;
+
+        private FindingRelay(ValidationListener listener, IValidator<ThesisDocument> validator) {
+            this.listener = listener;
+            this.validator = validator;
+        }
+
+        @Override
+        public void accept(ValidationDetail detail) {
+            relayed = true;
+            if (stopped) {
+                return;
+            }
+            try {
+                listener.onFinding(validator, detail);
+            } catch (RuntimeException e) {
+                logger.warn("Validation listener failed for a finding of {}: {}",
+                            validator.getValidatorName(), e.getMessage());
+                stopped = true;
+            }
+        }
+
+        /**
+         * Relays the result's details if the validator added none to a sink.
+         */
+        void complete(ValidationResult result) {
+            if (!relayed && result != null) {
+                result.getDetails().forEach(this);
+            }
+        }
+    }
+
+    /**
+     * A visiting validator taking part in a fused traversal, with its per-document visitor.
+     */
+    private static final class FusedVisit<V extends DocumentVisitor> {
+        private final int position;
+        private final AbstractVisitingValidator<V> validator;
+        private final V visitor;
+        private final ValidatorExecutionEvent event;
+        private final FindingRelay relay;
+
+        private FusedVisit(int position, AbstractVisitingValidator<V> validator, V visitor,
+                           ValidatorExecutionEvent event, FindingRelay relay) {
+            this.position = position;
+            this.validator = validator;
+            this.visitor = visitor;
+            this.event = event;
+            this.relay = relay;
+        }
+
+        static <V extends DocumentVisitor> FusedVisit<V> begin(int position, AbstractVisitingValidator<V> validator,
+                                                               ThesisDocument document, ValidationListener listener)
+                throws ValidationException {
+            ValidatorExecutionEvent event = validator.startExecutionEvent();
+            FindingRelay relay = listener != null ? new FindingRelay(listener, validator) : null;
+            try {
+                // Sinks created for the visitor keep the relay for the whole traversal
+                V visitor = ValidationPublisher.withFindings(relay, () -> validator.beginVisit(document));
+                return new FusedVisit<>(position, validator, visitor, event, relay);
+            } catch (ValidationException | RuntimeException e) {
+                validator.commitExecutionEvent(event, document, null);
+                throw e;
+            }
+        }
+
+        ValidationResult finish(ThesisDocument document, Duration processingTime) throws ValidationException {
+            ValidationResult result = null;
+            try {
+                result = ValidationPublisher.withFindings(relay,
+                        () -> validator.finishVisit(document, visitor, processingTime));
+                if (relay != null) {
+                    relay.complete(result);
+                }
+                return result;
+            } finally {
+                validator.commitExecutionEvent(event, document, result);
+            }
+        }
+
+        /**
+         * Records a visit whose visitor failed during the shared traversal.
+         */
+        void abandon(ThesisDocument document) {
+            validator.commitExecutionEvent(event, document, null);
+        }
+    }
+
+    /**
+     * Builder class for constructing ValidationEngine instances.
+     */
+    public static class Builder {
+        private final List<IValidator<ThesisDocument>> validators = new ArrayList<>();
+        private ExecutorService executor;
+        private int parallelism;
+        private boolean fuseTraversal = true;
+
+        private Builder() {}
+
+        public Builder addValidator(IValidator<ThesisDocument> validator) {
+            this.validators.add(Objects.requireNonNull(validator, "Validator cannot be null"));
+            return this;
+        }
+
+        public Builder validators(List<? extends IValidator<ThesisDocument>> validators) {
+            validators.forEach(this::addValidator);
+            return this;
+        }
+
+        /**
+         * Runs validators on the given executor. The engine does not shut it down.
+         */
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the size of the engine-owned worker pool.
+         * Defaults to the number of validators, capped at the number of processors.
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets whether visiting validators share one document traversal (the default).
+         * When disabled, every validator runs as its own task and walks the document itself.
+         */
+        public Builder fuseTraversal(boolean fuseTraversal) {
+            this.fuseTraversal = fuseTraversal;
+            return this;
+        }
+
+        public ValidationEngine build() {
+            return new ValidationEngine(this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.ThesisDocument;
+
+/**
+ * Callback notified by the {@link ValidationEngine} as each validator finishes.
+ * Invoked on the worker thread that ran the validator, in completion order.
+ * Listeners interested in individual findings can also implement {@link #onFinding}.
+ * 
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ValidationListener {
+    
+    /**
+     * Called when a validator has produced its result.
+     * 
+     * @param validator The validator that finished
+     * @param result Its result; ERROR if the validator failed
+     */
+    void onResult(IValidator<ThesisDocument> validator, ValidationResult result);
+    
+    /**
+     * Called for each finding as soon as a validator discovers it, before its {@link #onResult}.
+     * Findings arrive as emitted, before compaction and without a cap; validators that do not
+     * publish findings while running report them all just before their result. Validators run
+     * in one fused traversal report their findings from the traversal thread.
+     * 
+     * @param validator The validator that found the issue
+     * @param detail The finding
+     */
+    default void onFinding(IValidator<ThesisDocument> validator, ValidationDetail detail) {
+        // Results only by default
+    }
+}
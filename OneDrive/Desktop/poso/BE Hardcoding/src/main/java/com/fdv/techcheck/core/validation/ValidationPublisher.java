@@ -0,0 +1,213 @@
+package com.fdv.techcheck.core.validation;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Publishes the findings of one validation run as they are discovered.
+ *
+ * The run starts when the publisher is subscribed to and executes on the given executor.
+ * Validators that collect their findings in a {@link DetailSink} created during the run push
+ * every finding to the subscriber immediately, before compaction and regardless of the sink's
+ * capacity; other validators publish the details of their result once it is complete. The
+ * subscriber controls the flow with {@link Flow.Subscription#request(long)}: when its buffer of
+ * {@link Flow#defaultBufferSize()} findings is full, the validator waits until it requests more.
+ *
+ * The final result, with compacted and capped details, is available from {@link #getResult()}.
+ * A publisher runs its validation once and accepts a single subscriber.
+ *
+ * Findings are delivered to the subscriber by a separate delivery executor, by default the
+ * asynchronous pool of {@link SubmissionPublisher}. The validator blocks while the buffer is full,
+ * so delivery must never depend on the executor running the validation: with a single-thread or
+ * saturated executor, delivery tasks queued behind the blocked run would never execute. A
+ * same-thread delivery executor is only safe together with a same-thread run executor and a
+ * subscriber that requests an unbounded number of findings, as {@link ValidationEngine} does.
+ *
+ * @param <T> The type of object validated
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class ValidationPublisher<T> implements Flow.Publisher<ValidationDetail> {
+
+    // Receiver of the findings of the run executing on the current thread, picked up by new DetailSinks
+    private static final ThreadLocal<Consumer<ValidationDetail>> ACTIVE = new ThreadLocal<>();
+
+    private final IValidator<T> validator;
+    private final T target;
+    private final Executor executor;
+    private final Executor deliveryExecutor;
+    private final CompletableFuture<ValidationResult> result = new CompletableFuture<>();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+    private SubmissionPublisher<ValidationDetail> findings;
+    private boolean streamed;
+
+    /**
+     * Creates a publisher for one validation run that delivers findings on the default
+     * asynchronous pool of {@link SubmissionPublisher}.
+     *
+     * @param validator The validator to run
+     * @param target The object to validate
+     * @param executor Executor running the validation
+     */
+    public ValidationPublisher(IValidator<T> validator, T target, Executor executor) {
+        this(validator, target, executor, null);
+    }
+
+    /**
+     * Creates a publisher for one validation run.
+     *
+     * @param validator The validator to run
+     * @param target The object to validate
+     * @param executor Executor running the validation
+     * @param deliveryExecutor Executor delivering findings to the subscriber, independent of
+     *                         {@code executor}; null for the default asynchronous pool
+     */
+    public ValidationPublisher(IValidator<T> validator, T target, Executor executor, Executor deliveryExecutor) {
+        this.validator = Objects.requireNonNull(validator, "Validator cannot be null");
+        this.target = target;
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.deliveryExecutor = deliveryExecutor;
+    }
+
+    /**
+     * Subscribes to the findings and starts the validation run.
+     *
+     * @param subscriber The subscriber; a second subscriber is rejected through onError
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super ValidationDetail> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new NoSubscription());
+            subscriber.onError(new IllegalStateException(
+                "Findings of " + validator.getValidatorName() + " already have a subscriber"));
+            return;
+        }
+        findings = deliveryExecutor != null
+            ? new SubmissionPublisher<>(deliveryExecutor, Flow.defaultBufferSize())
+            : new SubmissionPublisher<>();
+        findings.subscribe(subscriber);
+        executor.execute(this::run);
+    }
+
+    /**
+     * Gets the result of the run, completed exceptionally with a {@link ValidationException}
+     * if the validator failed.
+     *
+     * @return Future of the final result
+     */
+    public CompletableFuture<ValidationResult> getResult() {
+        return result;
+    }
+
+    /**
+     * Waits for the result of the run.
+     *
+     * @return The final result
+     * @throws ValidationException if the validator failed
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public ValidationResult awaitResult() throws ValidationException, InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ValidationException) {
+                throw (ValidationException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Gets the receiver of findings of the run executing on the current thread.
+     *
+     * @return The active receiver, or null outside a published run
+     */
+    static Consumer<ValidationDetail> active() {
+        return ACTIVE.get();
+    }
+
+    /**
+     * Runs an action on the current thread with findings of the {@link DetailSink}s it creates
+     * going to the given receiver.
+     *
+     * @param receiver Receiver of the findings, or null for none
+     * @param action The action, such as a validation run
+     * @return The action's result
+     * @throws ValidationException if the action fails
+     */
+    static <R> R withFindings(Consumer<ValidationDetail> receiver, FindingScope<R> action) throws ValidationException {
+        Consumer<ValidationDetail> previous = ACTIVE.get();
+        ACTIVE.set(receiver);
+        try {
+            return action.run();
+        } finally {
+            if (previous != null) {
+                ACTIVE.set(previous);
+            } else {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    /**
+     * An action run by {@link #withFindings(Consumer, FindingScope)}.
+     */
+    @FunctionalInterface
+    interface FindingScope<R> {
+        R run() throws ValidationException;
+    }
+
+    /**
+     * Publishes a finding as soon as it is discovered, waiting while the subscriber's buffer is full.
+     *
+     * @param detail The finding
+     */
+    void publish(ValidationDetail detail) {
+        streamed = true;
+        findings.submit(detail);
+    }
+
+    private void run() {
+        try {
+            ValidationResult validationResult = withFindings(this::publish, () -> validator.validate(target));
+            if (!streamed && validationResult != null) {
+                validationResult.getDetails().forEach(findings::submit);
+            }
+            findings.close();
+            result.complete(validationResult);
+        } catch (ValidationException | RuntimeException e) {
+            findings.closeExceptionally(e);
+            result.completeExceptionally(e);
+        } catch (Error e) {
+            findings.closeExceptionally(e);
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Subscription handed to a rejected subscriber before its onError.
+     */
+    private static final class NoSubscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            // Nothing will be published
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing to cancel
+        }
+    }
+}
@@ -2,15 +2,23 @@ package com.fdv.techcheck.core.validation;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
  * Represents the result of a validation operation.
  * Contains the status, any issues found, and metadata about the validation process.
  * 
+ * A result built from a {@link DetailSink} may list fewer details than issues were found;
+ * its issue counts still cover every finding.
+ * 
+ * Results are immutable. The detail list is copied once, when a result is created from a
+ * validator's list, and is then shared as is by every result derived with the {@code with}
+ * methods and by every caller of {@link #getDetails()}, on any thread.
+ * 
  * @author TechCheck Development Team
  * @since 1.0.0
  */
@@ -22,6 +30,9 @@ public class ValidationResult {
     private final Instant timestamp;
     private final Duration processingTime;
     private final String errorMessage;
+    // Exact counts recorded by a DetailSink; null when the details are complete
+    private final Map<ValidationSeverity, Long> severityCounts;
+    private final Map<String, Long> ruleCounts;
     
     /**
      * Private constructor - use factory methods to create instances.
@@ -29,12 +40,24 @@ public class ValidationResult {
     private ValidationResult(ValidationStatus status, String validatorName, 
                            List<ValidationDetail> details, Instant timestamp, 
                            Duration processingTime, String errorMessage) {
+        this(status, validatorName, immutableCopy(details), timestamp, processingTime, errorMessage, null, null);
+    }
+    
+    /**
+     * Canonical constructor; the details must already be an immutable list.
+     */
+    private ValidationResult(ValidationStatus status, String validatorName, 
+                           List<ValidationDetail> details, Instant timestamp, 
+                           Duration processingTime, String errorMessage,
+                           Map<ValidationSeverity, Long> severityCounts, Map<String, Long> ruleCounts) {
         this.status = Objects.requireNonNull(status, "Status cannot be null");
         this.validatorName = Objects.requireNonNull(validatorName, "Validator name cannot be null");
-        this.details = details != null ? new ArrayList<>(details) : new ArrayList<>();
+        this.details = details;
         this.timestamp = timestamp != null ? timestamp : Instant.now();
         this.processingTime = processingTime != null ? processingTime : Duration.ZERO;
         this.errorMessage = errorMessage;
+        this.severityCounts = severityCounts;
+        this.ruleCounts = ruleCounts;
     }
     
     /**
@@ -72,6 +95,41 @@ public class ValidationResult {
                                   details, Instant.now(), Duration.ZERO, null);
     }
     
+    /**
+     * Creates a failed validation result from the findings collected in a sink.
+     * 
+     * @param validatorName The name of the validator that produced this result
+     * @param sink Sink holding the retained details and the exact issue counts
+     * @return A FAIL validation result
+     */
+    public static ValidationResult fail(String validatorName, DetailSink sink) {
+        return fromSink(ValidationStatus.FAIL, validatorName, sink);
+    }
+    
+    /**
+     * Creates a warning validation result from the findings collected in a sink.
+     * 
+     * @param validatorName The name of the validator that produced this result
+     * @param sink Sink holding the retained details and the exact issue counts
+     * @return A WARNING validation result
+     */
+    public static ValidationResult warning(String validatorName, DetailSink sink) {
+        return fromSink(ValidationStatus.WARNING, validatorName, sink);
+    }
+    
+    private static ValidationResult fromSink(ValidationStatus status, String validatorName, DetailSink sink) {
+        return new ValidationResult(status, validatorName, immutableCopy(sink.getDetails()), Instant.now(),
+                                  Duration.ZERO, null, Collections.unmodifiableMap(sink.severityCounts()),
+                                  Collections.unmodifiableMap(new LinkedHashMap<>(sink.getRuleCounts())));
+    }
+    
+    /**
+     * Copies details into an immutable list; a list that is already immutable is returned as is.
+     */
+    private static List<ValidationDetail> immutableCopy(List<ValidationDetail> details) {
+        return details != null ? List.copyOf(details) : List.of();
+    }
+    
     /**
      * Creates an error validation result when validation cannot complete.
      * 
@@ -97,14 +155,29 @@ public class ValidationResult {
     }
     
     /**
-     * Creates a new ValidationResult with updated processing time.
+     * Creates a new ValidationResult with updated processing time. The details are shared, not copied.
      * 
      * @param processingTime Time taken to complete validation
      * @return New ValidationResult with timing information
      */
     public ValidationResult withProcessingTime(Duration processingTime) {
         return new ValidationResult(this.status, this.validatorName, this.details, 
-                                  this.timestamp, processingTime, this.errorMessage);
+                                  this.timestamp, processingTime, this.errorMessage,
+                                  this.severityCounts, this.ruleCounts);
+    }
+    
+    /**
+     * Creates a new ValidationResult with the same outcome but different details, such as
+     * the compacted details from {@link DetailCompactor}. Issue counts recorded by a
+     * {@link DetailSink} are kept.
+     * 
+     * @param details The replacement details
+     * @return New ValidationResult with the given details
+     */
+    public ValidationResult withDetails(List<ValidationDetail> details) {
+        return new ValidationResult(this.status, this.validatorName, immutableCopy(details),
+                                  this.timestamp, this.processingTime, this.errorMessage,
+                                  this.severityCounts, this.ruleCounts);
     }
     
     // Getters
@@ -117,8 +190,13 @@ public class ValidationResult {
         return validatorName;
     }
     
+    /**
+     * Gets the details of the issues found.
+     * 
+     * @return Immutable list of details, shared by all results derived from this one
+     */
     public List<ValidationDetail> getDetails() {
-        return Collections.unmodifiableList(details);
+        return details;
     }
     
     public Instant getTimestamp() {
@@ -143,9 +221,9 @@ public class ValidationResult {
             case PASS:
                 return "Validation passed successfully - no issues found";
             case WARNING:
-                return "Validation completed with " + details.size() + " warning(s)";
+                return "Validation completed with " + getIssueCount() + " warning(s)";
             case FAIL:
-                return "Validation failed with " + details.size() + " issue(s)";
+                return "Validation failed with " + getIssueCount() + " issue(s)";
             case ERROR:
                 return errorMessage != null ? errorMessage : "Validation error occurred";
             case SKIP:
@@ -168,15 +246,58 @@ public class ValidationResult {
                status == ValidationStatus.ERROR;
     }
     
+    /**
+     * Counts the issues found, including every occurrence represented by a compacted detail.
+     * 
+     * @return Number of issues
+     */
+    public long getIssueCount() {
+        if (severityCounts != null) {
+            return severityCounts.values().stream().mapToLong(Long::longValue).sum();
+        }
+        return getListedIssueCount();
+    }
+    
+    /**
+     * Counts the issues found that are not listed in the details because a
+     * {@link DetailSink} did not retain them.
+     * 
+     * @return Number of issues without a detail, 0 if all are listed
+     */
+    public long getOmittedIssueCount() {
+        return getIssueCount() - getListedIssueCount();
+    }
+    
+    /**
+     * Gets the number of issues per rule. A rule is a detail's rule reference or,
+     * when it has none, its expected value.
+     * 
+     * @return Unmodifiable map from rule to issue count, in order of first occurrence
+     */
+    public Map<String, Long> getRuleCounts() {
+        if (ruleCounts != null) {
+            return ruleCounts;
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (ValidationDetail detail : details) {
+            counts.merge(DetailSink.ruleOf(detail), (long) detail.getOccurrences(), Long::sum);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+    
+    private long getListedIssueCount() {
+        return details.stream()
+                .mapToLong(ValidationDetail::getOccurrences)
+                .sum();
+    }
+    
     /**
      * Counts the number of critical issues found.
      * 
      * @return Number of critical severity issues
      */
     public long getCriticalIssueCount() {
-        return details.stream()
-                .filter(detail -> detail.getSeverity() == ValidationSeverity.CRITICAL)
-                .count();
+        return countIssues(ValidationSeverity.CRITICAL);
     }
     
     /**
@@ -185,9 +306,7 @@ public class ValidationResult {
      * @return Number of major severity issues
      */
     public long getMajorIssueCount() {
-        return details.stream()
-                .filter(detail -> detail.getSeverity() == ValidationSeverity.MAJOR)
-                .count();
+        return countIssues(ValidationSeverity.MAJOR);
     }
     
     /**
@@ -196,9 +315,17 @@ public class ValidationResult {
      * @return Number of minor severity issues
      */
     public long getMinorIssueCount() {
+        return countIssues(ValidationSeverity.MINOR);
+    }
+    
+    private long countIssues(ValidationSeverity severity) {
+        if (severityCounts != null) {
+            return severityCounts.get(severity);
+        }
         return details.stream()
-                .filter(detail -> detail.getSeverity() == ValidationSeverity.MINOR)
-                .count();
+                .filter(detail -> detail.getSeverity() == severity)
+                .mapToLong(ValidationDetail::getOccurrences)
+                .sum();
     }
     
     /**
@@ -241,6 +368,6 @@ public class ValidationResult {
     @Override
     public String toString() {
         return String.format("ValidationResult{status=%s, validator='%s', issues=%d, time=%dms}", 
-                           status, validatorName, details.size(), processingTime.toMillis());
+                           status, validatorName, getIssueCount(), processingTime.toMillis());
     }
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.fdv.techcheck.gui;
 
+import com.fdv.techcheck.core.document.DocumentCache;
+import com.fdv.techcheck.core.document.DocumentLoadMode;
 import com.fdv.techcheck.core.document.DocumentMetadata;
 import com.fdv.techcheck.core.document.DocumentProcessor;
 import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
 import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationEngine;
+import com.fdv.techcheck.core.validation.ValidationListener;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationStatus;
@@ -35,6 +40,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Controller for the main TechCheck GUI window.
@@ -47,6 +56,12 @@ public class MainWindowController {
     
     private static final Logger logger = LoggerFactory.getLogger(MainWindowController.class);
     
+    // Findings shown while validation runs; the final results replace them
+    private static final int LIVE_FINDINGS_LIMIT = 200;
+    
+    // Parsed models of the documents opened in this session, so reopening an unchanged file skips parsing
+    private final DocumentCache documentCache = DocumentCache.builder().build();
+    
     private Stage primaryStage;
     private File selectedDocument;
     private ThesisDocument loadedDocument;
@@ -70,7 +85,7 @@ public class MainWindowController {
     @FXML private TextArea logTextArea;
     
     // Validation modules
-    private final List<IValidator> validators = Arrays.asList(
+    private final List<IValidator<ThesisDocument>> validators = Arrays.asList(
         new MarginValidator(),
         new FontValidator(),
         new LineSpacingValidator(),
@@ -161,7 +176,8 @@ public class MainWindowController {
         if (selectedDocument == null) return;
         
         try {
-            loadedDocument = DocumentProcessor.loadDocument(selectedDocument.toPath());
+            loadedDocument = DocumentProcessor.loadDocument(selectedDocument.toPath(),
+                DocumentLoadMode.STREAMING, documentCache);
             
             String info = String.format("Document: %s | Pages: %d | Words: %d", 
                 selectedDocument.getName(),
@@ -218,42 +234,46 @@ public class MainWindowController {
             @Override
             protected Void call() throws Exception {
                 
-                for (int i = 0; i < validators.size(); i++) {
-                    IValidator validator = validators.get(i);
-                    
-                    // Update progress
-                    final int currentStep = i;
-                    final String validatorName = validator.getClass().getSimpleName().replace("Validator", "");
-                    
-                    Platform.runLater(() -> {
-                        double progress = (double) currentStep / validators.size();
-                        validationProgressBar.setProgress(progress);
-                        progressLabel.setText("Validating: " + validatorName + "...");
-                        logMessage("Running " + validatorName + " validation...");
-                    });
-                    
-                    try {
-                        // Perform validation
-                        ValidationResult result = validator.validate(loadedDocument);
-                        
-                        // Store result for export
-                        currentResults.add(result);
-                        currentResultsMap.put(validatorName, result);
-                        
-                        // Update UI with result
-                        Platform.runLater(() -> {
-                            addValidationResult(validatorName, result);
-                        });
-                        
-                        // Small delay to show progress
-                        Thread.sleep(200);
+                Platform.runLater(() -> {
+                    validationProgressBar.setProgress(0.0);
+                    progressLabel.setText("Validating: running " + validators.size() + " validators...");
+                    logMessage("Running " + validators.size() + " validators in parallel...");
+                });
+                
+                AtomicInteger completed = new AtomicInteger();
+                LiveFindings liveFindings = new LiveFindings();
+                Platform.runLater(() -> resultsContainer.getChildren().add(liveFindings.box));
+                List<ValidationResult> results;
+                try (ValidationEngine engine = ValidationEngine.builder().validators(validators).build()) {
+                    results = engine.validate(loadedDocument, new ValidationListener() {
+                        @Override
+                        public void onResult(IValidator<ThesisDocument> validator, ValidationResult result) {
+                            String validatorName = getDisplayName(validator);
+                            double progress = (double) completed.incrementAndGet() / validators.size();
+                            Platform.runLater(() -> {
+                                validationProgressBar.setProgress(progress);
+                                progressLabel.setText("Completed: " + validatorName);
+                                if (result.getStatus() == ValidationStatus.ERROR) {
+                                    logMessage("ERROR in " + validatorName + ": " + result.getErrorMessage());
+                                }
+                            });
+                        }
                         
-                    } catch (Exception e) {
-                        logger.error("Validation failed for {}", validatorName, e);
-                        Platform.runLater(() -> {
-                            logMessage("ERROR in " + validatorName + ": " + e.getMessage());
-                        });
-                    }
+                        @Override
+                        public void onFinding(IValidator<ThesisDocument> validator, ValidationDetail detail) {
+                            liveFindings.add(getDisplayName(validator), detail);
+                        }
+                    });
+                }
+                
+                // Replace the live findings with the final results, in validator order
+                Platform.runLater(() -> resultsContainer.getChildren().remove(liveFindings.box));
+                for (int i = 0; i < validators.size(); i++) {
+                    String validatorName = getDisplayName(validators.get(i));
+                    ValidationResult result = results.get(i);
+                    currentResults.add(result);
+                    currentResultsMap.put(validatorName, result);
+                    Platform.runLater(() -> addValidationResult(validatorName, result));
                 }
                 
                 return null;
@@ -265,6 +285,7 @@ public class MainWindowController {
                     validationProgressBar.setProgress(1.0);
                     progressLabel.setText("Validation completed successfully");
                     logMessage("Validation completed successfully");
+                    logMessage("Pipeline metrics:" + System.lineSeparator() + MetricsRegistry.global().format());
                     validationInProgress = false;
                     updateUIState();
                 });
@@ -287,6 +308,56 @@ public class MainWindowController {
         validationThread.start();
     }
     
+    /**
+     * Findings shown in the results pane as validators report them. Findings arrive on worker
+     * threads and are added to the pane in batches, one FX update at a time; beyond
+     * {@link #LIVE_FINDINGS_LIMIT} only a count is kept up to date.
+     */
+    private static final class LiveFindings {
+        private final VBox box = new VBox(3);
+        private final Label countLabel = new Label("Findings so far: 0");
+        private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicBoolean drainScheduled = new AtomicBoolean();
+        
+        private LiveFindings() {
+            box.getStyleClass().add("validation-details");
+            countLabel.getStyleClass().add("validation-header");
+            box.getChildren().add(countLabel);
+        }
+        
+        void add(String validatorName, ValidationDetail detail) {
+            if (count.incrementAndGet() <= LIVE_FINDINGS_LIMIT) {
+                pending.add(String.format("%s - %s: Expected %s, Found %s", validatorName,
+                                          detail.getLocation(), detail.getExpected(), detail.getActual()));
+            }
+            if (drainScheduled.compareAndSet(false, true)) {
+                Platform.runLater(this::drain);
+            }
+        }
+        
+        private void drain() {
+            drainScheduled.set(false);
+            String text;
+            while ((text = pending.poll()) != null) {
+                Label findingLabel = new Label(text);
+                findingLabel.getStyleClass().add("validation-detail");
+                box.getChildren().add(findingLabel);
+            }
+            countLabel.setText("Findings so far: " + count.get());
+        }
+    }
+    
+    /**
+     * Gets the short validator name used in the results display and the report.
+     * 
+     * @param validator Validator instance
+     * @return Class name without the "Validator" suffix (e.g. "Margin")
+     */
+    private static String getDisplayName(IValidator<ThesisDocument> validator) {
+        return validator.getClass().getSimpleName().replace("Validator", "");
+    }
+    
     /**
      * Adds a validation result to the results display.
      * 
@@ -349,6 +420,11 @@ public class MainWindowController {
                 detailLabel.getStyleClass().add("validation-detail");
                 detailsBox.getChildren().add(detailLabel);
             }
+            if (result.getOmittedIssueCount() > 0) {
+                Label omittedLabel = new Label(result.getOmittedIssueCount() + " more issue(s) not listed");
+                omittedLabel.getStyleClass().add("validation-detail");
+                detailsBox.getChildren().add(omittedLabel);
+            }
             
             resultBox.getChildren().add(detailsBox);
         }
@@ -1,14 +1,15 @@
 package com.fdv.techcheck.modules.content;
 
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
 import com.fdv.techcheck.core.document.ThesisDocument;
 import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationException;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
 import com.fdv.techcheck.modules.content.models.HeadingInfo;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,7 +57,7 @@ public class HeadingValidator extends AbstractDocumentValidator {
     protected void preValidationCheck(ThesisDocument document) throws ValidationException {
         // Override the default pre-validation check to be less strict for heading validation
         // We only need to ensure the document has paragraphs, not a minimum word count
-        if (document.getParagraphs().isEmpty()) {
+        if (document.getDocumentIndex().getBodyParagraphs().isEmpty()) {
             throw new ValidationException(getValidatorName(),
                 "Document contains no paragraphs to analyze");
         }
@@ -67,7 +68,7 @@ public class HeadingValidator extends AbstractDocumentValidator {
         String fileName = document.getMetadata() != null ? document.getMetadata().getFileName() : "unknown";
         logger.debug("Starting heading validation for document: {}", fileName);
         
-        List<ValidationDetail> issues = new ArrayList<>();
+        DetailSink issues = createDetailSink();
         List<HeadingInfo> headings = extractHeadings(document);
         
         logger.debug("Found {} headings in document", headings.size());
@@ -82,19 +83,19 @@ public class HeadingValidator extends AbstractDocumentValidator {
                 .build());
         } else {
             // Validate hierarchy
-            issues.addAll(validateHierarchy(headings));
+            validateHierarchy(headings, issues);
             
             // Validate font sizes
-            issues.addAll(validateFontSizes(headings));
+            validateFontSizes(headings, issues);
             
             // Validate numbering
-            issues.addAll(validateNumbering(headings));
+            validateNumbering(headings, issues);
             
             // Validate font family
-            issues.addAll(validateFontFamily(headings));
+            validateFontFamily(headings, issues);
         }
         
-        logger.debug("Heading validation completed with {} issues", issues.size());
+        logger.debug("Heading validation completed with {} issues", issues.getIssueCount());
         
         return issues.isEmpty() 
             ? ValidationResult.pass(getValidatorName())
@@ -111,10 +112,10 @@ public class HeadingValidator extends AbstractDocumentValidator {
      */
     private List<HeadingInfo> extractHeadings(ThesisDocument document) {
         List<HeadingInfo> headings = new ArrayList<>();
-        List<XWPFParagraph> paragraphs = document.getParagraphs();
+        List<IndexedParagraph> paragraphs = document.getDocumentIndex().getBodyParagraphs();
         
         for (int i = 0; i < paragraphs.size(); i++) {
-            XWPFParagraph paragraph = paragraphs.get(i);
+            IndexedParagraph paragraph = paragraphs.get(i);
             
             // Check if paragraph is a heading by style
             int headingLevel = getHeadingLevel(paragraph);
@@ -144,11 +145,14 @@ public class HeadingValidator extends AbstractDocumentValidator {
     }
     
     /**
-     * Determines the heading level from paragraph style.
+     * Determines the heading level from the paragraph style ID or, for localized
+     * style IDs, from the style name (e.g. "heading 2").
      */
-    private int getHeadingLevel(XWPFParagraph paragraph) {
-        String style = paragraph.getStyle();
-        if (style != null) {
+    private int getHeadingLevel(IndexedParagraph paragraph) {
+        for (String style : new String[] { paragraph.getStyleId(), paragraph.getStyleName() }) {
+            if (style == null) {
+                continue;
+            }
             Matcher matcher = HEADING_STYLE_PATTERN.matcher(style);
             if (matcher.matches()) {
                 try {
@@ -173,41 +177,56 @@ public class HeadingValidator extends AbstractDocumentValidator {
     }
     
     /**
-     * Extracts font size from paragraph.
+     * Gets the effective font size covering most of the paragraph text.
      */
-    private int getFontSize(XWPFParagraph paragraph) {
-        List<XWPFRun> runs = paragraph.getRuns();
-        if (!runs.isEmpty()) {
-            XWPFRun firstRun = runs.get(0);
-            int fontSize = firstRun.getFontSize();
-            return fontSize > 0 ? fontSize : 12; // Default to 12pt if not specified
+    private int getFontSize(IndexedParagraph paragraph) {
+        Map<Integer, Integer> characters = new HashMap<>();
+        for (RunSpan run : paragraph.getRuns()) {
+            if (!run.isBlank() && run.getFontSize() > 0) {
+                characters.merge(run.getFontSize(), run.getLength(), Integer::sum);
+            }
         }
-        return 12;
+        Integer fontSize = dominant(characters);
+        return fontSize != null ? fontSize : 12; // Default to 12pt if not specified
     }
     
     /**
-     * Extracts font family from paragraph.
+     * Gets the effective font family covering most of the paragraph text.
      */
-    private String getFontFamily(XWPFParagraph paragraph) {
-        List<XWPFRun> runs = paragraph.getRuns();
-        if (!runs.isEmpty()) {
-            XWPFRun firstRun = runs.get(0);
-            String fontFamily = firstRun.getFontFamily();
-            return fontFamily != null ? fontFamily : "";
+    private String getFontFamily(IndexedParagraph paragraph) {
+        Map<String, Integer> characters = new HashMap<>();
+        for (RunSpan run : paragraph.getRuns()) {
+            if (!run.isBlank() && run.getFontFamily() != null) {
+                characters.merge(run.getFontFamily(), run.getLength(), Integer::sum);
+            }
         }
-        return "";
+        String fontFamily = dominant(characters);
+        return fontFamily != null ? fontFamily : "";
     }
     
     /**
-     * Checks if paragraph text is bold.
+     * Checks if most of the paragraph text is bold.
      */
-    private boolean isBold(XWPFParagraph paragraph) {
-        List<XWPFRun> runs = paragraph.getRuns();
-        if (!runs.isEmpty()) {
-            XWPFRun firstRun = runs.get(0);
-            return firstRun.isBold();
+    private boolean isBold(IndexedParagraph paragraph) {
+        int boldCharacters = 0;
+        int totalCharacters = 0;
+        for (RunSpan run : paragraph.getRuns()) {
+            if (!run.isBlank()) {
+                totalCharacters += run.getLength();
+                boldCharacters += run.isBold() ? run.getLength() : 0;
+            }
         }
-        return false;
+        return totalCharacters > 0 && boldCharacters * 2 >= totalCharacters;
+    }
+    
+    /**
+     * Gets the value with the highest character count, or null if there is none.
+     */
+    private static <T> T dominant(Map<T, Integer> characters) {
+        return characters.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElse(null);
     }
     
     /**
@@ -224,9 +243,7 @@ public class HeadingValidator extends AbstractDocumentValidator {
     /**
      * Validates heading hierarchy (proper nesting).
      */
-    private List<ValidationDetail> validateHierarchy(List<HeadingInfo> headings) {
-        List<ValidationDetail> issues = new ArrayList<>();
-        
+    private void validateHierarchy(List<HeadingInfo> headings, DetailSink issues) {
         for (int i = 0; i < headings.size(); i++) {
             HeadingInfo current = headings.get(i);
             
@@ -257,16 +274,12 @@ public class HeadingValidator extends AbstractDocumentValidator {
                 }
             }
         }
-        
-        return issues;
     }
     
     /**
      * Validates heading font sizes.
      */
-    private List<ValidationDetail> validateFontSizes(List<HeadingInfo> headings) {
-        List<ValidationDetail> issues = new ArrayList<>();
-        
+    private void validateFontSizes(List<HeadingInfo> headings, DetailSink issues) {
         for (HeadingInfo heading : headings) {
             Integer expectedSize = HEADING_FONT_SIZES.get(heading.getLevel());
             if (expectedSize != null && heading.getFontSize() != expectedSize) {
@@ -279,16 +292,12 @@ public class HeadingValidator extends AbstractDocumentValidator {
                     .build());
             }
         }
-        
-        return issues;
     }
     
     /**
      * Validates heading numbering pattern.
      */
-    private List<ValidationDetail> validateNumbering(List<HeadingInfo> headings) {
-        List<ValidationDetail> issues = new ArrayList<>();
-        
+    private void validateNumbering(List<HeadingInfo> headings, DetailSink issues) {
         // Track expected numbering for each level
         Map<Integer, Integer> levelCounters = new HashMap<>();
         
@@ -351,16 +360,12 @@ public class HeadingValidator extends AbstractDocumentValidator {
                     .build());
             }
         }
-        
-        return issues;
     }
     
     /**
      * Validates heading font family.
      */
-    private List<ValidationDetail> validateFontFamily(List<HeadingInfo> headings) {
-        List<ValidationDetail> issues = new ArrayList<>();
-        
+    private void validateFontFamily(List<HeadingInfo> headings, DetailSink issues) {
         for (HeadingInfo heading : headings) {
             String fontFamily = heading.getFontFamily();
             if (!fontFamily.isEmpty() && !REQUIRED_FONT.equalsIgnoreCase(fontFamily)) {
@@ -373,7 +378,5 @@ public class HeadingValidator extends AbstractDocumentValidator {
                     .build());
             }
         }
-        
-        return issues;
     }
 }
\ No newline at end of file
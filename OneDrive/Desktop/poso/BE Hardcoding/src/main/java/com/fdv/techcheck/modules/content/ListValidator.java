@@ -1,16 +1,13 @@
 package com.fdv.techcheck.modules.content;
 
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
 import com.fdv.techcheck.core.document.ThesisDocument;
 import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
-import org.apache.poi.xwpf.usermodel.Borders;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
-import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTDecimalNumber;
-import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTLvl;
-import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTNumbering;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,8 +53,8 @@ public class ListValidator extends AbstractDocumentValidator {
         String fileName = document.getMetadata() != null ? document.getMetadata().getFileName() : "unknown";
         logger.debug("Starting list validation for document: {}", fileName);
         
-        List<ValidationDetail> details = new ArrayList<>();
-        List<XWPFParagraph> paragraphs = document.getParagraphs();
+        DetailSink details = createDetailSink();
+        List<IndexedParagraph> paragraphs = document.getDocumentIndex().getBodyParagraphs();
         
         logger.debug("Found {} paragraphs to validate for lists", paragraphs.size());
         
@@ -67,7 +64,7 @@ public class ListValidator extends AbstractDocumentValidator {
         List<Integer> levelStyles = new ArrayList<>();
         
         for (int i = 0; i < paragraphs.size(); i++) {
-            XWPFParagraph paragraph = paragraphs.get(i);
+            IndexedParagraph paragraph = paragraphs.get(i);
             
             // Check if this paragraph is part of a list
             if (isListParagraph(paragraph)) {
@@ -127,7 +124,7 @@ public class ListValidator extends AbstractDocumentValidator {
             logger.debug("Validated {} list items across the document", listCount);
         }
         
-        logger.debug("List validation completed with {} issues", details.size());
+        logger.debug("List validation completed with {} issues", details.getIssueCount());
         
         return details.isEmpty()
             ? ValidationResult.pass(getValidatorName())
@@ -137,18 +134,17 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Checks if a paragraph is part of a list.
      */
-    private boolean isListParagraph(XWPFParagraph paragraph) {
+    private boolean isListParagraph(IndexedParagraph paragraph) {
         // Check for numbering properties
-        if (paragraph.getCTP().getPPr() != null && 
-            paragraph.getCTP().getPPr().getNumPr() != null) {
+        if (paragraph.isNumbered()) {
             return true;
         }
         
         // Check for bullet characters in runs
-        for (XWPFRun run : paragraph.getRuns()) {
-            String text = run.getText(0);
-            if (text != null && (text.startsWith("•") || text.startsWith("◦") || text.startsWith("-") ||
-                                text.matches("^\\d+\\."))) {
+        for (RunSpan run : paragraph.getRuns()) {
+            String text = run.getText();
+            if (text.startsWith("•") || text.startsWith("◦") || text.startsWith("-") ||
+                text.matches("^\\d+\\.")) {
                 return true;
             }
         }
@@ -159,15 +155,9 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Gets the nesting level of a list paragraph.
      */
-    private int getNestingLevel(XWPFParagraph paragraph) {
-        if (paragraph.getCTP().getPPr() != null && 
-            paragraph.getCTP().getPPr().getNumPr() != null &&
-            paragraph.getCTP().getPPr().getNumPr().getIlvl() != null) {
-            
-            CTDecimalNumber ilvl = paragraph.getCTP().getPPr().getNumPr().getIlvl();
-            if (ilvl != null && ilvl.getVal() != null) {
-                return ilvl.getVal().intValue();
-            }
+    private int getNestingLevel(IndexedParagraph paragraph) {
+        if (paragraph.getNumLevel() != null) {
+            return paragraph.getNumLevel();
         }
         
         // Fallback: check indentation level
@@ -181,19 +171,17 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Determines the type of list (numbered or bulleted).
      */
-    private ListType getListType(XWPFParagraph paragraph) {
-        if (paragraph.getCTP().getPPr() != null && 
-            paragraph.getCTP().getPPr().getNumPr() != null) {
-            
+    private ListType getListType(IndexedParagraph paragraph) {
+        if (paragraph.isNumbered()) {
             // Check numbering instance
             // This is a simplified check - in practice would need to parse numbering.xml
             return ListType.NUMBERED;
         }
         
         // Check for bullet characters
-        for (XWPFRun run : paragraph.getRuns()) {
-            String text = run.getText(0);
-            if (text != null && (text.startsWith("•") || text.startsWith("◦") || text.startsWith("-"))) {
+        for (RunSpan run : paragraph.getRuns()) {
+            String text = run.getText();
+            if (text.startsWith("•") || text.startsWith("◦") || text.startsWith("-")) {
                 return ListType.BULLETED;
             }
         }
@@ -204,23 +192,18 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Gets the style ID for the list level.
      */
-    private Integer getStyleId(XWPFParagraph paragraph) {
-        if (paragraph.getCTP().getPPr() != null && 
-            paragraph.getCTP().getPPr().getNumPr() != null &&
-            paragraph.getCTP().getPPr().getNumPr().getNumId() != null) {
-            
-            return paragraph.getCTP().getPPr().getNumPr().getNumId().getVal().intValue();
+    private Integer getStyleId(IndexedParagraph paragraph) {
+        if (paragraph.getNumId() != null) {
+            return paragraph.getNumId();
         }
         
         // Fallback based on content
-        for (XWPFRun run : paragraph.getRuns()) {
-            String text = run.getText(0);
-            if (text != null) {
-                if (text.startsWith("•")) return 1;
-                if (text.startsWith("◦")) return 2;
-                if (text.matches("^\\d+\\.")) return 10;
-                if (text.matches("^[a-z]\\)")) return 20;
-            }
+        for (RunSpan run : paragraph.getRuns()) {
+            String text = run.getText();
+            if (text.startsWith("•")) return 1;
+            if (text.startsWith("◦")) return 2;
+            if (text.matches("^\\d+\\.")) return 10;
+            if (text.matches("^[a-z]\\)")) return 20;
         }
         
         return 0;
@@ -229,15 +212,10 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Gets the left indentation of the paragraph in cm.
      */
-    private double getIndentation(XWPFParagraph paragraph) {
-        if (paragraph.getCTP().getPPr() != null &&
-            paragraph.getCTP().getPPr().getInd() != null) {
-            
-            var ind = paragraph.getCTP().getPPr().getInd();
-            if (ind.getLeft() != null) {
-                // Convert twips to cm (1 cm = 567 twips)
-                return ((java.math.BigInteger) ind.getLeft()).doubleValue() / 567.0;
-            }
+    private double getIndentation(IndexedParagraph paragraph) {
+        if (paragraph.getIndentLeft() != null) {
+            // Convert twips to cm (1 cm = 567 twips)
+            return paragraph.getIndentLeft() / 567.0;
         }
         
         return 0.0;
@@ -253,7 +231,7 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Creates validation detail for excessive nesting levels.
      */
-    private ValidationDetail createNestingLevelDetail(XWPFParagraph paragraph, int paragraphNumber, int currentLevel) {
+    private ValidationDetail createNestingLevelDetail(IndexedParagraph paragraph, int paragraphNumber, int currentLevel) {
         return ValidationDetail.builder()
             .location(String.format(Locale.US, "Paragraph %d (List level %d)", paragraphNumber, currentLevel))
             .expected(String.format(Locale.US, "Maximum %d nesting levels", MAX_NESTING_LEVELS))
@@ -266,7 +244,7 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Creates validation detail for inconsistent list styles.
      */
-    private ValidationDetail createStyleConsistencyDetail(XWPFParagraph paragraph, int paragraphNumber, int level, Integer expectedStyle) {
+    private ValidationDetail createStyleConsistencyDetail(IndexedParagraph paragraph, int paragraphNumber, int level, Integer expectedStyle) {
         return ValidationDetail.builder()
             .location(String.format(Locale.US, "Paragraph %d (Level %d)", paragraphNumber, level))
             .expected(String.format(Locale.US, "Consistent style ID %d for level %d", expectedStyle, level))
@@ -279,7 +257,7 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Creates validation detail for mixed list types.
      */
-    private ValidationDetail createListTypeDetail(XWPFParagraph paragraph, int paragraphNumber, ListType expectedType, ListType actualType) {
+    private ValidationDetail createListTypeDetail(IndexedParagraph paragraph, int paragraphNumber, ListType expectedType, ListType actualType) {
         return ValidationDetail.builder()
             .location(String.format(Locale.US, "Paragraph %d", paragraphNumber))
             .expected(String.format(Locale.US, "%s list type", expectedType.name()))
@@ -292,7 +270,7 @@ public class ListValidator extends AbstractDocumentValidator {
     /**
      * Creates validation detail for incorrect indentation.
      */
-    private ValidationDetail createIndentationDetail(XWPFParagraph paragraph, int paragraphNumber, int level, double expected, double actual) {
+    private ValidationDetail createIndentationDetail(IndexedParagraph paragraph, int paragraphNumber, int level, double expected, double actual) {
         return ValidationDetail.builder()
             .location(String.format(Locale.US, "Paragraph %d (Level %d)", paragraphNumber, level))
             .expected(String.format(Locale.US, "%.2f cm indentation", expected))
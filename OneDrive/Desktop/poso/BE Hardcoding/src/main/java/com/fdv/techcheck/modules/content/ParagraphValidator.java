@@ -1,16 +1,17 @@
 package com.fdv.techcheck.modules.content;
 
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
 import com.fdv.techcheck.core.document.ThesisDocument;
 import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
 import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 
@@ -55,8 +56,8 @@ public class ParagraphValidator extends AbstractDocumentValidator {
         String fileName = document.getMetadata() != null ? document.getMetadata().getFileName() : "unknown";
         logger.debug("Starting paragraph validation for document: {}", fileName);
         
-        List<ValidationDetail> details = new ArrayList<>();
-        List<XWPFParagraph> paragraphs = document.getParagraphs();
+        DetailSink details = createDetailSink();
+        List<IndexedParagraph> paragraphs = document.getDocumentIndex().getBodyParagraphs();
         
         logger.debug("Found {} paragraphs to validate", paragraphs.size());
         
@@ -64,7 +65,7 @@ public class ParagraphValidator extends AbstractDocumentValidator {
         int totalTextParagraphs = 0;
         
         for (int i = 0; i < paragraphs.size(); i++) {
-            XWPFParagraph paragraph = paragraphs.get(i);
+            IndexedParagraph paragraph = paragraphs.get(i);
             String text = paragraph.getText().trim();
             
             // Skip empty paragraphs and headings
@@ -109,7 +110,7 @@ public class ParagraphValidator extends AbstractDocumentValidator {
                 totalTextParagraphs, validParagraphs);
         }
         
-        logger.debug("Paragraph validation completed with {} issues", details.size());
+        logger.debug("Paragraph validation completed with {} issues", details.getIssueCount());
         
         return details.isEmpty()
             ? ValidationResult.pass(getValidatorName())
@@ -119,7 +120,7 @@ public class ParagraphValidator extends AbstractDocumentValidator {
     /**
      * Validates paragraph length requirements
      */
-    private ValidationDetail validateParagraphLength(XWPFParagraph paragraph, String text, int paragraphNumber) {
+    private ValidationDetail validateParagraphLength(IndexedParagraph paragraph, String text, int paragraphNumber) {
         int length = text.length();
         
         if (length < MIN_PARAGRAPH_LENGTH) {
@@ -148,7 +149,7 @@ public class ParagraphValidator extends AbstractDocumentValidator {
     /**
      * Validates line spacing requirements
      */
-    private ValidationDetail validateLineSpacing(XWPFParagraph paragraph, int paragraphNumber) {
+    private ValidationDetail validateLineSpacing(IndexedParagraph paragraph, int paragraphNumber) {
         // Get line spacing from paragraph formatting
         double lineSpacing = getLineSpacing(paragraph);
         
@@ -168,7 +169,7 @@ public class ParagraphValidator extends AbstractDocumentValidator {
     /**
      * Validates text alignment requirements
      */
-    private ValidationDetail validateTextAlignment(XWPFParagraph paragraph, int paragraphNumber) {
+    private ValidationDetail validateTextAlignment(IndexedParagraph paragraph, int paragraphNumber) {
         ParagraphAlignment alignment = paragraph.getAlignment();
         
         // Check if alignment is justified
@@ -189,18 +190,20 @@ public class ParagraphValidator extends AbstractDocumentValidator {
     /**
      * Checks if paragraph is a heading based on styling
      */
-    private boolean isHeading(XWPFParagraph paragraph) {
-        String style = paragraph.getStyle();
+    private boolean isHeading(IndexedParagraph paragraph) {
+        String style = paragraph.getStyleId();
         if (style != null && style.toLowerCase().contains("heading")) {
             return true;
         }
+        String styleName = paragraph.getStyleName();
+        if (styleName != null && styleName.toLowerCase().contains("heading")) {
+            return true;
+        }
         
         // Check if paragraph has heading-like formatting (large font, bold)
-        if (!paragraph.getRuns().isEmpty()) {
-            var firstRun = paragraph.getRuns().get(0);
-            if (firstRun.isBold() && firstRun.getFontSize() > 12) {
-                return true;
-            }
+        RunSpan firstRun = paragraph.getFirstRun();
+        if (firstRun != null && firstRun.isBold() && firstRun.getFontSize() > 12) {
+            return true;
         }
         
         return false;
@@ -209,24 +212,11 @@ public class ParagraphValidator extends AbstractDocumentValidator {
     /**
      * Gets line spacing value from paragraph
      */
-    private double getLineSpacing(XWPFParagraph paragraph) {
-        // Try to get line spacing from paragraph formatting
-        try {
-            if (paragraph.getCTP().getPPr() != null && 
-                paragraph.getCTP().getPPr().getSpacing() != null) {
-                
-                var spacing = paragraph.getCTP().getPPr().getSpacing();
-                
-                // Check if line rule is set to multiple (for 1.5 spacing)
-                if (spacing.getLineRule() != null) {
-                    // Line spacing is typically stored as 240 * multiplier for multiple spacing
-                    if (spacing.getLine() != null) {
-                        return ((Number) spacing.getLine()).intValue() / 240.0;
-                    }
-                }
-            }
-        } catch (Exception e) {
-            logger.debug("Unable to read line spacing for paragraph: {}", e.getMessage());
+    private double getLineSpacing(IndexedParagraph paragraph) {
+        // Check if line rule is set to multiple (for 1.5 spacing)
+        if (paragraph.getSpacingLineRule() != null && paragraph.getSpacingLine() != null) {
+            // Line spacing is typically stored as 240 * multiplier for multiple spacing
+            return paragraph.getSpacingLine() / 240.0;
         }
         
         // Default assumption if we can't read the spacing
@@ -1,23 +1,24 @@
 package com.fdv.techcheck.modules.layout;
 
+import com.fdv.techcheck.core.collections.IntCounter;
+import com.fdv.techcheck.core.collections.StringIdTable;
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
 import com.fdv.techcheck.core.document.ThesisDocument;
-import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.AbstractVisitingValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
+import com.fdv.techcheck.core.validation.DocumentVisitor;
+import com.fdv.techcheck.core.validation.MergeableVisitor;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationException;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
 import com.fdv.techcheck.core.validation.ValidationStatus;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFRun;
-import org.apache.poi.xwpf.usermodel.XWPFTable;
-import org.apache.poi.xwpf.usermodel.XWPFTableCell;
-import org.apache.poi.xwpf.usermodel.XWPFTableRow;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Validates document fonts according to FDV technical requirements.
@@ -28,10 +29,13 @@ import java.util.Map;
  * - Headings may use different sizes but must be Times New Roman
  * - Footnotes may be 10 point but must be Times New Roman
  * 
+ * Font usage is collected per run through {@link DocumentVisitor#onRun}, so this validator
+ * shares the document traversal with the other visiting validators.
+ * 
  * @author TechCheck System
  * @version 1.0
  */
-public final class FontValidator extends AbstractDocumentValidator {
+public final class FontValidator extends AbstractVisitingValidator<FontValidator.FontAnalysis> {
     
     // FDV requirements
     private static final String REQUIRED_FONT_FAMILY = "Times New Roman";
@@ -50,18 +54,21 @@ public final class FontValidator extends AbstractDocumentValidator {
     }
     
     @Override
-    public ValidationResult performValidation(final ThesisDocument document) throws ValidationException {
-        long startTime = System.currentTimeMillis();
-        
+    protected FontAnalysis createVisitor(final ThesisDocument document) {
+        logger.info("Starting font validation for document: {}", 
+                   document.getMetadata().getTitle());
+        return new FontAnalysis();
+    }
+    
+    @Override
+    protected ValidationResult buildResult(final ThesisDocument document, final FontAnalysis analysis)
+            throws ValidationException {
         try {
-            logger.info("Starting font validation for document: {}", 
-                       document.getMetadata().getTitle());
-            
-            List<ValidationDetail> details = new ArrayList<>();
-            XWPFDocument xwpfDoc = document.getXwpfDocument();
+            DetailSink details = createDetailSink();
             
-            // Analyze fonts throughout the document
-            FontAnalysis analysis = analyzeFonts(xwpfDoc);
+            // Calculate statistics
+            analysis.calculateStatistics();
+            logger.debug("Font analysis completed: {} text runs analyzed", analysis.getTotalRuns());
             
             // Validate main text font family
             validateFontFamily(analysis, details);
@@ -75,8 +82,7 @@ public final class FontValidator extends AbstractDocumentValidator {
             // Determine overall status
             ValidationStatus status = determineStatus(details);
             
-            long duration = System.currentTimeMillis() - startTime;
-            logger.info("Font validation completed in {} ms with status: {}", duration, status);
+            logger.info("Font validation completed with status: {}", status);
             
             if (status == ValidationStatus.PASS) {
                 return ValidationResult.pass(getValidatorName());
@@ -93,83 +99,10 @@ public final class FontValidator extends AbstractDocumentValidator {
         }
     }
     
-    /**
-     * Analyzes fonts used throughout the document.
-     */
-    private FontAnalysis analyzeFonts(final XWPFDocument document) {
-        FontAnalysis analysis = new FontAnalysis();
-        
-        // Analyze paragraphs
-        for (XWPFParagraph paragraph : document.getParagraphs()) {
-            analyzeParagraphFonts(paragraph, analysis);
-        }
-        
-        // Analyze tables
-        for (XWPFTable table : document.getTables()) {
-            analyzeTableFonts(table, analysis);
-        }
-        
-        // Calculate statistics
-        analysis.calculateStatistics();
-        
-        logger.debug("Font analysis completed: {} text runs analyzed", analysis.getTotalRuns());
-        return analysis;
-    }
-    
-    /**
-     * Analyzes fonts in a paragraph.
-     */
-    private void analyzeParagraphFonts(final XWPFParagraph paragraph, final FontAnalysis analysis) {
-        if (paragraph.getRuns() == null) return;
-        
-        for (XWPFRun run : paragraph.getRuns()) {
-            analyzeRunFont(run, analysis, false);
-        }
-    }
-    
-    /**
-     * Analyzes fonts in a table.
-     */
-    private void analyzeTableFonts(final XWPFTable table, final FontAnalysis analysis) {
-        for (XWPFTableRow row : table.getRows()) {
-            for (XWPFTableCell cell : row.getTableCells()) {
-                for (XWPFParagraph paragraph : cell.getParagraphs()) {
-                    if (paragraph.getRuns() != null) {
-                        for (XWPFRun run : paragraph.getRuns()) {
-                            analyzeRunFont(run, analysis, true);
-                        }
-                    }
-                }
-            }
-        }
-    }
-    
-    /**
-     * Analyzes font properties of a text run.
-     */
-    private void analyzeRunFont(final XWPFRun run, final FontAnalysis analysis, final boolean isTable) {
-        if (run == null || run.text() == null || run.text().trim().isEmpty()) {
-            return;
-        }
-        
-        String fontFamily = run.getFontFamily();
-        Integer fontSize = run.getFontSize();
-        
-        // Handle default values
-        if (fontFamily == null) {
-            fontFamily = "Times New Roman"; // Default font in Word documents
-        }
-        if (fontSize == null || fontSize == -1) {
-            fontSize = 12; // Default font size
-        }
-        
-        analysis.addRun(fontFamily, fontSize, run.text().length(), isTable);
-    }
-    
     /**
      * Validates font family usage.
      */
-    private void validateFontFamily(final FontAnalysis analysis, final List<ValidationDetail> details) {
+    private void validateFontFamily(final FontAnalysis analysis, final DetailSink details) {
         Map<String, Integer> fontFamilyUsage = analysis.getFontFamilyUsage();
         int totalCharacters = analysis.getTotalCharacters();
         
@@ -199,7 +132,7 @@ public final class FontValidator extends AbstractDocumentValidator {
     /**
      * Validates font size usage.
      */
-    private void validateFontSize(final FontAnalysis analysis, final List<ValidationDetail> details) {
+    private void validateFontSize(final FontAnalysis analysis, final DetailSink details) {
         Map<Integer, Integer> fontSizeUsage = analysis.getFontSizeUsage();
         int totalCharacters = analysis.getTotalCharacters();
         
@@ -230,7 +163,7 @@ public final class FontValidator extends AbstractDocumentValidator {
     /**
      * Validates font consistency throughout the document.
      */
-    private void validateFontConsistency(final FontAnalysis analysis, final List<ValidationDetail> details) {
+    private void validateFontConsistency(final FontAnalysis analysis, final DetailSink details) {
         // Check if Times New Roman is the predominant font
         Map<String, Integer> fontFamilyUsage = analysis.getFontFamilyUsage();
         String mostUsedFont = findMostUsedFont(fontFamilyUsage);
@@ -322,13 +255,13 @@ public final class FontValidator extends AbstractDocumentValidator {
     /**
      * Determines overall validation status based on details.
      */
-    private ValidationStatus determineStatus(final List<ValidationDetail> details) {
+    private ValidationStatus determineStatus(final DetailSink details) {
         if (details.isEmpty()) {
             return ValidationStatus.PASS;
         }
         
-        boolean hasCritical = details.stream().anyMatch(d -> d.getSeverity() == ValidationSeverity.CRITICAL);
-        boolean hasMajor = details.stream().anyMatch(d -> d.getSeverity() == ValidationSeverity.MAJOR);
+        boolean hasCritical = details.hasSeverity(ValidationSeverity.CRITICAL);
+        boolean hasMajor = details.hasSeverity(ValidationSeverity.MAJOR);
         
         if (hasCritical || hasMajor) {
             return ValidationStatus.FAIL;
@@ -349,18 +282,65 @@ public final class FontValidator extends AbstractDocumentValidator {
     }
     
     /**
-     * Internal class to track font analysis results.
+     * Visitor that tracks font usage of all text runs, including table content.
+     * Analyses of consecutive paragraph ranges can be merged for parallel traversal.
+     * Counting is done on font IDs and primitive counters, so analysing a run does not allocate.
      */
-    private static class FontAnalysis {
-        private final Map<String, Integer> fontFamilyUsage = new HashMap<>();
-        private final Map<Integer, Integer> fontSizeUsage = new HashMap<>();
+    static final class FontAnalysis implements MergeableVisitor<FontAnalysis> {
+        private final StringIdTable fontIds = new StringIdTable();
+        private final IntCounter fontFamilyCharacters = new IntCounter();
+        private final IntCounter fontSizeCharacters = new IntCounter();
         private int totalRuns = 0;
         private int totalCharacters = 0;
         private int tableCharacters = 0;
         
+        @Override
+        public FontAnalysis createEmpty() {
+            return new FontAnalysis();
+        }
+        
+        @Override
+        public void merge(final FontAnalysis following) {
+            // Font IDs are local to each analysis, so they are translated through the names
+            following.fontFamilyCharacters.forEach((id, count) ->
+                    fontFamilyCharacters.add(fontIds.idOf(following.fontIds.nameOf(id)), count));
+            fontSizeCharacters.addAll(following.fontSizeCharacters);
+            totalRuns += following.totalRuns;
+            totalCharacters += following.totalCharacters;
+            tableCharacters += following.tableCharacters;
+        }
+        
+        @Override
+        public Set<Element> getVisitedElements() {
+            return EnumSet.of(Element.RUN);
+        }
+        
+        /**
+         * Analyzes font properties of a text run.
+         */
+        @Override
+        public void onRun(final IndexedParagraph paragraph, final RunSpan run) {
+            if (run.isBlank()) {
+                return;
+            }
+            
+            String fontFamily = run.getFontFamily();
+            int fontSize = run.getFontSize();
+            
+            // Handle default values
+            if (fontFamily == null) {
+                fontFamily = "Times New Roman"; // Default font in Word documents
+            }
+            if (fontSize == -1) {
+                fontSize = 12; // Default font size
+            }
+            
+            addRun(fontFamily, fontSize, run.getLength(), paragraph.isInTable());
+        }
+        
         public void addRun(final String fontFamily, final int fontSize, final int characterCount, final boolean isTable) {
-            fontFamilyUsage.merge(fontFamily, characterCount, Integer::sum);
-            fontSizeUsage.merge(fontSize, characterCount, Integer::sum);
+            fontFamilyCharacters.add(fontIds.idOf(fontFamily), characterCount);
+            fontSizeCharacters.add(fontSize, characterCount);
             totalRuns++;
             totalCharacters += characterCount;
             if (isTable) {
@@ -372,8 +352,30 @@ public final class FontValidator extends AbstractDocumentValidator {
             // Additional statistics can be calculated here if needed
         }
         
-        public Map<String, Integer> getFontFamilyUsage() { return fontFamilyUsage; }
-        public Map<Integer, Integer> getFontSizeUsage() { return fontSizeUsage; }
+        /**
+         * Gets characters per font family, in order of first use.
+         */
+        public Map<String, Integer> getFontFamilyUsage() {
+            Map<String, Integer> usage = new LinkedHashMap<>();
+            for (int id = 0; id < fontIds.size(); id++) {
+                if (fontFamilyCharacters.containsKey(id)) {
+                    usage.put(fontIds.nameOf(id), fontFamilyCharacters.get(id));
+                }
+            }
+            return usage;
+        }
+        
+        /**
+         * Gets characters per font size, in ascending size order.
+         */
+        public Map<Integer, Integer> getFontSizeUsage() {
+            Map<Integer, Integer> usage = new LinkedHashMap<>();
+            for (int size : fontSizeCharacters.sortedKeys()) {
+                usage.put(size, fontSizeCharacters.get(size));
+            }
+            return usage;
+        }
+        
         public int getTotalRuns() { return totalRuns; }
         public int getTotalCharacters() { return totalCharacters; }
         public int getTableCharacters() { return tableCharacters; }
@@ -1,23 +1,24 @@
 package com.fdv.techcheck.modules.layout;
 
+import com.fdv.techcheck.core.collections.SpacingHistogram;
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
 import com.fdv.techcheck.core.document.ThesisDocument;
-import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.AbstractVisitingValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
+import com.fdv.techcheck.core.validation.DocumentVisitor;
+import com.fdv.techcheck.core.validation.MergeableVisitor;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationException;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
 import com.fdv.techcheck.core.validation.ValidationStatus;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
-import org.apache.poi.xwpf.usermodel.XWPFTable;
-import org.apache.poi.xwpf.usermodel.XWPFTableCell;
-import org.apache.poi.xwpf.usermodel.XWPFTableRow;
-import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTSpacing;
-
-import java.util.ArrayList;
-import java.util.HashMap;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Validates document line spacing according to FDV technical requirements.
@@ -33,10 +34,13 @@ import java.util.Map;
  * - 1.5 spacing = 360 twips = 1.5
  * - Double spacing = 480 twips = 2.0
  *
+ * Spacing is collected per paragraph through {@link DocumentVisitor#onParagraph}, so this
+ * validator shares the document traversal with the other visiting validators.
+ *
  * @author TechCheck System
  * @version 1.0
  */
-public final class LineSpacingValidator extends AbstractDocumentValidator {
+public final class LineSpacingValidator extends AbstractVisitingValidator<LineSpacingValidator.SpacingAnalysis> {
 
     // FDV requirements - line spacing values in twips (1/20 of a point)
     private static final int REQUIRED_LINE_SPACING_TWIPS = 360;  // 1.5 spacing
@@ -52,7 +56,6 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
     private static final double MINOR_VIOLATION_THRESHOLD = 0.05; // 5% of paragraphs
 
     // Magic number constants
-    private static final double TWIPS_PER_LINE = 240.0;
     private static final double PERCENTAGE_MULTIPLIER = 100.0;
     private static final double SPACING_TOLERANCE = 0.1;
     private static final double MAJOR_DEVIATION_THRESHOLD = 0.5;
@@ -69,18 +72,21 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
     }
 
     @Override
-    public ValidationResult performValidation(final ThesisDocument document) throws ValidationException {
-        final long startTime = System.currentTimeMillis();
+    protected SpacingAnalysis createVisitor(final ThesisDocument document) {
+        logger.info("Starting line spacing validation for document: {}",
+                   document.getMetadata().getTitle());
+        return new SpacingAnalysis();
+    }
 
+    @Override
+    protected ValidationResult buildResult(final ThesisDocument document, final SpacingAnalysis analysis)
+            throws ValidationException {
         try {
-            logger.info("Starting line spacing validation for document: {}",
-                       document.getMetadata().getTitle());
-
-            final List<ValidationDetail> details = new ArrayList<>();
-            final XWPFDocument xwpfDoc = document.getXwpfDocument();
+            final DetailSink details = createDetailSink();
 
-            // Analyze line spacing throughout the document
-            final SpacingAnalysis analysis = analyzeLineSpacing(xwpfDoc);
+            // Calculate statistics
+            analysis.calculateStatistics();
+            logger.debug("Line spacing analysis completed: {} paragraphs analyzed", analysis.getTotalParagraphs());
 
             // Validate main text line spacing
             validateMainTextSpacing(analysis, details);
@@ -94,8 +100,7 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
             // Determine overall status
             final ValidationStatus status = determineStatus(details);
 
-            final long duration = System.currentTimeMillis() - startTime;
-            logger.info("Line spacing validation completed in {} ms with status: {}", duration, status);
+            logger.info("Line spacing validation completed with status: {}", status);
 
             if (status == ValidationStatus.PASS) {
                 return ValidationResult.pass(getValidatorName());
@@ -113,140 +118,95 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
     }
 
     /**
-     * Analyzes line spacing used throughout the document.
+     * Extracts line spacing in twips.
      */
-    private SpacingAnalysis analyzeLineSpacing(final XWPFDocument document) {
-        final SpacingAnalysis analysis = new SpacingAnalysis();
-
-        // Analyze main document paragraphs
-        for (final XWPFParagraph paragraph : document.getParagraphs()) {
-            analyzeParagraphSpacing(paragraph, analysis, false);
-        }
-
-        // Analyze table content
-        for (final XWPFTable table : document.getTables()) {
-            analyzeTableSpacing(table, analysis);
+    private static int extractLineSpacingTwips(final Integer spacingLine) {
+        if (spacingLine == null) {
+            return REQUIRED_LINE_SPACING_TWIPS; // Default
         }
 
-        // Calculate statistics
-        analysis.calculateStatistics();
-
-        logger.debug("Line spacing analysis completed: {} paragraphs analyzed", analysis.getTotalParagraphs());
-        return analysis;
+        return spacingLine;
     }
 
     /**
-     * Analyzes line spacing in a paragraph.
+     * Determines the type of paragraph based on style and content.
+     * Runs for every paragraph, so it matches without lower-casing or trimming copies.
      */
-    private void analyzeParagraphSpacing(final XWPFParagraph paragraph, final SpacingAnalysis analysis,
-                                       final boolean isTable) {
-        if (paragraph == null) {
-            return;
-        }
-
-        // Get spacing information
-        final CTSpacing spacing = paragraph.getCTP().getPPr() != null
-                           ? paragraph.getCTP().getPPr().getSpacing() : null;
-
-        final double lineSpacing = extractLineSpacing(spacing);
-        final int lineSpacingTwips = extractLineSpacingTwips(spacing);
-
-        // Determine paragraph type based on style
-        final ParagraphType type = determineParagraphType(paragraph);
-
-        analysis.addParagraph(lineSpacing, lineSpacingTwips, type, isTable, paragraph.getText());
-    }
+    private static ParagraphType determineParagraphType(final IndexedParagraph paragraph) {
+        final String style = paragraph.getStyleId();
+        final String text = paragraph.getText();
 
-    /**
-     * Analyzes line spacing in table content.
-     */
-    private void analyzeTableSpacing(final XWPFTable table, final SpacingAnalysis analysis) {
-        for (final XWPFTableRow row : table.getRows()) {
-            for (final XWPFTableCell cell : row.getTableCells()) {
-                for (final XWPFParagraph paragraph : cell.getParagraphs()) {
-                    analyzeParagraphSpacing(paragraph, analysis, true);
-                }
+        if (style != null) {
+            if (containsIgnoreCase(style, "heading") || containsIgnoreCase(style, "title")) {
+                return ParagraphType.HEADING;
             }
-        }
-    }
-
-    /**
-     * Extracts line spacing as a factor (1.0, 1.5, 2.0, etc.).
-     */
-    private double extractLineSpacing(final CTSpacing spacing) {
-        if (spacing == null) {
-            return REQUIRED_LINE_SPACING_FACTOR; // Default to required spacing
-        }
-
-        // Check for line rule and line spacing
-        if (spacing.getLineRule() != null) {
-            final String rule = spacing.getLineRule().toString();
-            if ("auto".equals(rule) && spacing.getLine() != null) {
-                // Line spacing in 240ths of a line
-                return ((Number) spacing.getLine()).doubleValue() / TWIPS_PER_LINE;
+            if (containsIgnoreCase(style, "footnote")) {
+                return ParagraphType.FOOTNOTE;
+            }
+            if (containsIgnoreCase(style, "caption")) {
+                return ParagraphType.CAPTION;
             }
         }
 
-        // Check for multiple line spacing
-        if (spacing.getLine() != null) {
-            return ((Number) spacing.getLine()).doubleValue() / TWIPS_PER_LINE;
+        // Short lines starting with "1.2" style numbering or a capital letter are likely headings
+        if (text != null && text.length() < SHORT_TEXT_LENGTH_THRESHOLD && looksLikeHeadingText(text)) {
+            return ParagraphType.HEADING;
         }
 
-        return REQUIRED_LINE_SPACING_FACTOR; // Default
+        return ParagraphType.BODY_TEXT;
     }
 
-    /**
-     * Extracts line spacing in twips.
-     */
-    private int extractLineSpacingTwips(final CTSpacing spacing) {
-        if (spacing == null) {
-            return REQUIRED_LINE_SPACING_TWIPS; // Default
-        }
-
-        if (spacing.getLine() != null) {
-            return ((Number) spacing.getLine()).intValue();
+    private static boolean containsIgnoreCase(final String value, final String part) {
+        for (int i = 0; i + part.length() <= value.length(); i++) {
+            if (value.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
         }
-
-        return REQUIRED_LINE_SPACING_TWIPS; // Default
+        return false;
     }
 
     /**
-     * Determines the type of paragraph based on style and content.
+     * Checks whether the trimmed text fully matches {@code \d+\.\d+.*} or {@code [A-Z].*}.
      */
-    private ParagraphType determineParagraphType(final XWPFParagraph paragraph) {
-        String style = paragraph.getStyle();
-        final String text = paragraph.getText();
-
-        if (style != null) {
-            style = style.toLowerCase();
-            if (style.contains("heading") || style.contains("title")) {
-                return ParagraphType.HEADING;
-            }
-            if (style.contains("footnote")) {
-                return ParagraphType.FOOTNOTE;
-            }
-            if (style.contains("caption")) {
-                return ParagraphType.CAPTION;
+    private static boolean looksLikeHeadingText(final String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+        // '.' in the patterns does not match line terminators
+        for (int i = start; i < end; i++) {
+            final char c = text.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
             }
         }
 
-        // Check content patterns
-        if (text != null && !text.trim().isEmpty()) {
-            if (text.trim().matches("^\\d+\\.\\d+.*") || text.trim().matches("^[A-Z].*")) {
-                // Likely a heading based on numbering or capitalization
-                if (text.length() < SHORT_TEXT_LENGTH_THRESHOLD) { // Short lines are likely headings
-                    return ParagraphType.HEADING;
-                }
-            }
+        final char first = text.charAt(start);
+        if (first >= 'A' && first <= 'Z') {
+            return true;
+        }
+        int i = start;
+        while (i < end && isDigit(text.charAt(i))) {
+            i++;
         }
+        return i > start && i + 1 < end && text.charAt(i) == '.' && isDigit(text.charAt(i + 1));
+    }
 
-        return ParagraphType.BODY_TEXT;
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
      * Validates main text line spacing.
      */
-    private void validateMainTextSpacing(final SpacingAnalysis analysis, final List<ValidationDetail> details) {
+    private void validateMainTextSpacing(final SpacingAnalysis analysis, final DetailSink details) {
         final Map<Double, Integer> spacingUsage = analysis.getSpacingUsage();
         final int totalParagraphs = analysis.getTotalParagraphs();
 
@@ -276,11 +236,11 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
     /**
      * Validates line spacing consistency throughout the document.
      */
-    private void validateSpacingConsistency(final SpacingAnalysis analysis, final List<ValidationDetail> details) {
+    private void validateSpacingConsistency(final SpacingAnalysis analysis, final DetailSink details) {
         final Map<Double, Integer> spacingUsage = analysis.getSpacingUsage();
 
         // Check if 1.5 spacing is the predominant spacing
-        final Double mostUsedSpacing = findMostUsedSpacing(spacingUsage);
+        final double mostUsedSpacing = analysis.getMostUsedSpacing();
 
         if (!isCloseToRequired(mostUsedSpacing, REQUIRED_LINE_SPACING_FACTOR)) {
             final ValidationDetail detail = ValidationDetail.builder()
@@ -314,7 +274,7 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
     /**
      * Checks for common line spacing issues.
      */
-    private void checkCommonSpacingIssues(final SpacingAnalysis analysis, final List<ValidationDetail> details) {
+    private void checkCommonSpacingIssues(final SpacingAnalysis analysis, final DetailSink details) {
         // Check for single spacing (common mistake)
         final int singleSpacingCount = analysis.getSpacingCount(ALLOWED_FOOTNOTE_SPACING_FACTOR);
         if (singleSpacingCount > 0) {
@@ -388,26 +348,16 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
         }
     }
 
-    /**
-     * Finds the most frequently used line spacing.
-     */
-    private Double findMostUsedSpacing(final Map<Double, Integer> spacingUsage) {
-        return spacingUsage.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(ALLOWED_FOOTNOTE_SPACING_FACTOR);
-    }
-
     /**
      * Determines overall validation status based on details.
      */
-    private ValidationStatus determineStatus(final List<ValidationDetail> details) {
+    private ValidationStatus determineStatus(final DetailSink details) {
         if (details.isEmpty()) {
             return ValidationStatus.PASS;
         }
 
-        final boolean hasCritical = details.stream().anyMatch(d -> d.getSeverity() == ValidationSeverity.CRITICAL);
-        final boolean hasMajor = details.stream().anyMatch(d -> d.getSeverity() == ValidationSeverity.MAJOR);
+        final boolean hasCritical = details.hasSeverity(ValidationSeverity.CRITICAL);
+        final boolean hasMajor = details.hasSeverity(ValidationSeverity.MAJOR);
 
         if (hasCritical || hasMajor) {
             return ValidationStatus.FAIL;
@@ -435,18 +385,55 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
     }
 
     /**
-     * Internal class to track line spacing analysis results.
+     * Visitor that tracks line spacing of all paragraphs, including table content.
+     * Analyses of consecutive paragraph ranges can be merged for parallel traversal.
+     * Spacings are counted in a twips histogram and types in an array, so analysing a
+     * paragraph does not allocate.
      */
-    private static class SpacingAnalysis {
-        private final Map<Double, Integer> spacingUsage = new HashMap<>();
-        private final Map<ParagraphType, Integer> typeDistribution = new HashMap<>();
+    static final class SpacingAnalysis implements MergeableVisitor<SpacingAnalysis> {
+        private static final ParagraphType[] TYPES = ParagraphType.values();
+
+        private final SpacingHistogram spacingHistogram = new SpacingHistogram();
+        private final int[] typeCounts = new int[TYPES.length];
         private int totalParagraphs = 0;
         private int tableParagraphs = 0;
 
-        public void addParagraph(final double spacing, final int spacingTwips, final ParagraphType type,
-                                final boolean isTable, final String text) {
-            spacingUsage.merge(spacing, 1, Integer::sum);
-            typeDistribution.merge(type, 1, Integer::sum);
+        @Override
+        public SpacingAnalysis createEmpty() {
+            return new SpacingAnalysis();
+        }
+
+        @Override
+        public void merge(final SpacingAnalysis following) {
+            spacingHistogram.addAll(following.spacingHistogram);
+            for (int i = 0; i < typeCounts.length; i++) {
+                typeCounts[i] += following.typeCounts[i];
+            }
+            totalParagraphs += following.totalParagraphs;
+            tableParagraphs += following.tableParagraphs;
+        }
+
+        @Override
+        public Set<Element> getVisitedElements() {
+            return EnumSet.of(Element.PARAGRAPH);
+        }
+
+        /**
+         * Analyzes line spacing in a paragraph.
+         */
+        @Override
+        public void onParagraph(final IndexedParagraph paragraph) {
+            final int lineSpacingTwips = extractLineSpacingTwips(paragraph.getSpacingLine());
+
+            // Determine paragraph type based on style
+            final ParagraphType type = determineParagraphType(paragraph);
+
+            addParagraph(lineSpacingTwips, type, paragraph.isInTable());
+        }
+
+        public void addParagraph(final int spacingTwips, final ParagraphType type, final boolean isTable) {
+            spacingHistogram.add(spacingTwips);
+            typeCounts[type.ordinal()]++;
             totalParagraphs++;
             if (isTable) {
                 tableParagraphs++;
@@ -457,12 +444,33 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
             // Additional statistics can be calculated here if needed
         }
 
+        /**
+         * Gets paragraph counts per spacing factor, in ascending spacing order.
+         */
         public Map<Double, Integer> getSpacingUsage() {
-            return spacingUsage;
+            final Map<Double, Integer> usage = new LinkedHashMap<>();
+            for (final int twips : spacingHistogram.getSpacings()) {
+                usage.put(SpacingHistogram.toFactor(twips), spacingHistogram.getCount(twips));
+            }
+            return usage;
+        }
+
+        /**
+         * Gets the spacing factor used by most paragraphs, or single spacing if there are none.
+         */
+        public double getMostUsedSpacing() {
+            final int twips = spacingHistogram.getMostFrequentTwips();
+            return twips < 0 ? ALLOWED_FOOTNOTE_SPACING_FACTOR : SpacingHistogram.toFactor(twips);
         }
 
         public Map<ParagraphType, Integer> getTypeDistribution() {
-            return typeDistribution;
+            final Map<ParagraphType, Integer> distribution = new EnumMap<>(ParagraphType.class);
+            for (int i = 0; i < typeCounts.length; i++) {
+                if (typeCounts[i] > 0) {
+                    distribution.put(TYPES[i], typeCounts[i]);
+                }
+            }
+            return distribution;
         }
 
         public int getTotalParagraphs() {
@@ -474,7 +482,7 @@ public final class LineSpacingValidator extends AbstractDocumentValidator {
         }
 
         public int getSpacingCount(final double spacing) {
-            return spacingUsage.getOrDefault(spacing, 0);
+            return spacingHistogram.getCountForFactor(spacing);
         }
     }
 }
@@ -3,15 +3,13 @@ package com.fdv.techcheck.modules.layout;
 import com.fdv.techcheck.core.document.PageSettings;
 import com.fdv.techcheck.core.document.ThesisDocument;
 import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationException;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
 import com.fdv.techcheck.core.validation.ValidationStatus;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Validates document margins according to FDV technical requirements.
  *
@@ -42,13 +40,11 @@ public final class MarginValidator extends AbstractDocumentValidator {
     
     @Override
     protected ValidationResult performValidation(final ThesisDocument document) throws ValidationException {
-        long startTime = System.currentTimeMillis();
-        
         try {
             logger.info("Starting margin validation for document: {}",
                        document.getMetadata().getTitle());
             
-            List<ValidationDetail> details = new ArrayList<>();
+            DetailSink details = createDetailSink();
             PageSettings pageSettings = document.getPageSettings();
             
             // Validate each margin
@@ -60,8 +56,7 @@ public final class MarginValidator extends AbstractDocumentValidator {
             // Determine overall status
             ValidationStatus status = details.isEmpty() ? ValidationStatus.PASS : ValidationStatus.FAIL;
             
-            long duration = System.currentTimeMillis() - startTime;
-            logger.info("Margin validation completed in {} ms with status: {}", duration, status);
+            logger.info("Margin validation completed with status: {}", status);
             
             return details.isEmpty()
                 ? ValidationResult.pass(getValidatorName())
@@ -79,10 +74,10 @@ public final class MarginValidator extends AbstractDocumentValidator {
      *
      * @param marginName The name of the margin (Left, Right, Top, Bottom)
      * @param actualMarginCm The actual margin value in centimeters (from PageSettings)
-     * @param details List to add validation details to
+     * @param details Sink to add validation details to
      */
     private void validateMargin(final String marginName, final double actualMarginCm,
-                               final List<ValidationDetail> details) {
+                               final DetailSink details) {
         // actualMarginCm is already in centimeters from PageSettings - no conversion needed
         double difference = Math.abs(actualMarginCm - REQUIRED_MARGIN_CM);
         
@@ -2,16 +2,13 @@ package com.fdv.techcheck.modules.layout;
 
 import com.fdv.techcheck.core.document.ThesisDocument;
 import com.fdv.techcheck.core.validation.AbstractDocumentValidator;
+import com.fdv.techcheck.core.validation.DetailSink;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationSeverity;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Validator for page format and orientation requirements.
  * Validates A4 portrait orientation, page size, and layout settings.
@@ -24,6 +21,7 @@ public class PageFormatValidator extends AbstractDocumentValidator {
     private static final double A4_WIDTH_POINTS = 595.0;
     private static final double A4_HEIGHT_POINTS = 842.0;
     private static final double PAGE_SIZE_TOLERANCE = 10.0; // Allow 10 points tolerance
+    private static final double POINTS_PER_CM = 72.0 / 2.54;
     
     private static final String VALIDATOR_NAME = "Page Format Validator";
     private static final String VALIDATOR_DESCRIPTION = "Validates A4 portrait page format requirements";
@@ -37,20 +35,18 @@ public class PageFormatValidator extends AbstractDocumentValidator {
         logger.info("Starting page format validation for document: {}", 
                    document.getMetadata().getTitle());
         
-        List<ValidationDetail> details = new ArrayList<>();
+        DetailSink details = createDetailSink();
         
         try {
-            XWPFDocument docx = document.getXwpfDocument();
-            
             // Validate page size and orientation
-            validatePageSize(docx, details);
-            validatePageOrientation(docx, details);
+            validatePageSize(document, details);
+            validatePageOrientation(document, details);
             
-            logger.info("Page format validation completed. Found {} issues", details.size());
+            logger.info("Page format validation completed. Found {} issues", details.getIssueCount());
             
-            if (details.stream().anyMatch(d -> d.getSeverity() == ValidationSeverity.CRITICAL || d.getSeverity() == ValidationSeverity.MAJOR)) {
+            if (details.hasSeverity(ValidationSeverity.CRITICAL) || details.hasSeverity(ValidationSeverity.MAJOR)) {
                 return ValidationResult.fail(getValidatorName(), details);
-            } else if (details.stream().anyMatch(d -> d.getSeverity() == ValidationSeverity.MINOR)) {
+            } else if (details.hasSeverity(ValidationSeverity.MINOR)) {
                 return ValidationResult.warning(getValidatorName(), details);
             } else {
                 return ValidationResult.pass(getValidatorName());
@@ -65,45 +61,32 @@ public class PageFormatValidator extends AbstractDocumentValidator {
     /**
      * Validates that the document uses A4 page size
      */
-    private void validatePageSize(XWPFDocument document, List<ValidationDetail> details) {
+    private void validatePageSize(ThesisDocument document, DetailSink details) {
         try {
-            // Get page settings from document
-            if (document.getDocument().getBody().getSectPr() != null) {
-                var sectPr = document.getDocument().getBody().getSectPr();
-                
-                if (sectPr.getPgSz() != null) {
-                    var pageSize = sectPr.getPgSz();
-                    
-                    // Get width and height in twips (1/20 of a point)
-                    double widthTwips = ((Number) pageSize.getW()).doubleValue();
-                    double heightTwips = ((Number) pageSize.getH()).doubleValue();
-                    
-                    // Convert twips to points
-                    double widthPoints = widthTwips / 20.0;
-                    double heightPoints = heightTwips / 20.0;
-                    
-                    logger.debug("Page size: {}x{} points", widthPoints, heightPoints);
-                    
-                    // Check if it's A4 size (with tolerance)
-                    boolean isA4Width = Math.abs(widthPoints - A4_WIDTH_POINTS) <= PAGE_SIZE_TOLERANCE;
-                    boolean isA4Height = Math.abs(heightPoints - A4_HEIGHT_POINTS) <= PAGE_SIZE_TOLERANCE;
-                    
-                    if (!isA4Width || !isA4Height) {
-                        details.add(ValidationDetail.builder()
-                                .location("Document page settings")
-                                .expected(String.format("A4 size (%.1fx%.1f points)", A4_WIDTH_POINTS, A4_HEIGHT_POINTS))
-                                .actual(String.format("%.1fx%.1f points", widthPoints, heightPoints))
-                                .severity(ValidationSeverity.CRITICAL)
-                                .build());
-                    } else {
-                        details.add(ValidationDetail.builder()
-                                .location("Document page settings")
-                                .expected("A4 size")
-                                .actual("A4 size")
-                                .severity(ValidationSeverity.INFO)
-                                .build());
-                    }
-                }
+            // Page settings resolve to A4 when the document does not specify a size
+            double widthPoints = document.getPageWidth() * POINTS_PER_CM;
+            double heightPoints = document.getPageHeight() * POINTS_PER_CM;
+            
+            logger.debug("Page size: {}x{} points", widthPoints, heightPoints);
+            
+            // Check if it's A4 size (with tolerance)
+            boolean isA4Width = Math.abs(widthPoints - A4_WIDTH_POINTS) <= PAGE_SIZE_TOLERANCE;
+            boolean isA4Height = Math.abs(heightPoints - A4_HEIGHT_POINTS) <= PAGE_SIZE_TOLERANCE;
+            
+            if (!isA4Width || !isA4Height) {
+                details.add(ValidationDetail.builder()
+                        .location("Document page settings")
+                        .expected(String.format("A4 size (%.1fx%.1f points)", A4_WIDTH_POINTS, A4_HEIGHT_POINTS))
+                        .actual(String.format("%.1fx%.1f points", widthPoints, heightPoints))
+                        .severity(ValidationSeverity.CRITICAL)
+                        .build());
+            } else {
+                details.add(ValidationDetail.builder()
+                        .location("Document page settings")
+                        .expected("A4 size")
+                        .actual("A4 size")
+                        .severity(ValidationSeverity.INFO)
+                        .build());
             }
         } catch (Exception e) {
             logger.warn("Could not validate page size: {}", e.getMessage());
@@ -119,34 +102,23 @@ public class PageFormatValidator extends AbstractDocumentValidator {
     /**
      * Validates that the document is in portrait orientation
      */
-    private void validatePageOrientation(XWPFDocument document, List<ValidationDetail> details) {
+    private void validatePageOrientation(ThesisDocument document, DetailSink details) {
         try {
-            if (document.getDocument().getBody().getSectPr() != null) {
-                var sectPr = document.getDocument().getBody().getSectPr();
-                
-                if (sectPr.getPgSz() != null) {
-                    var pageSize = sectPr.getPgSz();
-                    
-                    double widthTwips = ((Number) pageSize.getW()).doubleValue();
-                    double heightTwips = ((Number) pageSize.getH()).doubleValue();
-                    
-                    // Portrait orientation means height > width
-                    if (heightTwips <= widthTwips) {
-                        details.add(ValidationDetail.builder()
-                                .location("Document page settings")
-                                .expected("Portrait orientation")
-                                .actual("Landscape orientation")
-                                .severity(ValidationSeverity.CRITICAL)
-                                .build());
-                    } else {
-                        details.add(ValidationDetail.builder()
-                                .location("Document page settings")
-                                .expected("Portrait orientation")
-                                .actual("Portrait orientation")
-                                .severity(ValidationSeverity.INFO)
-                                .build());
-                    }
-                }
+            // Portrait orientation means height > width
+            if (document.getPageHeight() <= document.getPageWidth()) {
+                details.add(ValidationDetail.builder()
+                        .location("Document page settings")
+                        .expected("Portrait orientation")
+                        .actual("Landscape orientation")
+                        .severity(ValidationSeverity.CRITICAL)
+                        .build());
+            } else {
+                details.add(ValidationDetail.builder()
+                        .location("Document page settings")
+                        .expected("Portrait orientation")
+                        .actual("Portrait orientation")
+                        .severity(ValidationSeverity.INFO)
+                        .build());
             }
         } catch (Exception e) {
             logger.warn("Could not validate page orientation: {}", e.getMessage());
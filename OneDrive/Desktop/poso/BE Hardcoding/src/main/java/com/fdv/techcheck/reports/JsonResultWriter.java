@@ -0,0 +1,196 @@
+package com.fdv.techcheck.reports;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fdv.techcheck.core.validation.ValidationDetail;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.core.validation.ValidationStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes validation results as JSON for machine consumption, such as the grading system.
+ *
+ * Results are written token by token with Jackson's {@link JsonGenerator}; no object tree is
+ * built, so writing costs little more than the bytes produced. An instance writes newline-delimited
+ * JSON (NDJSON): one document object per line, flushed as soon as it is complete so a consumer can
+ * ingest results while a batch is still running. {@link #writeDocument} writes a single document
+ * object to any generator. {@link #writeFinding} writes a single finding as a line, so findings
+ * can be streamed while validators are still running.
+ *
+ * Each document object has the file name, the overall status, issue counts by severity and one
+ * entry per validator with its details. Absent values are omitted rather than written as null.
+ * A validator whose details were capped also has {@code omittedIssues}, the issues it counted
+ * without listing them.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class JsonResultWriter implements Closeable {
+
+    /** Media type of the output of {@link #ndjson(OutputStream)}. */
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    // Thread-safe and expensive to create, so shared by all generators
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+
+    private JsonResultWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Creates a writer that writes one document per line to a stream.
+     *
+     * @param out Target stream, closed when the writer is closed
+     * @return A new writer
+     * @throws IOException if the generator cannot be created
+     */
+    public static JsonResultWriter ndjson(OutputStream out) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        // Lines are terminated explicitly, so no separator between root values
+        generator.setRootValueSeparator(null);
+        return new JsonResultWriter(generator);
+    }
+
+    /**
+     * Creates a generator writing UTF-8 JSON to a stream, for use with {@link #writeDocument}.
+     *
+     * @param out Target stream, closed when the generator is closed
+     * @return A new generator
+     * @throws IOException if the generator cannot be created
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Writes one document as a line and flushes it. Safe to call from several threads;
+     * lines are never interleaved.
+     *
+     * @param fileName Name or path of the validated file
+     * @param results Results of all validators
+     * @throws IOException if the line cannot be written
+     */
+    public synchronized void write(String fileName, List<ValidationResult> results) throws IOException {
+        writeDocument(generator, fileName, results);
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    /**
+     * Writes one finding as a line and flushes it, in the form
+     * {@code {"finding":{"validator":..., "severity":..., ...}}}. Safe to call from several threads.
+     *
+     * @param validatorName Name of the validator that found the issue
+     * @param detail The finding
+     * @throws IOException if the line cannot be written
+     */
+    public synchronized void writeFinding(String validatorName, ValidationDetail detail) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName("finding");
+        generator.writeStartObject();
+        generator.writeStringField("validator", validatorName);
+        writeDetailFields(generator, detail);
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.flush();
+    }
+
+    /**
+     * Writes the results of one document as a JSON object.
+     *
+     * @param json Generator positioned where a value may be written
+     * @param fileName Name or path of the validated file
+     * @param results Results of all validators
+     * @throws IOException if the object cannot be written
+     */
+    public static void writeDocument(JsonGenerator json, String fileName, List<ValidationResult> results)
+            throws IOException {
+        ValidationStatus status = ValidationStatus.PASS;
+        long critical = 0;
+        long major = 0;
+        long minor = 0;
+        for (ValidationResult result : results) {
+            if (result.getStatus().getPriority() < status.getPriority()) {
+                status = result.getStatus();
+            }
+            critical += result.getCriticalIssueCount();
+            major += result.getMajorIssueCount();
+            minor += result.getMinorIssueCount();
+        }
+
+        json.writeStartObject();
+        json.writeStringField("file", fileName);
+        json.writeStringField("status", status.name());
+        json.writeObjectFieldStart("issues");
+        json.writeNumberField("critical", critical);
+        json.writeNumberField("major", major);
+        json.writeNumberField("minor", minor);
+        json.writeEndObject();
+        json.writeArrayFieldStart("results");
+        for (ValidationResult result : results) {
+            writeResult(json, result);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private static void writeResult(JsonGenerator json, ValidationResult result) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("validator", result.getValidatorName());
+        json.writeStringField("status", result.getStatus().name());
+        writeOptional(json, "message", result.getMessage());
+        writeOptional(json, "error", result.getErrorMessage());
+        if (result.getProcessingTime() != null) {
+            json.writeNumberField("processingTimeMs", result.getProcessingTime().toMillis());
+        }
+        if (result.getOmittedIssueCount() > 0) {
+            json.writeNumberField("omittedIssues", result.getOmittedIssueCount());
+        }
+        json.writeArrayFieldStart("details");
+        for (ValidationDetail detail : result.getDetails()) {
+            json.writeStartObject();
+            writeDetailFields(json, detail);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private static void writeDetailFields(JsonGenerator json, ValidationDetail detail) throws IOException {
+        json.writeStringField("severity", detail.getSeverity().name());
+        writeOptional(json, "location", detail.getLocation());
+        writeOptional(json, "page", detail.getPageNumber());
+        writeOptional(json, "line", detail.getLineNumber());
+        writeOptional(json, "expected", detail.getExpected());
+        writeOptional(json, "actual", detail.getActual());
+        writeOptional(json, "recommendation", detail.getRecommendation());
+        writeOptional(json, "rule", detail.getRuleReference());
+        if (detail.getOccurrences() > 1) {
+            json.writeNumberField("occurrences", detail.getOccurrences());
+        }
+    }
+
+    private static void writeOptional(JsonGenerator json, String name, String value) throws IOException {
+        if (value != null) {
+            json.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Flushes and closes the writer and its stream.
+     *
+     * @throws IOException if the stream cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        generator.close();
+    }
+}
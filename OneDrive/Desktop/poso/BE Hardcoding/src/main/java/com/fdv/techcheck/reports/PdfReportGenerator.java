@@ -1,6 +1,9 @@
 package com.fdv.techcheck.reports;
 
 import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
+import com.fdv.techcheck.core.metrics.ReportRenderEvent;
+import com.fdv.techcheck.core.metrics.Timer;
 import com.fdv.techcheck.core.validation.ValidationResult;
 import com.fdv.techcheck.core.validation.ValidationDetail;
 import com.fdv.techcheck.core.validation.ValidationStatus;
@@ -14,7 +17,7 @@ import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.colors.Color;
 import com.itextpdf.kernel.colors.DeviceRgb;
 
@@ -32,6 +35,11 @@ import java.util.Map;
  * Generates PDF reports for thesis validation results.
  * Creates professional reports suitable for technical service staff review.
  * 
+ * The generator holds no per-report state and is thread-safe: one instance can render many
+ * reports concurrently, as in batch and server modes. Font programs are parsed once per JVM
+ * ({@code ReportFonts}) and only the per-report font wrappers are created for each report.
+ * Each rendered report is recorded as a {@link ReportRenderEvent} for JDK Flight Recorder.
+ * 
  * @author TechCheck Development Team
  * @since 1.0.0
  */
@@ -45,6 +53,24 @@ public class PdfReportGenerator {
     private static final Color COLOR_FAIL = new DeviceRgb(220, 20, 60);      // Crimson
     private static final Color COLOR_ERROR = new DeviceRgb(139, 0, 0);       // Dark Red
     private static final Color COLOR_HEADER = new DeviceRgb(25, 25, 112);    // Midnight Blue
+    private static final Color COLOR_HEADER_TEXT = new DeviceRgb(255, 255, 255);
+    private static final Color COLOR_MUTED = new DeviceRgb(128, 128, 128);
+    
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    
+    // Detail rows laid out and written to the PDF at a time; keeps report memory independent of the detail count
+    private static final int DETAIL_ROWS_PER_FLUSH = 100;
+    
+    private static final PdfReportGenerator SHARED = new PdfReportGenerator();
+    
+    /**
+     * Gets the instance shared by callers that render reports concurrently.
+     * 
+     * @return The shared generator
+     */
+    public static PdfReportGenerator shared() {
+        return SHARED;
+    }
     
     /**
      * Generates a PDF report for the given validation results.
@@ -58,14 +84,17 @@ public class PdfReportGenerator {
                              Map<String, ValidationResult> validationResults) throws IOException {
         
         logger.info("Generating PDF report: {}", outputFile.getAbsolutePath());
+        long startTime = Timer.start();
+        ReportRenderEvent event = new ReportRenderEvent();
+        event.begin();
         
         try (PdfWriter writer = new PdfWriter(outputFile.getAbsolutePath());
              PdfDocument pdfDoc = new PdfDocument(writer);
-             Document doc = new Document(pdfDoc)) {
+             Document doc = new Document(pdfDoc, PageSize.A4, true)) {
             
-            // Create fonts
-            PdfFont boldFont = PdfFontFactory.createFont();
-            PdfFont regularFont = PdfFontFactory.createFont();
+            // Wrap the shared font programs for this document
+            PdfFont boldFont = ReportFonts.bold();
+            PdfFont regularFont = ReportFonts.regular();
             
             // Add header
             addReportHeader(doc, document, boldFont);
@@ -85,6 +114,17 @@ public class PdfReportGenerator {
             logger.error("Failed to generate PDF report", e);
             throw new IOException("Failed to generate PDF report: " + e.getMessage(), e);
         }
+        // Timed after the document is closed, which writes the remaining pages
+        MetricsRegistry.global().timer(MetricsRegistry.REPORT_GENERATION).recordSince(startTime);
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.file = String.valueOf(document.getFilePath());
+            event.validatorCount = validationResults.size();
+            event.detailCount = validationResults.values().stream().mapToInt(result -> result.getDetails().size()).sum();
+            event.reportSize = outputFile.length();
+            event.commit();
+        }
     }
     
     /**
@@ -118,7 +158,7 @@ public class PdfReportGenerator {
         addInfoRow(infoTable, "Pages:", String.valueOf(document.getMetadata().getPageCount()), boldFont);
         addInfoRow(infoTable, "Words:", String.valueOf(document.getMetadata().getWordCount()), boldFont);
         addInfoRow(infoTable, "Validation Date:", 
-                  LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")), boldFont);
+                  LocalDateTime.now().format(DATE_FORMAT), boldFont);
         
         doc.add(infoTable);
     }
@@ -164,7 +204,7 @@ public class PdfReportGenerator {
             
             summaryTable.addCell(new Cell().add(new Paragraph(validatorName).setFont(regularFont)));
             summaryTable.addCell(createStatusCell(result.getStatus(), boldFont));
-            summaryTable.addCell(new Cell().add(new Paragraph(String.valueOf(result.getDetails().size())).setFont(regularFont)));
+            summaryTable.addCell(new Cell().add(new Paragraph(String.valueOf(result.getIssueCount())).setFont(regularFont)));
             summaryTable.addCell(createSeverityCell(result.getStatus(), regularFont));
         }
         
@@ -217,25 +257,13 @@ public class PdfReportGenerator {
             
             // Details if any issues found
             if (result.hasIssues() && !result.getDetails().isEmpty()) {
-                Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{25, 25, 25, 25}))
-                    .setWidth(UnitValue.createPercentValue(100))
-                    .setMarginBottom(15);
-                
-                // Header row
-                detailsTable.addHeaderCell(createHeaderCell("Location", boldFont));
-                detailsTable.addHeaderCell(createHeaderCell("Expected", boldFont));
-                detailsTable.addHeaderCell(createHeaderCell("Found", boldFont));
-                detailsTable.addHeaderCell(createHeaderCell("Severity", boldFont));
-                
-                // Add detail rows
-                for (ValidationDetail detail : result.getDetails()) {
-                    detailsTable.addCell(new Cell().add(new Paragraph(detail.getLocation()).setFont(regularFont)));
-                    detailsTable.addCell(new Cell().add(new Paragraph(detail.getExpected()).setFont(regularFont)));
-                    detailsTable.addCell(new Cell().add(new Paragraph(detail.getActual()).setFont(regularFont)));
-                    detailsTable.addCell(new Cell().add(new Paragraph(detail.getSeverity().toString()).setFont(regularFont)));
+                addDetailsTable(doc, result.getDetails(), boldFont, regularFont);
+                if (result.getOmittedIssueCount() > 0) {
+                    doc.add(new Paragraph(result.getOmittedIssueCount() + " further issue(s) counted but not listed.")
+                        .setFont(regularFont)
+                        .setFontColor(COLOR_MUTED)
+                        .setMarginBottom(15));
                 }
-                
-                doc.add(detailsTable);
             } else {
                 Paragraph noIssues = new Paragraph("No issues found - validation passed successfully.")
                     .setFont(regularFont)
@@ -246,6 +274,39 @@ public class PdfReportGenerator {
         }
     }
     
+    /**
+     * Adds the details of one validator as a large table. The table is added to the document
+     * before its rows and flushed every {@link #DETAIL_ROWS_PER_FLUSH} rows, so rows already
+     * written to the PDF are released and a validator with thousands of details does not hold
+     * them all in memory. The header row is repeated on every page.
+     */
+    private void addDetailsTable(Document doc, List<ValidationDetail> details, PdfFont boldFont, PdfFont regularFont) {
+        Table detailsTable = new Table(UnitValue.createPercentArray(new float[]{25, 25, 25, 25}), true)
+            .setWidth(UnitValue.createPercentValue(100))
+            .setMarginBottom(15);
+        
+        // Header row
+        detailsTable.addHeaderCell(createHeaderCell("Location", boldFont));
+        detailsTable.addHeaderCell(createHeaderCell("Expected", boldFont));
+        detailsTable.addHeaderCell(createHeaderCell("Found", boldFont));
+        detailsTable.addHeaderCell(createHeaderCell("Severity", boldFont));
+        doc.add(detailsTable);
+        
+        // Add detail rows
+        int rows = 0;
+        for (ValidationDetail detail : details) {
+            detailsTable.addCell(new Cell().add(new Paragraph(detail.getLocation()).setFont(regularFont)));
+            detailsTable.addCell(new Cell().add(new Paragraph(detail.getExpected()).setFont(regularFont)));
+            detailsTable.addCell(new Cell().add(new Paragraph(detail.getActual()).setFont(regularFont)));
+            detailsTable.addCell(new Cell().add(new Paragraph(detail.getSeverity().toString()).setFont(regularFont)));
+            if (++rows % DETAIL_ROWS_PER_FLUSH == 0) {
+                detailsTable.flush();
+            }
+        }
+        
+        detailsTable.complete();
+    }
+    
     /**
      * Adds the report footer.
      */
@@ -259,7 +320,7 @@ public class PdfReportGenerator {
             .setFontSize(10)
             .setTextAlignment(TextAlignment.CENTER)
             .setMarginTop(30)
-            .setFontColor(new DeviceRgb(128, 128, 128));
+            .setFontColor(COLOR_MUTED);
         doc.add(footer);
     }
     
@@ -268,7 +329,7 @@ public class PdfReportGenerator {
      */
     private Cell createHeaderCell(String text, PdfFont boldFont) {
         return new Cell()
-            .add(new Paragraph(text).setFont(boldFont).setFontColor(new DeviceRgb(255, 255, 255)))
+            .add(new Paragraph(text).setFont(boldFont).setFontColor(COLOR_HEADER_TEXT))
             .setBackgroundColor(COLOR_HEADER)
             .setTextAlignment(TextAlignment.CENTER);
     }
@@ -344,7 +405,7 @@ public class PdfReportGenerator {
             case ERROR:
                 return COLOR_ERROR;
             default:
-                return new DeviceRgb(128, 128, 128);
+                return COLOR_MUTED;
         }
     }
     
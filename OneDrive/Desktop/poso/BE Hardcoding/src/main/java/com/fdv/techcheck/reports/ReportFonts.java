@@ -0,0 +1,65 @@
+package com.fdv.techcheck.reports;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+
+import java.io.IOException;
+
+/**
+ * Font programs shared by all reports of the JVM.
+ *
+ * Parsing a font program (metrics, widths, kerning) is the expensive part of creating a font.
+ * The programs are immutable once loaded and are parsed once here; a {@link PdfFont} belongs to a
+ * single PDF document, so each report wraps the shared programs in its own fonts, which is cheap.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+final class ReportFonts {
+
+    private static final FontProgram REGULAR = load(StandardFonts.HELVETICA);
+    private static final FontProgram BOLD = load(StandardFonts.HELVETICA_BOLD);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReportFonts() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Creates the regular font for one report.
+     *
+     * @return A font bound to no document yet
+     */
+    static PdfFont regular() {
+        return wrap(REGULAR);
+    }
+
+    /**
+     * Creates the bold font for one report.
+     *
+     * @return A font bound to no document yet
+     */
+    static PdfFont bold() {
+        return wrap(BOLD);
+    }
+
+    private static PdfFont wrap(FontProgram program) {
+        // Standard fonts are built into every PDF viewer and are never embedded
+        return PdfFontFactory.createFont(program, PdfEncodings.WINANSI,
+                                         PdfFontFactory.EmbeddingStrategy.PREFER_NOT_EMBEDDED);
+    }
+
+    private static FontProgram load(String name) {
+        try {
+            return FontProgramFactory.createFont(name);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot load standard font " + name, e);
+        }
+    }
+}
@@ -0,0 +1,496 @@
+package com.fdv.techcheck.server;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fdv.techcheck.core.document.DocumentCache;
+import com.fdv.techcheck.core.document.DocumentLoadMode;
+import com.fdv.techcheck.core.document.DocumentProcessingException;
+import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.MemoryAdmissionController;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.MetricsRegistry;
+import com.fdv.techcheck.core.metrics.Timer;
+import com.fdv.techcheck.core.validation.IValidator;
+import com.fdv.techcheck.core.validation.ValidationDetail;
+import com.fdv.techcheck.core.validation.ValidationEngine;
+import com.fdv.techcheck.core.validation.ValidationListener;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.reports.JsonResultWriter;
+import com.fdv.techcheck.reports.PdfReportGenerator;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP service that validates uploaded theses, built on the JDK's {@link HttpServer}.
+ *
+ * {@code POST /validate} takes the DOCX file as the raw request body and responds with the
+ * validation results as JSON in the format of {@link JsonResultWriter}, or with the PDF report
+ * when the request has {@code ?format=pdf} or accepts {@code application/pdf}. With
+ * {@code ?format=ndjson} or an {@code Accept} of {@code application/x-ndjson} the response is
+ * streamed instead: one {@code finding} line per issue as soon as a validator reports it,
+ * then the complete results as the last line. The optional
+ * {@code name} query parameter sets the file name shown in the results. {@code GET /health} responds with {@code ok}.
+ * {@code GET /metrics} responds with the count, latency percentiles in milliseconds and throughput
+ * of every timer in the global {@link MetricsRegistry}.
+ *
+ * Every exchange runs on its own virtual thread. Uploads are streamed to a temporary file and
+ * never buffered in memory, and a {@link MemoryAdmissionController} bounds the heap used by
+ * documents that are loaded at once, so many concurrent uploads queue instead of exhausting
+ * the heap. With a {@link DocumentCache}, re-uploads of an unchanged file are not parsed again.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class ValidationServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationServer.class);
+
+    public static final int DEFAULT_PORT = 8080;
+
+    /** Largest accepted upload; theses with many images stay well below this. */
+    public static final long DEFAULT_MAX_UPLOAD_BYTES = 100L * 1024 * 1024;
+
+    private static final String CONTENT_TYPE_JSON = "application/json; charset=utf-8";
+    private static final String CONTENT_TYPE_PDF = "application/pdf";
+    private static final String DEFAULT_FILE_NAME = "upload.docx";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int STOP_DELAY_SECONDS = 2;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ValidationEngine engine;
+    private final DocumentLoadMode loadMode;
+    private final MemoryAdmissionController admissionController;
+    private final DocumentCache cache;
+    private final long maxUploadBytes;
+    private final String allowedOrigin;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private ValidationServer(Builder builder) throws IOException {
+        this.engine = ValidationEngine.builder()
+                .validators(builder.validators)
+                .build();
+        this.loadMode = builder.loadMode;
+        this.admissionController = builder.admissionController != null ? builder.admissionController
+                : MemoryAdmissionController.forMaxHeap();
+        this.cache = builder.cache;
+        this.maxUploadBytes = builder.maxUploadBytes;
+        this.allowedOrigin = builder.allowedOrigin;
+
+        this.server = HttpServer.create(new InetSocketAddress(builder.host, builder.port), 0);
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-", 0).factory());
+        server.setExecutor(executor);
+        server.createContext("/validate", this::handleValidate);
+        server.createContext("/health", this::handleHealth);
+        server.createContext("/metrics", this::handleMetrics);
+    }
+
+    /**
+     * Creates a new builder for constructing ValidationServer instances.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Starts accepting requests in the background.
+     */
+    public void start() {
+        server.start();
+        logger.info("Validation service listening on {}", server.getAddress());
+    }
+
+    /**
+     * Gets the port the server is bound to, which is useful when it was created with port 0.
+     *
+     * @return Local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for running exchanges and releases the engine.
+     */
+    @Override
+    public void close() {
+        server.stop(STOP_DELAY_SECONDS);
+        executor.shutdownNow();
+        engine.close();
+        logger.info("Validation service stopped");
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ValidationServer{address=%s, loadMode=%s, maxUpload=%dMB}",
+                           server.getAddress(), loadMode, maxUploadBytes / (1024 * 1024));
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "GET");
+                sendError(exchange, 405, "Use GET to read the metrics");
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+            exchange.sendResponseHeaders(200, 0);
+            try (JsonGenerator json = JsonResultWriter.createGenerator(exchange.getResponseBody())) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("timers");
+                for (Timer.Snapshot snapshot : MetricsRegistry.global().snapshot()) {
+                    json.writeStartObject();
+                    json.writeStringField("name", snapshot.getName());
+                    json.writeNumberField("count", snapshot.getCount());
+                    json.writeNumberField("p50Ms", millis(snapshot.getP50().toNanos()));
+                    json.writeNumberField("p95Ms", millis(snapshot.getP95().toNanos()));
+                    json.writeNumberField("p99Ms", millis(snapshot.getP99().toNanos()));
+                    json.writeNumberField("maxMs", millis(snapshot.getMax().toNanos()));
+                    json.writeNumberField("ratePerSecond", snapshot.getRatePerSecond());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private void handleValidate(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (allowedOrigin != null) {
+                exchange.getResponseHeaders().set("Access-Control-Allow-Origin", allowedOrigin);
+            }
+            if ("OPTIONS".equals(exchange.getRequestMethod())) {
+                // CORS preflight from the upload form
+                exchange.getResponseHeaders().set("Access-Control-Allow-Methods", "POST, OPTIONS");
+                exchange.getResponseHeaders().set("Access-Control-Allow-Headers", "Content-Type");
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", "POST, OPTIONS");
+                sendError(exchange, 405, "Use POST with the DOCX file as the request body");
+                return;
+            }
+
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+            if (contentLength != null && Long.parseLong(contentLength.trim()) > maxUploadBytes) {
+                sendError(exchange, 413, "Upload exceeds " + maxUploadBytes + " bytes");
+                return;
+            }
+
+            Path uploadDirectory = Files.createTempDirectory("techcheck-upload-");
+            Path upload = uploadDirectory.resolve(safeFileName(query.get("name")));
+            try {
+                if (!receive(exchange.getRequestBody(), upload)) {
+                    sendError(exchange, 413, "Upload exceeds " + maxUploadBytes + " bytes");
+                    return;
+                }
+                validate(exchange, upload, query);
+            } finally {
+                Files.deleteIfExists(upload);
+                Files.deleteIfExists(uploadDirectory);
+            }
+        } catch (NumberFormatException e) {
+            sendError(exchange, 400, "Invalid Content-Length");
+        } catch (IOException | RuntimeException e) {
+            logger.error("Validation request failed", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Loads and validates an uploaded document once it is admitted, and sends the response.
+     */
+    private void validate(HttpExchange exchange, Path upload, Map<String, String> query) throws IOException {
+        try (MemoryAdmissionController.Admission admission = admissionController.admit(upload, loadMode)) {
+            ThesisDocument document = DocumentProcessor.loadDocument(upload, loadMode, cache);
+            try {
+                if (wantsStream(exchange, query)) {
+                    sendStream(exchange, upload.getFileName().toString(), document);
+                    return;
+                }
+                List<ValidationResult> results = engine.validate(document);
+                if (wantsPdf(exchange, query)) {
+                    sendPdf(exchange, document, results);
+                } else {
+                    sendJson(exchange, upload.getFileName().toString(), results);
+                }
+            } finally {
+                DocumentProcessor.closeDocument(document);
+            }
+        } catch (DocumentProcessingException e) {
+            sendError(exchange, 422, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (exchange.getResponseCode() == -1) {
+                sendError(exchange, 503, "Server is shutting down");
+            }
+        }
+    }
+
+    /**
+     * Streams the request body to a file, stopping at the upload limit.
+     *
+     * @return false if the upload exceeds the limit
+     */
+    private boolean receive(InputStream body, Path target) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long total = 0;
+        try (InputStream in = body; OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                total += read;
+                if (total > maxUploadBytes) {
+                    return false;
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+        return true;
+    }
+
+    private void sendJson(HttpExchange exchange, String fileName, List<ValidationResult> results) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+        exchange.sendResponseHeaders(200, 0);
+        try (JsonGenerator json = JsonResultWriter.createGenerator(exchange.getResponseBody())) {
+            JsonResultWriter.writeDocument(json, fileName, results);
+        }
+    }
+
+    /**
+     * Streams findings as NDJSON lines while the validators run, followed by the complete results.
+     */
+    private void sendStream(HttpExchange exchange, String fileName, ThesisDocument document)
+            throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", JsonResultWriter.NDJSON_CONTENT_TYPE + "; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        try (JsonResultWriter writer = JsonResultWriter.ndjson(exchange.getResponseBody())) {
+            List<ValidationResult> results = engine.validate(document, new ValidationListener() {
+                @Override
+                public void onResult(IValidator<ThesisDocument> validator, ValidationResult result) {
+                    // Results are written together as the last line
+                }
+
+                @Override
+                public void onFinding(IValidator<ThesisDocument> validator, ValidationDetail detail) {
+                    try {
+                        writer.writeFinding(validator.getValidatorName(), detail);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            writer.write(fileName, results);
+        }
+    }
+
+    private void sendPdf(HttpExchange exchange, ThesisDocument document, List<ValidationResult> results)
+            throws IOException {
+        Map<String, ValidationResult> resultsByValidator = new LinkedHashMap<>();
+        for (ValidationResult result : results) {
+            resultsByValidator.put(result.getValidatorName(), result);
+        }
+
+        Path report = Files.createTempFile("techcheck-report-", ".pdf");
+        try {
+            PdfReportGenerator.shared().generateReport(report.toFile(), document, resultsByValidator);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_PDF);
+            exchange.sendResponseHeaders(200, Files.size(report));
+            Files.copy(report, exchange.getResponseBody());
+        } finally {
+            Files.deleteIfExists(report);
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE_JSON);
+        exchange.sendResponseHeaders(status, 0);
+        try (JsonGenerator json = JsonResultWriter.createGenerator(exchange.getResponseBody())) {
+            json.writeStartObject();
+            json.writeStringField("error", message);
+            json.writeEndObject();
+        }
+    }
+
+    private static boolean wantsStream(HttpExchange exchange, Map<String, String> query) {
+        String format = query.get("format");
+        if (format != null) {
+            return "ndjson".equalsIgnoreCase(format);
+        }
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        return accept != null && accept.contains(JsonResultWriter.NDJSON_CONTENT_TYPE);
+    }
+
+    private static boolean wantsPdf(HttpExchange exchange, Map<String, String> query) {
+        String format = query.get("format");
+        if (format != null) {
+            return "pdf".equalsIgnoreCase(format);
+        }
+        Headers headers = exchange.getRequestHeaders();
+        String accept = headers.getFirst("Accept");
+        return accept != null && accept.contains(CONTENT_TYPE_PDF) && !accept.contains("application/json");
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals >= 0 ? pair.substring(0, equals) : pair;
+            String value = equals >= 0 ? pair.substring(equals + 1) : "";
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return parameters;
+    }
+
+    /**
+     * Reduces a client-supplied name to a plain DOCX file name, so it cannot escape the upload directory.
+     */
+    private static String safeFileName(String name) {
+        if (name == null) {
+            return DEFAULT_FILE_NAME;
+        }
+        String baseName = name.replace('\\', '/');
+        baseName = baseName.substring(baseName.lastIndexOf('/') + 1).replaceAll("[^\\p{L}\\p{N} ._-]", "_");
+        if (baseName.isBlank() || baseName.startsWith(".")) {
+            return DEFAULT_FILE_NAME;
+        }
+        return baseName.toLowerCase(Locale.ROOT).endsWith(".docx") ? baseName : baseName + ".docx";
+    }
+
+    /**
+     * Builder class for constructing ValidationServer instances.
+     */
+    public static class Builder {
+        private final List<IValidator<ThesisDocument>> validators = new ArrayList<>();
+        private String host = "0.0.0.0";
+        private int port = DEFAULT_PORT;
+        private DocumentLoadMode loadMode = DocumentLoadMode.STREAMING;
+        private MemoryAdmissionController admissionController;
+        private DocumentCache cache;
+        private long maxUploadBytes = DEFAULT_MAX_UPLOAD_BYTES;
+        private String allowedOrigin;
+
+        private Builder() {}
+
+        public Builder addValidator(IValidator<ThesisDocument> validator) {
+            this.validators.add(Objects.requireNonNull(validator, "Validator cannot be null"));
+            return this;
+        }
+
+        public Builder validators(List<? extends IValidator<ThesisDocument>> validators) {
+            validators.forEach(this::addValidator);
+            return this;
+        }
+
+        /**
+         * Sets the address to bind to. Defaults to all interfaces.
+         */
+        public Builder host(String host) {
+            this.host = Objects.requireNonNull(host, "Host cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the port to listen on; 0 picks a free port. Defaults to {@link ValidationServer#DEFAULT_PORT}.
+         */
+        public Builder port(int port) {
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("Invalid port: " + port);
+            }
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Sets how uploads are loaded. Defaults to {@link DocumentLoadMode#STREAMING}.
+         */
+        public Builder loadMode(DocumentLoadMode loadMode) {
+            this.loadMode = Objects.requireNonNull(loadMode, "Load mode cannot be null");
+            return this;
+        }
+
+        /**
+         * Sets the controller that admits uploads into memory. Defaults to a budget of 75% of the maximum heap.
+         */
+        public Builder admissionController(MemoryAdmissionController admissionController) {
+            this.admissionController = admissionController;
+            return this;
+        }
+
+        /**
+         * Sets the cache of parsed document models, so re-uploads of an unchanged file skip parsing.
+         * Only used with {@link DocumentLoadMode#STREAMING}; without a cache every upload is parsed.
+         */
+        public Builder cache(DocumentCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * Sets the largest accepted upload. Defaults to {@link ValidationServer#DEFAULT_MAX_UPLOAD_BYTES}.
+         */
+        public Builder maxUploadBytes(long maxUploadBytes) {
+            if (maxUploadBytes <= 0) {
+                throw new IllegalArgumentException("Upload limit must be positive");
+            }
+            this.maxUploadBytes = maxUploadBytes;
+            return this;
+        }
+
+        /**
+         * Allows browser uploads from the given origin, such as the faculty web site. By default
+         * no cross-origin requests are allowed.
+         */
+        public Builder allowedOrigin(String allowedOrigin) {
+            this.allowedOrigin = allowedOrigin;
+            return this;
+        }
+
+        public ValidationServer build() throws IOException {
+            return new ValidationServer(this);
+        }
+    }
+}
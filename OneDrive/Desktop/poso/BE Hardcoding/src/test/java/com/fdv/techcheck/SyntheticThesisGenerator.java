@@ -0,0 +1,818 @@
+package com.fdv.techcheck;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.util.Units;
+import org.apache.poi.xwpf.usermodel.Document;
+import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
+import org.apache.poi.xwpf.usermodel.XWPFAbstractNum;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFFootnote;
+import org.apache.poi.xwpf.usermodel.XWPFNumbering;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFStyle;
+import org.apache.poi.xwpf.usermodel.XWPFStyles;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableCell;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTAbstractNum;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTLvl;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPPr;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPageMar;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTPageSz;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTSectPr;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTStyle;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STNumberFormat;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STStyleType;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * Generates synthetic thesis documents of realistic size and structure for load tests and
+ * benchmarks, complementing the small fixed documents of {@link TestDocumentGenerator}.
+ *
+ * A thesis is divided into chapters (one document section each) with numbered headings on three
+ * levels, body paragraphs fragmented into several runs, tables with multi-paragraph cells, nested
+ * numbered and bulleted lists, footnotes and embedded figures. The correct formatting follows the
+ * FDV requirements (A4, 2.5 cm margins, Times New Roman 12pt, 1.5 line spacing); violations of
+ * each kind are injected at a configurable rate.
+ *
+ * Generation is deterministic: the same seed and page count always produce the same content.
+ * Violations are drawn from a separate random stream, so changing a violation rate changes only
+ * the formatting, never the text or structure of the document.
+ *
+ * @author TechCheck Development Team
+ * @since 1.0.0
+ */
+public final class SyntheticThesisGenerator {
+
+    /** Largest supported page count. */
+    public static final int MAX_PAGES = 2000;
+
+    /** Words of body text per page, matching the page estimate of the document processor. */
+    public static final int WORDS_PER_PAGE = 275;
+
+    static final String BODY_FONT = "Times New Roman";
+    static final int BODY_FONT_SIZE = 12;
+    static final int FOOTNOTE_FONT_SIZE = 10;
+    static final double LINE_SPACING = 1.5;
+    static final int MARGIN_TWIPS = 1417;       // 2.5 cm
+    static final int LIST_INDENT_TWIPS = 709;   // 1.25 cm per nesting level
+    static final int[] HEADING_FONT_SIZES = { 0, 16, 14, 12 };
+
+    private static final int A4_WIDTH_TWIPS = 11906;
+    private static final int A4_HEIGHT_TWIPS = 16838;
+    private static final double PAGES_PER_PARAGRAPH = 63.0 / WORDS_PER_PAGE; // 4.5 sentences of 14 words
+    private static final int MAX_LIST_LEVEL = 2;
+    private static final int IMAGE_VARIANTS = 4;
+    private static final int IMAGE_WIDTH_PIXELS = 400;
+    private static final int IMAGE_HEIGHT_PIXELS = 240;
+    private static final Date CREATED = new Date(1704067200000L); // 2024-01-01T00:00:00Z
+
+    private static final String[] CHAPTER_TITLES = {
+        "Introduction", "Theoretical Framework", "Literature Review", "Methodology", "Data Collection",
+        "Results", "Analysis", "Discussion", "Case Studies", "Limitations", "Conclusion"
+    };
+    private static final String[] WORDS = {
+        "the", "of", "and", "in", "to", "a", "is", "that", "for", "as", "with", "on", "by", "this",
+        "are", "from", "be", "which", "these", "their", "between", "social", "political", "public",
+        "analysis", "research", "data", "results", "study", "theory", "policy", "institutions",
+        "participants", "framework", "approach", "evidence", "relationship", "development", "process",
+        "significant", "empirical", "qualitative", "quantitative", "respondents", "interviews",
+        "observed", "variables", "model", "effect", "context", "democracy", "governance", "media",
+        "communication", "identity", "society", "economic", "european", "slovenian", "local",
+        "comparative", "historical", "findings", "method", "sample", "survey", "level", "indicates",
+        "suggests", "shows", "however", "therefore", "moreover", "although", "particularly",
+        "important", "different", "several", "previous", "further", "concept", "dimension", "role"
+    };
+    private static final String[] WRONG_FONTS = { "Arial", "Calibri", "Cambria", "Courier New" };
+    private static final int[] WRONG_FONT_SIZES = { 10, 11, 13, 14 };
+    private static final double[] WRONG_LINE_SPACINGS = { 1.0, 1.15, 2.0 };
+    private static final int[] WRONG_MARGIN_DELTAS_TWIPS = { -851, -567, -284, 284, 567 };
+
+    /**
+     * Kinds of formatting violations that can be injected.
+     */
+    public enum Violation {
+        /** A section with one page margin different from 2.5 cm; rate per section. */
+        MARGIN,
+        /** A text run in a different font family or size; rate per run. */
+        FONT,
+        /** A body paragraph with a line spacing other than 1.5; rate per paragraph. */
+        SPACING,
+        /** A heading with wrong size, missing bold or wrong numbering depth; rate per heading. */
+        HEADING,
+        /** A list item with wrong indentation or foreign numbering; rate per list item. */
+        LIST
+    }
+
+    private final int pages;
+    private final long seed;
+    private final Map<Violation, Double> violationRates;
+    private final double runFragmentation;
+    private final double tablesPerPage;
+    private final double figuresPerPage;
+    private final double listsPerPage;
+    private final double footnoteRate;
+
+    /**
+     * Private constructor - use Builder to create instances.
+     */
+    private SyntheticThesisGenerator(Builder builder) {
+        this.pages = builder.pages;
+        this.seed = builder.seed;
+        this.violationRates = new EnumMap<>(builder.violationRates);
+        this.runFragmentation = builder.runFragmentation;
+        this.tablesPerPage = builder.tablesPerPage;
+        this.figuresPerPage = builder.figuresPerPage;
+        this.listsPerPage = builder.listsPerPage;
+        this.footnoteRate = builder.footnoteRate;
+    }
+
+    /**
+     * Creates a new builder for SyntheticThesisGenerator.
+     *
+     * @return A new Builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Generates a thesis without injected violations and writes it to a file, creating missing
+     * parent directories. Shorthand for test fixtures that only need a valid document on disk.
+     *
+     * @param file Target DOCX file
+     * @param pages Number of pages
+     * @param seed Seed of the content
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path file, int pages, long seed) throws IOException {
+        try (SyntheticThesis thesis = builder().pages(pages).seed(seed).build().generate()) {
+            thesis.write(file);
+        }
+    }
+
+    /**
+     * Writes a thesis to a directory: {@code pages [seed [outputDirectory [violationRate]]]}.
+     * The violation rate, if given, applies to all violation kinds.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: SyntheticThesisGenerator <pages> [seed] [outputDirectory] [violationRate]");
+            System.exit(1);
+        }
+        int pages = Integer.parseInt(args[0]);
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        Path directory = Paths.get(args.length > 2 ? args[2] : "test-documents");
+        Builder builder = builder().pages(pages).seed(seed);
+        if (args.length > 3) {
+            double rate = Double.parseDouble(args[3]);
+            for (Violation violation : Violation.values()) {
+                builder.violationRate(violation, rate);
+            }
+        }
+
+        Path file = directory.resolve("synthetic-thesis-" + pages + "-pages-" + seed + ".docx");
+        try (SyntheticThesis thesis = builder.build().generate()) {
+            thesis.write(file);
+            System.out.println("Generated " + file + ": " + thesis);
+        }
+    }
+
+    /**
+     * Generates the thesis in memory.
+     *
+     * @return The generated thesis, which must be closed by the caller
+     * @throws IOException if an embedded image cannot be created
+     */
+    public SyntheticThesis generate() throws IOException {
+        return new Generation().run();
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public double getViolationRate(Violation violation) {
+        return violationRates.getOrDefault(violation, 0.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SyntheticThesisGenerator{pages=%d, seed=%d, violations=%s}",
+                           pages, seed, violationRates);
+    }
+
+    /**
+     * A generated thesis together with the number of elements and injected violations it contains.
+     */
+    public static final class SyntheticThesis implements Closeable {
+        private final XWPFDocument document;
+        private final Map<Violation, Integer> injectedViolations = new EnumMap<>(Violation.class);
+        private int wordCount;
+        private int paragraphCount;
+        private int runCount;
+        private int headingCount;
+        private int sectionCount;
+        private int tableCount;
+        private int figureCount;
+        private int listItemCount;
+        private int footnoteCount;
+
+        private SyntheticThesis(XWPFDocument document) {
+            this.document = document;
+            for (Violation violation : Violation.values()) {
+                injectedViolations.put(violation, 0);
+            }
+        }
+
+        /**
+         * Writes the document to a file, creating missing parent directories.
+         *
+         * @param file Target DOCX file
+         * @throws IOException if the file cannot be written
+         */
+        public void write(Path file) throws IOException {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                document.write(out);
+            }
+        }
+
+        public XWPFDocument getDocument() {
+            return document;
+        }
+
+        public int getInjectedViolations(Violation violation) {
+            return injectedViolations.get(violation);
+        }
+
+        public int getWordCount() {
+            return wordCount;
+        }
+
+        /** Gets the number of body paragraphs, excluding headings, lists, captions and tables. */
+        public int getParagraphCount() {
+            return paragraphCount;
+        }
+
+        /** Gets the number of text runs in body paragraphs. */
+        public int getRunCount() {
+            return runCount;
+        }
+
+        public int getHeadingCount() {
+            return headingCount;
+        }
+
+        public int getSectionCount() {
+            return sectionCount;
+        }
+
+        public int getTableCount() {
+            return tableCount;
+        }
+
+        public int getFigureCount() {
+            return figureCount;
+        }
+
+        public int getListItemCount() {
+            return listItemCount;
+        }
+
+        public int getFootnoteCount() {
+            return footnoteCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            document.close();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SyntheticThesis{words=%d, paragraphs=%d, headings=%d, sections=%d, tables=%d, " +
+                               "figures=%d, listItems=%d, footnotes=%d, violations=%s}",
+                               wordCount, paragraphCount, headingCount, sectionCount, tableCount,
+                               figureCount, listItemCount, footnoteCount, injectedViolations);
+        }
+    }
+
+    /**
+     * State of one generation run. Content and structure come from {@code random}, injected
+     * violations from {@code violationRandom}.
+     */
+    private final class Generation {
+        private final Random random = new Random(seed);
+        private final Random violationRandom = new Random(~seed);
+        private final XWPFDocument document = new XWPFDocument();
+        private final SyntheticThesis thesis = new SyntheticThesis(document);
+        private final List<byte[]> images = new ArrayList<>();
+        private final int targetWords = pages * WORDS_PER_PAGE;
+        private XWPFNumbering numbering;
+        private BigInteger numberedList;
+        private BigInteger bulletedList;
+
+        private SyntheticThesis run() throws IOException {
+            setUpProperties();
+            setUpStyles();
+            setUpNumbering();
+            for (int i = 0; i < IMAGE_VARIANTS; i++) {
+                images.add(createImage());
+            }
+
+            XWPFParagraph last = null;
+            for (int chapter = 1; thesis.wordCount < targetWords; chapter++) {
+                if (last != null) {
+                    // Close the previous chapter's section on its last paragraph
+                    CTPPr properties = last.getCTP().isSetPPr() ? last.getCTP().getPPr() : last.getCTP().addNewPPr();
+                    configureSection(properties.addNewSectPr());
+                }
+                last = writeChapter(chapter);
+            }
+            configureSection(document.getDocument().getBody().addNewSectPr());
+            return thesis;
+        }
+
+        private void setUpProperties() {
+            document.getProperties().getCoreProperties().setTitle("Synthetic thesis " + seed);
+            document.getProperties().getCoreProperties().setCreator("TechCheck Development Team");
+            document.getProperties().getCoreProperties().setCreated(Optional.of(CREATED));
+            document.getProperties().getExtendedProperties().getUnderlyingProperties().setPages(pages);
+        }
+
+        private void setUpStyles() {
+            XWPFStyles styles = document.createStyles();
+            addStyle(styles, "Heading1", "heading 1");
+            addStyle(styles, "Heading2", "heading 2");
+            addStyle(styles, "Heading3", "heading 3");
+            addStyle(styles, "ListParagraph", "List Paragraph");
+            addStyle(styles, "Caption", "caption");
+        }
+
+        private void addStyle(XWPFStyles styles, String id, String name) {
+            CTStyle style = CTStyle.Factory.newInstance();
+            style.setStyleId(id);
+            style.setType(STStyleType.PARAGRAPH);
+            style.addNewName().setVal(name);
+            styles.addStyle(new XWPFStyle(style, styles));
+        }
+
+        private void setUpNumbering() {
+            numbering = document.createNumbering();
+            numberedList = numbering.addAbstractNum(createAbstractNum(0, STNumberFormat.DECIMAL));
+            bulletedList = numbering.addAbstractNum(createAbstractNum(1, STNumberFormat.BULLET));
+        }
+
+        private XWPFAbstractNum createAbstractNum(int id, STNumberFormat.Enum format) {
+            CTAbstractNum abstractNum = CTAbstractNum.Factory.newInstance();
+            abstractNum.setAbstractNumId(BigInteger.valueOf(id));
+            for (int level = 0; level <= MAX_LIST_LEVEL; level++) {
+                CTLvl lvl = abstractNum.addNewLvl();
+                lvl.setIlvl(BigInteger.valueOf(level));
+                lvl.addNewStart().setVal(BigInteger.ONE);
+                lvl.addNewNumFmt().setVal(format);
+                lvl.addNewLvlText().setVal(format == STNumberFormat.BULLET ? "•" : "%" + (level + 1) + ".");
+                lvl.addNewPPr().addNewInd().setLeft(BigInteger.valueOf((long) level * LIST_INDENT_TWIPS));
+            }
+            return new XWPFAbstractNum(abstractNum, numbering);
+        }
+
+        /**
+         * Writes a chapter of 10 to 25 pages (fewer if the thesis ends earlier).
+         *
+         * @return The chapter's last paragraph
+         */
+        private XWPFParagraph writeChapter(int chapter) throws IOException {
+            String title = chapter <= CHAPTER_TITLES.length
+                ? CHAPTER_TITLES[chapter - 1] : "Chapter " + chapter;
+            writeHeading(1, String.valueOf(chapter), title);
+
+            int chapterEnd = Math.min(targetWords, thesis.wordCount + pages(10 + random.nextInt(16)));
+            XWPFParagraph last = null;
+            for (int section = 1; last == null || thesis.wordCount < chapterEnd; section++) {
+                writeHeading(2, chapter + "." + section, title(2 + random.nextInt(4)));
+
+                int sectionEnd = Math.min(chapterEnd, thesis.wordCount + pages(2 + random.nextInt(4)));
+                int subsection = 0;
+                do {
+                    if (random.nextDouble() < 0.15) {
+                        subsection++;
+                        writeHeading(3, chapter + "." + section + "." + subsection, title(2 + random.nextInt(5)));
+                    }
+                    last = writeBlock();
+                } while (thesis.wordCount < sectionEnd);
+            }
+            thesis.sectionCount++;
+            return last;
+        }
+
+        /**
+         * Writes a body paragraph, possibly preceded by a table, figure or list.
+         */
+        private XWPFParagraph writeBlock() throws IOException {
+            double draw = random.nextDouble() / PAGES_PER_PARAGRAPH;
+            if (draw < tablesPerPage) {
+                writeTable();
+            } else if (draw < tablesPerPage + figuresPerPage) {
+                writeFigure();
+            } else if (draw < tablesPerPage + figuresPerPage + listsPerPage) {
+                writeList();
+            }
+            return writeParagraph();
+        }
+
+        private XWPFParagraph writeParagraph() {
+            XWPFParagraph paragraph = document.createParagraph();
+            paragraph.setSpacingBetween(inject(Violation.SPACING)
+                ? WRONG_LINE_SPACINGS[violationRandom.nextInt(WRONG_LINE_SPACINGS.length)] : LINE_SPACING);
+
+            int sentences = 3 + random.nextInt(4);
+            StringBuilder text = new StringBuilder();
+            for (int s = 0; s < sentences; s++) {
+                appendSentence(text, 8 + random.nextInt(13));
+                text.append(s + 1 < sentences ? " " : "");
+            }
+            writeFragmentedRuns(paragraph, text.toString());
+
+            if (random.nextDouble() < footnoteRate) {
+                writeFootnote(paragraph);
+            }
+            thesis.paragraphCount++;
+            return paragraph;
+        }
+
+        /**
+         * Splits text into runs at random word boundaries, as editing sessions and spell
+         * checking leave it in real documents.
+         */
+        private void writeFragmentedRuns(XWPFParagraph paragraph, String text) {
+            int runStart = 0;
+            for (int i = 0; i < text.length(); i++) {
+                boolean end = i + 1 == text.length();
+                if (end || (text.charAt(i) == ' ' && random.nextDouble() < runFragmentation)) {
+                    XWPFRun run = addRun(paragraph, text.substring(runStart, i + 1), false);
+                    run.setItalic(random.nextDouble() < 0.05);
+                    thesis.runCount++;
+                    runStart = i + 1;
+                }
+            }
+        }
+
+        /**
+         * Adds a text run in the body font, or in a wrong font if a font violation is drawn.
+         */
+        private XWPFRun addRun(XWPFParagraph paragraph, String text, boolean bold) {
+            XWPFRun run = paragraph.createRun();
+            run.setFontFamily(BODY_FONT);
+            run.setFontSize(BODY_FONT_SIZE);
+            if (inject(Violation.FONT)) {
+                if (violationRandom.nextBoolean()) {
+                    run.setFontFamily(WRONG_FONTS[violationRandom.nextInt(WRONG_FONTS.length)]);
+                } else {
+                    run.setFontSize(WRONG_FONT_SIZES[violationRandom.nextInt(WRONG_FONT_SIZES.length)]);
+                }
+            }
+            run.setBold(bold);
+            run.setText(text);
+            return run;
+        }
+
+        private void writeHeading(int level, String number, String title) {
+            int fontSize = HEADING_FONT_SIZES[level];
+            boolean bold = true;
+            if (inject(Violation.HEADING)) {
+                switch (violationRandom.nextInt(3)) {
+                    case 0:
+                        fontSize += violationRandom.nextBoolean() ? 2 : -2;
+                        break;
+                    case 1:
+                        bold = false;
+                        break;
+                    default:
+                        number = level == 1 ? number + ".1" : number.substring(0, number.lastIndexOf('.'));
+                        break;
+                }
+            }
+
+            XWPFParagraph heading = document.createParagraph();
+            heading.setStyle("Heading" + level);
+            heading.setSpacingBetween(LINE_SPACING);
+            XWPFRun run = heading.createRun();
+            run.setFontFamily(BODY_FONT);
+            run.setFontSize(fontSize);
+            run.setBold(bold);
+            run.setText(number + " " + title);
+            thesis.headingCount++;
+        }
+
+        /**
+         * Writes a captioned table of 3 to 8 rows with a bold header row; some cells
+         * contain two paragraphs.
+         */
+        private void writeTable() {
+            thesis.tableCount++;
+            writeCaption("Table " + thesis.tableCount + ": " + title(3 + random.nextInt(4)));
+
+            int rows = 3 + random.nextInt(6);
+            int columns = 2 + random.nextInt(4);
+            XWPFTable table = document.createTable(rows, columns);
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    XWPFTableCell cell = table.getRow(row).getCell(column);
+                    XWPFParagraph paragraph = cell.getParagraphs().get(0);
+                    paragraph.setSpacingBetween(1.0);
+                    addRun(paragraph, row == 0 ? title(1 + random.nextInt(2)) : words(1 + random.nextInt(4)), row == 0);
+                    if (row > 0 && random.nextDouble() < 0.2) {
+                        XWPFParagraph second = cell.addParagraph();
+                        second.setSpacingBetween(1.0);
+                        addRun(second, words(2 + random.nextInt(6)), false);
+                    }
+                }
+            }
+        }
+
+        private void writeFigure() throws IOException {
+            thesis.figureCount++;
+            XWPFParagraph paragraph = document.createParagraph();
+            paragraph.setAlignment(ParagraphAlignment.CENTER);
+            byte[] image = images.get(random.nextInt(images.size()));
+            try {
+                paragraph.createRun().addPicture(new ByteArrayInputStream(image), Document.PICTURE_TYPE_PNG,
+                        "figure" + thesis.figureCount + ".png",
+                        Units.pixelToEMU(IMAGE_WIDTH_PIXELS), Units.pixelToEMU(IMAGE_HEIGHT_PIXELS));
+            } catch (InvalidFormatException e) {
+                throw new IOException("Failed to embed figure " + thesis.figureCount, e);
+            }
+            writeCaption("Figure " + thesis.figureCount + ": " + title(3 + random.nextInt(4)));
+        }
+
+        private void writeCaption(String text) {
+            XWPFParagraph caption = document.createParagraph();
+            caption.setStyle("Caption");
+            caption.setSpacingBetween(LINE_SPACING);
+            addRun(caption, text, false);
+        }
+
+        /**
+         * Writes a numbered or bulleted list of 3 to 10 items nested up to three levels deep,
+         * each level changing by at most one from the previous item.
+         */
+        private void writeList() {
+            boolean numbered = random.nextBoolean();
+            BigInteger numId = numbering.addNum(numbered ? numberedList : bulletedList);
+            BigInteger foreignNumId = null;
+
+            int items = 3 + random.nextInt(8);
+            int level = 0;
+            for (int item = 0; item < items; item++) {
+                if (item > 0) {
+                    level = Math.max(0, Math.min(MAX_LIST_LEVEL, level + random.nextInt(3) - 1));
+                }
+                BigInteger itemNumId = numId;
+                int indent = level * LIST_INDENT_TWIPS;
+                if (inject(Violation.LIST)) {
+                    if (violationRandom.nextBoolean()) {
+                        indent += LIST_INDENT_TWIPS;
+                    } else {
+                        if (foreignNumId == null) {
+                            foreignNumId = numbering.addNum(numbered ? bulletedList : numberedList);
+                        }
+                        itemNumId = foreignNumId;
+                    }
+                }
+
+                XWPFParagraph paragraph = document.createParagraph();
+                paragraph.setStyle("ListParagraph");
+                paragraph.setNumID(itemNumId);
+                paragraph.setNumILvl(BigInteger.valueOf(level));
+                paragraph.setIndentationLeft(indent);
+                paragraph.setSpacingBetween(LINE_SPACING);
+                StringBuilder text = new StringBuilder();
+                appendSentence(text, 4 + random.nextInt(10));
+                addRun(paragraph, text.toString(), false);
+                thesis.listItemCount++;
+            }
+        }
+
+        private void writeFootnote(XWPFParagraph paragraph) {
+            XWPFFootnote footnote = document.createFootnote();
+            XWPFParagraph note = footnote.createParagraph();
+            note.setSpacingBetween(1.0);
+            XWPFRun run = note.createRun();
+            run.setFontFamily(BODY_FONT);
+            run.setFontSize(FOOTNOTE_FONT_SIZE);
+            StringBuilder text = new StringBuilder();
+            appendSentence(text, 6 + random.nextInt(15));
+            run.setText(text.toString());
+            paragraph.addFootnoteReference(footnote);
+            thesis.footnoteCount++;
+        }
+
+        /**
+         * Sets A4 page size and margins on a section, one of them wrong if a margin violation is drawn.
+         */
+        private void configureSection(CTSectPr sectPr) {
+            CTPageSz pageSize = sectPr.addNewPgSz();
+            pageSize.setW(BigInteger.valueOf(A4_WIDTH_TWIPS));
+            pageSize.setH(BigInteger.valueOf(A4_HEIGHT_TWIPS));
+
+            int[] margins = { MARGIN_TWIPS, MARGIN_TWIPS, MARGIN_TWIPS, MARGIN_TWIPS };
+            if (inject(Violation.MARGIN)) {
+                margins[violationRandom.nextInt(margins.length)] +=
+                    WRONG_MARGIN_DELTAS_TWIPS[violationRandom.nextInt(WRONG_MARGIN_DELTAS_TWIPS.length)];
+            }
+            CTPageMar pageMargins = sectPr.addNewPgMar();
+            pageMargins.setTop(BigInteger.valueOf(margins[0]));
+            pageMargins.setBottom(BigInteger.valueOf(margins[1]));
+            pageMargins.setLeft(BigInteger.valueOf(margins[2]));
+            pageMargins.setRight(BigInteger.valueOf(margins[3]));
+        }
+
+        /**
+         * Draws whether to inject a violation and counts it. Uses the violation stream only,
+         * and only when the rate is positive, so content is unaffected by the rates.
+         */
+        private boolean inject(Violation violation) {
+            double rate = getViolationRate(violation);
+            if (rate <= 0 || violationRandom.nextDouble() >= rate) {
+                return false;
+            }
+            thesis.injectedViolations.merge(violation, 1, Integer::sum);
+            return true;
+        }
+
+        private void appendSentence(StringBuilder text, int words) {
+            int start = text.length();
+            text.append(words(words)).append('.');
+            text.setCharAt(start, Character.toUpperCase(text.charAt(start)));
+        }
+
+        private String words(int count) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                text.append(i > 0 ? " " : "").append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            thesis.wordCount += count;
+            return text.toString();
+        }
+
+        private String title(int words) {
+            StringBuilder text = new StringBuilder(words(words));
+            for (int i = 0; i < text.length(); i++) {
+                if (i == 0 || text.charAt(i - 1) == ' ') {
+                    text.setCharAt(i, Character.toUpperCase(text.charAt(i)));
+                }
+            }
+            return text.toString();
+        }
+
+        private int pages(int count) {
+            return count * WORDS_PER_PAGE;
+        }
+
+        /**
+         * Draws a bar chart with random bar heights and colours.
+         */
+        private byte[] createImage() throws IOException {
+            BufferedImage image = new BufferedImage(IMAGE_WIDTH_PIXELS, IMAGE_HEIGHT_PIXELS, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = image.createGraphics();
+            try {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, IMAGE_WIDTH_PIXELS, IMAGE_HEIGHT_PIXELS);
+                int bars = 4 + random.nextInt(8);
+                int barWidth = IMAGE_WIDTH_PIXELS / (bars * 2);
+                for (int bar = 0; bar < bars; bar++) {
+                    int height = 20 + random.nextInt(IMAGE_HEIGHT_PIXELS - 40);
+                    graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+                    graphics.fillRect(barWidth / 2 + bar * 2 * barWidth, IMAGE_HEIGHT_PIXELS - height, barWidth, height);
+                }
+            } finally {
+                graphics.dispose();
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Builder for SyntheticThesisGenerator. All violation rates default to zero.
+     */
+    public static class Builder {
+        private int pages = 100;
+        private long seed = 1L;
+        private final Map<Violation, Double> violationRates = new EnumMap<>(Violation.class);
+        private double runFragmentation = 0.15;
+        private double tablesPerPage = 0.1;
+        private double figuresPerPage = 0.08;
+        private double listsPerPage = 0.15;
+        private double footnoteRate = 0.05;
+
+        private Builder() {}
+
+        /**
+         * Sets the approximate length in pages of {@value #WORDS_PER_PAGE} body words.
+         */
+        public Builder pages(int pages) {
+            if (pages < 1 || pages > MAX_PAGES) {
+                throw new IllegalArgumentException("Pages must be between 1 and " + MAX_PAGES + ": " + pages);
+            }
+            this.pages = pages;
+            return this;
+        }
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the probability of injecting a violation into each element the violation applies to.
+         */
+        public Builder violationRate(Violation violation, double rate) {
+            violationRates.put(violation, probability("Violation rate", rate));
+            return this;
+        }
+
+        /**
+         * Sets the probability of a run boundary after each word of a body paragraph.
+         */
+        public Builder runFragmentation(double runFragmentation) {
+            this.runFragmentation = probability("Run fragmentation", runFragmentation);
+            return this;
+        }
+
+        public Builder tablesPerPage(double tablesPerPage) {
+            this.tablesPerPage = nonNegative("Tables per page", tablesPerPage);
+            return this;
+        }
+
+        public Builder figuresPerPage(double figuresPerPage) {
+            this.figuresPerPage = nonNegative("Figures per page", figuresPerPage);
+            return this;
+        }
+
+        public Builder listsPerPage(double listsPerPage) {
+            this.listsPerPage = nonNegative("Lists per page", listsPerPage);
+            return this;
+        }
+
+        /**
+         * Sets the probability that a body paragraph carries a footnote.
+         */
+        public Builder footnoteRate(double footnoteRate) {
+            this.footnoteRate = probability("Footnote rate", footnoteRate);
+            return this;
+        }
+
+        public SyntheticThesisGenerator build() {
+            if ((tablesPerPage + figuresPerPage + listsPerPage) * PAGES_PER_PARAGRAPH > 1.0) {
+                throw new IllegalStateException("Tables, figures and lists cannot exceed one per paragraph in total");
+            }
+            return new SyntheticThesisGenerator(this);
+        }
+
+        private static double probability(String name, double value) {
+            if (!(value >= 0.0 && value <= 1.0)) {
+                throw new IllegalArgumentException(name + " must be between 0 and 1: " + value);
+            }
+            return value;
+        }
+
+        private static double nonNegative(String name, double value) {
+            if (!(value >= 0.0)) {
+                throw new IllegalArgumentException(name + " cannot be negative: " + value);
+            }
+            return value;
+        }
+    }
+}
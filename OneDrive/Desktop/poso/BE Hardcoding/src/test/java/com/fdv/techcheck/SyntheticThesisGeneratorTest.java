@@ -0,0 +1,116 @@
+package com.fdv.techcheck;
+
+import com.fdv.techcheck.SyntheticThesisGenerator.SyntheticThesis;
+import com.fdv.techcheck.SyntheticThesisGenerator.Violation;
+import com.fdv.techcheck.core.document.DocumentIndex;
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SyntheticThesisGenerator.
+ * Verifies determinism, document size and the accounting of injected violations.
+ */
+class SyntheticThesisGeneratorTest {
+
+    @Test
+    void testSameSeedGeneratesSameContent() throws IOException {
+        SyntheticThesisGenerator generator = SyntheticThesisGenerator.builder().pages(10).seed(7).build();
+
+        try (SyntheticThesis first = generator.generate();
+             SyntheticThesis second = generator.generate()) {
+            assertEquals(texts(first), texts(second));
+            assertEquals(first.toString(), second.toString());
+        }
+    }
+
+    @Test
+    void testViolationRatesDoNotChangeContent() throws IOException {
+        SyntheticThesisGenerator clean = SyntheticThesisGenerator.builder().pages(10).seed(7).build();
+        SyntheticThesisGenerator.Builder builder = SyntheticThesisGenerator.builder().pages(10).seed(7);
+        for (Violation violation : Violation.values()) {
+            builder.violationRate(violation, 0.3);
+        }
+
+        try (SyntheticThesis expected = clean.generate();
+             SyntheticThesis violating = builder.build().generate()) {
+            // Heading violations may change the numbering prefix, so compare body paragraphs only
+            assertEquals(bodyTexts(expected), bodyTexts(violating));
+            for (Violation violation : Violation.values()) {
+                assertEquals(0, expected.getInjectedViolations(violation), violation.name());
+            }
+            assertTrue(violating.getInjectedViolations(Violation.FONT) > 0);
+            assertTrue(violating.getInjectedViolations(Violation.SPACING) > 0);
+        }
+    }
+
+    @Test
+    void testInjectedFontViolationsAreInDocument() throws IOException {
+        SyntheticThesisGenerator generator = SyntheticThesisGenerator.builder()
+            .pages(20)
+            .seed(3)
+            .violationRate(Violation.FONT, 0.05)
+            .build();
+
+        try (SyntheticThesis thesis = generator.generate()) {
+            int wrongRuns = 0;
+            for (IndexedParagraph paragraph : DocumentIndex.of(thesis.getDocument()).getParagraphs()) {
+                if (paragraph.getStyleId() != null && paragraph.getStyleId().startsWith("Heading")) {
+                    continue;
+                }
+                for (RunSpan run : paragraph.getRuns()) {
+                    if (!run.isBlank() && (!SyntheticThesisGenerator.BODY_FONT.equals(run.getFontFamily())
+                            || run.getFontSize() != SyntheticThesisGenerator.BODY_FONT_SIZE)) {
+                        wrongRuns++;
+                    }
+                }
+            }
+            assertEquals(thesis.getInjectedViolations(Violation.FONT), wrongRuns);
+        }
+    }
+
+    @Test
+    void testDocumentScalesWithPageCount() throws IOException {
+        try (SyntheticThesis thesis = SyntheticThesisGenerator.builder().pages(60).seed(11).build().generate()) {
+            assertTrue(thesis.getWordCount() >= 60 * SyntheticThesisGenerator.WORDS_PER_PAGE);
+            assertTrue(thesis.getWordCount() < 63 * SyntheticThesisGenerator.WORDS_PER_PAGE);
+            assertTrue(thesis.getSectionCount() >= 3, "Chapters span at most 25 pages");
+            assertTrue(thesis.getRunCount() > thesis.getParagraphCount() * 2, "Paragraphs are fragmented into runs");
+            assertTrue(thesis.getTableCount() > 0);
+            assertTrue(thesis.getFigureCount() > 0);
+            assertTrue(thesis.getListItemCount() > 0);
+            assertTrue(thesis.getFootnoteCount() > 0);
+        }
+    }
+
+    @Test
+    void testBuilderRejectsInvalidSettings() {
+        SyntheticThesisGenerator.Builder builder = SyntheticThesisGenerator.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> builder.pages(SyntheticThesisGenerator.MAX_PAGES + 1));
+        assertThrows(IllegalArgumentException.class, () -> builder.violationRate(Violation.MARGIN, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> builder.tablesPerPage(-1));
+    }
+
+    private static List<String> texts(SyntheticThesis thesis) {
+        List<String> texts = new ArrayList<>();
+        DocumentIndex.of(thesis.getDocument()).getParagraphs().forEach(paragraph -> texts.add(paragraph.getText()));
+        return texts;
+    }
+
+    private static List<String> bodyTexts(SyntheticThesis thesis) {
+        List<String> texts = new ArrayList<>();
+        for (IndexedParagraph paragraph : DocumentIndex.of(thesis.getDocument()).getParagraphs()) {
+            if (paragraph.getStyleId() == null || !paragraph.getStyleId().startsWith("Heading")) {
+                texts.add(paragraph.getText());
+            }
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,142 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.core.validation.ValidationStatus;
+import com.fdv.techcheck.modules.layout.MarginValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchJournal.
+ * Verifies that records survive reopening, that changed or torn entries are not resumed,
+ * and that a batch skips documents completed by an earlier run.
+ */
+class BatchJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordedSummaryIsFoundAfterReopening() throws IOException {
+        Path document = directory.resolve("docs").resolve("thesis with spaces.docx");
+        DocumentSummary summary = DocumentSummary.error(document, "Broken\tacross\nlines", Duration.ofMillis(42));
+
+        try (BatchJournal journal = BatchJournal.open(directory.resolve("journal"))) {
+            journal.record(summary, "abc123");
+        }
+
+        try (BatchJournal journal = BatchJournal.open(directory.resolve("journal"))) {
+            assertEquals(1, journal.getResumableCount());
+            DocumentSummary restored = journal.lookup(document, "abc123");
+            assertNotNull(restored);
+            assertEquals(ValidationStatus.ERROR, restored.getStatus());
+            assertEquals("Broken\tacross\nlines", restored.getErrorMessage());
+            assertEquals(Duration.ofMillis(42), restored.getProcessingTime());
+            assertNull(journal.lookup(document, "def456"), "Changed content must be validated again");
+        }
+    }
+
+    @Test
+    void testTornLastRecordIsIgnored() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        Path document = directory.resolve("a.docx");
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            journal.record(DocumentSummary.error(document, "failed", Duration.ZERO), "hash-a");
+        }
+        Files.writeString(journalDirectory.resolve(BatchJournal.JOURNAL_FILE_NAME), "hash-b\t/partial",
+                          StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            assertEquals(1, journal.getResumableCount());
+            journal.record(DocumentSummary.error(directory.resolve("b.docx"), "failed", Duration.ZERO), "hash-b");
+        }
+
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            assertEquals(2, journal.getResumableCount());
+            assertNotNull(journal.lookup(directory.resolve("b.docx"), "hash-b"));
+        }
+    }
+
+    @Test
+    void testRecordTornInsideMultiByteCharacterIsIgnored() throws IOException {
+        Path journalDirectory = directory.resolve("journal");
+        Path journalFile = journalDirectory.resolve(BatchJournal.JOURNAL_FILE_NAME);
+        Path document = directory.resolve("b.docx");
+        String message = "Napaka v poglavju \u010clanki";
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            journal.record(DocumentSummary.error(directory.resolve("a.docx"), "failed", Duration.ZERO), "hash-a");
+        }
+        long intactLength = Files.size(journalFile);
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            journal.record(DocumentSummary.error(document, message, Duration.ZERO), "hash-b");
+        }
+        // Cut the second record between the two bytes of its first non-ASCII character
+        byte[] bytes = Files.readAllBytes(journalFile);
+        int cut = (int) intactLength;
+        while (bytes[cut] >= 0) {
+            cut++;
+        }
+        Files.write(journalFile, Arrays.copyOf(bytes, cut + 1));
+
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            assertEquals(1, journal.getResumableCount());
+            assertNull(journal.lookup(document, "hash-b"));
+            journal.record(DocumentSummary.error(document, "failed", Duration.ZERO), "hash-b");
+        }
+
+        try (BatchJournal journal = BatchJournal.open(journalDirectory)) {
+            assertEquals(2, journal.getResumableCount());
+            assertNotNull(journal.lookup(document, "hash-b"));
+        }
+    }
+
+    @Test
+    void testResumedBatchSkipsCompletedDocuments() throws IOException, InterruptedException {
+        Path documents = directory.resolve("documents");
+        for (int i = 0; i < 3; i++) {
+            SyntheticThesisGenerator.write(documents.resolve("thesis-" + i + ".docx"), 5, i);
+        }
+        Path journalDirectory = directory.resolve("journal");
+
+        BatchSummary first = runBatch(documents, journalDirectory);
+        assertEquals(3, first.getDocumentCount());
+        assertEquals(0, first.getResumedCount());
+
+        SyntheticThesisGenerator.write(documents.resolve("thesis-0.docx"), 5, 99);
+        BatchSummary second = runBatch(documents, journalDirectory);
+
+        assertEquals(3, second.getDocumentCount());
+        assertEquals(2, second.getResumedCount(), "Only the edited document is validated again");
+        assertTrue(second.format().contains("Resumed: 2"));
+    }
+
+    @Test
+    void testBuilderRejectsInvalidSyncPolicy() {
+        assertThrows(IllegalArgumentException.class, () -> BatchJournal.builder(directory).syncEvery(0));
+        assertThrows(IllegalArgumentException.class,
+            () -> BatchJournal.builder(directory).syncInterval(Duration.ofSeconds(-1)));
+    }
+
+    private static BatchSummary runBatch(Path documents, Path journalDirectory)
+            throws IOException, InterruptedException {
+        try (BatchJournal journal = BatchJournal.builder(journalDirectory).syncEvery(2).build();
+             BatchValidator batch = BatchValidator.builder()
+                 .addValidator(new MarginValidator())
+                 .parallelism(2)
+                 .journal(journal)
+                 .build()) {
+            return batch.validate(List.copyOf(BatchValidator.discoverDocuments(documents)), null);
+        }
+    }
+}
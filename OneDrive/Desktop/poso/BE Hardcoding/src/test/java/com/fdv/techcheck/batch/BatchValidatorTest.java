@@ -0,0 +1,115 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.core.document.DocumentCache;
+import com.fdv.techcheck.core.validation.ValidationStatus;
+import com.fdv.techcheck.modules.layout.FontValidator;
+import com.fdv.techcheck.modules.layout.MarginValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BatchValidator.
+ * Verifies document discovery, streaming of per-document summaries, error isolation
+ * and reuse of cached document models, also under the batch journal's content hash.
+ */
+class BatchValidatorTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testDiscoverDocumentsSkipsLockAndOtherFiles() throws IOException {
+        SyntheticThesisGenerator.write(directory.resolve("b.docx"), 10, 1);
+        SyntheticThesisGenerator.write(directory.resolve("nested").resolve("a.docx"), 10, 2);
+        Files.writeString(directory.resolve("~$b.docx"), "lock");
+        Files.writeString(directory.resolve("notes.txt"), "text");
+
+        List<Path> documents = BatchValidator.discoverDocuments(directory);
+
+        assertEquals(List.of(directory.resolve("b.docx"), directory.resolve("nested").resolve("a.docx")), documents);
+    }
+
+    @Test
+    void testBatchReportsEveryDocumentAndIsolatesBrokenFiles() throws IOException, InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            SyntheticThesisGenerator.write(directory.resolve("thesis-" + i + ".docx"), 10, i);
+        }
+        Files.writeString(directory.resolve("broken.docx"), "not a zip file");
+
+        List<DocumentSummary> streamed = new ArrayList<>();
+        BatchSummary summary;
+        try (BatchValidator batch = BatchValidator.builder()
+                .addValidator(new MarginValidator())
+                .addValidator(new FontValidator())
+                .parallelism(2)
+                .build()) {
+            summary = batch.validateDirectory(directory, streamed::add);
+        }
+
+        assertEquals(4, summary.getDocumentCount());
+        assertEquals(summary.getDocuments(), streamed, "Documents are reported in completion order");
+        assertEquals(1, summary.getCount(ValidationStatus.ERROR));
+        DocumentSummary broken = streamed.stream()
+            .filter(document -> document.getFile().endsWith("broken.docx"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(ValidationStatus.ERROR, broken.getStatus());
+        assertNotNull(broken.getErrorMessage());
+        assertEquals(2, summary.getParallelism());
+        assertTrue(summary.format().contains("Documents: 4"));
+    }
+
+    @Test
+    void testSharedCacheSkipsParsingIdenticalDocuments() throws IOException, InterruptedException {
+        SyntheticThesisGenerator.write(directory.resolve("a.docx"), 10, 1);
+        Files.copy(directory.resolve("a.docx"), directory.resolve("b.docx"));
+        DocumentCache cache = DocumentCache.builder().build();
+
+        BatchSummary summary;
+        try (BatchValidator batch = BatchValidator.builder()
+                .addValidator(new MarginValidator())
+                .parallelism(1)
+                .cache(cache)
+                .build()) {
+            summary = batch.validateDirectory(directory, document -> { });
+        }
+
+        assertEquals(2, summary.getDocumentCount());
+        assertEquals(0, summary.getCount(ValidationStatus.ERROR));
+        assertEquals(1, cache.getMissCount(), "Only the first copy is parsed");
+        assertEquals(1, cache.getMemoryHitCount());
+    }
+
+    @Test
+    void testJournalHashIsReusedAsCacheKey(@TempDir Path journalDirectory) throws IOException, InterruptedException {
+        SyntheticThesisGenerator.write(directory.resolve("a.docx"), 10, 1);
+        Files.copy(directory.resolve("a.docx"), directory.resolve("b.docx"));
+        DocumentCache cache = DocumentCache.builder().build();
+
+        BatchSummary summary;
+        try (BatchJournal journal = BatchJournal.open(journalDirectory);
+             BatchValidator batch = BatchValidator.builder()
+                .addValidator(new MarginValidator())
+                .parallelism(1)
+                .cache(cache)
+                .journal(journal)
+                .build()) {
+            summary = batch.validateDirectory(directory, document -> { });
+        }
+
+        assertEquals(0, summary.getCount(ValidationStatus.ERROR));
+        assertEquals(1, cache.getMissCount(), "Only the first copy is parsed");
+        assertEquals(1, cache.getMemoryHitCount());
+        assertNotNull(cache.get(DocumentCache.contentKey(directory.resolve("a.docx"))),
+                      "The model is cached under the file's content key");
+    }
+}
@@ -0,0 +1,144 @@
+package com.fdv.techcheck.batch;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.modules.layout.MarginValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WatchFolderDaemon.
+ * Verifies that dropped documents get a report, that documents with a current report are
+ * skipped, that a document rewritten during its validation is validated again and that the
+ * daemon stops when closed.
+ */
+class WatchFolderDaemonTest {
+
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReportPathReplacesDocxExtension() {
+        assertEquals(directory.resolve("thesis.techcheck.pdf"),
+                     WatchFolderDaemon.reportPath(directory.resolve("thesis.docx")));
+    }
+
+    @Test
+    void testDroppedDocumentsAreValidatedOnce() throws Exception {
+        Path existing = directory.resolve("existing.docx");
+        SyntheticThesisGenerator.write(existing, 5, 1);
+        Path existingReport = WatchFolderDaemon.reportPath(existing);
+        Files.writeString(existingReport, "report");
+        Files.setLastModifiedTime(existingReport, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        List<DocumentSummary> completed = new CopyOnWriteArrayList<>();
+        try (BatchValidator batch = BatchValidator.builder()
+                 .addValidator(new MarginValidator())
+                 .parallelism(2)
+                 .reportWriter(WatchFolderDaemon::writePdfReport)
+                 .build();
+             WatchFolderDaemon daemon = WatchFolderDaemon.builder(directory)
+                 .batchValidator(batch)
+                 .quietPeriod(Duration.ofMillis(100))
+                 .listener(completed::add)
+                 .build()) {
+            Thread watcher = new Thread(() -> {
+                try {
+                    daemon.run();
+                } catch (IOException | InterruptedException e) {
+                    fail(e);
+                }
+            });
+            watcher.start();
+
+            Path dropped = directory.resolve("incoming").resolve("dropped.docx");
+            Files.createDirectories(dropped.getParent());
+            SyntheticThesisGenerator.write(dropped, 5, 2);
+
+            waitFor(() -> completed.size() >= 1 && Files.exists(WatchFolderDaemon.reportPath(dropped)));
+            waitFor(() -> daemon.getPendingCount() == 0);
+
+            assertEquals(1, completed.size(), "A document with a current report is not validated again");
+            assertEquals(dropped, completed.get(0).getFile());
+            assertTrue(Files.size(WatchFolderDaemon.reportPath(dropped)) > 0);
+
+            daemon.close();
+            watcher.join(TIMEOUT_MILLIS);
+            assertFalse(watcher.isAlive());
+        }
+    }
+
+    @Test
+    void testDocumentRewrittenDuringValidationIsValidatedAgain() throws Exception {
+        Path document = directory.resolve("thesis.docx");
+        AtomicBoolean rewritten = new AtomicBoolean();
+        ReportWriter rewritingWriter = (file, loaded, results) -> {
+            // The new content lands while the first version is still in flight, before its report
+            if (rewritten.compareAndSet(false, true)) {
+                SyntheticThesisGenerator.write(file, 8, 4);
+            }
+            WatchFolderDaemon.writePdfReport(file, loaded, results);
+        };
+
+        List<DocumentSummary> completed = new CopyOnWriteArrayList<>();
+        try (BatchValidator batch = BatchValidator.builder()
+                 .addValidator(new MarginValidator())
+                 .parallelism(1)
+                 .reportWriter(rewritingWriter)
+                 .build();
+             WatchFolderDaemon daemon = WatchFolderDaemon.builder(directory)
+                 .batchValidator(batch)
+                 .quietPeriod(Duration.ofMillis(100))
+                 .listener(completed::add)
+                 .build()) {
+            Thread watcher = new Thread(() -> {
+                try {
+                    daemon.run();
+                } catch (IOException | InterruptedException e) {
+                    fail(e);
+                }
+            });
+            watcher.start();
+
+            SyntheticThesisGenerator.write(document, 5, 3);
+
+            waitFor(() -> completed.size() >= 2);
+            waitFor(() -> daemon.getPendingCount() == 0);
+
+            assertTrue(rewritten.get());
+            assertEquals(2, completed.size(), "The rewritten content is validated once more");
+            assertTrue(Files.getLastModifiedTime(WatchFolderDaemon.reportPath(document)).toMillis()
+                       >= Files.getLastModifiedTime(document).toMillis());
+
+            daemon.close();
+            watcher.join(TIMEOUT_MILLIS);
+            assertFalse(watcher.isAlive());
+        }
+    }
+
+    private static void waitFor(Condition condition) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+        while (!condition.holds()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the daemon");
+            Thread.sleep(50);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Condition {
+        boolean holds() throws Exception;
+    }
+}
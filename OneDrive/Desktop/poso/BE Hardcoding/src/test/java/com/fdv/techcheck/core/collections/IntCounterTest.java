@@ -0,0 +1,70 @@
+package com.fdv.techcheck.core.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for IntCounter and the font ID table used alongside it.
+ */
+class IntCounterTest {
+
+    @Test
+    void testCountsMatchHashMapAcrossGrowth() {
+        IntCounter counter = new IntCounter();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = i % 10 == 0 ? Integer.MIN_VALUE + random.nextInt(3) : random.nextInt(4000) - 2000;
+            counter.add(key, 2);
+            expected.merge(key, 2, Integer::sum);
+        }
+
+        assertEquals(expected.size(), counter.size());
+        expected.forEach((key, count) -> assertEquals(count.intValue(), counter.get(key)));
+        assertEquals(0, counter.get(123_456));
+    }
+
+    @Test
+    void testZeroCountKeysArePresent() {
+        IntCounter counter = new IntCounter();
+        counter.add(12, 0);
+
+        assertTrue(counter.containsKey(12));
+        assertEquals(1, counter.size());
+        assertFalse(counter.containsKey(10));
+    }
+
+    @Test
+    void testAddAllMergesCounts() {
+        IntCounter first = new IntCounter();
+        first.add(12, 100);
+        first.add(10, 5);
+        IntCounter second = new IntCounter();
+        second.add(12, 50);
+        second.add(14, 1);
+
+        first.addAll(second);
+
+        assertArrayEquals(new int[] {10, 12, 14}, first.sortedKeys());
+        assertEquals(150, first.get(12));
+        assertEquals("{10=5, 12=150, 14=1}", first.toString());
+    }
+
+    @Test
+    void testStringIdsFollowFirstUse() {
+        StringIdTable fonts = new StringIdTable();
+
+        assertEquals(0, fonts.idOf("Times New Roman"));
+        assertEquals(1, fonts.idOf("Arial"));
+        assertEquals(0, fonts.idOf(new String("Times New Roman")), "Equal strings share an ID");
+        assertEquals("Arial", fonts.nameOf(1));
+        assertEquals(-1, fonts.find("Calibri"));
+        assertEquals(2, fonts.size());
+    }
+}
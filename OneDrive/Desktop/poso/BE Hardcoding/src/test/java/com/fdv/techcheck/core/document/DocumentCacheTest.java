@@ -0,0 +1,113 @@
+package com.fdv.techcheck.core.document;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DocumentCache.
+ * Covers content keys, LRU eviction under the memory budget and the disk spill tier.
+ */
+class DocumentCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testContentKeyDependsOnlyOnBytes() throws IOException {
+        Path first = Files.write(tempDir.resolve("a.docx"), "same content".getBytes(StandardCharsets.UTF_8));
+        Path second = Files.write(tempDir.resolve("b.docx"), "same content".getBytes(StandardCharsets.UTF_8));
+        Path third = Files.write(tempDir.resolve("c.docx"), "other content".getBytes(StandardCharsets.UTF_8));
+
+        String key = DocumentCache.contentKey(first);
+        assertEquals(64, key.length());
+        assertEquals(key, DocumentCache.contentKey(second));
+        assertNotEquals(key, DocumentCache.contentKey(third));
+    }
+
+    @Test
+    void testLeastRecentlyUsedModelIsEvicted() {
+        DocumentModel model = createModel("Paragraph text");
+        long size = DocumentCache.estimateSize(model);
+        DocumentCache cache = DocumentCache.builder().maxMemoryBytes(2 * size).build();
+
+        cache.put("first", model);
+        cache.put("second", model);
+        assertSame(model, cache.get("first"), "Reading 'first' makes 'second' the eldest entry");
+        cache.put("third", model);
+
+        assertNull(cache.get("second"));
+        assertSame(model, cache.get("first"));
+        assertSame(model, cache.get("third"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2 * size, cache.getMemoryBytes());
+    }
+
+    @Test
+    void testEvictedModelIsReadBackFromSpillDirectory() {
+        DocumentModel model = DocumentModel.builder()
+            .title("Thesis")
+            .themeFonts("Calibri Light", "Calibri")
+            .addStyle(new DocumentModel.Style("Heading1", "heading 1", "paragraph", "Normal", false,
+                new DocumentModel.ParagraphProperties("left", 360, "auto", null, null, null),
+                new DocumentModel.RunProperties(null, "majorHAnsi", 32, true)))
+            .numberingFormats(1, List.of("decimal", "bullet"))
+            .mediaParts(List.of(new DocxPackage.PartInfo("word/media/image1.png", "image/png", 1024, 900)))
+            .documentPart(new DocxPackage.PartInfo("word/document.xml", "application/xml", 4096, 800))
+            .addParagraph(new DocumentModel.Paragraph("Heading1", DocumentModel.ParagraphProperties.EMPTY,
+                List.of(new DocumentModel.Run("Introduction", null,
+                    new DocumentModel.RunProperties("Arial", null, 24, false))),
+                -1, -1, -1, false))
+            .build();
+
+        Path spillDirectory = tempDir.resolve("cache");
+        DocumentCache cache = DocumentCache.builder().maxMemoryBytes(0).spillDirectory(spillDirectory).build();
+        cache.put("key", model);
+        assertEquals(0, cache.getMemoryEntryCount(), "Model exceeds the memory budget");
+
+        // A new cache over the same directory simulates a restart
+        DocumentCache restarted = DocumentCache.builder().spillDirectory(spillDirectory).build();
+        DocumentModel restored = restarted.get("key");
+
+        assertNotNull(restored);
+        assertEquals(1, restarted.getDiskHitCount());
+        assertEquals("Thesis", restored.getTitle());
+        assertEquals("Calibri Light", restored.getMajorThemeFont());
+        assertEquals("bullet", restored.getNumberFormat(1, 1));
+        assertEquals("heading 1", restored.getStyle("Heading1").getName());
+        assertEquals(Boolean.TRUE, restored.getStyle("Heading1").getRunProperties().getBold());
+        assertEquals(1024, restored.getMediaParts().get(0).getSize());
+        assertEquals(800, restored.getDocumentPart().getCompressedSize());
+        assertNull(restored.getStylesPart());
+        DocumentModel.Run run = restored.getParagraphs().get(0).getRuns().get(0);
+        assertEquals("Introduction", run.getText());
+        assertEquals("Arial", run.getProperties().getFontFamily());
+        assertEquals(Boolean.FALSE, run.getProperties().getBold());
+    }
+
+    @Test
+    void testCorruptSpilledModelIsTreatedAsMiss() throws IOException {
+        Path spillDirectory = Files.createDirectories(tempDir.resolve("cache"));
+        Path corrupt = Files.write(spillDirectory.resolve("key.tcm"), new byte[] {1, 2, 3});
+        DocumentCache cache = DocumentCache.builder().spillDirectory(spillDirectory).build();
+
+        assertNull(cache.get("key"));
+        assertEquals(1, cache.getMissCount());
+        assertFalse(Files.exists(corrupt), "Unreadable cache files should be removed");
+    }
+
+    private DocumentModel createModel(String text) {
+        return DocumentModel.builder()
+            .addParagraph(new DocumentModel.Paragraph(null, DocumentModel.ParagraphProperties.EMPTY,
+                List.of(new DocumentModel.Run(text, null, DocumentModel.RunProperties.EMPTY)),
+                -1, -1, -1, false))
+            .build();
+    }
+}
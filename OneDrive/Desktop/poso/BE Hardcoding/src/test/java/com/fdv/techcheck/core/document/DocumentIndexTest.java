@@ -0,0 +1,182 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
+import org.apache.poi.xwpf.usermodel.ParagraphAlignment;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.CTSpacing;
+import org.openxmlformats.schemas.wordprocessingml.x2006.main.STLineSpacingRule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DocumentIndex.
+ * Verifies that the POI and streaming load modes produce the same index.
+ */
+class DocumentIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testIndexFromPoiDocument() throws IOException {
+        try (XWPFDocument doc = createSampleDocument()) {
+            DocumentIndex index = DocumentIndex.of(doc);
+
+            assertEquals(5, index.getParagraphs().size(), "Body and table paragraphs should be indexed");
+            assertEquals(3, index.getBodyParagraphs().size(), "Only body paragraphs should be in the body list");
+            assertEquals(1, index.getTableCount());
+
+            IndexedParagraph heading = index.getBodyParagraphs().get(0);
+            assertEquals("Heading1", heading.getStyleId());
+            assertEquals(0, heading.getBodyIndex());
+            assertEquals(16, heading.getFirstRun().getFontSize());
+            assertTrue(heading.getFirstRun().isBold());
+
+            IndexedParagraph body = index.getBodyParagraphs().get(1);
+            assertEquals(ParagraphAlignment.BOTH, body.getAlignment());
+            assertEquals(Integer.valueOf(360), body.getSpacingLine());
+            assertEquals("auto", body.getSpacingLineRule());
+            assertEquals("Times New Roman", body.getFirstRun().getFontFamily());
+
+            IndexedParagraph cell = index.getParagraphs().get(3);
+            assertTrue(cell.isInTable());
+            assertEquals(-1, cell.getBodyIndex());
+            assertEquals(0, cell.getRowIndex());
+            assertEquals(1, cell.getCellIndex());
+            assertEquals("B1", cell.getText());
+        }
+    }
+
+    @Test
+    void testDefaultsWhenFormattingIsAbsent() throws IOException {
+        try (XWPFDocument doc = new XWPFDocument()) {
+            doc.createParagraph().createRun().setText("Plain text");
+
+            IndexedParagraph paragraph = DocumentIndex.of(doc).getBodyParagraphs().get(0);
+            RunSpan run = paragraph.getFirstRun();
+
+            assertEquals(ParagraphAlignment.LEFT, paragraph.getAlignment(), "Missing jc should map to LEFT");
+            assertNull(paragraph.getSpacingLine());
+            assertFalse(paragraph.isNumbered());
+            assertNull(run.getFontFamily());
+            assertEquals(-1, run.getFontSize());
+            assertFalse(run.isBold());
+        }
+    }
+
+    @Test
+    void testEffectiveFormattingFromStyleChain() {
+        DocumentModel model = DocumentModel.builder()
+            .defaultRunProperties(new DocumentModel.RunProperties(null, "minorHAnsi", 24, null))
+            .themeFonts("Calibri Light", "Times New Roman")
+            .addStyle(new DocumentModel.Style("Normal", "Normal", "paragraph", null, true,
+                new DocumentModel.ParagraphProperties("both", 360, "auto", null, null, null),
+                DocumentModel.RunProperties.EMPTY))
+            .addStyle(new DocumentModel.Style("Heading1", "heading 1", "paragraph", "Normal", false,
+                new DocumentModel.ParagraphProperties("left", null, null, null, null, null),
+                new DocumentModel.RunProperties(null, "majorHAnsi", 32, true)))
+            .addParagraph(new DocumentModel.Paragraph("Heading1", DocumentModel.ParagraphProperties.EMPTY,
+                List.of(new DocumentModel.Run("Introduction", null, DocumentModel.RunProperties.EMPTY)),
+                -1, -1, -1, false))
+            .addParagraph(new DocumentModel.Paragraph(null, DocumentModel.ParagraphProperties.EMPTY,
+                List.of(new DocumentModel.Run("Body text", null,
+                    new DocumentModel.RunProperties("Arial", null, null, null))),
+                -1, -1, -1, false))
+            .build();
+
+        List<IndexedParagraph> paragraphs = DocumentIndex.of(model).getBodyParagraphs();
+
+        IndexedParagraph heading = paragraphs.get(0);
+        assertEquals("heading 1", heading.getStyleName());
+        assertEquals(ParagraphAlignment.LEFT, heading.getAlignment());
+        assertEquals(Integer.valueOf(360), heading.getSpacingLine(), "Spacing should be inherited from Normal");
+        assertEquals("Calibri Light", heading.getFirstRun().getFontFamily());
+        assertEquals(16, heading.getFirstRun().getFontSize());
+        assertTrue(heading.getFirstRun().isBold());
+
+        IndexedParagraph body = paragraphs.get(1);
+        assertEquals(ParagraphAlignment.BOTH, body.getAlignment(), "Default paragraph style should apply");
+        assertEquals("Arial", body.getFirstRun().getFontFamily(), "Direct formatting should win");
+        assertEquals(12, body.getFirstRun().getFontSize());
+        assertFalse(body.getFirstRun().isBold());
+    }
+
+    @Test
+    void testStreamingIndexMatchesPoiIndex() throws Exception {
+        Path file = tempDir.resolve("index-test.docx");
+        try (XWPFDocument doc = createSampleDocument(); OutputStream out = Files.newOutputStream(file)) {
+            doc.write(out);
+        }
+
+        ThesisDocument poiDocument = DocumentProcessor.loadDocument(file, DocumentLoadMode.POI);
+        ThesisDocument streamedDocument = DocumentProcessor.loadDocument(file, DocumentLoadMode.STREAMING);
+        try {
+            List<IndexedParagraph> expected = poiDocument.getDocumentIndex().getParagraphs();
+            List<IndexedParagraph> actual = streamedDocument.getDocumentIndex().getParagraphs();
+
+            assertEquals(DocumentLoadMode.STREAMING, streamedDocument.getLoadMode());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                IndexedParagraph p = expected.get(i);
+                IndexedParagraph s = actual.get(i);
+                assertEquals(p.getText(), s.getText(), "Text of paragraph " + i);
+                assertEquals(p.getStyleId(), s.getStyleId(), "Style of paragraph " + i);
+                assertEquals(p.getAlignment(), s.getAlignment(), "Alignment of paragraph " + i);
+                assertEquals(p.getSpacingLine(), s.getSpacingLine(), "Spacing of paragraph " + i);
+                assertEquals(p.getBodyIndex(), s.getBodyIndex(), "Body index of paragraph " + i);
+                assertEquals(p.getRuns().size(), s.getRuns().size(), "Runs of paragraph " + i);
+            }
+
+            assertEquals(poiDocument.getWordCount(), streamedDocument.getWordCount());
+            assertEquals(poiDocument.getPageWidth(), streamedDocument.getPageWidth(), 0.01);
+            assertThrows(IllegalStateException.class, streamedDocument::getParagraphs);
+        } finally {
+            DocumentProcessor.closeDocument(poiDocument);
+            DocumentProcessor.closeDocument(streamedDocument);
+        }
+    }
+
+    /**
+     * Creates a heading, a formatted body paragraph, a 1x2 table and a trailing paragraph.
+     */
+    private XWPFDocument createSampleDocument() {
+        XWPFDocument doc = new XWPFDocument();
+
+        XWPFParagraph heading = doc.createParagraph();
+        heading.setStyle("Heading1");
+        XWPFRun headingRun = heading.createRun();
+        headingRun.setText("1. Introduction");
+        headingRun.setFontSize(16);
+        headingRun.setBold(true);
+
+        XWPFParagraph body = doc.createParagraph();
+        body.setAlignment(ParagraphAlignment.BOTH);
+        CTSpacing spacing = body.getCTP().getPPr().addNewSpacing();
+        spacing.setLine(BigInteger.valueOf(360));
+        spacing.setLineRule(STLineSpacingRule.AUTO);
+        XWPFRun bodyRun = body.createRun();
+        bodyRun.setText("Body text written in Times New Roman.");
+        bodyRun.setFontFamily("Times New Roman");
+        bodyRun.setFontSize(12);
+
+        XWPFTable table = doc.createTable(1, 2);
+        table.getRow(0).getCell(0).setText("A1");
+        table.getRow(0).getCell(1).setText("B1");
+
+        doc.createParagraph().createRun().setText("Closing paragraph.");
+        return doc;
+    }
+}
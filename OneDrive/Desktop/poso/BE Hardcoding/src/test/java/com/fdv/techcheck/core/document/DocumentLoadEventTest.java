@@ -0,0 +1,112 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.core.metrics.DocumentLoadEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flight Recorder event committed by DocumentProcessor.
+ * Verifies that loads in both modes are recorded with the sizes of the main XML parts,
+ * and that failed loads are recorded with their error.
+ */
+class DocumentLoadEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLoadIsRecordedWithPartSizes() throws Exception {
+        Path file = tempDir.resolve("thesis.docx");
+        try (XWPFDocument xwpfDocument = new XWPFDocument();
+             OutputStream out = Files.newOutputStream(file)) {
+            xwpfDocument.createParagraph().createRun().setText("First");
+            xwpfDocument.createParagraph().createRun().setText("Second");
+            xwpfDocument.write(out);
+        }
+        long documentXmlSize;
+        try (DocxPackage docxPackage = DocxPackage.open(file)) {
+            documentXmlSize = docxPackage.getPart("word/document.xml").getSize();
+        }
+
+        List<RecordedEvent> events = record(() -> DocumentProcessor.loadDocument(file, DocumentLoadMode.STREAMING));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertFalse(event.getBoolean("failed"));
+        assertNull(event.getString("error"));
+        assertEquals(Files.size(file), event.getLong("fileSize"));
+        assertEquals(2, event.getInt("paragraphCount"));
+        assertEquals(documentXmlSize, event.getLong("documentXmlSize"));
+        assertTrue(event.getLong("documentXmlCompressedSize") > 0);
+    }
+
+    @Test
+    void testPoiLoadIsRecordedWithPartSizes() throws Exception {
+        Path file = tempDir.resolve("thesis.docx");
+        try (XWPFDocument xwpfDocument = new XWPFDocument();
+             OutputStream out = Files.newOutputStream(file)) {
+            xwpfDocument.createParagraph().createRun().setText("Only");
+            xwpfDocument.write(out);
+        }
+        long documentXmlSize;
+        try (DocxPackage docxPackage = DocxPackage.open(file)) {
+            documentXmlSize = docxPackage.getPart("word/document.xml").getSize();
+        }
+
+        List<RecordedEvent> events = record(() -> DocumentProcessor.loadDocument(file, DocumentLoadMode.POI));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("POI", event.getString("loadMode"));
+        assertEquals(documentXmlSize, event.getLong("documentXmlSize"));
+        assertEquals(0, event.getLong("documentXmlCompressedSize"), "POI does not keep compressed sizes");
+    }
+
+    @Test
+    void testFailedLoadIsRecorded() throws Exception {
+        Path file = tempDir.resolve("broken.docx");
+        Files.writeString(file, "not a zip file");
+
+        List<RecordedEvent> events = record(() -> assertThrows(DocumentProcessingException.class,
+            () -> DocumentProcessor.loadDocument(file, DocumentLoadMode.STREAMING)));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertTrue(event.getBoolean("failed"));
+        assertNotNull(event.getString("error"));
+        assertEquals(file.toString(), event.getString("file"));
+        assertEquals(Files.size(file), event.getLong("fileSize"));
+        assertEquals(0, event.getLong("documentXmlSize"));
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("load.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(DocumentLoadEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.fdv.techcheck.DocumentLoad"))
+            .collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,180 @@
+package com.fdv.techcheck.core.document;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DocxPackage.
+ * Verifies that media parts are described without being inflated and that parts lying
+ * about their size cannot inflate without bound.
+ */
+class DocxPackageTest {
+
+    private static final String CONTENT_TYPES =
+        "<?xml version=\"1.0\"?><Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+        + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+        + "<Default Extension=\"png\" ContentType=\"image/png\"/>"
+        + "<Override PartName=\"/word/document.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/>"
+        + "</Types>";
+
+    private static final String PACKAGE_RELATIONSHIPS =
+        "<?xml version=\"1.0\"?><Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" Target=\"word/document.xml\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\"/>"
+        + "</Relationships>";
+
+    private static final String DOCUMENT =
+        "<?xml version=\"1.0\"?><w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+        + "<w:body><w:p><w:r><w:t>First paragraph</w:t></w:r></w:p>"
+        + "<w:p><w:r><w:t>Second paragraph</w:t></w:r></w:p></w:body></w:document>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testMediaPartsAreDescribedWithoutInflating() throws Exception {
+        Path file = createPackage(new byte[200_000]);
+
+        try (DocxPackage docxPackage = DocxPackage.open(file)) {
+            List<DocxPackage.PartInfo> media = docxPackage.getMediaParts();
+            assertEquals(1, media.size());
+            assertEquals("word/media/image1.png", media.get(0).getName());
+            assertEquals("image/png", media.get(0).getContentType());
+            assertEquals(200_000, media.get(0).getSize());
+
+            DocumentModel model = StreamingDocumentLoader.load(docxPackage);
+            assertEquals(2, model.getBodyParagraphCount());
+            assertEquals(3, docxPackage.getOpenedPartCount(),
+                "Only content types, package relationships and the main part should be opened");
+        }
+    }
+
+    @Test
+    void testStoredAndDeflatedPartsCanBeOpened() throws IOException {
+        byte[] image = new byte[4096];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) i;
+        }
+        Path file = createPackage(image);
+
+        try (DocxPackage docxPackage = DocxPackage.open(file)) {
+            assertEquals("application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml",
+                docxPackage.getPart("word/document.xml").getContentType());
+            try (InputStream in = docxPackage.openPart("word/document.xml")) {
+                assertEquals(DOCUMENT, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+            try (InputStream in = docxPackage.openPart("word/media/image1.png")) {
+                assertArrayEquals(image, in.readAllBytes());
+            }
+            assertFalse(docxPackage.hasPart("word/styles.xml"));
+            assertThrows(IOException.class, () -> docxPackage.openPart("word/styles.xml"));
+        }
+    }
+
+    @Test
+    void testInvalidArchiveIsRejected() throws IOException {
+        Path file = tempDir.resolve("not-a-zip.docx");
+        Files.write(file, "plain text".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> DocxPackage.open(file));
+    }
+
+    @Test
+    void testPartInflatingBeyondDeclaredSizeIsRejected() throws IOException {
+        Path file = createPackage(new byte[16]);
+        patchDeclaredSize(file, "word/document.xml", 10);
+
+        try (DocxPackage docxPackage = DocxPackage.open(file);
+             InputStream in = docxPackage.openPart("word/document.xml")) {
+            ZipException e = assertThrows(ZipException.class, in::readAllBytes);
+            assertTrue(e.getMessage().contains("declared size"));
+        }
+    }
+
+    @Test
+    void testDeclaredSizeAboveLimitIsRejected() throws IOException {
+        Path file = createPackage(new byte[16]);
+        patchDeclaredSize(file, "word/document.xml", DocxPackage.MAX_PART_SIZE + 1);
+
+        assertThrows(ZipException.class, () -> DocxPackage.open(file));
+    }
+
+    @Test
+    void testZipBombRatioIsRejected() throws IOException {
+        String bomb = DOCUMENT.replace("First paragraph", " ".repeat(20 * 1024 * 1024));
+        Path file = createPackage(new byte[16], bomb);
+
+        try (DocxPackage docxPackage = DocxPackage.open(file);
+             InputStream in = docxPackage.openPart("word/document.xml")) {
+            ZipException e = assertThrows(ZipException.class, in::readAllBytes);
+            assertTrue(e.getMessage().contains("inflate ratio"));
+        }
+    }
+
+    /**
+     * Writes a minimal package with deflated XML parts and a stored image part.
+     */
+    private Path createPackage(byte[] image) throws IOException {
+        return createPackage(image, DOCUMENT);
+    }
+
+    private Path createPackage(byte[] image, String document) throws IOException {
+        Path file = tempDir.resolve("package-test.docx");
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            writeDeflated(zip, "[Content_Types].xml", CONTENT_TYPES);
+            writeDeflated(zip, "_rels/.rels", PACKAGE_RELATIONSHIPS);
+            writeDeflated(zip, "word/document.xml", document);
+
+            CRC32 crc = new CRC32();
+            crc.update(image);
+            ZipEntry media = new ZipEntry("word/media/image1.png");
+            media.setMethod(ZipEntry.STORED);
+            media.setSize(image.length);
+            media.setCrc(crc.getValue());
+            zip.putNextEntry(media);
+            zip.write(image);
+            zip.closeEntry();
+        }
+        return file;
+    }
+
+    /**
+     * Overwrites the uncompressed size of a part in the central directory, as a crafted upload could.
+     */
+    private static void patchDeclaredSize(Path file, String partName, long size) throws IOException {
+        ByteBuffer zip = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] name = partName.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + 46 + name.length <= zip.limit(); i++) {
+            if (zip.getInt(i) == 0x02014b50 && (zip.getShort(i + 28) & 0xFFFF) == name.length
+                    && ByteBuffer.wrap(zip.array(), i + 46, name.length).equals(ByteBuffer.wrap(name))) {
+                zip.putInt(i + 24, (int) size);
+                Files.write(file, zip.array());
+                return;
+            }
+        }
+        fail("Central directory entry not found: " + partName);
+    }
+
+    private void writeDeflated(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
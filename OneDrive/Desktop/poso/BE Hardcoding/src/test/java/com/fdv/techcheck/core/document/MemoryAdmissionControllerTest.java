@@ -0,0 +1,116 @@
+package com.fdv.techcheck.core.document;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.SyntheticThesisGenerator.SyntheticThesis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MemoryAdmissionController.
+ * Verifies footprint estimation, queueing of jobs over the budget and release on close.
+ */
+class MemoryAdmissionControllerTest {
+
+    private static final long KIB = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testJobOverBudgetWaitsUntilEarlierJobIsReleased() throws Exception {
+        MemoryAdmissionController controller = new MemoryAdmissionController(100 * KIB);
+        MemoryAdmissionController.Admission first = controller.admit(60 * KIB);
+        assertEquals(60 * KIB, controller.getReservedBytes());
+
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread second = new Thread(() -> {
+            try (MemoryAdmissionController.Admission admission = controller.admit(60 * KIB)) {
+                admitted.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        second.start();
+
+        waitForQueuedJobs(controller, 1);
+        assertFalse(admitted.await(100, TimeUnit.MILLISECONDS), "Second job must wait while the first holds the budget");
+
+        first.close();
+        assertTrue(admitted.await(5, TimeUnit.SECONDS));
+        second.join(5000);
+        assertEquals(0, controller.getReservedBytes());
+    }
+
+    @Test
+    void testOversizedJobIsAdmittedAlone() throws InterruptedException {
+        MemoryAdmissionController controller = new MemoryAdmissionController(100 * KIB);
+
+        try (MemoryAdmissionController.Admission admission = controller.admit(500 * KIB)) {
+            assertEquals(500 * KIB, admission.getFootprintBytes());
+            assertEquals(controller.getBudgetBytes(), controller.getReservedBytes());
+        }
+        assertEquals(0, controller.getReservedBytes());
+    }
+
+    @Test
+    void testCloseIsIdempotent() throws InterruptedException {
+        MemoryAdmissionController controller = new MemoryAdmissionController(100 * KIB);
+        MemoryAdmissionController.Admission admission = controller.admit(10 * KIB);
+
+        admission.close();
+        admission.close();
+
+        assertEquals(0, controller.getReservedBytes());
+        assertEquals(100 * KIB, controller.getBudgetBytes());
+    }
+
+    @Test
+    void testPoiFootprintExceedsStreamingFootprint() throws IOException {
+        Path file = directory.resolve("thesis.docx");
+        try (SyntheticThesis thesis = SyntheticThesisGenerator.builder().pages(20).seed(3).build().generate()) {
+            thesis.write(file);
+        }
+
+        long poi = MemoryAdmissionController.estimateFootprint(file, DocumentLoadMode.POI);
+        long streaming = MemoryAdmissionController.estimateFootprint(file, DocumentLoadMode.STREAMING);
+
+        assertTrue(streaming > 0);
+        assertTrue(poi > streaming, "POI builds a DOM of every part and keeps media in memory");
+        assertTrue(poi > Files.size(file), "Estimates are based on uncompressed sizes");
+    }
+
+    @Test
+    void testUnreadablePackageIsReportedAsLoadingError() throws IOException {
+        Path file = directory.resolve("broken.docx");
+        Files.writeString(file, "not a zip file");
+        MemoryAdmissionController controller = new MemoryAdmissionController(100 * KIB);
+
+        DocumentProcessingException exception = assertThrows(DocumentProcessingException.class,
+            () -> controller.admit(file, DocumentLoadMode.STREAMING));
+
+        assertEquals(DocumentProcessingException.ProcessingStage.DOCUMENT_LOADING, exception.getStage());
+        assertEquals(0, controller.getReservedBytes());
+    }
+
+    @Test
+    void testRejectsBudgetBelowOneKib() {
+        assertThrows(IllegalArgumentException.class, () -> new MemoryAdmissionController(100));
+    }
+
+    private static void waitForQueuedJobs(MemoryAdmissionController controller, int expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (controller.getQueuedJobs() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, controller.getQueuedJobs());
+    }
+}
@@ -0,0 +1,142 @@
+package com.fdv.techcheck.core.document;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StreamingDocumentLoader.
+ * Verifies that body-level content controls and math runs are not read as body text, that
+ * number formats written as mc:AlternateContent are read from the Fallback, and that the
+ * main XML parts are described on the model.
+ */
+class StreamingDocumentLoaderTest {
+
+    private static final String W = "xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"";
+    private static final String M = "xmlns:m=\"http://schemas.openxmlformats.org/officeDocument/2006/math\"";
+    private static final String MC = "xmlns:mc=\"http://schemas.openxmlformats.org/markup-compatibility/2006\"";
+
+    private static final String CONTENT_TYPES =
+        "<?xml version=\"1.0\"?><Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">"
+        + "<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>"
+        + "<Default Extension=\"xml\" ContentType=\"application/xml\"/>"
+        + "<Override PartName=\"/word/document.xml\" "
+        + "ContentType=\"application/vnd.openxmlformats-officedocument.wordprocessingml.document.main+xml\"/>"
+        + "</Types>";
+
+    private static final String PACKAGE_RELATIONSHIPS =
+        "<?xml version=\"1.0\"?><Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" Target=\"word/document.xml\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument\"/>"
+        + "</Relationships>";
+
+    private static final String DOCUMENT_RELATIONSHIPS =
+        "<?xml version=\"1.0\"?><Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+        + "<Relationship Id=\"rId1\" Target=\"numbering.xml\" "
+        + "Type=\"http://schemas.openxmlformats.org/officeDocument/2006/relationships/numbering\"/>"
+        + "</Relationships>";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testBodyLevelContentControlsAreSkipped() throws Exception {
+        DocumentModel model = load(body(
+            "<w:p><w:r><w:t>Before</w:t></w:r></w:p>"
+            + "<w:sdt><w:sdtPr><w:alias w:val=\"Abstract\"/></w:sdtPr>"
+            + "<w:sdtContent><w:p><w:r><w:t>Inside control</w:t></w:r></w:p></w:sdtContent></w:sdt>"
+            + "<w:p><w:r><w:t>After</w:t></w:r></w:p>"), null);
+
+        assertEquals(List.of("Before", "After"), texts(model));
+        assertEquals(2, model.getBodyParagraphCount());
+    }
+
+    @Test
+    void testMathRunsAreNotTextRuns() throws Exception {
+        DocumentModel model = load(body(
+            "<w:p><w:r><w:t xml:space=\"preserve\">Area </w:t></w:r>"
+            + "<m:oMath><m:r><m:t>x</m:t></m:r><m:sSup><m:e><m:r><m:t>r</m:t></m:r></m:e>"
+            + "<m:sup><m:r><m:t>2</m:t></m:r></m:sup></m:sSup></m:oMath>"
+            + "<w:r><w:t xml:space=\"preserve\"> of the circle</w:t></w:r></w:p>"
+            + "<w:p><m:oMathPara><m:oMath><m:r><m:t>y</m:t></m:r></m:oMath></m:oMathPara></w:p>"), null);
+
+        List<DocumentModel.Paragraph> paragraphs = model.getParagraphs();
+        assertEquals(2, paragraphs.size());
+        assertEquals(2, paragraphs.get(0).getRuns().size());
+        assertEquals("Area  of the circle", paragraphs.get(0).getText());
+        assertTrue(paragraphs.get(1).getRuns().isEmpty());
+    }
+
+    @Test
+    void testNumberFormatInAlternateContentIsReadFromFallback() throws Exception {
+        String numbering = "<?xml version=\"1.0\"?><w:numbering " + W + " " + MC + ">"
+            + "<w:abstractNum w:abstractNumId=\"0\">"
+            + "<w:lvl w:ilvl=\"0\"><w:start w:val=\"1\"/>"
+            + "<mc:AlternateContent><mc:Choice Requires=\"w14\">"
+            + "<w:numFmt w:val=\"custom\" w:format=\"001, 002, 003, ...\"/></mc:Choice>"
+            + "<mc:Fallback><w:numFmt w:val=\"decimalZero\"/></mc:Fallback></mc:AlternateContent>"
+            + "<w:lvlText w:val=\"%1.\"/></w:lvl>"
+            + "<w:lvl w:ilvl=\"1\"><w:numFmt w:val=\"lowerLetter\"/></w:lvl>"
+            + "</w:abstractNum>"
+            + "<w:num w:numId=\"3\"><w:abstractNumId w:val=\"0\"/></w:num>"
+            + "</w:numbering>";
+
+        DocumentModel model = load(body("<w:p><w:r><w:t>Item</w:t></w:r></w:p>"), numbering);
+
+        assertEquals("decimalZero", model.getNumberFormat(3, 0));
+        assertEquals("lowerLetter", model.getNumberFormat(3, 1));
+    }
+
+    @Test
+    void testMainPartsAreDescribed() throws Exception {
+        String document = body("<w:p><w:r><w:t>Only</w:t></w:r></w:p>");
+        String numbering = "<?xml version=\"1.0\"?><w:numbering " + W + "/>";
+
+        DocumentModel model = load(document, numbering);
+
+        assertEquals("word/document.xml", model.getDocumentPart().getName());
+        assertEquals(document.getBytes(StandardCharsets.UTF_8).length, model.getDocumentPart().getSize());
+        assertEquals("word/numbering.xml", model.getNumberingPart().getName());
+        assertNull(model.getStylesPart(), "The document has no styles part");
+    }
+
+    private static String body(String content) {
+        return "<?xml version=\"1.0\"?><w:document " + W + " " + M + "><w:body>" + content + "</w:body></w:document>";
+    }
+
+    private static List<String> texts(DocumentModel model) {
+        return model.getParagraphs().stream().map(DocumentModel.Paragraph::getText).collect(Collectors.toList());
+    }
+
+    private DocumentModel load(String document, String numbering) throws IOException, DocumentProcessingException {
+        Path file = tempDir.resolve("thesis.docx");
+        try (OutputStream out = Files.newOutputStream(file);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            addEntry(zip, "[Content_Types].xml", CONTENT_TYPES);
+            addEntry(zip, "_rels/.rels", PACKAGE_RELATIONSHIPS);
+            addEntry(zip, "word/document.xml", document);
+            if (numbering != null) {
+                addEntry(zip, "word/_rels/document.xml.rels", DOCUMENT_RELATIONSHIPS);
+                addEntry(zip, "word/numbering.xml", numbering);
+            }
+        }
+        return StreamingDocumentLoader.load(file);
+    }
+
+    private static void addEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
@@ -0,0 +1,103 @@
+package com.fdv.techcheck.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MetricsRegistry, Timer and LatencyHistogram.
+ * Verifies bucket bounds, percentile accuracy, snapshots and the text table.
+ */
+class MetricsRegistryTest {
+
+    @Test
+    void testBucketBoundsContainTheirValues() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1_000, 999_999, 1_000_000, 123_456_789_012L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.upperBound(index), "Value " + value + " is within its bucket");
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.upperBound(index - 1), "Value " + value + " is above the previous bucket");
+            }
+        }
+    }
+
+    @Test
+    void testPercentilesAreWithinBucketPrecision() {
+        Timer timer = new MetricsRegistry().timer("test");
+        for (int millis = 1; millis <= 1000; millis++) {
+            timer.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        Timer.Snapshot snapshot = timer.snapshot(Duration.ofSeconds(10).toNanos());
+
+        assertEquals(1000, snapshot.getCount());
+        assertWithinPrecision(Duration.ofMillis(500), snapshot.getP50());
+        assertWithinPrecision(Duration.ofMillis(950), snapshot.getP95());
+        assertWithinPrecision(Duration.ofMillis(990), snapshot.getP99());
+        assertEquals(Duration.ofMillis(1000), snapshot.getMax());
+        assertEquals(Duration.ofNanos(Duration.ofMillis(500).toNanos() + 500_000), snapshot.getMean());
+        assertEquals(100.0, snapshot.getRatePerSecond(), 1e-9);
+    }
+
+    @Test
+    void testPercentilesNeverExceedMaximum() {
+        Timer timer = new MetricsRegistry().timer("test");
+        timer.record(1_000_001);
+
+        Timer.Snapshot snapshot = timer.snapshot(1);
+
+        assertEquals(snapshot.getMax(), snapshot.getP99());
+    }
+
+    @Test
+    void testSnapshotSkipsUnusedTimersAndSortsByName() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.timer(MetricsRegistry.REPORT_GENERATION).record(10);
+        registry.timer(MetricsRegistry.DOCUMENT_LOAD).record(20);
+        registry.timer(MetricsRegistry.PRE_CHECK);
+
+        List<Timer.Snapshot> snapshots = registry.snapshot();
+
+        assertEquals(2, snapshots.size());
+        assertEquals(MetricsRegistry.DOCUMENT_LOAD, snapshots.get(0).getName());
+        assertEquals(MetricsRegistry.REPORT_GENERATION, snapshots.get(1).getName());
+        assertSame(registry.timer(MetricsRegistry.DOCUMENT_LOAD), registry.timer(MetricsRegistry.DOCUMENT_LOAD));
+    }
+
+    @Test
+    void testResetKeepsTimersUsable() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Timer timer = registry.timer(MetricsRegistry.DOCUMENT_LOAD);
+        timer.record(Duration.ofMillis(5).toNanos());
+
+        registry.reset();
+
+        assertTrue(registry.snapshot().isEmpty());
+        timer.recordSince(Timer.start());
+        assertEquals(1, registry.snapshot().get(0).getCount());
+    }
+
+    @Test
+    void testFormatListsEveryTimer() {
+        MetricsRegistry registry = new MetricsRegistry();
+        assertTrue(registry.format().startsWith("No metrics recorded"));
+
+        registry.timer(MetricsRegistry.PERFORM_VALIDATION).record(Duration.ofMillis(2).toNanos());
+        registry.timer(MetricsRegistry.VALIDATOR_PREFIX + "Margin Validator").record(Duration.ofMillis(3).toNanos());
+        String table = registry.format();
+
+        assertTrue(table.startsWith("Timer"));
+        assertTrue(table.contains(MetricsRegistry.PERFORM_VALIDATION));
+        assertTrue(table.contains("validator.Margin Validator"));
+        assertEquals(3, table.lines().count());
+    }
+
+    private static void assertWithinPrecision(Duration expected, Duration actual) {
+        assertTrue(actual.compareTo(expected) >= 0, "Percentile " + actual + " is not below " + expected);
+        assertTrue(actual.toNanos() <= expected.toNanos() * 1.0625, "Percentile " + actual + " is within 6.25% of " + expected);
+    }
+}
@@ -0,0 +1,99 @@
+package com.fdv.techcheck.core.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DetailCompactor.
+ * Verifies grouping of repeated paragraph findings, run formatting and exact issue counts.
+ */
+class DetailCompactorTest {
+
+    @Test
+    void testGroupsRepeatedParagraphFindingsIntoRuns() {
+        List<ValidationDetail> details = new ArrayList<>();
+        for (int paragraph : new int[] {9, 3, 4, 5}) {
+            details.add(alignment(paragraph, "Alignment: LEFT"));
+        }
+
+        List<ValidationDetail> compacted = DetailCompactor.compact(details);
+
+        assertEquals(1, compacted.size());
+        ValidationDetail group = compacted.get(0);
+        assertEquals("Paragraphs 3–5, 9 (4 occurrences)", group.getLocation());
+        assertEquals("Alignment: JUSTIFIED", group.getExpected());
+        assertEquals("Alignment: LEFT", group.getActual());
+        assertEquals(4, group.getOccurrences());
+    }
+
+    @Test
+    void testKeepsLocationQualifier() {
+        List<ValidationDetail> details = List.of(
+            ValidationDetail.of("Paragraph 7 (Level 2)", "14pt", "12pt", ValidationSeverity.MAJOR),
+            ValidationDetail.of("Paragraph 8 (Level 2)", "14pt", "12pt", ValidationSeverity.MAJOR),
+            ValidationDetail.of("Paragraph 9 (Level 3)", "14pt", "12pt", ValidationSeverity.MAJOR));
+
+        List<ValidationDetail> compacted = DetailCompactor.compact(details);
+
+        assertEquals(2, compacted.size(), "Different qualifiers are not merged");
+        assertEquals("Paragraphs 7–8 (Level 2; 2 occurrences)", compacted.get(0).getLocation());
+        assertEquals("Paragraph 9 (Level 3)", compacted.get(1).getLocation());
+    }
+
+    @Test
+    void testKeepsDistinctFindingsAndOtherLocationsUnchanged() {
+        ValidationDetail section = ValidationDetail.of("Section 1", "2.5 cm", "3.0 cm", ValidationSeverity.CRITICAL);
+        ValidationDetail left = alignment(1, "Alignment: LEFT");
+        ValidationDetail center = alignment(2, "Alignment: CENTER");
+
+        List<ValidationDetail> compacted = DetailCompactor.compact(List.of(section, left, center));
+
+        assertEquals(List.of(section, left, center), compacted);
+    }
+
+    @Test
+    void testCollapsesManyRunsToOverallRange() {
+        List<ValidationDetail> details = new ArrayList<>();
+        for (int paragraph = 12; paragraph <= 340; paragraph += 2) {
+            details.add(alignment(paragraph, "Alignment: LEFT"));
+        }
+
+        ValidationDetail group = DetailCompactor.compact(details).get(0);
+
+        assertEquals("Paragraphs 12–340 (165 occurrences)", group.getLocation());
+    }
+
+    @Test
+    void testCompactedResultKeepsIssueCounts() {
+        List<ValidationDetail> details = new ArrayList<>();
+        for (int paragraph = 1; paragraph <= 50; paragraph++) {
+            details.add(alignment(paragraph, "Alignment: LEFT"));
+        }
+        details.add(ValidationDetail.of("Section 1", "2.5 cm", "3.0 cm", ValidationSeverity.CRITICAL));
+        ValidationResult result = ValidationResult.fail("Paragraph Validator", details);
+
+        ValidationResult compacted = DetailCompactor.compact(result);
+
+        assertEquals(2, compacted.getDetails().size());
+        assertEquals(50, compacted.getMinorIssueCount());
+        assertEquals(1, compacted.getCriticalIssueCount());
+        assertEquals(51, compacted.getIssueCount());
+        assertEquals(result.getStatus(), compacted.getStatus());
+    }
+
+    @Test
+    void testResultWithoutRepeatsIsReturnedAsIs() {
+        ValidationResult result = ValidationResult.warning("Paragraph Validator",
+            List.of(alignment(1, "Alignment: LEFT")));
+
+        assertSame(result, DetailCompactor.compact(result));
+    }
+
+    private static ValidationDetail alignment(int paragraph, String actual) {
+        return ValidationDetail.of("Paragraph " + paragraph, "Alignment: JUSTIFIED", actual, ValidationSeverity.MINOR);
+    }
+}
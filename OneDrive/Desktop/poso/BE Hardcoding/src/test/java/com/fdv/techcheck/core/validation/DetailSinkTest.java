@@ -0,0 +1,132 @@
+package com.fdv.techcheck.core.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DetailSink.
+ * Verifies top-K retention by severity and position, grouping of repeated findings into one
+ * retained slot, and exact counts in the resulting ValidationResult.
+ */
+class DetailSinkTest {
+
+    @Test
+    void testRetainsMostSevereAndEarliestDetails() {
+        DetailSink sink = new DetailSink(3);
+        for (int paragraph = 1; paragraph <= 10; paragraph++) {
+            sink.add(indentation(paragraph));
+        }
+        sink.add(ValidationDetail.of("Paragraph 11", "Minimum 50 characters", "10 characters", ValidationSeverity.MAJOR));
+        sink.add(ValidationDetail.of("Page 1", "A4", "Letter", ValidationSeverity.CRITICAL));
+        sink.add(indentation(12));
+
+        List<ValidationDetail> details = sink.getDetails();
+
+        assertEquals(3, details.size());
+        assertEquals("Paragraph 1", details.get(0).getLocation(), "Earliest minor finding is kept");
+        assertEquals(ValidationSeverity.MAJOR, details.get(1).getSeverity());
+        assertEquals(ValidationSeverity.CRITICAL, details.get(2).getSeverity());
+    }
+
+    @Test
+    void testCountsEveryFindingBySeverityAndRule() {
+        DetailSink sink = new DetailSink(2);
+        for (int paragraph = 1; paragraph <= 100; paragraph++) {
+            sink.add(alignment(paragraph));
+        }
+        sink.add(ValidationDetail.builder()
+            .location("Page 1")
+            .expected("A4")
+            .actual("Letter")
+            .severity(ValidationSeverity.CRITICAL)
+            .ruleReference("FDV 2.1")
+            .build());
+        sink.add(null);
+
+        assertEquals(101, sink.getIssueCount());
+        assertEquals(100, sink.getIssueCount(ValidationSeverity.MINOR));
+        assertTrue(sink.hasSeverity(ValidationSeverity.CRITICAL));
+        assertFalse(sink.hasSeverity(ValidationSeverity.MAJOR));
+        assertEquals(Map.of("Alignment: JUSTIFIED", 100L, "FDV 2.1", 1L), sink.getRuleCounts());
+    }
+
+    @Test
+    void testResultKeepsExactCountsThroughCompactionAndTiming() {
+        DetailSink sink = new DetailSink(10);
+        for (int paragraph = 1; paragraph <= 500; paragraph++) {
+            sink.add(alignment(paragraph));
+        }
+
+        ValidationResult result = DetailCompactor.compact(ValidationResult.warning("Paragraph Validator", sink))
+            .withProcessingTime(java.time.Duration.ofMillis(5));
+
+        assertEquals(1, result.getDetails().size(), "Retained details are compacted");
+        assertEquals("Paragraphs 1–500 (500 occurrences)", result.getDetails().get(0).getLocation());
+        assertEquals(500, result.getIssueCount());
+        assertEquals(500, result.getMinorIssueCount());
+        assertEquals(0, result.getOmittedIssueCount(), "The group takes one slot, so nothing is omitted");
+        assertEquals(Map.of("Alignment: JUSTIFIED", 500L), result.getRuleCounts());
+        assertEquals("Validation completed with 500 warning(s)", result.getMessage());
+    }
+
+    @Test
+    void testRepeatedFindingsBeyondCapacityShareOneSlot() {
+        DetailSink sink = new DetailSink(1000);
+        for (int paragraph = 1; paragraph <= 5000; paragraph++) {
+            sink.add(alignment(paragraph));
+        }
+
+        List<ValidationDetail> details = sink.getDetails();
+
+        assertEquals(1, details.size());
+        assertEquals("Paragraphs 1–5000 (5000 occurrences)", details.get(0).getLocation());
+        assertEquals(5000, details.get(0).getOccurrences());
+        assertEquals(0, ValidationResult.warning("Paragraph Validator", sink).getOmittedIssueCount());
+    }
+
+    @Test
+    void testEvictedGroupIsNotListedAgain() {
+        DetailSink sink = new DetailSink(2);
+        sink.add(alignment(1));
+        sink.add(indentation(2));
+        sink.add(indentation(3));
+        sink.add(ValidationDetail.of("Page 1", "A4", "Letter", ValidationSeverity.CRITICAL));
+        sink.add(alignment(4));
+        sink.add(indentation(5));
+
+        List<ValidationDetail> details = sink.getDetails();
+
+        assertEquals(2, details.size());
+        assertEquals("Paragraphs 1, 4 (2 occurrences)", details.get(0).getLocation(), "The earliest group keeps growing");
+        assertEquals("Page 1", details.get(1).getLocation());
+        assertEquals(6, sink.getIssueCount());
+    }
+
+    @Test
+    void testResultWithoutSinkHasNoOmittedIssues() {
+        ValidationResult result = ValidationResult.fail("Paragraph Validator", List.of(alignment(1), alignment(2)));
+
+        assertEquals(0, result.getOmittedIssueCount());
+        assertEquals(Map.of("Alignment: JUSTIFIED", 2L), result.getRuleCounts());
+    }
+
+    @Test
+    void testRejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new DetailSink(0));
+        assertTrue(new DetailSink().isEmpty());
+    }
+
+    private static ValidationDetail indentation(int paragraph) {
+        return ValidationDetail.of("Paragraph " + paragraph, "First line indent: 1.25 cm",
+                                   "First line indent: " + paragraph + " mm", ValidationSeverity.MINOR);
+    }
+
+    private static ValidationDetail alignment(int paragraph) {
+        return ValidationDetail.of("Paragraph " + paragraph, "Alignment: JUSTIFIED", "Alignment: LEFT",
+                                   ValidationSeverity.MINOR);
+    }
+}
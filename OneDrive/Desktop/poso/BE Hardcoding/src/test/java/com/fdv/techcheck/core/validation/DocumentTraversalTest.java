@@ -0,0 +1,192 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.DocumentIndex;
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.DocumentIndex.RunSpan;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableCell;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DocumentTraversal.
+ * Verifies element order, subscriptions, isolation of failing visitors and chunked traversal.
+ */
+class DocumentTraversalTest {
+
+    @Test
+    void testElementsAreVisitedInDocumentOrder() throws IOException {
+        RecordingVisitor visitor = new RecordingVisitor(EnumSet.allOf(DocumentVisitor.Element.class));
+
+        List<RuntimeException> failures = DocumentTraversal.walk(createIndex(), List.of(visitor));
+
+        assertNull(failures.get(0));
+        assertEquals(List.of(
+            "paragraph:Body", "run:Body",
+            "paragraph:A1", "run:A1", "paragraph:A1 second", "run:A1 second", "cell:0/0/0:2",
+            "paragraph:B1", "run:B1", "cell:0/0/1:1",
+            "paragraph:End", "run:End", "section:End"), visitor.events);
+    }
+
+    @Test
+    void testVisitorsOnlyReceiveSubscribedElements() throws IOException {
+        RecordingVisitor runs = new RecordingVisitor(EnumSet.of(DocumentVisitor.Element.RUN));
+        RecordingVisitor cells = new RecordingVisitor(EnumSet.of(DocumentVisitor.Element.TABLE_CELL));
+
+        DocumentTraversal.walk(createIndex(), List.of(runs, cells));
+
+        assertEquals(5, runs.events.size());
+        assertTrue(runs.events.stream().allMatch(event -> event.startsWith("run:")));
+        assertEquals(List.of("cell:0/0/0:2", "cell:0/0/1:1"), cells.events);
+    }
+
+    @Test
+    void testFailingVisitorIsIsolated() throws IOException {
+        RecordingVisitor healthy = new RecordingVisitor(EnumSet.allOf(DocumentVisitor.Element.class));
+        RecordingVisitor failing = new RecordingVisitor(EnumSet.allOf(DocumentVisitor.Element.class)) {
+            @Override
+            public void onRun(IndexedParagraph paragraph, RunSpan run) {
+                super.onRun(paragraph, run);
+                throw new IllegalStateException("Broken visitor");
+            }
+        };
+
+        List<RuntimeException> failures = DocumentTraversal.walk(createIndex(), List.of(failing, healthy));
+
+        assertEquals("Broken visitor", failures.get(0).getMessage());
+        assertNull(failures.get(1));
+        assertEquals(List.of("paragraph:Body", "run:Body"), failing.events);
+        assertEquals(13, healthy.events.size());
+    }
+
+    @Test
+    void testChunkedTraversalMatchesSequentialTraversal() throws IOException {
+        DocumentIndex index;
+        try (XWPFDocument doc = new XWPFDocument()) {
+            int paragraphs = DocumentTraversal.PARALLEL_THRESHOLD_PARAGRAPHS + 500;
+            for (int i = 0; i < paragraphs; i++) {
+                doc.createParagraph().createRun().setText("Paragraph " + i);
+                if (i % 400 == 0) {
+                    XWPFTableCell cell = doc.createTable(1, 1).getRow(0).getCell(0);
+                    for (int p = 0; p < 5; p++) {
+                        cell.addParagraph().createRun().setText("Cell " + i + "." + p);
+                    }
+                }
+            }
+            index = DocumentIndex.of(doc);
+        }
+
+        CollectingVisitor sequential = new CollectingVisitor();
+        CollectingVisitor chunked = new CollectingVisitor();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DocumentTraversal.walk(index, List.of(sequential), null);
+            List<RuntimeException> failures = DocumentTraversal.walk(index, List.of(chunked), pool);
+
+            assertNull(failures.get(0));
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(index.getParagraphs().size(), chunked.texts.size());
+        assertEquals(sequential.texts, chunked.texts, "Merged state must follow document order");
+        assertEquals(sequential.cellSizes, chunked.cellSizes, "Chunks must not split table cells");
+    }
+
+    /**
+     * Creates a body paragraph, a 1x2 table with two paragraphs in the first cell,
+     * and a final paragraph carrying section properties.
+     */
+    private DocumentIndex createIndex() throws IOException {
+        try (XWPFDocument doc = new XWPFDocument()) {
+            doc.createParagraph().createRun().setText("Body");
+
+            XWPFTable table = doc.createTable(1, 2);
+            XWPFTableCell first = table.getRow(0).getCell(0);
+            first.getParagraphs().get(0).createRun().setText("A1");
+            first.addParagraph().createRun().setText("A1 second");
+            table.getRow(0).getCell(1).getParagraphs().get(0).createRun().setText("B1");
+
+            XWPFParagraph end = doc.createParagraph();
+            end.createRun().setText("End");
+            end.getCTP().addNewPPr().addNewSectPr();
+
+            return DocumentIndex.of(doc);
+        }
+    }
+
+    /**
+     * Mergeable visitor that collects paragraph texts and table cell sizes in order.
+     */
+    private static class CollectingVisitor implements MergeableVisitor<CollectingVisitor> {
+        private final List<String> texts = new ArrayList<>();
+        private final List<Integer> cellSizes = new ArrayList<>();
+
+        @Override
+        public CollectingVisitor createEmpty() {
+            return new CollectingVisitor();
+        }
+
+        @Override
+        public void merge(CollectingVisitor following) {
+            texts.addAll(following.texts);
+            cellSizes.addAll(following.cellSizes);
+        }
+
+        @Override
+        public void onParagraph(IndexedParagraph paragraph) {
+            texts.add(paragraph.getText());
+        }
+
+        @Override
+        public void onTableCell(int tableIndex, int rowIndex, int cellIndex, List<IndexedParagraph> paragraphs) {
+            cellSizes.add(paragraphs.size());
+        }
+    }
+
+    /**
+     * Visitor that records every callback it receives.
+     */
+    private static class RecordingVisitor implements DocumentVisitor {
+        private final Set<Element> elements;
+        private final List<String> events = new ArrayList<>();
+
+        RecordingVisitor(Set<Element> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public Set<Element> getVisitedElements() {
+            return elements;
+        }
+
+        @Override
+        public void onParagraph(IndexedParagraph paragraph) {
+            events.add("paragraph:" + paragraph.getText());
+        }
+
+        @Override
+        public void onRun(IndexedParagraph paragraph, RunSpan run) {
+            events.add("run:" + run.getText());
+        }
+
+        @Override
+        public void onTableCell(int tableIndex, int rowIndex, int cellIndex, List<IndexedParagraph> paragraphs) {
+            events.add("cell:" + tableIndex + "/" + rowIndex + "/" + cellIndex + ":" + paragraphs.size());
+        }
+
+        @Override
+        public void onSectionBreak(IndexedParagraph paragraph) {
+            events.add("section:" + paragraph.getText());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.ThesisDocument;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ValidationEngine.
+ * Verifies concurrent execution, result ordering and failure isolation.
+ */
+class ValidationEngineTest {
+
+    private XWPFDocument xwpfDocument;
+    private ThesisDocument document;
+
+    @BeforeEach
+    void setUp() {
+        xwpfDocument = new XWPFDocument();
+        xwpfDocument.createParagraph().createRun().setText("Content");
+        document = ThesisDocument.builder()
+            .filePath(Paths.get("engine-test.docx"))
+            .xwpfDocument(xwpfDocument)
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        xwpfDocument.close();
+    }
+
+    @Test
+    void testResultsFollowRegistrationOrder() throws InterruptedException {
+        List<String> completionOrder = new CopyOnWriteArrayList<>();
+        try (ValidationEngine engine = ValidationEngine.builder()
+                .addValidator(new StubValidator("Slow", 200, null))
+                .addValidator(new StubValidator("Fast", 0, null))
+                .parallelism(2)
+                .build()) {
+
+            List<ValidationResult> results = engine.validate(document,
+                (validator, result) -> completionOrder.add(validator.getValidatorName()));
+
+            assertEquals("Slow", results.get(0).getValidatorName());
+            assertEquals("Fast", results.get(1).getValidatorName());
+            assertEquals(List.of("Fast", "Slow"), completionOrder, "Listener is called in completion order");
+        }
+    }
+
+    @Test
+    void testFailuresAreIsolated() throws InterruptedException {
+        try (ValidationEngine engine = ValidationEngine.builder()
+                .addValidator(new StubValidator("Checked", 0, new ValidationException("Checked", "Cannot validate")))
+                .addValidator(new StubValidator("Unchecked", 0, new IllegalStateException("Broken")))
+                .addValidator(new StubValidator("Healthy", 0, null))
+                .build()) {
+
+            List<ValidationResult> results = engine.validate(document);
+
+            assertEquals(ValidationStatus.ERROR, results.get(0).getStatus());
+            assertEquals("Cannot validate", results.get(0).getErrorMessage());
+            assertEquals(ValidationStatus.ERROR, results.get(1).getStatus());
+            assertTrue(results.get(1).getErrorMessage().contains("Broken"));
+            assertEquals(ValidationStatus.PASS, results.get(2).getStatus());
+        }
+    }
+
+    @Test
+    void testValidatorsRunConcurrently() throws InterruptedException {
+        // Each validator waits until all of them have started, which only succeeds when they run in parallel
+        CountDownLatch started = new CountDownLatch(3);
+        try (ValidationEngine engine = ValidationEngine.builder()
+                .addValidator(new LatchValidator("A", started))
+                .addValidator(new LatchValidator("B", started))
+                .addValidator(new LatchValidator("C", started))
+                .parallelism(3)
+                .build()) {
+
+            List<ValidationResult> results = engine.validate(document);
+
+            results.forEach(result -> assertEquals(ValidationStatus.PASS, result.getStatus()));
+        }
+    }
+
+    @Test
+    void testEngineRequiresValidators() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ValidationEngine.builder().validators(Collections.emptyList()).build());
+    }
+
+    /**
+     * Validator that optionally sleeps and then passes or throws.
+     */
+    private static class StubValidator implements IValidator<ThesisDocument> {
+        private final String name;
+        private final long delayMillis;
+        private final Exception failure;
+
+        StubValidator(String name, long delayMillis, Exception failure) {
+            this.name = name;
+            this.delayMillis = delayMillis;
+            this.failure = failure;
+        }
+
+        @Override
+        public ValidationResult validate(ThesisDocument target) throws ValidationException {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure instanceof ValidationException) {
+                throw (ValidationException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            return ValidationResult.pass(name);
+        }
+
+        @Override
+        public String getValidatorName() {
+            return name;
+        }
+
+        @Override
+        public ValidationSeverity getDefaultSeverity() {
+            return ValidationSeverity.MINOR;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Stub validator";
+        }
+    }
+
+    /**
+     * Validator that passes only if all validators sharing the latch start within the timeout.
+     */
+    private static class LatchValidator extends StubValidator {
+        private final CountDownLatch started;
+
+        LatchValidator(String name, CountDownLatch started) {
+            super(name, 0, null);
+            this.started = started;
+        }
+
+        @Override
+        public ValidationResult validate(ThesisDocument target) throws ValidationException {
+            started.countDown();
+            try {
+                if (!started.await(5, TimeUnit.SECONDS)) {
+                    throw new ValidationException(getValidatorName(), "Validators did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.validate(target);
+        }
+    }
+}
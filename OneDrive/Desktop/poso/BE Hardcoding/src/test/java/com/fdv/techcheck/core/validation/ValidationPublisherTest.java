@@ -0,0 +1,359 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.DocumentIndex.IndexedParagraph;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ValidationPublisher.
+ * Verifies that findings are published while the validator runs, with backpressure,
+ * without deadlocking a single-thread executor, and that the ValidationEngine forwards
+ * them to its listener.
+ */
+class ValidationPublisherTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testFindingsArriveBeforeValidationCompletes() throws Exception {
+        CountDownLatch firstReceived = new CountDownLatch(1);
+        SinkValidator validator = new SinkValidator(10, firstReceived);
+        ValidationPublisher<String> publisher = validator.publish("thesis", executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE) {
+            @Override
+            public void onNext(ValidationDetail detail) {
+                super.onNext(detail);
+                firstReceived.countDown();
+            }
+        };
+
+        publisher.subscribe(subscriber);
+
+        ValidationResult result = publisher.awaitResult();
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertTrue(validator.sawFirstFindingDelivered, "The validator continued only after the first finding arrived");
+        assertEquals(10, subscriber.received.size(), "Every finding is published, not only the compacted ones");
+        assertEquals(1, result.getDetails().size(), "The result is compacted");
+        assertEquals(10, result.getIssueCount());
+    }
+
+    @Test
+    void testSlowSubscriberHoldsBackValidator() throws Exception {
+        SinkValidator validator = new SinkValidator(Flow.defaultBufferSize() * 4, null);
+        ValidationPublisher<String> publisher = validator.publish("thesis", executor);
+        CollectingSubscriber subscriber = new CollectingSubscriber(1);
+
+        publisher.subscribe(subscriber);
+
+        Thread.sleep(200);
+        assertFalse(publisher.getResult().isDone(), "The validator waits while the buffer is full");
+        subscriber.subscription.get().request(Long.MAX_VALUE);
+        assertEquals(Flow.defaultBufferSize() * 4, publisher.getResult().get(5, TimeUnit.SECONDS).getIssueCount());
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(Flow.defaultBufferSize() * 4, subscriber.received.size());
+    }
+
+    @Test
+    void testSingleThreadExecutorDoesNotDeadlock() throws Exception {
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            int findings = Flow.defaultBufferSize() * 4;
+            ValidationPublisher<String> publisher = new SinkValidator(findings, null).publish("thesis", singleThread);
+            CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+            publisher.subscribe(subscriber);
+
+            assertEquals(findings, publisher.getResult().get(5, TimeUnit.SECONDS).getIssueCount(),
+                "Delivery does not wait behind the blocked run on the only worker thread");
+            assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(findings, subscriber.received.size());
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    @Test
+    void testValidatorWithoutSinkPublishesResultDetails() throws Exception {
+        IValidator<String> validator = new FixedValidator(ValidationResult.fail("Fixed", List.of(
+            ValidationDetail.of("Page 1", "A4", "Letter", ValidationSeverity.CRITICAL))));
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        ValidationPublisher<String> publisher = validator.publish("thesis", executor);
+        publisher.subscribe(subscriber);
+
+        assertEquals(ValidationStatus.FAIL, publisher.awaitResult().getStatus());
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertEquals("Page 1", subscriber.received.get(0).getLocation());
+    }
+
+    @Test
+    void testSecondSubscriberIsRejected() throws Exception {
+        ValidationPublisher<String> publisher = new SinkValidator(1, null).publish("thesis", executor);
+        publisher.subscribe(new CollectingSubscriber(Long.MAX_VALUE));
+        CollectingSubscriber second = new CollectingSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(second);
+
+        assertInstanceOf(IllegalStateException.class, second.error.get());
+    }
+
+    @Test
+    void testEngineForwardsFindingsToListener() throws Exception {
+        try (XWPFDocument xwpfDocument = new XWPFDocument()) {
+            xwpfDocument.createParagraph().createRun().setText("Content");
+            ThesisDocument document = ThesisDocument.builder()
+                .filePath(Paths.get("publisher-test.docx"))
+                .xwpfDocument(xwpfDocument)
+                .build();
+            List<String> events = new CopyOnWriteArrayList<>();
+
+            try (ValidationEngine engine = ValidationEngine.builder()
+                    .addValidator(new DocumentSinkValidator())
+                    .build()) {
+                engine.validate(document, new ValidationListener() {
+                    @Override
+                    public void onResult(IValidator<ThesisDocument> validator, ValidationResult result) {
+                        events.add("result");
+                    }
+
+                    @Override
+                    public void onFinding(IValidator<ThesisDocument> validator, ValidationDetail detail) {
+                        events.add(detail.getLocation());
+                    }
+                });
+            }
+
+            assertEquals(List.of("Paragraph 1", "Paragraph 2", "result"), events);
+        }
+    }
+
+    @Test
+    void testEngineForwardsFusedFindingsDuringTraversal() throws Exception {
+        try (XWPFDocument xwpfDocument = new XWPFDocument()) {
+            xwpfDocument.createParagraph().createRun().setText("First");
+            xwpfDocument.createParagraph().createRun().setText("Second");
+            ThesisDocument document = ThesisDocument.builder()
+                .filePath(Paths.get("publisher-test.docx"))
+                .xwpfDocument(xwpfDocument)
+                .build();
+            List<String> events = new CopyOnWriteArrayList<>();
+
+            try (ValidationEngine engine = ValidationEngine.builder()
+                    .addValidator(new ParagraphVisitingValidator(events))
+                    .build()) {
+                engine.validate(document, new ValidationListener() {
+                    @Override
+                    public void onResult(IValidator<ThesisDocument> validator, ValidationResult result) {
+                        events.add("result");
+                    }
+
+                    @Override
+                    public void onFinding(IValidator<ThesisDocument> validator, ValidationDetail detail) {
+                        events.add(detail.getLocation());
+                    }
+                });
+            }
+
+            assertEquals(List.of("visit 1", "Paragraph 1", "visit 2", "Paragraph 2", "result"), events,
+                "Each finding arrives while the traversal is still running");
+        }
+    }
+
+    /**
+     * Validator adding findings to a sink; optionally waits until the first one was delivered.
+     */
+    private static final class SinkValidator implements IValidator<String> {
+        private final int findings;
+        private final CountDownLatch firstReceived;
+        private volatile boolean sawFirstFindingDelivered;
+
+        SinkValidator(int findings, CountDownLatch firstReceived) {
+            this.findings = findings;
+            this.firstReceived = firstReceived;
+        }
+
+        @Override
+        public ValidationResult validate(String target) throws ValidationException {
+            DetailSink sink = new DetailSink();
+            for (int paragraph = 1; paragraph <= findings; paragraph++) {
+                sink.add(ValidationDetail.of("Paragraph " + paragraph, "Justified", "Left", ValidationSeverity.MINOR));
+                if (paragraph == 1 && firstReceived != null) {
+                    try {
+                        sawFirstFindingDelivered = firstReceived.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            return DetailCompactor.compact(ValidationResult.warning(getValidatorName(), sink));
+        }
+
+        @Override
+        public String getValidatorName() {
+            return "Sink";
+        }
+
+        @Override
+        public ValidationSeverity getDefaultSeverity() {
+            return ValidationSeverity.MINOR;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Sink validator";
+        }
+    }
+
+    private static final class FixedValidator implements IValidator<String> {
+        private final ValidationResult result;
+
+        FixedValidator(ValidationResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public ValidationResult validate(String target) {
+            return result;
+        }
+
+        @Override
+        public String getValidatorName() {
+            return result.getValidatorName();
+        }
+
+        @Override
+        public ValidationSeverity getDefaultSeverity() {
+            return ValidationSeverity.MAJOR;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Fixed validator";
+        }
+    }
+
+    private static final class DocumentSinkValidator implements IValidator<ThesisDocument> {
+        @Override
+        public ValidationResult validate(ThesisDocument target) {
+            DetailSink sink = new DetailSink();
+            sink.add(ValidationDetail.of("Paragraph 1", "Justified", "Left", ValidationSeverity.MINOR));
+            sink.add(ValidationDetail.of("Paragraph 2", "Justified", "Center", ValidationSeverity.MINOR));
+            return ValidationResult.warning(getValidatorName(), sink);
+        }
+
+        @Override
+        public String getValidatorName() {
+            return "Document Sink";
+        }
+
+        @Override
+        public ValidationSeverity getDefaultSeverity() {
+            return ValidationSeverity.MINOR;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Document sink validator";
+        }
+    }
+
+    /**
+     * Visiting validator adding one finding per visited paragraph to a sink.
+     */
+    private static final class ParagraphVisitingValidator
+            extends AbstractVisitingValidator<ParagraphVisitingValidator.ParagraphVisitor> {
+        private final List<String> events;
+
+        ParagraphVisitingValidator(List<String> events) {
+            super("Paragraph Visitor", ValidationSeverity.MINOR, "Reports every paragraph");
+            this.events = events;
+        }
+
+        @Override
+        protected ParagraphVisitor createVisitor(ThesisDocument document) {
+            return new ParagraphVisitor(createDetailSink(), events);
+        }
+
+        @Override
+        protected ValidationResult buildResult(ThesisDocument document, ParagraphVisitor visitor) {
+            return ValidationResult.warning(getValidatorName(), visitor.details);
+        }
+
+        static final class ParagraphVisitor implements DocumentVisitor {
+            private final DetailSink details;
+            private final List<String> events;
+            private int visited;
+
+            ParagraphVisitor(DetailSink details, List<String> events) {
+                this.details = details;
+                this.events = events;
+            }
+
+            @Override
+            public Set<Element> getVisitedElements() {
+                return EnumSet.of(Element.PARAGRAPH);
+            }
+
+            @Override
+            public void onParagraph(IndexedParagraph paragraph) {
+                visited++;
+                events.add("visit " + visited);
+                details.add(ValidationDetail.of("Paragraph " + visited, "Justified", "Left", ValidationSeverity.MINOR));
+            }
+        }
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<ValidationDetail> {
+        final List<ValidationDetail> received = new CopyOnWriteArrayList<>();
+        final AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        private final long initialDemand;
+
+        CollectingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription.set(subscription);
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(ValidationDetail detail) {
+            received.add(detail);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.fdv.techcheck.core.validation;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ValidationResult.
+ * Verifies that details are copied once on creation and then shared immutably.
+ */
+class ValidationResultTest {
+
+    @Test
+    void testCreationIsolatesResultFromValidatorList() {
+        List<ValidationDetail> details = new ArrayList<>();
+        details.add(detail(1));
+
+        ValidationResult result = ValidationResult.fail("Paragraph Validator", details);
+        details.add(detail(2));
+
+        assertEquals(1, result.getDetails().size());
+    }
+
+    @Test
+    void testDetailsAreImmutable() {
+        ValidationResult result = ValidationResult.fail("Paragraph Validator", List.of(detail(1)));
+
+        assertThrows(UnsupportedOperationException.class, () -> result.getDetails().add(detail(2)));
+        assertTrue(ValidationResult.pass("Margin Validator").getDetails().isEmpty());
+    }
+
+    @Test
+    void testDerivedResultsShareDetails() {
+        List<ValidationDetail> details = new ArrayList<>();
+        for (int paragraph = 1; paragraph <= 1000; paragraph++) {
+            details.add(detail(paragraph));
+        }
+        ValidationResult result = ValidationResult.warning("Paragraph Validator", details);
+
+        ValidationResult timed = result.withProcessingTime(Duration.ofMillis(12));
+
+        assertSame(result.getDetails(), timed.getDetails(), "Timing does not copy the details");
+        assertSame(result.getDetails(), result.getDetails(), "Getting details does not copy them");
+        assertEquals(Duration.ofMillis(12), timed.getProcessingTime());
+        assertEquals(result.getStatus(), timed.getStatus());
+        assertEquals(result.getTimestamp(), timed.getTimestamp());
+    }
+
+    @Test
+    void testSinkCountsSurviveDerivedResults() {
+        DetailSink sink = new DetailSink(1);
+        sink.add(detail(1));
+        sink.add(ValidationDetail.of("Paragraph 2", "Alignment: JUSTIFIED", "Alignment: CENTER",
+                                     ValidationSeverity.MINOR));
+
+        ValidationResult result = ValidationResult.warning("Paragraph Validator", sink)
+            .withProcessingTime(Duration.ofMillis(3));
+
+        assertEquals(2, result.getMinorIssueCount());
+        assertEquals(1, result.getOmittedIssueCount());
+        assertThrows(UnsupportedOperationException.class, () -> result.getRuleCounts().clear());
+    }
+
+    private static ValidationDetail detail(int paragraph) {
+        return ValidationDetail.of("Paragraph " + paragraph, "Alignment: JUSTIFIED", "Alignment: LEFT",
+                                   ValidationSeverity.MINOR);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fdv.techcheck.core.validation;
+
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.metrics.ValidatorExecutionEvent;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the Flight Recorder events committed by AbstractDocumentValidator.
+ * Verifies that each run is recorded with its validator, paragraph count and detail counts.
+ */
+class ValidatorExecutionEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testValidationRunIsRecorded() throws Exception {
+        try (XWPFDocument xwpfDocument = new XWPFDocument()) {
+            xwpfDocument.createParagraph().createRun().setText("First");
+            xwpfDocument.createParagraph().createRun().setText("Second");
+            ThesisDocument document = ThesisDocument.builder()
+                .filePath(Paths.get("event-test.docx"))
+                .xwpfDocument(xwpfDocument)
+                .build();
+
+            List<RecordedEvent> events = record(() -> new ParagraphCountingValidator(false).validate(document));
+
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("Paragraph Counter", event.getString("validatorName"));
+            assertEquals("event-test.docx", event.getString("file"));
+            assertEquals(2, event.getInt("paragraphCount"));
+            assertEquals(1, event.getInt("detailCount"), "Findings on consecutive paragraphs are compacted");
+            assertEquals(2, event.getLong("issueCount"));
+            assertEquals(ValidationStatus.WARNING.name(), event.getString("status"));
+        }
+    }
+
+    @Test
+    void testFailedRunIsRecordedAsError() throws Exception {
+        try (XWPFDocument xwpfDocument = new XWPFDocument()) {
+            ThesisDocument document = ThesisDocument.builder()
+                .filePath(Paths.get("event-test.docx"))
+                .xwpfDocument(xwpfDocument)
+                .build();
+
+            List<RecordedEvent> events = record(() -> assertThrows(ValidationException.class,
+                () -> new ParagraphCountingValidator(true).validate(document)));
+
+            assertEquals(1, events.size());
+            assertEquals(ValidationStatus.ERROR.name(), events.get(0).getString("status"));
+            assertEquals(0, events.get(0).getInt("detailCount"));
+        }
+    }
+
+    private List<RecordedEvent> record(ThrowingRunnable action) throws Exception {
+        Path file = tempDir.resolve("validation.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ValidatorExecutionEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals("com.fdv.techcheck.ValidatorExecution"))
+            .collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * Reports one minor finding per body paragraph, or fails if asked to.
+     */
+    private static final class ParagraphCountingValidator extends AbstractDocumentValidator {
+        private final boolean fail;
+
+        ParagraphCountingValidator(boolean fail) {
+            super("Paragraph Counter", ValidationSeverity.MINOR, "Reports every paragraph");
+            this.fail = fail;
+        }
+
+        @Override
+        protected ValidationResult performValidation(ThesisDocument document) throws ValidationException {
+            if (fail) {
+                throw new ValidationException(getValidatorName(), "Requested failure");
+            }
+            DetailSink details = createDetailSink();
+            for (int paragraph = 1; paragraph <= document.getBodyParagraphCount(); paragraph++) {
+                details.add(ValidationDetail.of("Paragraph " + paragraph, "Justified", "Left", ValidationSeverity.MINOR));
+            }
+            return ValidationResult.warning(getValidatorName(), details);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fdv.techcheck.reports;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fdv.techcheck.core.validation.ValidationDetail;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.core.validation.ValidationSeverity;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JsonResultWriter.
+ * Verifies the NDJSON line layout and the fields written for results and details.
+ */
+class JsonResultWriterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void testWritesOneDocumentPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonResultWriter writer = JsonResultWriter.ndjson(out)) {
+            writer.write("a.docx", List.of(ValidationResult.pass("Margin Validator")));
+            writer.write("b.docx", List.of(failingResult()));
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length, "Two terminated lines");
+        assertEquals("", lines[2]);
+        assertEquals("a.docx", mapper.readTree(lines[0]).get("file").asText());
+        assertEquals("PASS", mapper.readTree(lines[0]).get("status").asText());
+        assertEquals("b.docx", mapper.readTree(lines[1]).get("file").asText());
+    }
+
+    @Test
+    void testWritesStatusCountsAndDetails() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonResultWriter writer = JsonResultWriter.ndjson(out)) {
+            writer.write("thesis.docx", List.of(ValidationResult.pass("Margin Validator"), failingResult()));
+        }
+
+        JsonNode document = mapper.readTree(out.toString(StandardCharsets.UTF_8));
+        assertEquals("FAIL", document.get("status").asText());
+        assertEquals(1, document.get("issues").get("critical").asLong());
+        assertEquals(2, document.get("results").size());
+
+        JsonNode detail = document.get("results").get(1).get("details").get(0);
+        assertEquals("CRITICAL", detail.get("severity").asText());
+        assertEquals("Section 1", detail.get("location").asText());
+        assertEquals("2.5 cm", detail.get("expected").asText());
+        assertEquals("3.0 cm", detail.get("actual").asText());
+        assertFalse(detail.has("rule"), "Absent values are omitted");
+    }
+
+    @Test
+    void testWritesLinesFlushedPerDocument() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonResultWriter writer = JsonResultWriter.ndjson(out);
+
+        writer.write("a.docx", List.of(ValidationResult.pass("Margin Validator")));
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("\n"), "A line is visible before close");
+        writer.close();
+    }
+
+    private static ValidationResult failingResult() {
+        ValidationDetail detail = ValidationDetail.of("Section 1", "2.5 cm", "3.0 cm", ValidationSeverity.CRITICAL);
+        return ValidationResult.fail("Font Validator", List.of(detail));
+    }
+}
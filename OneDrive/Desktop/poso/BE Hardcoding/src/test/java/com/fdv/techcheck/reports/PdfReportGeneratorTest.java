@@ -0,0 +1,111 @@
+package com.fdv.techcheck.reports;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.SyntheticThesisGenerator.SyntheticThesis;
+import com.fdv.techcheck.core.document.DocumentProcessor;
+import com.fdv.techcheck.core.document.ThesisDocument;
+import com.fdv.techcheck.core.validation.ValidationDetail;
+import com.fdv.techcheck.core.validation.ValidationResult;
+import com.fdv.techcheck.core.validation.ValidationSeverity;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PdfReportGenerator.
+ * Verifies that reports with many details are written completely across pages and that
+ * one generator renders concurrent reports correctly.
+ */
+class PdfReportGeneratorTest {
+
+    @TempDir
+    Path directory;
+
+    private ThesisDocument document;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = directory.resolve("thesis.docx");
+        try (SyntheticThesis thesis = SyntheticThesisGenerator.builder().pages(3).seed(11).build().generate()) {
+            thesis.write(file);
+        }
+        document = DocumentProcessor.loadDocument(file);
+    }
+
+    @AfterEach
+    void tearDown() {
+        DocumentProcessor.closeDocument(document);
+    }
+
+    @Test
+    void testReportWithThousandsOfDetailsSpansManyPages() throws Exception {
+        List<ValidationDetail> details = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            details.add(ValidationDetail.of("Paragraph " + i, "Justified", "Left", ValidationSeverity.MINOR));
+        }
+        Map<String, ValidationResult> results = new LinkedHashMap<>();
+        results.put("Paragraph Validator", ValidationResult.warning("Paragraph Validator", details));
+        results.put("Margin Validator", ValidationResult.pass("Margin Validator"));
+
+        Path report = directory.resolve("report.pdf");
+        new PdfReportGenerator().generateReport(report.toFile(), document, results);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(report.toString()))) {
+            assertTrue(pdf.getNumberOfPages() > 50, "Every detail row is written: " + pdf.getNumberOfPages() + " pages");
+        }
+    }
+
+    @Test
+    void testSharedGeneratorRendersConcurrentReports() throws Exception {
+        PdfReportGenerator generator = new PdfReportGenerator();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Path>> reports = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                Path report = directory.resolve("report-" + i + ".pdf");
+                Map<String, ValidationResult> results = new LinkedHashMap<>();
+                results.put("Font Validator", ValidationResult.fail("Font Validator", List.of(
+                    ValidationDetail.of("Paragraph " + i, "Times New Roman", "Arial", ValidationSeverity.MAJOR))));
+                reports.add(executor.submit(() -> {
+                    generator.generateReport(report.toFile(), document, results);
+                    return report;
+                }));
+            }
+
+            for (Future<Path> report : reports) {
+                try (PdfDocument pdf = new PdfDocument(new PdfReader(report.get().toString()))) {
+                    assertTrue(pdf.getNumberOfPages() >= 1);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testReportWithoutIssues() throws Exception {
+        Map<String, ValidationResult> results = new LinkedHashMap<>();
+        results.put("Margin Validator", ValidationResult.pass("Margin Validator"));
+
+        Path report = directory.resolve("report.pdf");
+        new PdfReportGenerator().generateReport(report.toFile(), document, results);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(report.toString()))) {
+            assertTrue(pdf.getNumberOfPages() >= 1);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.fdv.techcheck.server;
+
+import com.fdv.techcheck.SyntheticThesisGenerator;
+import com.fdv.techcheck.SyntheticThesisGenerator.SyntheticThesis;
+import com.fdv.techcheck.modules.layout.FontValidator;
+import com.fdv.techcheck.modules.layout.MarginValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ValidationServer.
+ * Verifies JSON and PDF responses for uploaded theses and rejection of invalid requests.
+ */
+class ValidationServerTest {
+
+    @TempDir
+    Path directory;
+
+    private ValidationServer server;
+    private HttpClient client;
+    private Path thesis;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = ValidationServer.builder()
+            .addValidator(new MarginValidator())
+            .addValidator(new FontValidator())
+            .port(0)
+            .host("127.0.0.1")
+            .maxUploadBytes(10L * 1024 * 1024)
+            .build();
+        server.start();
+        client = HttpClient.newHttpClient();
+
+        thesis = directory.resolve("thesis.docx");
+        try (SyntheticThesis generated = SyntheticThesisGenerator.builder().pages(5).seed(7).build().generate()) {
+            generated.write(thesis);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void testUploadReturnsJsonResults() throws Exception {
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri("/validate?name=My%20Thesis.docx"))
+                .POST(HttpRequest.BodyPublishers.ofFile(thesis))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        assertTrue(response.body().contains("\"file\":\"My Thesis.docx\""));
+        assertEquals(2, response.body().split("\"validator\":", -1).length - 1, "One result per validator");
+    }
+
+    @Test
+    void testUploadReturnsPdfReportWhenRequested() throws Exception {
+        HttpResponse<byte[]> response = client.send(
+            HttpRequest.newBuilder(uri("/validate?format=pdf"))
+                .POST(HttpRequest.BodyPublishers.ofFile(thesis))
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("application/pdf", response.headers().firstValue("Content-Type").orElse(""));
+        assertEquals("%PDF", new String(response.body(), 0, 4, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void testInvalidDocumentIsRejected() throws Exception {
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri("/validate"))
+                .POST(HttpRequest.BodyPublishers.ofString("not a docx file"))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(422, response.statusCode());
+        assertTrue(response.body().contains("\"error\""));
+    }
+
+    @Test
+    void testGetIsNotAllowed() throws Exception {
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri("/validate")).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(405, response.statusCode());
+    }
+
+    @Test
+    void testOversizedUploadIsRejected() throws Exception {
+        byte[] body = new byte[11 * 1024 * 1024];
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri("/validate"))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(413, response.statusCode());
+    }
+
+    @Test
+    void testHealth() throws Exception {
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri("/health")).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("ok", response.body());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}